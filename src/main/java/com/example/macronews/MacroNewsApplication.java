@@ -4,12 +4,20 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import com.example.macronews.config.CachePolicyProperties;
+import com.example.macronews.config.ExternalHttpClientProperties;
+import com.example.macronews.config.ExternalResilienceProperties;
+import com.example.macronews.config.MarketQuoteCacheProperties;
 import com.example.macronews.config.policy.FeaturedMarketSummaryPolicyProperties;
 import com.example.macronews.config.policy.ForecastPolicyProperties;
 
 @EnableCaching
 @SpringBootApplication
 @EnableConfigurationProperties({
+        CachePolicyProperties.class,
+        ExternalHttpClientProperties.class,
+        ExternalResilienceProperties.class,
+        MarketQuoteCacheProperties.class,
         FeaturedMarketSummaryPolicyProperties.class,
         ForecastPolicyProperties.class
 })
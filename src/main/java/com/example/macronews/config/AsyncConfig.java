@@ -1,19 +1,53 @@
 package com.example.macronews.config;
 
+import jakarta.annotation.PreDestroy;
 import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Executors for blocking work.
+ *
+ * <p>{@code app.execution.blocking-io.mode=virtual}, the default, runs interpretation jobs and the blocking
+ * market-data, forecast and summary preparation calls on one virtual thread per task, so hundreds of slow
+ * upstream calls wait without holding platform threads or the {@code boundedElastic} cap. Any other value,
+ * or a JDK without virtual threads, keeps the bounded platform pools.
+ */
 @Configuration
 @EnableAsync
 @EnableScheduling
+@Slf4j
 public class AsyncConfig {
 
+    @Value("${app.execution.blocking-io.mode:virtual}")
+    private String blockingIoMode;
+
+    private volatile Scheduler virtualBlockingIoScheduler;
+
+    @Bean
+    public BlockingIoExecution blockingIoExecution() {
+        BlockingIoExecution execution = BlockingIoExecution.resolve(blockingIoMode);
+        if (BlockingIoExecution.VIRTUAL_MODE.equalsIgnoreCase(execution.requestedMode()) && !execution.virtualThreads()) {
+            log.warn("[EXECUTION] virtual threads unavailable on java={}; falling back to platform threads",
+                    Runtime.version());
+        }
+        log.info("[EXECUTION] blocking-io mode requested={} virtualThreads={}",
+                execution.requestedMode(), execution.virtualThreads());
+        return execution;
+    }
+
     @Bean(name = "ingestionExecutor")
-    public Executor ingestionExecutor() {
+    public Executor ingestionExecutor(BlockingIoExecution blockingIoExecution) {
+        if (blockingIoExecution.virtualThreads()) {
+            return blockingIoExecution.newVirtualThreadExecutor("ingest-ai-vt-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(5);
@@ -22,4 +56,30 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Scheduler that blocking {@code Mono.fromCallable} fan-outs subscribe on. The shared
+     * {@code boundedElastic} scheduler must outlive the context, so the bean has no destroy method; the
+     * virtual-thread scheduler belongs to this context and is disposed by {@link #disposeBlockingIoScheduler()}
+     * once every bean using it has been destroyed.
+     */
+    @Bean(name = "blockingIoScheduler", destroyMethod = "")
+    public Scheduler blockingIoScheduler(BlockingIoExecution blockingIoExecution) {
+        if (blockingIoExecution.virtualThreads()) {
+            Scheduler scheduler = Schedulers.fromExecutor(
+                    blockingIoExecution.newVirtualThreadExecutor("blocking-io-vt-"));
+            virtualBlockingIoScheduler = scheduler;
+            return scheduler;
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    @PreDestroy
+    void disposeBlockingIoScheduler() {
+        Scheduler scheduler = virtualBlockingIoScheduler;
+        if (scheduler != null) {
+            virtualBlockingIoScheduler = null;
+            scheduler.dispose();
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.macronews.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Resolved thread model for work that blocks on external APIs or MongoDB.
+ *
+ * @param requestedMode mode named by {@code app.execution.blocking-io.mode}
+ * @param virtualThreads whether blocking work runs one virtual thread per task; {@code false} when platform
+ *                       threads were requested or the running JDK has no virtual threads
+ */
+public record BlockingIoExecution(
+        String requestedMode,
+        boolean virtualThreads
+) {
+
+    static final String VIRTUAL_MODE = "virtual";
+
+    static BlockingIoExecution resolve(String requestedMode) {
+        String mode = requestedMode == null ? "" : requestedMode.trim();
+        return new BlockingIoExecution(mode, VIRTUAL_MODE.equalsIgnoreCase(mode) && virtualThreadsSupported());
+    }
+
+    static boolean virtualThreadsSupported() {
+        try {
+            new VirtualThreadTaskExecutor();
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    Executor newVirtualThreadExecutor(String threadNamePrefix) {
+        return new VirtualThreadTaskExecutor(threadNamePrefix);
+    }
+}
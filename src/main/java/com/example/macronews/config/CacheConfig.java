@@ -0,0 +1,32 @@
+package com.example.macronews.config;
+
+import com.example.macronews.config.cache.BoundedCache;
+import com.example.macronews.config.cache.BoundedCacheManager;
+import com.example.macronews.config.cache.BoundedCacheMeterBinder;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.cache.metrics.CacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Backs the Spring caches with {@link BoundedCache}s sized and expired per {@link CachePolicyProperties}.
+ *
+ * <p>Actuator binds the {@code cache.*} meters of every cache the manager holds at startup through the
+ * {@link CacheMeterBinderProvider} below. {@code spring.cache.type=none} still switches caching off.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnExpression("'${spring.cache.type:}' != 'none'")
+    public CacheManager cacheManager(CachePolicyProperties cachePolicyProperties) {
+        return new BoundedCacheManager(cachePolicyProperties, Clock.systemUTC());
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<BoundedCache> boundedCacheMeterBinderProvider() {
+        return BoundedCacheMeterBinder::new;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.macronews.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and expiry policies for the Spring caches, keyed by cache name.
+ *
+ * <p>Caches listed under {@code caches} are created at startup, so their metrics are bound from the start;
+ * any other cache name is created on first use with {@code defaults}. As with
+ * {@link ExternalResilienceProperties}, a cache policy starts from the built-in values below.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class CachePolicyProperties {
+
+    private Policy defaults = new Policy();
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Policy> caches) {
+        this.caches = caches;
+    }
+
+    public Policy policy(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    public static class Policy {
+
+        private long maximumSize = 1_000;
+        // Zero or less keeps entries until they are evicted for size.
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
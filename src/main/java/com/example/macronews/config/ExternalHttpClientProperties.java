@@ -0,0 +1,146 @@
+package com.example.macronews.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection pool and timeout profiles for outbound HTTP calls, keyed by upstream host.
+ *
+ * <p>Hosts without their own profile share the {@code defaults} profile. A host profile starts from the
+ * built-in values below, not from {@code defaults}, so it should list every value it changes.
+ */
+@ConfigurationProperties(prefix = "app.external-api.http")
+public class ExternalHttpClientProperties {
+
+    private Profile defaults = new Profile();
+    private Map<String, Profile> hosts = new LinkedHashMap<>();
+
+    public Profile getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Profile defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Profile> getHosts() {
+        return hosts;
+    }
+
+    public void setHosts(Map<String, Profile> hosts) {
+        this.hosts = hosts;
+    }
+
+    /**
+     * Returns the profile name for {@code host}: the host itself when it has a profile, otherwise
+     * {@code default}.
+     */
+    public String resolveProfileName(String host) {
+        String normalized = host == null ? "" : host.trim().toLowerCase(Locale.ROOT);
+        return hosts.keySet().stream()
+                .filter(key -> key.equalsIgnoreCase(normalized))
+                .findFirst()
+                .orElse("default");
+    }
+
+    public Profile profile(String profileName) {
+        return hosts.getOrDefault(profileName, defaults);
+    }
+
+    public static class Profile {
+
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private boolean compression = true;
+        private boolean http2 = false;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+    }
+}
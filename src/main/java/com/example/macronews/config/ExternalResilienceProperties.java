@@ -0,0 +1,145 @@
+package com.example.macronews.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rate limit, circuit breaker and bulkhead policies for outbound HTTP calls, keyed by upstream host.
+ *
+ * <p>Hosts opt in by declaring a policy under {@code hosts} with {@code enabled: true}; hosts without a
+ * declared policy fall back to {@code defaults}, which is disabled unless configured otherwise. As with
+ * {@link ExternalHttpClientProperties}, a host policy starts from the built-in values below.
+ */
+@ConfigurationProperties(prefix = "app.external-api.resilience")
+public class ExternalResilienceProperties {
+
+    private Policy defaults = new Policy();
+    private Map<String, Policy> hosts = new LinkedHashMap<>();
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getHosts() {
+        return hosts;
+    }
+
+    public void setHosts(Map<String, Policy> hosts) {
+        this.hosts = hosts;
+    }
+
+    public Policy policy(String host) {
+        String normalized = host == null ? "" : host.trim().toLowerCase(Locale.ROOT);
+        return hosts.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(normalized))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaults);
+    }
+
+    public static class Policy {
+
+        private boolean enabled = false;
+        // Sustained request rate; 0 or less disables rate limiting.
+        private double ratePerSecond = 0;
+        // Bucket capacity; 0 or less uses max(ratePerSecond, 1).
+        private int burst = 0;
+        // How long a call may wait for a token instead of being rejected; zero rejects at once.
+        private Duration maxWait = Duration.ZERO;
+        // Concurrent in-flight calls; 0 or less disables the bulkhead.
+        private int maxConcurrent = 0;
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 1;
+        // Pause after a 429 that carries no Retry-After header.
+        private Duration rateLimitBackoff = Duration.ofSeconds(30);
+        private Duration maxRetryAfter = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+
+        public Duration getRateLimitBackoff() {
+            return rateLimitBackoff;
+        }
+
+        public void setRateLimitBackoff(Duration rateLimitBackoff) {
+            this.rateLimitBackoff = rateLimitBackoff;
+        }
+
+        public Duration getMaxRetryAfter() {
+            return maxRetryAfter;
+        }
+
+        public void setMaxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+        }
+    }
+}
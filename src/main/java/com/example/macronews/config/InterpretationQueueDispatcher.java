@@ -0,0 +1,141 @@
+package com.example.macronews.config;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.service.news.InterpretationQueueService;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leases queued interpretation jobs and runs them on the ingestion executor, never more than the
+ * configured concurrency at a time.
+ *
+ * <p>Jobs stay in the queue until a slot frees up, which is the backpressure: a burst of headlines waits
+ * in MongoDB rather than overflowing the executor. The dispatcher polls on its own background thread so
+ * an unreachable database never delays startup, and it re-checks the queue as soon as a job finishes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterpretationQueueDispatcher {
+
+    private final InterpretationQueueService interpretationQueueService;
+
+    @Qualifier("ingestionExecutor")
+    private final Executor ingestionExecutor;
+
+    private final String workerId = "interpreter-" + UUID.randomUUID();
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile Semaphore slots;
+    private volatile boolean running;
+
+    @Value("${app.ingestion.interpretation-queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ingestion.interpretation-queue.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled) {
+            log.info("[INTERPRET-QUEUE] dispatcher skipped reason=disabled");
+            return;
+        }
+        running = true;
+        Thread worker = new Thread(this::dispatchLoop, "interpretation-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[INTERPRET-QUEUE] dispatcher started workerId={} concurrency={} pollIntervalMs={}",
+                workerId, interpretationQueueService.concurrency(), pollIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        wakeups.release();
+    }
+
+    /**
+     * Leases and starts jobs until every slot is busy or the queue has nothing leasable.
+     *
+     * @return the number of jobs started
+     */
+    int dispatchAvailable() {
+        Semaphore available = slots();
+        int started = 0;
+        while (available.tryAcquire()) {
+            Optional<InterpretationJob> leased;
+            try {
+                leased = interpretationQueueService.leaseNext(workerId);
+            } catch (RuntimeException ex) {
+                available.release();
+                throw ex;
+            }
+            if (leased.isEmpty()) {
+                available.release();
+                break;
+            }
+            InterpretationJob job = leased.get();
+            try {
+                ingestionExecutor.execute(() -> runJob(job, available));
+                started++;
+            } catch (RejectedExecutionException ex) {
+                // The lease lapses and another pass picks the job up again.
+                available.release();
+                log.warn("[INTERPRET-QUEUE] executor rejected id={} reason={}", job.id(), ex.getMessage());
+                break;
+            }
+        }
+        return started;
+    }
+
+    private void runJob(InterpretationJob job, Semaphore available) {
+        try {
+            interpretationQueueService.process(job, workerId);
+        } finally {
+            available.release();
+            wakeups.release();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                dispatchAvailable();
+            } catch (RuntimeException ex) {
+                log.warn("[INTERPRET-QUEUE] dispatch failed workerId={} reason={}", workerId, ex.getMessage());
+            }
+            try {
+                wakeups.tryAcquire(Math.max(pollIntervalMs, 100L), TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Semaphore slots() {
+        Semaphore current = slots;
+        if (current == null) {
+            synchronized (this) {
+                if (slots == null) {
+                    slots = new Semaphore(interpretationQueueService.concurrency());
+                }
+                current = slots;
+            }
+        }
+        return current;
+    }
+}
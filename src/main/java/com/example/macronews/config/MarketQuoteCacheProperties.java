@@ -0,0 +1,81 @@
+package com.example.macronews.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How long each cached market quote is used before the background refresher fetches it again.
+ *
+ * <p>The defaults follow how often each upstream moves and what its free tier allows: FRED publishes the
+ * 10-year yield once a day, MetalPriceAPI and ExchangeRate-API allow only a few calls a day on their free
+ * plans, and a synthetic DXY costs up to nine TwelveData credits per refresh, shared with the KOSPI quote.
+ * A quote whose refresh keeps failing is still served, with its own capture time, for {@code max-stale}
+ * past its ttl.
+ */
+@ConfigurationProperties(prefix = "app.market.quote-cache")
+public class MarketQuoteCacheProperties {
+
+    private Duration usdKrwTtl = Duration.ofHours(1);
+    private Duration goldTtl = Duration.ofHours(12);
+    private Duration oilTtl = Duration.ofHours(3);
+    private Duration kospiTtl = Duration.ofMinutes(5);
+    private Duration us10yTtl = Duration.ofHours(6);
+    private Duration dxyTtl = Duration.ofHours(1);
+    private Duration maxStale = Duration.ofHours(24);
+
+    public Duration getUsdKrwTtl() {
+        return usdKrwTtl;
+    }
+
+    public void setUsdKrwTtl(Duration usdKrwTtl) {
+        this.usdKrwTtl = usdKrwTtl;
+    }
+
+    public Duration getGoldTtl() {
+        return goldTtl;
+    }
+
+    public void setGoldTtl(Duration goldTtl) {
+        this.goldTtl = goldTtl;
+    }
+
+    public Duration getOilTtl() {
+        return oilTtl;
+    }
+
+    public void setOilTtl(Duration oilTtl) {
+        this.oilTtl = oilTtl;
+    }
+
+    public Duration getKospiTtl() {
+        return kospiTtl;
+    }
+
+    public void setKospiTtl(Duration kospiTtl) {
+        this.kospiTtl = kospiTtl;
+    }
+
+    public Duration getUs10yTtl() {
+        return us10yTtl;
+    }
+
+    public void setUs10yTtl(Duration us10yTtl) {
+        this.us10yTtl = us10yTtl;
+    }
+
+    public Duration getDxyTtl() {
+        return dxyTtl;
+    }
+
+    public void setDxyTtl(Duration dxyTtl) {
+        this.dxyTtl = dxyTtl;
+    }
+
+    public Duration getMaxStale() {
+        return maxStale;
+    }
+
+    public void setMaxStale(Duration maxStale) {
+        this.maxStale = maxStale;
+    }
+}
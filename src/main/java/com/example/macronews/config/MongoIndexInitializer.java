@@ -0,0 +1,110 @@
+package com.example.macronews.config;
+
+import com.example.macronews.domain.InterpretationCacheEntry;
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.NewsEvent;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * Declares the {@code news_events}, {@code interpretation_jobs} and {@code interpretation_cache} indexes
+ * from code and ensures them once the application is ready.
+ *
+ * <p>Every {@code NewsEventRepository} and {@code InterpretationJobRepository} query must be served by one
+ * of these indexes. Index builds run
+ * on a background thread so a large collection (or an unreachable database) never delays startup, and
+ * each index is ensured independently: a failure such as legacy duplicate {@code externalId} values
+ * blocking the unique index is logged and does not stop the remaining indexes from being created.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    static final List<Index> NEWS_EVENT_INDEXES = List.of(
+            new Index("externalId", Sort.Direction.ASC).named("ux_news_events_external_id").unique(),
+            new Index("url", Sort.Direction.ASC).named("ix_news_events_url"),
+            new Index("status", Sort.Direction.ASC)
+                    .on("analysisResult.createdAt", Sort.Direction.DESC)
+                    .named("ix_news_events_status_analysis_created_at"),
+            new Index("ingestedAt", Sort.Direction.DESC).named("ix_news_events_ingested_at"),
+            new Index("publishedAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named("ix_news_events_published_at_id"),
+            new Index("priority.score", Sort.Direction.DESC)
+                    .on("publishedAt", Sort.Direction.DESC)
+                    .named("ix_news_events_priority_score"),
+            new Index("clusterId", Sort.Direction.ASC).named("ix_news_events_cluster_id"),
+            new Index("sourceKey", Sort.Direction.ASC)
+                    .on("ingestedAt", Sort.Direction.DESC)
+                    .named("ix_news_events_source_key_ingested_at")
+    );
+
+    static final List<Index> INTERPRETATION_JOB_INDEXES = List.of(
+            new Index("priority", Sort.Direction.DESC)
+                    .on("enqueuedAt", Sort.Direction.ASC)
+                    .named("ix_interpretation_jobs_priority_enqueued_at"),
+            new Index("enqueuedAt", Sort.Direction.ASC).named("ix_interpretation_jobs_enqueued_at"),
+            new Index("status", Sort.Direction.ASC)
+                    .on("leaseExpiresAt", Sort.Direction.ASC)
+                    .named("ix_interpretation_jobs_status_lease_expires_at")
+    );
+
+    // Each entry carries its own expiry, so the TTL index removes it as soon as expiresAt passes.
+    static final List<Index> INTERPRETATION_CACHE_INDEXES = List.of(
+            new Index("expiresAt", Sort.Direction.ASC)
+                    .named("ttl_interpretation_cache_expires_at")
+                    .expire(Duration.ZERO)
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.mongo.index-management.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexesInBackground() {
+        if (!enabled) {
+            log.info("[MONGO-INDEX] skipped reason=disabled");
+            return;
+        }
+        Thread worker = new Thread(this::ensureIndexes, "mongo-index-init");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    int ensureIndexes() {
+        return ensureIndexes(NewsEvent.class, "news_events", NEWS_EVENT_INDEXES)
+                + ensureIndexes(InterpretationJob.class, "interpretation_jobs", INTERPRETATION_JOB_INDEXES)
+                + ensureIndexes(InterpretationCacheEntry.class, "interpretation_cache", INTERPRETATION_CACHE_INDEXES);
+    }
+
+    private int ensureIndexes(Class<?> entityClass, String collection, List<Index> indexes) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entityClass);
+        int ensured = 0;
+        for (Index index : indexes) {
+            try {
+                String name = indexOperations.createIndex(index);
+                ensured++;
+                log.info("[MONGO-INDEX] ensured collection={} index={} keys={}",
+                        collection, name, index.getIndexKeys().toJson());
+            } catch (RuntimeException ex) {
+                log.warn("[MONGO-INDEX] ensure failed collection={} keys={} reason={}",
+                        collection, index.getIndexKeys().toJson(), ex.getMessage());
+            }
+        }
+        log.info("[MONGO-INDEX] completed collection={} ensured={} declared={}",
+                collection, ensured, indexes.size());
+        return ensured;
+    }
+}
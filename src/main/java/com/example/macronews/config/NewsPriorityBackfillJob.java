@@ -0,0 +1,64 @@
+package com.example.macronews.config;
+
+import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.service.news.NewsPriorityBackfillService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rescores stored priority scores once the application is ready.
+ *
+ * <p>Events ingested before scores were stored, or scored by an older rules version, sort last under
+ * the priority sort until they are rescored. Events stored before {@code sourceKey} existed get it first,
+ * since the list windows match on it. The backfill runs on a background thread so it never delays startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsPriorityBackfillJob {
+
+    private final NewsPriorityBackfillService newsPriorityBackfillService;
+    private final NewsEventRepository newsEventRepository;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.news.priority-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.news.priority-backfill.batch-size:200}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInBackground() {
+        if (!enabled) {
+            log.info("[PRIORITY-BACKFILL] skipped reason=disabled");
+            return;
+        }
+        Thread worker = new Thread(this::backfill, "news-priority-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[PRIORITY-BACKFILL] skipped reason=already-running");
+            return;
+        }
+        try {
+            long keyed = newsEventRepository.backfillSourceKeys();
+            if (keyed > 0) {
+                log.info("[PRIORITY-BACKFILL] source keys backfilled updated={}", keyed);
+            }
+            int rescored = newsPriorityBackfillService.backfillStaleScores(batchSize);
+            log.info("[PRIORITY-BACKFILL] completed rescored={} batchSize={}", rescored, batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("[PRIORITY-BACKFILL] failed batchSize={} reason={}", batchSize, ex.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+}
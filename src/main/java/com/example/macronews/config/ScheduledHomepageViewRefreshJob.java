@@ -0,0 +1,22 @@
+package com.example.macronews.config;
+
+import com.example.macronews.service.news.HomepageViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the homepage views on a timer, for what changes without a write: the business day rolling over,
+ * the eligibility windows moving on and the forecast and summary caches expiring.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledHomepageViewRefreshJob {
+
+    private final HomepageViewService homepageViewService;
+
+    @Scheduled(cron = "${app.homepage-view.refresh-cron:0 * * * * *}")
+    public void refreshViews() {
+        homepageViewService.requestRefresh();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.macronews.config;
+
+import com.example.macronews.service.market.MarketDataFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the cached market quotes current so page renders read them without calling the upstream providers.
+ * Each tick only fetches the instruments whose ttl has passed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledMarketQuoteRefreshJob {
+
+    private final MarketDataFacade marketDataFacade;
+
+    @Scheduled(cron = "${app.market.quote-cache.refresh-cron:30 * * * * *}")
+    public void refreshQuotes() {
+        try {
+            marketDataFacade.refreshDueQuotes();
+        } catch (RuntimeException ex) {
+            log.warn("[MARKET] scheduled quote refresh failed reason={}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.macronews.config;
+
+import com.example.macronews.service.news.MarketSignalAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reseeds the market signal sums from the repository on a timer, for what reaches it without an event: other
+ * instances' interpretations, cluster members linked after their representative and rounding drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledMarketSignalRebuildJob {
+
+    private final MarketSignalAggregator marketSignalAggregator;
+
+    @Scheduled(cron = "${app.market-signal.rebuild-cron:0 20 * * * *}")
+    public void rebuildSignals() {
+        try {
+            marketSignalAggregator.rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("[MARKET-SIGNAL] scheduled rebuild failed reason={}", ex.getMessage());
+        }
+    }
+}
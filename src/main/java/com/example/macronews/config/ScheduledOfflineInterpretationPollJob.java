@@ -0,0 +1,41 @@
+package com.example.macronews.config;
+
+import com.example.macronews.service.macro.OfflineInterpretationService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls submitted offline interpretation batches and applies the ones that finished.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledOfflineInterpretationPollJob {
+
+    private final OfflineInterpretationService offlineInterpretationService;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${app.offline-interpretation.poll-cron:0 */5 * * * *}")
+    public void pollBatches() {
+        if (!offlineInterpretationService.isEnabled()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[OFFLINE-INTERPRET] poll skipped reason=already-running");
+            return;
+        }
+        try {
+            int finished = offlineInterpretationService.pollSubmitted();
+            if (finished > 0) {
+                log.info("[OFFLINE-INTERPRET] poll completed finishedBatches={}", finished);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("[OFFLINE-INTERPRET] poll failed reason={}", ex.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -62,6 +62,8 @@ public class SecurityConfig {
                             .permitAll()
                             .requestMatchers(HttpMethod.GET, "/news", "/news/**")
                             .permitAll()
+                            .requestMatchers(HttpMethod.GET, "/api/news/archive", "/api/news/today")
+                            .permitAll()
                             .requestMatchers(HttpMethod.GET, "/topic/dollar")
                             .permitAll()
                             .requestMatchers(HttpMethod.GET, "/topic/rates")
@@ -75,7 +77,9 @@ public class SecurityConfig {
                             .requestMatchers(new RegexRequestMatcher("^/market-summary/[0-9a-fA-F]{24}$",
                                     HttpMethod.GET.name()))
                             .permitAll()
-                            .requestMatchers("/admin/**")
+                            .requestMatchers(HttpMethod.GET, "/actuator/health")
+                            .permitAll()
+                            .requestMatchers("/admin/**", "/actuator/**")
                             .hasRole("ADMIN")
                             .requestMatchers("/api/**")
                             .authenticated()
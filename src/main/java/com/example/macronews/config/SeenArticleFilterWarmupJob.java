@@ -0,0 +1,44 @@
+package com.example.macronews.config;
+
+import com.example.macronews.service.news.NewsIngestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the seen-article filter from {@code news_events} once the application is ready.
+ *
+ * <p>Until the warm-up finishes every duplicate check falls through to Mongo, so the load runs on a
+ * background thread and never delays startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeenArticleFilterWarmupJob {
+
+    private final NewsIngestionService newsIngestionService;
+
+    @Value("${app.news.seen-filter.enabled:false}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmInBackground() {
+        if (!enabled) {
+            log.info("[SEEN-FILTER] warm-up skipped reason=disabled");
+            return;
+        }
+        Thread worker = new Thread(this::warm, "seen-article-filter-warmup");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void warm() {
+        int loaded = newsIngestionService.rebuildSeenArticleFilter();
+        if (loaded < 0) {
+            log.warn("[SEEN-FILTER] warm-up failed; duplicate checks keep using Mongo");
+        }
+    }
+}
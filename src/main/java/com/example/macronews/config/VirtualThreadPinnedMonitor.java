@@ -0,0 +1,83 @@
+package com.example.macronews.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts virtual threads that stay pinned to their carrier thread, which happens when a blocking call runs
+ * inside {@code synchronized} code or a native frame and defeats the point of virtual threads.
+ *
+ * <p>Pinned events come from the JDK Flight Recorder event {@code jdk.VirtualThreadPinned} and are
+ * published as the {@code jvm.threads.virtual.pinned} timer. The stream only starts when blocking work
+ * actually runs on virtual threads.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinnedMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+
+    private final BlockingIoExecution blockingIoExecution;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.execution.blocking-io.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+    private volatile AutoCloseable recording;
+    private volatile Timer pinnedTimer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!blockingIoExecution.virtualThreads()) {
+            log.info("[EXECUTION] pinned-thread monitor skipped reason=platform-threads");
+            return;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(Math.max(pinnedThresholdMs, 0L)));
+            stream.onEvent(PINNED_EVENT, event -> recordPinned(event.getDuration()));
+            stream.setReuse(true);
+            stream.startAsync();
+            recording = stream;
+            log.info("[EXECUTION] pinned-thread monitor started thresholdMs={}", pinnedThresholdMs);
+        } catch (RuntimeException | LinkageError ex) {
+            log.warn("[EXECUTION] pinned-thread monitor unavailable reason={}", ex.toString());
+        }
+    }
+
+    void recordPinned(Duration pinnedFor) {
+        Timer timer = pinnedTimer;
+        if (timer == null) {
+            timer = Timer.builder(PINNED_METRIC)
+                    .description("Virtual threads pinned to their carrier thread while blocking")
+                    .register(meterRegistry);
+            pinnedTimer = timer;
+        }
+        timer.record(pinnedFor);
+    }
+
+    @PreDestroy
+    public void stop() {
+        AutoCloseable current = recording;
+        recording = null;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (Exception ex) {
+            log.debug("[EXECUTION] pinned-thread monitor close failed reason={}", ex.getMessage());
+        }
+    }
+}
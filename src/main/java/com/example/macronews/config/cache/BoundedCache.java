@@ -0,0 +1,282 @@
+package com.example.macronews.config.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} holding at most {@code maximumSize} entries, each for at most
+ * {@code expireAfterWrite}.
+ *
+ * <p>Eviction follows W-TinyLFU: new entries land in an LRU window of 1% of the capacity, and the entry the
+ * window pushes out only replaces the least recently used entry of the main region when the
+ * {@link FrequencySketch} has seen it read more often. Only reads are counted, since a cache-aside put always
+ * follows the miss that was already counted. A crawl through many article ids once each therefore cycles
+ * through the window without displacing the pages readers keep coming back to. Expired entries are dropped
+ * when read. Hits, misses, puts and evictions (for size or expiry, not explicit evicts) are counted for the
+ * {@code cache.*} meters.
+ *
+ * <p>{@link #get(Object, Callable)} loads under a lock held per key, so concurrent misses on one key run the
+ * loader once and the others wait for its value, as {@code @Cacheable(sync = true)} expects. Loads of different
+ * keys still run in parallel.
+ */
+public final class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final long maximumSize;
+    private final long windowSize;
+    private final long mainSize;
+    private final Duration expireAfterWrite;
+    private final Clock clock;
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Object, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Object, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<Object, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+
+    public BoundedCache(String name, long maximumSize, Duration expireAfterWrite, Clock clock) {
+        super(true);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive for cache " + name);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.windowSize = Math.max(1, maximumSize / 100);
+        this.mainSize = maximumSize - windowSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+            if (entry != null && entry.expiredAt(clock.millis())) {
+                removeEntry(key);
+                evictions++;
+                entry = null;
+            }
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        ReentrantLock keyLock = loadLocks.computeIfAbsent(key, ignored -> new ReentrantLock());
+        keyLock.lock();
+        try {
+            // Another caller may have loaded the value while this one waited; its miss is already counted.
+            Entry loaded = peek(key);
+            if (loaded != null) {
+                return (T) fromStoreValue(loaded.value());
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            put(key, value);
+            return value;
+        } finally {
+            loadLocks.remove(key, keyLock);
+            keyLock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Entry entry = new Entry(toStoreValue(value), expiresAt(clock.millis()));
+        lock.lock();
+        try {
+            puts++;
+            if (main.containsKey(key)) {
+                main.put(key, entry);
+                return;
+            }
+            window.put(key, entry);
+            if (window.size() > windowSize) {
+                Iterator<Map.Entry<Object, Entry>> eldest = window.entrySet().iterator();
+                Map.Entry<Object, Entry> candidate = eldest.next();
+                eldest.remove();
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        lock.lock();
+        try {
+            removeEntry(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        lock.lock();
+        try {
+            return removeEntry(key) != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        lock.lock();
+        try {
+            boolean notEmpty = !window.isEmpty() || !main.isEmpty();
+            window.clear();
+            main.clear();
+            return notEmpty;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    public long estimatedSize() {
+        lock.lock();
+        try {
+            return window.size() + main.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        lock.lock();
+        try {
+            return hits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long missCount() {
+        lock.lock();
+        try {
+            return misses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long putCount() {
+        lock.lock();
+        try {
+            return puts;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long evictionCount() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void admit(Object candidateKey, Entry candidate) {
+        if (main.size() < mainSize) {
+            main.put(candidateKey, candidate);
+            return;
+        }
+        evictions++;
+        if (main.isEmpty()) {
+            return;
+        }
+        Map.Entry<Object, Entry> victim = main.entrySet().iterator().next();
+        if (victim.getValue().expiredAt(clock.millis())
+                || sketch.frequency(candidateKey) > sketch.frequency(victim.getKey())) {
+            main.remove(victim.getKey());
+            main.put(candidateKey, candidate);
+        }
+    }
+
+    private Entry peek(Object key) {
+        lock.lock();
+        try {
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+            return entry == null || entry.expiredAt(clock.millis()) ? null : entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry removeEntry(Object key) {
+        Entry removed = window.remove(key);
+        return removed != null ? removed : main.remove(key);
+    }
+
+    private long expiresAt(long now) {
+        if (expireAfterWrite == null || expireAfterWrite.isZero() || expireAfterWrite.isNegative()) {
+            return Long.MAX_VALUE;
+        }
+        return now + expireAfterWrite.toMillis();
+    }
+
+    private record Entry(Object value, long expiresAtMillis) {
+
+        private boolean expiredAt(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
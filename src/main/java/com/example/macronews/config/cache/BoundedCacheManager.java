@@ -0,0 +1,39 @@
+package com.example.macronews.config.cache;
+
+import com.example.macronews.config.CachePolicyProperties;
+import java.time.Clock;
+import java.util.Collection;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+/**
+ * Creates a {@link BoundedCache} per cache name from {@link CachePolicyProperties}: the configured caches up
+ * front, any other name on first use with the default policy.
+ */
+public class BoundedCacheManager extends AbstractCacheManager {
+
+    private final CachePolicyProperties properties;
+    private final Clock clock;
+
+    public BoundedCacheManager(CachePolicyProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getCaches().keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private BoundedCache createCache(String name) {
+        CachePolicyProperties.Policy policy = properties.policy(name);
+        return new BoundedCache(name, policy.getMaximumSize(), policy.getExpireAfterWrite(), clock);
+    }
+}
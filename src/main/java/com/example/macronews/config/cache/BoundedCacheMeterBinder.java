@@ -0,0 +1,55 @@
+package com.example.macronews.config.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes a {@link BoundedCache}'s counters as the standard {@code cache.gets}, {@code cache.puts},
+ * {@code cache.evictions} and {@code cache.size} meters, plus {@code cache.max.size}.
+ */
+public class BoundedCacheMeterBinder extends CacheMeterBinder<BoundedCache> {
+
+    public BoundedCacheMeterBinder(BoundedCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        BoundedCache cache = getCache();
+        return cache == null ? null : cache.estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        BoundedCache cache = getCache();
+        return cache == null ? 0L : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        BoundedCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        BoundedCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        BoundedCache cache = getCache();
+        return cache == null ? 0L : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.max.size", getCache(), BoundedCache::maximumSize)
+                .tags(getTagsWithCacheName())
+                .description("The maximum number of entries the cache holds")
+                .register(registry);
+    }
+}
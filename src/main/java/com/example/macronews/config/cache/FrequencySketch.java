@@ -0,0 +1,70 @@
+package com.example.macronews.config.cache;
+
+/**
+ * Count-min sketch of how often keys were accessed recently, the TinyLFU half of {@link BoundedCache}.
+ *
+ * <p>Four rows of counters saturating at 15, each four times as wide as the cache, estimate a key's frequency
+ * as its smallest counter. After ten accesses per cache entry every counter is halved, so the estimate follows
+ * recent popularity instead of lifetime totals. Not thread-safe; {@link BoundedCache} calls it under its lock.
+ */
+final class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0x6f7b4e5d, 0x3c6ef373, 0xa54ff53b};
+
+    private final byte[][] counters;
+    private final int mask;
+    private final long sampleSize;
+    private long additions;
+
+    FrequencySketch(long maximumSize) {
+        int width = Integer.highestOneBit((int) Math.max(16, Math.min(4 * maximumSize, 1 << 22)) - 1) << 1;
+        this.counters = new byte[ROWS][width];
+        this.mask = width - 1;
+        this.sampleSize = Math.max(10L * maximumSize, 10L);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void halve() {
+        for (byte[] row : counters) {
+            for (int index = 0; index < row.length; index++) {
+                row[index] = (byte) (row[index] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[row];
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
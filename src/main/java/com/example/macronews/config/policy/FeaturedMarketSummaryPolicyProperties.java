@@ -15,6 +15,7 @@ public class FeaturedMarketSummaryPolicyProperties {
     private int aiMinItems = 3;
     private int aiMaxInputChars = 12000;
     private int aiCacheMinutes = 15;
+    private int aiMaxStaleMinutes = 45;
 
     public boolean isEnabled() {
         return enabled;
@@ -95,4 +96,12 @@ public class FeaturedMarketSummaryPolicyProperties {
     public void setAiCacheMinutes(int aiCacheMinutes) {
         this.aiCacheMinutes = aiCacheMinutes;
     }
+
+    public int getAiMaxStaleMinutes() {
+        return aiMaxStaleMinutes;
+    }
+
+    public void setAiMaxStaleMinutes(int aiMaxStaleMinutes) {
+        this.aiMaxStaleMinutes = aiMaxStaleMinutes;
+    }
 }
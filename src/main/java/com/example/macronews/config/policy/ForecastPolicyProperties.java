@@ -9,6 +9,7 @@ public class ForecastPolicyProperties {
     private int windowHours = 3;
     private int maxNewsItems = 20;
     private int cacheMinutes = 15;
+    private int maxStaleMinutes = 45;
 
     public boolean isEnabled() {
         return enabled;
@@ -41,4 +42,12 @@ public class ForecastPolicyProperties {
     public void setCacheMinutes(int cacheMinutes) {
         this.cacheMinutes = cacheMinutes;
     }
+
+    public int getMaxStaleMinutes() {
+        return maxStaleMinutes;
+    }
+
+    public void setMaxStaleMinutes(int maxStaleMinutes) {
+        this.maxStaleMinutes = maxStaleMinutes;
+    }
 }
@@ -11,6 +11,7 @@ import com.example.macronews.service.macro.MacroAiService;
 import com.example.macronews.service.notification.AutoIngestionEmailNotificationService;
 import com.example.macronews.service.news.AutoIngestionControlService;
 import com.example.macronews.service.news.AutoIngestionRunCommandResult;
+import com.example.macronews.service.news.InterpretationQueueService;
 import com.example.macronews.service.news.NewsIngestionService;
 import com.example.macronews.service.news.NewsIngestionSummary;
 import com.example.macronews.service.news.NewsListSort;
@@ -59,6 +60,7 @@ public class AdminNewsController {
     private final OpsFeatureToggleService opsFeatureToggleService;
     private final RenderKeepAliveService renderKeepAliveService;
     private final AutoIngestionEmailNotificationService autoIngestionEmailNotificationService;
+    private final InterpretationQueueService interpretationQueueService;
     private final MessageSource messageSource;
 
     @GetMapping
@@ -360,6 +362,7 @@ public class AdminNewsController {
                 autoIngestionEmailNotificationService.isEffectivelyEnabled(),
                 autoIngestionEmailNotificationService.hasRecipient(),
                 autoIngestionEmailNotificationService.hasMailSender()));
+        model.addAttribute("interpretationQueueStatus", interpretationQueueService.getStatus());
     }
 
     private void populateAutoBatchStatusFromFlash(Model model) {
@@ -1,22 +1,18 @@
 package com.example.macronews.controller;
 
 import com.example.macronews.dto.NewsDetailDto;
-import com.example.macronews.dto.FeaturedMarketSummaryDto;
-import com.example.macronews.dto.forecast.MarketForecastSnapshotDto;
 import com.example.macronews.service.auth.AnonymousDetailViewGateService;
-import com.example.macronews.service.forecast.MarketForecastQueryService;
 import com.example.macronews.domain.AnalysisResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import com.example.macronews.domain.NewsStatus;
-import com.example.macronews.dto.MarketSignalOverviewDto;
 import com.example.macronews.dto.NewsListItemDto;
-import com.example.macronews.service.news.AiMarketSummaryService;
-import com.example.macronews.service.news.MarketSummarySnapshotService;
+import com.example.macronews.service.news.HomepageFeaturedSummary;
+import com.example.macronews.service.news.HomepageView;
+import com.example.macronews.service.news.HomepageViewService;
 import com.example.macronews.service.news.NewsListSort;
 import com.example.macronews.service.news.NewsQueryService;
-import com.example.macronews.service.news.RecentMarketSummaryService;
 import java.util.List;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -39,10 +35,7 @@ public class NewsController {
     private static final int NEWS_PAGE_SIZE = 5;
 
     private final NewsQueryService newsQueryService;
-    private final MarketForecastQueryService marketForecastQueryService;
-    private final MarketSummarySnapshotService marketSummarySnapshotService;
-    private final AiMarketSummaryService aiMarketSummaryService;
-    private final RecentMarketSummaryService recentMarketSummaryService;
+    private final HomepageViewService homepageViewService;
     private final AnonymousDetailViewGateService anonymousDetailViewGateService;
 
     @GetMapping
@@ -52,31 +45,26 @@ public class NewsController {
             Model model) {
         NewsStatus selectedStatus = resolveStatus(status);
         NewsListSort selectedSort = resolveSort(sort);
-        List<NewsListItemDto> allNewsItems = safeGetRecentNewsForToday(selectedStatus, selectedSort);
+        HomepageView homepageView = homepageViewService.getView(selectedStatus, selectedSort);
+        List<NewsListItemDto> allNewsItems = homepageView.newsItems();
         int totalItems = allNewsItems.size();
         int totalPages = Math.max(1, (int) Math.ceil((double) totalItems / NEWS_PAGE_SIZE));
         int currentPage = resolvePage(page, totalPages);
         int fromIndex = Math.min((currentPage - 1) * NEWS_PAGE_SIZE, totalItems);
         int toIndex = Math.min(fromIndex + NEWS_PAGE_SIZE, totalItems);
         List<NewsListItemDto> newsItems = allNewsItems.subList(fromIndex, toIndex);
-        MarketSignalOverviewDto marketSignalOverview = safeGetMarketSignalOverview(selectedStatus, selectedSort);
-        MarketForecastSnapshotDto marketForecastSnapshot = safeGetCurrentForecastSnapshot();
-        FeaturedSummarySelection featuredSummarySelection = safeResolveFeaturedSummarySelection();
-        FeaturedMarketSummaryDto featuredStoredMarketSummary = featuredSummarySelection.storedSummary();
-        FeaturedMarketSummaryDto featuredAiMarketSummary = featuredSummarySelection.aiSummary();
-        FeaturedMarketSummaryDto featuredMarketSummary = featuredSummarySelection.recentSummary();
-        NewsListItemDto featuredNews = allNewsItems.isEmpty() ? null : allNewsItems.get(0);
-        String featuredPrimaryMode = featuredSummarySelection.primaryMode();
-        boolean featuredSummaryMode = featuredSummarySelection.summaryMode();
+        HomepageFeaturedSummary featuredSummary = homepageView.featuredSummary();
+        String featuredPrimaryMode = featuredSummary.primaryMode();
         model.addAttribute("newsItems", newsItems);
-        model.addAttribute("featuredNews", featuredNews);
-        model.addAttribute("featuredStoredMarketSummary", featuredStoredMarketSummary);
-        model.addAttribute("featuredAiMarketSummary", featuredAiMarketSummary);
-        model.addAttribute("featuredMarketSummary", featuredMarketSummary);
+        model.addAttribute("featuredNews", homepageView.featuredNews());
+        model.addAttribute("featuredStoredMarketSummary", featuredSummary.storedSummary());
+        model.addAttribute("featuredAiMarketSummary", featuredSummary.aiSummary());
+        model.addAttribute("featuredMarketSummary", featuredSummary.recentSummary());
         model.addAttribute("featuredPrimaryMode", featuredPrimaryMode);
-        model.addAttribute("featuredSummaryMode", featuredSummaryMode);
-        model.addAttribute("marketSignalOverview", marketSignalOverview);
-        model.addAttribute("marketForecastSnapshot", marketForecastSnapshot);
+        model.addAttribute("featuredSummaryMode", featuredSummary.summaryMode());
+        model.addAttribute("marketSignalOverview", homepageView.marketSignalOverview());
+        model.addAttribute("marketForecastSnapshot", homepageView.marketForecastSnapshot());
+        model.addAttribute("homepageViewVersion", homepageView.version());
         model.addAttribute("selectedStatus", selectedStatus == null ? "" : selectedStatus.name());
         model.addAttribute("selectedSort", selectedSort.name().toLowerCase());
         model.addAttribute("currentPageNumber", currentPage);
@@ -88,76 +76,11 @@ public class NewsController {
         model.addAttribute("pageDescriptionKey", "page.news.list.description");
         model.addAttribute("ogTitleKey", "page.news.list.title");
         model.addAttribute("ogDescriptionKey", "page.news.list.description");
-        log.info("Rendering news list page entries={} statusFilter={} sort={} featuredMode={}",
-                newsItems.size(), selectedStatus, selectedSort, featuredPrimaryMode);
+        log.info("Rendering news list page entries={} statusFilter={} sort={} featuredMode={} viewVersion={}",
+                newsItems.size(), selectedStatus, selectedSort, featuredPrimaryMode, homepageView.version());
         return "news/list";
     }
 
-    private List<NewsListItemDto> safeGetRecentNewsForToday(NewsStatus selectedStatus, NewsListSort selectedSort) {
-        try {
-            List<NewsListItemDto> todayNewsItems = newsQueryService.getRecentNewsForToday(selectedStatus, selectedSort);
-            if (todayNewsItems != null && !todayNewsItems.isEmpty()) {
-                return todayNewsItems;
-            }
-            return newsQueryService.getRecentNews(selectedStatus, selectedSort);
-        } catch (RuntimeException ex) {
-            log.warn("Rendering /news with empty news list due to query failure status={} sort={}",
-                    selectedStatus, selectedSort, ex);
-            return List.of();
-        }
-    }
-
-    private MarketSignalOverviewDto safeGetMarketSignalOverview(NewsStatus selectedStatus, NewsListSort selectedSort) {
-        try {
-            return newsQueryService.getMarketSignalOverview(selectedStatus, selectedSort);
-        } catch (RuntimeException ex) {
-            log.warn("Rendering /news without market signal overview due to query failure status={} sort={}",
-                    selectedStatus, selectedSort, ex);
-            return new MarketSignalOverviewDto(List.of());
-        }
-    }
-
-    private MarketForecastSnapshotDto safeGetCurrentForecastSnapshot() {
-        try {
-            return marketForecastQueryService.getCurrentSnapshot().orElse(null);
-        } catch (RuntimeException ex) {
-            log.warn("Rendering /news without market forecast snapshot due to forecast query failure", ex);
-            return null;
-        }
-    }
-
-    private FeaturedSummarySelection safeResolveFeaturedSummarySelection() {
-        try {
-            return resolveFeaturedSummarySelection();
-        } catch (RuntimeException ex) {
-            log.warn("Rendering /news without featured market summary due to summary resolution failure", ex);
-            return new FeaturedSummarySelection(null, null, null, "article", false);
-        }
-    }
-
-    private FeaturedSummarySelection resolveFeaturedSummarySelection() {
-        FeaturedMarketSummaryDto storedSummary = marketSummarySnapshotService.getLatestValidSummary().orElse(null);
-        if (storedSummary != null) {
-            log.debug("Featured summary mode resolved to stored snapshot id={}", storedSummary.snapshotId());
-            return new FeaturedSummarySelection(storedSummary, null, null, "stored-summary", true);
-        }
-
-        FeaturedMarketSummaryDto aiSummary = aiMarketSummaryService.getCurrentSummary().orElse(null);
-        if (aiSummary != null) {
-            log.debug("Featured summary mode resolved to current AI summary generatedAt={}", aiSummary.generatedAt());
-            return new FeaturedSummarySelection(null, aiSummary, null, "ai-summary", true);
-        }
-
-        FeaturedMarketSummaryDto recentSummary = recentMarketSummaryService.getCurrentSummary().orElse(null);
-        if (recentSummary != null) {
-            log.debug("Featured summary mode resolved to recent summary generatedAt={}", recentSummary.generatedAt());
-            return new FeaturedSummarySelection(null, null, recentSummary, "recent-summary", true);
-        }
-
-        log.debug("Featured summary mode resolved to article fallback");
-        return new FeaturedSummarySelection(null, null, null, "article", false);
-    }
-
     @GetMapping("/{id}")
     public String detail(@PathVariable String id,
             Authentication authentication,
@@ -341,13 +264,4 @@ public class NewsController {
         }
         return boundary;
     }
-
-    private record FeaturedSummarySelection(
-            FeaturedMarketSummaryDto storedSummary,
-            FeaturedMarketSummaryDto aiSummary,
-            FeaturedMarketSummaryDto recentSummary,
-            String primaryMode,
-            boolean summaryMode
-    ) {
-    }
 }
@@ -0,0 +1,66 @@
+package com.example.macronews.controller;
+
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.dto.NewsCursorPageDto;
+import com.example.macronews.service.news.NewsQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/news")
+public class NewsListApiController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final NewsQueryService newsQueryService;
+
+    @GetMapping("/archive")
+    public ResponseEntity<NewsCursorPageDto> archive(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(newsQueryService.getArchiveNewsAfter(cursor, resolveSize(size)));
+        } catch (IllegalArgumentException ex) {
+            log.debug("Rejecting archive cursor request with malformed cursor='{}'", cursor);
+            return ResponseEntity.badRequest().body(NewsCursorPageDto.empty());
+        }
+    }
+
+    @GetMapping("/today")
+    public ResponseEntity<NewsCursorPageDto> today(
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(newsQueryService.getRecentNewsForTodayAfter(
+                    resolveStatus(status), cursor, resolveSize(size)));
+        } catch (IllegalArgumentException ex) {
+            log.debug("Rejecting today news cursor request with malformed cursor='{}'", cursor);
+            return ResponseEntity.badRequest().body(NewsCursorPageDto.empty());
+        }
+    }
+
+    private int resolveSize(Integer size) {
+        return size == null || size < 1 ? DEFAULT_PAGE_SIZE : size;
+    }
+
+    private NewsStatus resolveStatus(String status) {
+        if (!StringUtils.hasText(status)) {
+            return null;
+        }
+        try {
+            return NewsStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            log.debug("Ignoring unsupported news list status filter={}", status);
+            return null;
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.example.macronews.controller;
 
 import com.example.macronews.dto.NewsListItemDto;
-import com.example.macronews.util.KeywordMatcher;
+import com.example.macronews.util.KeywordAutomaton;
 import com.example.macronews.util.KeywordSource;
 import java.util.List;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 @Component
 final class TopicKeywordPolicy {
@@ -53,37 +52,25 @@ final class TopicKeywordPolicy {
     ));
 
     boolean matchesDollar(NewsListItemDto item) {
-        return matchesKeywords(item, DOLLAR_KEYWORDS.keywords());
+        return matchesKeywords(item, DOLLAR_KEYWORDS.automaton());
     }
 
     boolean matchesRates(NewsListItemDto item) {
-        return matchesKeywords(item, RATES_KEYWORDS.keywords());
+        return matchesKeywords(item, RATES_KEYWORDS.automaton());
     }
 
     boolean matchesOil(NewsListItemDto item) {
-        return matchesKeywords(item, OIL_KEYWORDS.keywords());
+        return matchesKeywords(item, OIL_KEYWORDS.automaton());
     }
 
-    private boolean matchesKeywords(NewsListItemDto item, List<String> keywords) {
+    private boolean matchesKeywords(NewsListItemDto item, KeywordAutomaton keywords) {
         if (item == null) {
             return false;
         }
-        return containsKeyword(item.title(), keywords)
-                || containsKeyword(item.displayTitle(), keywords)
-                || containsKeyword(item.source(), keywords)
-                || containsKeyword(item.macroSummary(), keywords)
-                || containsKeyword(item.interpretationSummary(), keywords);
-    }
-
-    private boolean containsKeyword(String value, List<String> keywords) {
-        if (!StringUtils.hasText(value)) {
-            return false;
-        }
-        for (String keyword : keywords) {
-            if (KeywordMatcher.matches(value, keyword)) {
-                return true;
-            }
-        }
-        return false;
+        return keywords.matchesAny(item.title())
+                || keywords.matchesAny(item.displayTitle())
+                || keywords.matchesAny(item.source())
+                || keywords.matchesAny(item.macroSummary())
+                || keywords.matchesAny(item.interpretationSummary());
     }
 }
@@ -0,0 +1,31 @@
+package com.example.macronews.domain;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Interpretation stored under a hash of the model, the prompt version and the normalized article text,
+ * so an identical prompt is answered without calling OpenAI again.
+ *
+ * @param id SHA-256 of model, prompt version, normalized title and normalized summary
+ * @param model interpretation model that produced the result
+ * @param promptVersion hash of the interpretation prompt file the result was produced with
+ * @param analysisResult the stored interpretation
+ * @param promptTokens prompt tokens the original call spent on this article, used to report savings
+ * @param completionTokens completion tokens the original call spent on this article
+ * @param createdAt when the result was stored
+ * @param expiresAt when the TTL index removes the entry
+ */
+@Document(collection = "interpretation_cache")
+public record InterpretationCacheEntry(
+        @Id String id,
+        String model,
+        String promptVersion,
+        AnalysisResult analysisResult,
+        int promptTokens,
+        int completionTokens,
+        Instant createdAt,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,38 @@
+package com.example.macronews.domain;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Pending interpretation of one news event, kept until a worker finishes it.
+ *
+ * <p>A worker leases the job before interpreting the event; a lease that expires because the worker
+ * died makes the job available again, so queued work survives restarts and redeploys.
+ *
+ * @param id id of the news event to interpret; at most one job exists per event
+ * @param priority higher values are leased first
+ * @param origin whether the job interprets a new event or retries a failed one
+ * @param enqueuedAt when the job was first queued; the oldest job defines the queue lag
+ * @param leaseOwner worker holding the lease, or {@code null} while queued
+ * @param leaseExpiresAt when the current lease lapses, or {@code null} while queued
+ * @param attempts number of times the job has been leased
+ */
+@Document(collection = "interpretation_jobs")
+public record InterpretationJob(
+        @Id String id,
+        int priority,
+        InterpretationJobOrigin origin,
+        InterpretationJobStatus status,
+        Instant enqueuedAt,
+        String leaseOwner,
+        Instant leaseExpiresAt,
+        int attempts
+) {
+
+    public static InterpretationJob queued(String newsEventId, int priority, InterpretationJobOrigin origin,
+            Instant enqueuedAt) {
+        return new InterpretationJob(newsEventId, priority, origin, InterpretationJobStatus.QUEUED, enqueuedAt,
+                null, null, 0);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.macronews.domain;
+
+public enum InterpretationJobStatus {
+    QUEUED,
+    LEASED
+}
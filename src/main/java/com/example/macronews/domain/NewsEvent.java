@@ -1,9 +1,16 @@
 package com.example.macronews.domain;
 
 import java.time.Instant;
+import java.util.Locale;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+/**
+ * @param clusterId id of the representative of this event's near-duplicate cluster; equal to {@code id} for
+ *                  a representative and {@code null} for events ingested before clustering or outside it
+ * @param sourceKey {@code source} trimmed and lower-cased, always derived from it, so list windows can match
+ *                  a source with an indexed equality instead of a case-insensitive regex
+ */
 @Document(collection = "news_events")
 public record NewsEvent(
         @Id String id,
@@ -17,6 +24,49 @@ public record NewsEvent(
         NewsStatus status,
         AnalysisResult analysisResult,
         Integer analysisRetryCount,
-        Instant analysisLastAttemptAt
+        Instant analysisLastAttemptAt,
+        PriorityScore priority,
+        String clusterId,
+        String sourceKey
 ) {
+    public static final String NAVER_SOURCE_KEY = "naver";
+
+    public NewsEvent {
+        sourceKey = sourceKeyOf(source);
+    }
+
+    public NewsEvent(String id, String externalId, String title, String summary, String source, String url,
+            Instant publishedAt, Instant ingestedAt, NewsStatus status, AnalysisResult analysisResult,
+            Integer analysisRetryCount, Instant analysisLastAttemptAt, PriorityScore priority, String clusterId) {
+        this(id, externalId, title, summary, source, url, publishedAt, ingestedAt, status, analysisResult,
+                analysisRetryCount, analysisLastAttemptAt, priority, clusterId, null);
+    }
+
+    public NewsEvent(String id, String externalId, String title, String summary, String source, String url,
+            Instant publishedAt, Instant ingestedAt, NewsStatus status, AnalysisResult analysisResult,
+            Integer analysisRetryCount, Instant analysisLastAttemptAt) {
+        this(id, externalId, title, summary, source, url, publishedAt, ingestedAt, status, analysisResult,
+                analysisRetryCount, analysisLastAttemptAt, null, null);
+    }
+
+    public NewsEvent(String id, String externalId, String title, String summary, String source, String url,
+            Instant publishedAt, Instant ingestedAt, NewsStatus status, AnalysisResult analysisResult,
+            Integer analysisRetryCount, Instant analysisLastAttemptAt, PriorityScore priority) {
+        this(id, externalId, title, summary, source, url, publishedAt, ingestedAt, status, analysisResult,
+                analysisRetryCount, analysisLastAttemptAt, priority, null);
+    }
+
+    public NewsEvent withPriority(PriorityScore priority) {
+        return new NewsEvent(id, externalId, title, summary, source, url, publishedAt, ingestedAt, status,
+                analysisResult, analysisRetryCount, analysisLastAttemptAt, priority, clusterId);
+    }
+
+    public NewsEvent withClusterId(String clusterId) {
+        return new NewsEvent(id, externalId, title, summary, source, url, publishedAt, ingestedAt, status,
+                analysisResult, analysisRetryCount, analysisLastAttemptAt, priority, clusterId);
+    }
+
+    public static String sourceKeyOf(String source) {
+        return source == null ? null : source.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.macronews.domain;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Interpretation requests submitted to the OpenAI Batch API, tracked until their results are applied.
+ *
+ * @param id batch id returned by the batch client
+ * @param model interpretation model every request in the batch used
+ * @param promptVersion hash of the interpretation prompt file the requests were built from
+ * @param newsEventIds events the batch interprets, one request each
+ * @param status whether the batch is still running or its results were applied
+ * @param submittedAt when the batch was submitted
+ * @param completedAt when its results were applied or the batch was given up, or {@code null} while running
+ * @param analyzed number of events saved as analyzed from the batch output
+ * @param failed number of events the batch did not answer validly
+ */
+@Document(collection = "offline_interpretation_batches")
+public record OfflineInterpretationBatch(
+        @Id String id,
+        String model,
+        String promptVersion,
+        List<String> newsEventIds,
+        OfflineInterpretationBatchStatus status,
+        Instant submittedAt,
+        Instant completedAt,
+        int analyzed,
+        int failed
+) {
+
+    public static OfflineInterpretationBatch submitted(String id, String model, String promptVersion,
+            List<String> newsEventIds, Instant submittedAt) {
+        return new OfflineInterpretationBatch(id, model, promptVersion, List.copyOf(newsEventIds),
+                OfflineInterpretationBatchStatus.SUBMITTED, submittedAt, null, 0, 0);
+    }
+
+    public OfflineInterpretationBatch finished(OfflineInterpretationBatchStatus status, Instant completedAt,
+            int analyzed, int failed) {
+        return new OfflineInterpretationBatch(id, model, promptVersion, newsEventIds, status, submittedAt,
+                completedAt, analyzed, failed);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.macronews.domain;
+
+public enum OfflineInterpretationBatchStatus {
+    SUBMITTED,
+    COMPLETED,
+    FAILED
+}
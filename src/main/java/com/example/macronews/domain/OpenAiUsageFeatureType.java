@@ -4,5 +4,6 @@ public enum OpenAiUsageFeatureType {
     MACRO_INTERPRETATION,
     MARKET_FORECAST,
     MARKET_SUMMARY,
-    MARKET_ISSUE_SEED
+    MARKET_ISSUE_SEED,
+    MACRO_INTERPRETATION_BATCH
 }
@@ -0,0 +1,20 @@
+package com.example.macronews.domain;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Priority score computed once from an event's title, summary, source and URL.
+ *
+ * @param score total score used by the priority sort
+ * @param rulesVersion version of the scoring rules that produced the score; stale versions are rescored
+ * @param breakdown non-zero contribution of each scoring rule, keyed by rule name
+ * @param scoredAt when the score was computed
+ */
+public record PriorityScore(
+        int score,
+        int rulesVersion,
+        Map<String, Integer> breakdown,
+        Instant scoredAt
+) {
+}
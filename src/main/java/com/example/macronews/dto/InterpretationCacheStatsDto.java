@@ -0,0 +1,20 @@
+package com.example.macronews.dto;
+
+import java.math.BigDecimal;
+
+public record InterpretationCacheStatsDto(
+        boolean enabled,
+        long hits,
+        long misses,
+        BigDecimal hitRatePercent,
+        long savedPromptTokens,
+        long savedCompletionTokens,
+        BigDecimal savedUsd,
+        BigDecimal savedKrw
+) {
+
+    public static InterpretationCacheStatsDto disabled() {
+        return new InterpretationCacheStatsDto(false, 0L, 0L, BigDecimal.ZERO, 0L, 0L, BigDecimal.ZERO,
+                BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.macronews.dto;
+
+public record InterpretationQueueStatusDto(
+        boolean available,
+        long depth,
+        long leasedCount,
+        Long lagSeconds,
+        int maxDepth,
+        int concurrency,
+        long rejectedCount
+) {
+
+    public static InterpretationQueueStatusDto unavailable(int maxDepth, int concurrency, long rejectedCount) {
+        return new InterpretationQueueStatusDto(false, 0L, 0L, null, maxDepth, concurrency, rejectedCount);
+    }
+}
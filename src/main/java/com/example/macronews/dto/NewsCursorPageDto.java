@@ -0,0 +1,13 @@
+package com.example.macronews.dto;
+
+import java.util.List;
+
+public record NewsCursorPageDto(
+        List<NewsListItemDto> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static NewsCursorPageDto empty() {
+        return new NewsCursorPageDto(List.of(), null, false);
+    }
+}
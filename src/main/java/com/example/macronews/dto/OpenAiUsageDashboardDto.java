@@ -17,6 +17,7 @@ public record OpenAiUsageDashboardDto(
         BigDecimal exchangeRate,
         String exchangeRateStatusMessageKey,
         boolean exchangeRateFallback,
-        boolean hasUnpricedRecords
+        boolean hasUnpricedRecords,
+        InterpretationCacheStatsDto interpretationCache
 ) {
 }
@@ -0,0 +1,9 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.InterpretationCacheEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InterpretationCacheRepository extends MongoRepository<InterpretationCacheEntry, String> {
+}
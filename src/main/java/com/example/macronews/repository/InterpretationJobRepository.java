@@ -0,0 +1,17 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobStatus;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InterpretationJobRepository
+        extends MongoRepository<InterpretationJob, String>, InterpretationJobRepositoryCustom {
+
+    long countByStatusAndLeaseExpiresAtAfter(InterpretationJobStatus status, Instant now);
+
+    Optional<InterpretationJob> findFirstByOrderByEnqueuedAtAsc();
+}
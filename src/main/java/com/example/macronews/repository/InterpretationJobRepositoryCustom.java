@@ -0,0 +1,49 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.InterpretationJob;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Atomic {@link InterpretationJobRepository} operations that several workers may run concurrently.
+ */
+public interface InterpretationJobRepositoryCustom {
+
+    /**
+     * Queues each job with a single unordered bulk upsert, skipping news events that already have one.
+     *
+     * <p>An existing job keeps its priority, lease and attempt count.
+     *
+     * @return the number of jobs newly queued
+     */
+    int enqueueAllIfAbsent(Collection<InterpretationJob> jobs);
+
+    /**
+     * Returns which of the given news event ids already have a job, queued or leased.
+     */
+    Set<String> findJobIds(Collection<String> ids);
+
+    /**
+     * Leases the highest-priority job that is queued or whose lease has expired, oldest first among
+     * equal priorities, and increments its attempt count.
+     */
+    Optional<InterpretationJob> leaseNext(String owner, Instant now, Duration leaseDuration);
+
+    /**
+     * Removes a finished job, but only while {@code owner} still holds its lease.
+     *
+     * @return whether the job was removed
+     */
+    boolean complete(String id, String owner);
+
+    /**
+     * Pushes the lease of the given jobs out to {@code leaseExpiresAt}, but only for those {@code owner}
+     * still holds.
+     *
+     * @return the number of leases renewed
+     */
+    long renewLeases(Collection<String> ids, String owner, Instant leaseExpiresAt);
+}
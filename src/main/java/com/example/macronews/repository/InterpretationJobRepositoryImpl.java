@@ -0,0 +1,93 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+class InterpretationJobRepositoryImpl implements InterpretationJobRepositoryCustom {
+
+    static final Sort LEASE_ORDER = Sort.by(Sort.Direction.DESC, "priority")
+            .and(Sort.by(Sort.Direction.ASC, "enqueuedAt"));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int enqueueAllIfAbsent(Collection<InterpretationJob> jobs) {
+        if (jobs == null || jobs.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, InterpretationJob.class);
+        for (InterpretationJob job : jobs) {
+            bulkOperations.upsert(Query.query(Criteria.where("_id").is(job.id())), new Update()
+                    .setOnInsert("priority", job.priority())
+                    .setOnInsert("origin", job.origin())
+                    .setOnInsert("status", InterpretationJobStatus.QUEUED)
+                    .setOnInsert("enqueuedAt", job.enqueuedAt())
+                    .setOnInsert("attempts", 0));
+        }
+        return bulkOperations.execute().getUpserts().size();
+    }
+
+    @Override
+    public Set<String> findJobIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        Set<String> jobIds = new HashSet<>();
+        mongoTemplate.find(query, InterpretationJob.class).forEach(job -> jobIds.add(job.id()));
+        return jobIds;
+    }
+
+    @Override
+    public Optional<InterpretationJob> leaseNext(String owner, Instant now, Duration leaseDuration) {
+        Query query = new Query(buildLeasableCriteria(now)).with(LEASE_ORDER);
+        Update update = new Update()
+                .set("status", InterpretationJobStatus.LEASED)
+                .set("leaseOwner", owner)
+                .set("leaseExpiresAt", now.plus(leaseDuration))
+                .inc("attempts", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), InterpretationJob.class));
+    }
+
+    @Override
+    public boolean complete(String id, String owner) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("leaseOwner").is(owner));
+        return mongoTemplate.remove(query, InterpretationJob.class).getDeletedCount() > 0;
+    }
+
+    @Override
+    public long renewLeases(Collection<String> ids, String owner, Instant leaseExpiresAt) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids)
+                .and("status").is(InterpretationJobStatus.LEASED)
+                .and("leaseOwner").is(owner));
+        return mongoTemplate.updateMulti(query, new Update().set("leaseExpiresAt", leaseExpiresAt),
+                InterpretationJob.class).getModifiedCount();
+    }
+
+    Criteria buildLeasableCriteria(Instant now) {
+        return new Criteria().orOperator(
+                Criteria.where("status").is(InterpretationJobStatus.QUEUED),
+                Criteria.where("leaseExpiresAt").lte(now));
+    }
+}
@@ -3,13 +3,14 @@ package com.example.macronews.repository;
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface NewsEventRepository extends MongoRepository<NewsEvent, String> {
+public interface NewsEventRepository extends MongoRepository<NewsEvent, String>, NewsEventRepositoryCustom {
 
     List<NewsEvent> findTop20ByOrderByPublishedAtDesc();
 
@@ -22,4 +23,12 @@ public interface NewsEventRepository extends MongoRepository<NewsEvent, String>
     Optional<NewsEvent> findByUrl(String url);
 
     Optional<NewsEvent> findByExternalId(String externalId);
+
+    List<NewsEvent> findByClusterId(String clusterId);
+
+    List<NewsEvent> findByClusterIdIn(Collection<String> clusterIds);
+
+    List<NewsEvent> findByStatusAndIngestedAtBefore(NewsStatus status, Instant cutoff);
+
+    List<NewsEvent> findByExternalIdInOrUrlIn(Collection<String> externalIds, Collection<String> urls);
 }
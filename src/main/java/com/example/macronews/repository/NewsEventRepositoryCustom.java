@@ -0,0 +1,98 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.PriorityScore;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Template-backed {@link NewsEventRepository} operations that derived queries cannot express.
+ */
+public interface NewsEventRepositoryCustom {
+
+    /**
+     * Inserts all events with a single unordered bulk write.
+     *
+     * <p>Every event must already carry an id so callers can reference the rows without a read-back.
+     * Rows rejected by the server are left out of the returned list; the remaining rows are still written
+     * because the bulk is unordered. A duplicate key (a concurrent run stored the same article first) is
+     * expected and logged at warn; any other write error is logged at error, so callers should only treat
+     * a missing row as a duplicate once they find the stored copy.
+     *
+     * @return the events that were actually inserted, in input order
+     */
+    List<NewsEvent> insertAllUnordered(Collection<NewsEvent> events);
+
+    /**
+     * Loads one slice of the news list window, sorted and paged on the server.
+     *
+     * <p>Only the fields needed to render list items are loaded; market impacts and retry bookkeeping
+     * are left out of the projection.
+     *
+     * @param limit maximum number of events to return; {@code 0} or less returns the whole window
+     */
+    List<NewsEvent> findListWindow(NewsListWindow window, Sort sort, long offset, int limit);
+
+    /**
+     * Loads the slice of the news list window that follows {@code after}, ordered by {@code publishedAt}
+     * descending and then {@code _id} descending.
+     *
+     * <p>Unlike {@link #findListWindow}, the cost does not grow with the depth of the slice: the cursor
+     * turns into an indexed range bound instead of a skip.
+     *
+     * @param after position of the last event already returned; {@code null} starts at the newest event
+     * @param limit maximum number of events to return
+     */
+    List<NewsEvent> findListWindowAfter(NewsListWindow window, NewsListCursor after, int limit);
+
+    long countListWindow(NewsListWindow window);
+
+    /**
+     * Loads events whose stored priority score is missing or was produced by another rules version,
+     * ordered by id so a backfill can resume after the last id it processed.
+     *
+     * <p>Only the fields the scoring rules read are loaded.
+     *
+     * @param afterId exclusive lower id bound; {@code null} starts from the first event
+     */
+    List<NewsEvent> findPriorityStale(int rulesVersion, String afterId, int limit);
+
+    /**
+     * Sets the {@code priority} field of each event with a single unordered bulk write, leaving every
+     * other field untouched.
+     *
+     * @return the number of documents modified
+     */
+    int updatePriorities(Map<String, PriorityScore> scoresById);
+
+    /**
+     * Sets {@code sourceKey} on events stored before it existed, from their {@code source}, so list windows
+     * can match them. Until it runs, such events fall in the non-NAVER window.
+     *
+     * @return the number of documents modified
+     */
+    long backfillSourceKeys();
+
+    /**
+     * Streams every event in {@code externalId} order with only that field loaded, not even the id, for
+     * rebuilding the in-memory duplicate filter. The caller must close the stream.
+     */
+    Stream<NewsEvent> streamDedupKeys();
+
+    /**
+     * Loads the events ingested at or after {@code since} that new events may cluster with. Only the id,
+     * title, summary, cluster id, status and retry count are loaded.
+     */
+    List<NewsEvent> findClusterCandidates(Instant since);
+
+    /**
+     * Loads the analyzed events whose signal basis (the analysis time, else the ingestion time, else the
+     * publication time) is at or after {@code basisSince}. Only the fields the market signal reads are
+     * loaded: status, source, cluster id, the basis times and the macro impacts.
+     */
+    List<NewsEvent> findSignalCandidates(Instant basisSince);
+}
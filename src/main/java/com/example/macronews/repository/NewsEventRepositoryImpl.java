@@ -0,0 +1,228 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.PriorityScore;
+import com.mongodb.bulk.BulkWriteError;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+@Slf4j
+class NewsEventRepositoryImpl implements NewsEventRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "publishedAt")
+            .and(Sort.by(Sort.Direction.DESC, "_id"));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<NewsEvent> insertAllUnordered(Collection<NewsEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+        List<NewsEvent> pending = List.copyOf(events);
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, NewsEvent.class);
+        bulkOperations.insert(pending);
+        try {
+            bulkOperations.execute();
+            return pending;
+        } catch (BulkOperationException ex) {
+            Set<Integer> rejectedIndexes = new HashSet<>();
+            int duplicateKeys = 0;
+            for (BulkWriteError error : ex.getErrors()) {
+                rejectedIndexes.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+                    duplicateKeys++;
+                } else {
+                    log.error("[NEWS-REPO] bulk insert failed for row index={} id={} code={} message={}",
+                            error.getIndex(), pending.get(error.getIndex()).id(), error.getCode(),
+                            error.getMessage());
+                }
+            }
+            if (duplicateKeys > 0) {
+                log.warn("[NEWS-REPO] bulk insert skipped duplicate rows requested={} duplicates={}",
+                        pending.size(), duplicateKeys);
+            }
+            List<NewsEvent> inserted = new ArrayList<>(pending.size() - rejectedIndexes.size());
+            for (int i = 0; i < pending.size(); i++) {
+                if (!rejectedIndexes.contains(i)) {
+                    inserted.add(pending.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    @Override
+    public List<NewsEvent> findListWindow(NewsListWindow window, Sort sort, long offset, int limit) {
+        Query query = listItemQuery(buildWindowCriteria(window));
+        if (sort != null && sort.isSorted()) {
+            // _id keeps the order total so skip/limit pages never overlap on equal timestamps.
+            query.with(sort.and(Sort.by(Sort.Direction.DESC, "_id")));
+        }
+        if (offset > 0) {
+            query.skip(offset);
+        }
+        if (limit > 0) {
+            query.limit(limit);
+        }
+        return mongoTemplate.find(query, NewsEvent.class);
+    }
+
+    @Override
+    public List<NewsEvent> findListWindowAfter(NewsListWindow window, NewsListCursor after, int limit) {
+        Criteria criteria = after == null
+                ? buildWindowCriteria(window)
+                : new Criteria().andOperator(buildWindowCriteria(window), buildKeysetCriteria(after));
+        Query query = listItemQuery(criteria).with(KEYSET_SORT).limit(Math.max(limit, 1));
+        return mongoTemplate.find(query, NewsEvent.class);
+    }
+
+    @Override
+    public long countListWindow(NewsListWindow window) {
+        return mongoTemplate.count(new Query(buildWindowCriteria(window)), NewsEvent.class);
+    }
+
+    @Override
+    public List<NewsEvent> findPriorityStale(int rulesVersion, String afterId, int limit) {
+        Criteria criteria = Criteria.where("priority.rulesVersion").ne(rulesVersion);
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(afterId);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(Math.max(limit, 1));
+        query.fields()
+                .include("title")
+                .include("summary")
+                .include("source")
+                .include("url")
+                .include("publishedAt");
+        return mongoTemplate.find(query, NewsEvent.class);
+    }
+
+    @Override
+    public int updatePriorities(Map<String, PriorityScore> scoresById) {
+        if (scoresById == null || scoresById.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, NewsEvent.class);
+        scoresById.forEach((id, score) -> bulkOperations.updateOne(
+                Query.query(Criteria.where("_id").is(id)), new Update().set("priority", score)));
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    @Override
+    public long backfillSourceKeys() {
+        Query query = new Query(Criteria.where("sourceKey").exists(false).and("source").ne(null));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("sourceKey").toValue(StringOperators.ToLower.lowerValueOf(StringOperators.Trim.valueOf("source")));
+        return mongoTemplate.updateMulti(query, update, NewsEvent.class).getModifiedCount();
+    }
+
+    @Override
+    public List<NewsEvent> findClusterCandidates(Instant since) {
+        Query query = new Query(Criteria.where("ingestedAt").gte(since));
+        query.fields()
+                .include("title")
+                .include("summary")
+                .include("clusterId")
+                .include("status")
+                .include("analysisRetryCount");
+        return mongoTemplate.find(query, NewsEvent.class);
+    }
+
+    @Override
+    public List<NewsEvent> findSignalCandidates(Instant basisSince) {
+        // Each branch starts with status and analysisResult.createdAt, so all three run on that index.
+        Criteria criteria = Criteria.where("status").is(NewsStatus.ANALYZED).orOperator(
+                Criteria.where("analysisResult.createdAt").gte(basisSince),
+                Criteria.where("analysisResult.createdAt").is(null).and("ingestedAt").gte(basisSince),
+                Criteria.where("analysisResult.createdAt").is(null).and("ingestedAt").is(null)
+                        .and("publishedAt").gte(basisSince));
+        Query query = new Query(criteria);
+        query.fields()
+                .include("status")
+                .include("source")
+                .include("clusterId")
+                .include("ingestedAt")
+                .include("publishedAt")
+                .include("analysisResult.createdAt")
+                .include("analysisResult.macroImpacts");
+        return mongoTemplate.find(query, NewsEvent.class);
+    }
+
+    @Override
+    public Stream<NewsEvent> streamDedupKeys() {
+        // Ordered by and projected to the unique externalId index alone, so the read is a covered index scan
+        // rather than a collection scan over whole documents.
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "externalId"));
+        query.fields().include("externalId").exclude("_id");
+        return mongoTemplate.stream(query, NewsEvent.class);
+    }
+
+    Criteria buildWindowCriteria(NewsListWindow window) {
+        Criteria naverWindow = new Criteria().andOperator(
+                Criteria.where("sourceKey").is(NewsEvent.NAVER_SOURCE_KEY),
+                basisWithin(window.naverNotBefore(), window.notAfter()));
+        Criteria globalWindow = new Criteria().andOperator(
+                Criteria.where("sourceKey").ne(NewsEvent.NAVER_SOURCE_KEY),
+                basisWithin(window.globalNotBefore(), window.notAfter()));
+        Criteria sourceWindows = new Criteria().orOperator(naverWindow, globalWindow);
+        if (window.status() == null) {
+            return sourceWindows;
+        }
+        return new Criteria().andOperator(Criteria.where("status").is(window.status()), sourceWindows);
+    }
+
+    Criteria buildKeysetCriteria(NewsListCursor after) {
+        if (after.publishedAt() == null) {
+            return Criteria.where("publishedAt").is(null).and("_id").lt(after.id());
+        }
+        // Undated events sort after every dated one in descending order, so they always follow a dated cursor.
+        return new Criteria().orOperator(
+                Criteria.where("publishedAt").lt(after.publishedAt()),
+                Criteria.where("publishedAt").is(after.publishedAt()).and("_id").lt(after.id()),
+                Criteria.where("publishedAt").is(null));
+    }
+
+    private Query listItemQuery(Criteria criteria) {
+        Query query = new Query(criteria);
+        query.fields()
+                .exclude("analysisResult.marketImpacts")
+                .exclude("analysisRetryCount")
+                .exclude("analysisLastAttemptAt");
+        return query;
+    }
+
+    private Criteria basisWithin(Instant notBefore, Instant notAfter) {
+        Criteria ingested = range(Criteria.where("ingestedAt"), notBefore, notAfter);
+        Criteria published = range(Criteria.where("ingestedAt").is(null).and("publishedAt"), notBefore, notAfter);
+        return new Criteria().orOperator(ingested, published);
+    }
+
+    private Criteria range(Criteria field, Instant notBefore, Instant notAfter) {
+        Criteria bounded = field.gte(notBefore);
+        return notAfter == null ? bounded : bounded.lt(notAfter);
+    }
+}
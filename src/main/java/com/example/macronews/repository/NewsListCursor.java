@@ -0,0 +1,61 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.NewsEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Keyset position in a news list ordered by {@code publishedAt} descending, then {@code _id} descending.
+ *
+ * <p>The cursor points at the last event of the previous slice; the next slice starts strictly after it.
+ * Events without {@code publishedAt} sort after every dated event, so a cursor with a {@code null}
+ * timestamp continues through the undated tail by id only.
+ *
+ * @param publishedAt publication time of the last returned event, or {@code null} when it had none
+ * @param id id of the last returned event
+ */
+public record NewsListCursor(Instant publishedAt, String id) {
+
+    private static final String NO_TIMESTAMP = "-";
+    private static final char SEPARATOR = ':';
+
+    public static NewsListCursor of(NewsEvent event) {
+        return new NewsListCursor(event.publishedAt(), event.id());
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        String timestamp = publishedAt == null ? NO_TIMESTAMP : Long.toString(publishedAt.toEpochMilli());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((timestamp + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @return the cursor, or empty when the token is malformed
+     */
+    public static Optional<NewsListCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                return Optional.empty();
+            }
+            String timestamp = raw.substring(0, separator);
+            Instant publishedAt = NO_TIMESTAMP.equals(timestamp)
+                    ? null
+                    : Instant.ofEpochMilli(Long.parseLong(timestamp));
+            return Optional.of(new NewsListCursor(publishedAt, raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.NewsStatus;
+import java.time.Instant;
+
+/**
+ * Server-side news list window resolved from the display eligibility policy.
+ *
+ * <p>The window basis is {@code ingestedAt}, falling back to {@code publishedAt} when an event has no
+ * ingestion timestamp. NAVER events and all other sources use separate lower bounds because they keep
+ * different freshness windows.
+ *
+ * @param status optional status filter; {@code null} matches every status
+ * @param naverNotBefore inclusive lower bound for NAVER events
+ * @param globalNotBefore inclusive lower bound for every other source
+ * @param notAfter optional exclusive upper bound; {@code null} leaves the window open-ended
+ */
+public record NewsListWindow(
+        NewsStatus status,
+        Instant naverNotBefore,
+        Instant globalNotBefore,
+        Instant notAfter
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.macronews.repository;
+
+import com.example.macronews.domain.OfflineInterpretationBatch;
+import com.example.macronews.domain.OfflineInterpretationBatchStatus;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OfflineInterpretationBatchRepository extends MongoRepository<OfflineInterpretationBatch, String> {
+
+    List<OfflineInterpretationBatch> findByStatusOrderBySubmittedAtAsc(OfflineInterpretationBatchStatus status);
+}
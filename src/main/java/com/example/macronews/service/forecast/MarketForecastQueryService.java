@@ -11,7 +11,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +20,7 @@ public class MarketForecastQueryService {
     private final NewsAggregationService newsAggregationService;
     private final NewsQueryService newsQueryService;
     private final MarketDataFacade marketDataFacade;
+    private final Scheduler blockingIoScheduler;
 
     public Optional<MarketForecastSnapshotDto> getCurrentSnapshot() {
         return newsAggregationService.getCurrentSnapshot();
@@ -33,9 +34,9 @@ public class MarketForecastQueryService {
         return getCurrentSnapshot().map(snapshot -> {
             DetailPreparation preparation = Mono.zip(
                             Mono.fromCallable(() -> newsQueryService.getNewsItemsByIds(snapshot.relatedNewsIds()))
-                                    .subscribeOn(Schedulers.boundedElastic()),
+                                    .subscribeOn(blockingIoScheduler),
                             Mono.fromCallable(marketDataFacade::getCurrentMarketSnapshot)
-                                    .subscribeOn(Schedulers.boundedElastic()))
+                                    .subscribeOn(blockingIoScheduler))
                     .map(tuple -> new DetailPreparation(tuple.getT1(), tuple.getT2()))
                     .block();
             DetailPreparation resolvedPreparation = preparation == null ? DetailPreparation.empty() : preparation;
@@ -22,17 +22,20 @@ import com.example.macronews.config.policy.ForecastPolicyProperties;
 import com.example.macronews.repository.NewsEventRepository;
 import com.example.macronews.service.market.MarketDataFacade;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
+import com.example.macronews.service.openai.PromptTemplateEngine;
+import com.example.macronews.service.openai.PromptTemplateEngine.CompiledPrompt;
+import com.example.macronews.service.openai.PromptTemplateEngine.PlaceholderValues;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
+import com.example.macronews.util.RefreshingValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumMap;
@@ -41,8 +44,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -52,10 +53,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NewsAggregationService {
 
@@ -65,11 +65,14 @@ public class NewsAggregationService {
     private final NewsEventRepository newsEventRepository;
     private final ExternalApiUtils externalApiUtils;
     private final ObjectMapper objectMapper;
+    private final PromptTemplateEngine promptTemplateEngine;
     private final OpenAiUsageLoggingService openAiUsageLoggingService;
     private final MarketDataFacade marketDataFacade;
     private final ForecastPolicyProperties policyProperties;
+    private final Scheduler blockingIoScheduler;
 
-    private final AtomicReference<CachedSnapshot> cachedSnapshot = new AtomicReference<>();
+    // The current snapshot; one caller regenerates it when due while the rest keep the previous one.
+    private final RefreshingValue<Optional<MarketForecastSnapshotDto>> currentSnapshot;
 
     @Value("${openai.api-key:}")
     private String openAiApiKey;
@@ -89,22 +92,49 @@ public class NewsAggregationService {
     @Value("${openai.forecast-prompt-file:classpath:ai/prompts/market_forecast_aggregation_prompt.json}")
     private Resource forecastPromptFile;
 
+    public NewsAggregationService(NewsEventRepository newsEventRepository,
+            ExternalApiUtils externalApiUtils,
+            ObjectMapper objectMapper,
+            PromptTemplateEngine promptTemplateEngine,
+            OpenAiUsageLoggingService openAiUsageLoggingService,
+            MarketDataFacade marketDataFacade,
+            ForecastPolicyProperties policyProperties,
+            Scheduler blockingIoScheduler,
+            MeterRegistry meterRegistry) {
+        this.newsEventRepository = newsEventRepository;
+        this.externalApiUtils = externalApiUtils;
+        this.objectMapper = objectMapper;
+        this.promptTemplateEngine = promptTemplateEngine;
+        this.openAiUsageLoggingService = openAiUsageLoggingService;
+        this.marketDataFacade = marketDataFacade;
+        this.policyProperties = policyProperties;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.currentSnapshot = new RefreshingValue<>("market-forecast",
+                RefreshingValue.Policy.of(resolveCacheDuration(), resolveMaxStaleDuration()),
+                InstantSource.system(), meterRegistry);
+    }
+
     public Optional<MarketForecastSnapshotDto> getCurrentSnapshot() {
         if (!policyProperties.isEnabled()) {
             return Optional.empty();
         }
+        return currentSnapshot.get(this::synthesizeCurrentSnapshot).flatMap(snapshot -> snapshot);
+    }
 
-        CachedSnapshot current = cachedSnapshot.get();
-        if (current != null && !current.isExpired(resolveCacheDuration())) {
-            return current.snapshot();
+    Optional<MarketForecastSnapshotDto> generateCurrentSnapshot() {
+        try {
+            return synthesizeCurrentSnapshot();
+        } catch (RuntimeException ex) {
+            return Optional.empty();
         }
-
-        Optional<MarketForecastSnapshotDto> regenerated = generateCurrentSnapshot();
-        cachedSnapshot.set(new CachedSnapshot(regenerated, Instant.now()));
-        return regenerated;
     }
 
-    Optional<MarketForecastSnapshotDto> generateCurrentSnapshot() {
+    /**
+     * Aggregates the snapshot, or returns empty when there is too little recent news.
+     *
+     * @throws IllegalStateException when the OpenAI call or its answer fails
+     */
+    private Optional<MarketForecastSnapshotDto> synthesizeCurrentSnapshot() {
         ForecastPreparation preparation = loadForecastPreparation();
         List<NewsEvent> candidates = preparation.recentNews();
         if (candidates.size() < MIN_REQUIRED_NEWS_ITEMS) {
@@ -131,16 +161,19 @@ public class NewsAggregationService {
             ));
             if (apiResult == null || apiResult.statusCode() < 200 || apiResult.statusCode() >= 300) {
                 log.warn("[FORECAST] aggregation failed status={}", apiResult == null ? -1 : apiResult.statusCode());
-                return Optional.empty();
+                throw new IllegalStateException("Market forecast aggregation failed with status "
+                        + (apiResult == null ? -1 : apiResult.statusCode()));
             }
             openAiUsageLoggingService.recordUsage(
                     OpenAiUsageFeatureType.MARKET_FORECAST,
                     openAiModel,
                     apiResult.body());
             return Optional.of(parseSnapshot(apiResult.body(), candidates));
+        } catch (IllegalStateException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.warn("[FORECAST] aggregation failed", ex);
-            return Optional.empty();
+            throw new IllegalStateException("Market forecast aggregation failed", ex);
         }
     }
 
@@ -148,9 +181,9 @@ public class NewsAggregationService {
         try {
             ForecastPreparation preparation = Mono.zip(
                             Mono.fromCallable(this::loadRecentAnalyzedNews)
-                                    .subscribeOn(Schedulers.boundedElastic()),
+                                    .subscribeOn(blockingIoScheduler),
                             Mono.fromCallable(this::resolveMarketContext)
-                                    .subscribeOn(Schedulers.boundedElastic()))
+                                    .subscribeOn(blockingIoScheduler))
                     .map(tuple -> new ForecastPreparation(tuple.getT1(), tuple.getT2()))
                     .block();
             return preparation == null ? ForecastPreparation.empty() : preparation;
@@ -171,41 +204,23 @@ public class NewsAggregationService {
     }
 
     String buildPayload(List<NewsEvent> recentNews, String marketContext) {
+        CompiledPrompt prompt = promptTemplateEngine.compile(forecastPromptFile);
+        String newsItemsJson;
         try {
-            JsonNode promptRoot = loadPromptTemplate();
-            JsonNode promptMessages = promptRoot.path("messages");
-            if (!promptMessages.isArray()) {
-                throw new IllegalStateException("Forecast prompt file must contain messages array");
-            }
-
-            List<Map<String, Object>> messages = new ArrayList<>();
-            for (JsonNode node : promptMessages) {
-                String role = node.path("role").asText("");
-                if (!StringUtils.hasText(role)) {
-                    continue;
-                }
-                String content = node.has("content")
-                        ? node.path("content").asText("")
-                        : appendMarketContext(
-                                node.path("template").asText("").replace("{{newsItemsJson}}", buildNewsItemsJson(recentNews)),
-                                marketContext
-                        );
-                if (!StringUtils.hasText(content)) {
-                    continue;
-                }
-                messages.add(Map.of("role", role, "content", content));
-            }
-
-            Map<String, Object> root = new LinkedHashMap<>();
-            root.put("model", openAiModel);
-            root.put("messages", messages);
-            root.put("max_tokens", openAiMaxTokens);
-            root.put("temperature", openAiTemperature);
-            root.put("response_format", Map.of("type", "json_object"));
-            return objectMapper.writeValueAsString(root);
-        } catch (IOException ex) {
+            newsItemsJson = buildNewsItemsJson(recentNews);
+        } catch (JsonProcessingException ex) {
             throw new IllegalStateException("Failed to build market forecast payload", ex);
         }
+        PlaceholderValues values = name -> "newsItemsJson".equals(name) ? newsItemsJson : null;
+        return promptTemplateEngine.renderPayload(openAiModel, openAiMaxTokens, openAiTemperature, messages -> {
+            for (PromptTemplateEngine.Message message : prompt.messages()) {
+                if (message.isTemplate()) {
+                    messages.add(message.role(), appendMarketContext(message.render(values), marketContext));
+                } else {
+                    messages.add(message, values);
+                }
+            }
+        });
     }
 
     MarketForecastSnapshotDto parseSnapshot(String responseBody, List<NewsEvent> sourceNews) {
@@ -246,12 +261,6 @@ public class NewsAggregationService {
         }
     }
 
-    private JsonNode loadPromptTemplate() throws IOException {
-        try (Reader reader = new InputStreamReader(forecastPromptFile.getInputStream(), StandardCharsets.UTF_8)) {
-            return objectMapper.readTree(reader);
-        }
-    }
-
     private String buildNewsItemsJson(List<NewsEvent> recentNews) throws JsonProcessingException {
         List<Map<String, Object>> items = new ArrayList<>();
         for (NewsEvent event : recentNews) {
@@ -484,6 +493,10 @@ public class NewsAggregationService {
         return Duration.ofMinutes(policyProperties.getCacheMinutes() > 0 ? policyProperties.getCacheMinutes() : 15L);
     }
 
+    private Duration resolveMaxStaleDuration() {
+        return Duration.ofMinutes(Math.max(0, policyProperties.getMaxStaleMinutes()));
+    }
+
     private boolean isConfigured() {
         return StringUtils.hasText(openAiApiKey)
                 && StringUtils.hasText(openAiUrl)
@@ -500,12 +513,4 @@ public class NewsAggregationService {
             return new ForecastPreparation(List.of(), "");
         }
     }
-
-    private record CachedSnapshot(Optional<MarketForecastSnapshotDto> snapshot, Instant createdAt) {
-
-        boolean isExpired(Duration ttl) {
-            return ttl == null || ttl.isZero() || ttl.isNegative()
-                    || createdAt.plus(ttl).isBefore(Instant.now());
-        }
-    }
 }
@@ -0,0 +1,245 @@
+package com.example.macronews.service.macro;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.InterpretationCacheEntry;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.repository.InterpretationCacheRepository;
+import com.example.macronews.service.openai.OpenAiTokenUsage;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Content-addressed cache of interpretations, consulted before {@link MacroAiClient} is called.
+ *
+ * <p>The key hashes the model, the prompt version and the whitespace- and case-normalized title and
+ * summary, so re-ingested events, admin reinterpretations and wire copies published under other urls reuse
+ * one result. Entries live in the {@code interpretation_cache} collection, removed by a TTL index on
+ * {@code expiresAt}, behind an in-memory LRU of {@code max-entries}. A hit is restamped with the current
+ * time so it sorts like a fresh analysis.
+ *
+ * <p>Lookups publish {@code openai.interpretation.cache.requests} by result and tier, and the tokens the
+ * original call spent are counted as saved on every hit, per model, for the OpenAI usage dashboard.
+ */
+@Slf4j
+@Component
+public class InterpretationResultCache {
+
+    static final String REQUESTS_METRIC = "openai.interpretation.cache.requests";
+    static final String SAVED_TOKENS_METRIC = "openai.interpretation.cache.saved.tokens";
+
+    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
+    private static final int DEFAULT_MAX_ENTRIES = 2_000;
+
+    private final InterpretationCacheRepository interpretationCacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, InterpretationCacheEntry> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, SavedTokens> savedByModel = new TreeMap<>();
+    private long hits;
+    private long misses;
+
+    @Value("${app.interpretation-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.interpretation-cache.ttl:7d}")
+    private String ttl = "7d";
+
+    @Value("${app.interpretation-cache.max-entries:2000}")
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    private Clock clock = Clock.systemUTC();
+
+    public InterpretationResultCache(InterpretationCacheRepository interpretationCacheRepository,
+            MeterRegistry meterRegistry) {
+        this.interpretationCacheRepository = interpretationCacheRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Optional<AnalysisResult> lookup(String model, String promptVersion, NewsEvent event) {
+        if (!enabled || event == null) {
+            return Optional.empty();
+        }
+        String key = key(model, promptVersion, event);
+        Instant now = clock.instant();
+        InterpretationCacheEntry entry;
+        String tier = "memory";
+        synchronized (this) {
+            entry = memory.get(key);
+            if (entry != null && !entry.expiresAt().isAfter(now)) {
+                memory.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            tier = "mongo";
+            entry = findStored(key, now);
+            if (entry != null) {
+                remember(entry);
+            }
+        }
+        if (entry == null) {
+            recordMiss();
+            return Optional.empty();
+        }
+        recordHit(entry, tier);
+        log.info("[INTERPRET] cache hit id={} tier={} key={}", event.id(), tier, shortKey(key));
+        AnalysisResult stored = entry.analysisResult();
+        return Optional.of(new AnalysisResult(
+                stored.model(),
+                now,
+                stored.headlineKo(),
+                stored.headlineEn(),
+                stored.summaryKo(),
+                stored.summaryEn(),
+                stored.macroImpacts(),
+                stored.marketImpacts()
+        ));
+    }
+
+    /**
+     * Stores a fresh interpretation. {@code sharedBy} is the number of articles the call interpreted, so a
+     * batched call's usage is split evenly across its articles.
+     */
+    public void store(String model, String promptVersion, NewsEvent event, AnalysisResult result,
+            OpenAiTokenUsage usage, int sharedBy) {
+        if (!enabled || event == null || result == null) {
+            return;
+        }
+        int divisor = Math.max(sharedBy, 1);
+        Instant now = clock.instant();
+        InterpretationCacheEntry entry = new InterpretationCacheEntry(
+                key(model, promptVersion, event),
+                model,
+                promptVersion,
+                result,
+                usage == null ? 0 : usage.inputTokens() / divisor,
+                usage == null ? 0 : usage.outputTokens() / divisor,
+                now,
+                now.plus(resolveTtl())
+        );
+        remember(entry);
+        try {
+            interpretationCacheRepository.save(entry);
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET] cache store failed id={} reason={}", event.id(), ex.getMessage());
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(enabled, hits, misses, Map.copyOf(savedByModel));
+    }
+
+    static String key(String model, String promptVersion, NewsEvent event) {
+        return sha256(String.join("\u0000",
+                safe(model), safe(promptVersion), normalize(event.title()), normalize(event.summary())));
+    }
+
+    synchronized int memorySize() {
+        return memory.size();
+    }
+
+    private InterpretationCacheEntry findStored(String key, Instant now) {
+        try {
+            // The TTL monitor runs about once a minute, so an expired entry may still be readable.
+            return interpretationCacheRepository.findById(key)
+                    .filter(entry -> entry.expiresAt() != null && entry.expiresAt().isAfter(now))
+                    .filter(entry -> entry.analysisResult() != null)
+                    .orElse(null);
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET] cache lookup failed key={} reason={}", shortKey(key), ex.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized void remember(InterpretationCacheEntry entry) {
+        memory.put(entry.id(), entry);
+        int limit = maxEntries > 0 ? maxEntries : DEFAULT_MAX_ENTRIES;
+        var eldest = memory.entrySet().iterator();
+        while (memory.size() > limit && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private void recordHit(InterpretationCacheEntry entry, String tier) {
+        synchronized (this) {
+            hits++;
+            savedByModel.merge(safe(entry.model()), new SavedTokens(entry.promptTokens(), entry.completionTokens()),
+                    SavedTokens::plus);
+        }
+        meterRegistry.counter(REQUESTS_METRIC, "result", "hit", "tier", tier).increment();
+        meterRegistry.counter(SAVED_TOKENS_METRIC, "type", "prompt").increment(entry.promptTokens());
+        meterRegistry.counter(SAVED_TOKENS_METRIC, "type", "completion").increment(entry.completionTokens());
+    }
+
+    private void recordMiss() {
+        synchronized (this) {
+            misses++;
+        }
+        meterRegistry.counter(REQUESTS_METRIC, "result", "miss", "tier", "none").increment();
+    }
+
+    private Duration resolveTtl() {
+        if (!StringUtils.hasText(ttl)) {
+            return DEFAULT_TTL;
+        }
+        try {
+            Duration parsed = DurationStyle.detectAndParse(ttl);
+            return parsed == null || parsed.isNegative() || parsed.isZero() ? DEFAULT_TTL : parsed;
+        } catch (Exception ex) {
+            return DEFAULT_TTL;
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String safe(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String shortKey(String key) {
+        return key.substring(0, Math.min(12, key.length()));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Counters since startup; {@code savedByModel} holds the tokens hits did not have to spend.
+     */
+    public record Stats(boolean enabled, long hits, long misses, Map<String, SavedTokens> savedByModel) {
+    }
+
+    public record SavedTokens(long promptTokens, long completionTokens) {
+
+        SavedTokens plus(SavedTokens other) {
+            return new SavedTokens(promptTokens + other.promptTokens, completionTokens + other.completionTokens);
+        }
+    }
+}
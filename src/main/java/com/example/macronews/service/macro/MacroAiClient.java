@@ -1,7 +1,8 @@
 package com.example.macronews.service.macro;
 
 import com.example.macronews.dto.request.ExternalApiRequest;
-import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.service.openai.OpenAiChatCompletion;
+import com.example.macronews.util.ExternalApiStreamResult;
 import com.example.macronews.util.ExternalApiUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -15,16 +16,16 @@ final class MacroAiClient {
 
     private final ExternalApiUtils externalApiUtils;
 
-    ExternalApiResult call(String apiKey, String apiUrl, String payload) {
+    ExternalApiStreamResult<OpenAiChatCompletion> call(String apiKey, String apiUrl, String payload) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
 
-        return externalApiUtils.callAPI(new ExternalApiRequest(
+        return externalApiUtils.callAPIStreaming(new ExternalApiRequest(
                 HttpMethod.POST,
                 headers,
                 apiUrl,
                 payload
-        ));
+        ), OpenAiChatCompletion::read);
     }
 }
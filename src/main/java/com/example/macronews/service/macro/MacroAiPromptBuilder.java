@@ -1,83 +1,105 @@
 package com.example.macronews.service.macro;
 
 import com.example.macronews.domain.NewsEvent;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.macronews.service.openai.PromptTemplateEngine;
+import com.example.macronews.service.openai.PromptTemplateEngine.CompiledPrompt;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 @Component
 @RequiredArgsConstructor
 final class MacroAiPromptBuilder {
 
-    private static final String SOURCE_PLACEHOLDER = "{{source}}";
-    private static final String TITLE_PLACEHOLDER = "{{title}}";
-    private static final String SUMMARY_PLACEHOLDER = "{{summary}}";
-    private static final String URL_PLACEHOLDER = "{{url}}";
-    private static final String PUBLISHED_AT_PLACEHOLDER = "{{publishedAt}}";
+    private static final String ARTICLES_PLACEHOLDER = "articles";
+    private static final int ARTICLE_OVERHEAD_TOKENS = 40;
 
     private final ObjectMapper objectMapper;
+    private final PromptTemplateEngine promptTemplateEngine;
 
     String buildPayload(NewsEvent event, String model, int maxTokens, double temperature, Resource promptFile) {
-        try {
-            JsonNode promptRoot = loadPromptTemplate(promptFile);
-            JsonNode promptMessages = promptRoot.get("messages");
-            if (promptMessages == null || !promptMessages.isArray()) {
-                throw new IllegalStateException("Macro prompt file must contain messages array");
-            }
+        CompiledPrompt prompt = promptTemplateEngine.compile(promptFile);
+        return promptTemplateEngine.renderPayload(model, maxTokens, temperature,
+                messages -> messages.addAll(prompt, name -> placeholderValue(name, event)));
+    }
 
-            List<Map<String, Object>> messages = new ArrayList<>();
-            for (JsonNode node : promptMessages) {
-                String role = node.path("role").asText("");
-                if (!StringUtils.hasText(role)) {
-                    continue;
-                }
+    /**
+     * Builds one request interpreting all {@code events}: the fixed system messages of {@code promptFile}
+     * are sent once, followed by the batch prompt whose {@code {{articles}}} placeholder receives the
+     * articles as a JSON array keyed by event id.
+     */
+    String buildBatchPayload(List<NewsEvent> events, String model, int maxTokens, double temperature,
+            Resource promptFile, Resource batchPromptFile) {
+        CompiledPrompt prompt = promptTemplateEngine.compile(promptFile);
+        CompiledPrompt batchPrompt = promptTemplateEngine.compile(batchPromptFile);
+        String articles;
+        try {
+            articles = objectMapper.writeValueAsString(events.stream().map(this::articleFields).toList());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to build macro batch interpretation payload", ex);
+        }
+        return promptTemplateEngine.renderPayload(model, maxTokens, temperature, messages -> {
+            // Per-article templates are replaced by the batch prompt's article list.
+            messages.addFixed(prompt);
+            messages.addAll(batchPrompt, name -> ARTICLES_PLACEHOLDER.equals(name) ? articles : null);
+        });
+    }
 
-                String content = node.has("content")
-                        ? node.get("content").asText("")
-                        : fillTemplate(node.path("template").asText(""), event);
-                if (!StringUtils.hasText(content)) {
-                    continue;
+    /**
+     * Rough prompt-token count of one article in a batch: about four ASCII characters per token and one
+     * token per Hangul or other non-ASCII character, plus the JSON field overhead.
+     */
+    static int estimateArticleTokens(NewsEvent event) {
+        int tokens = ARTICLE_OVERHEAD_TOKENS;
+        int ascii = 0;
+        for (String value : new String[] {event.id(), event.source(), event.title(), event.summary(), event.url()}) {
+            if (value == null) {
+                continue;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) < 0x80) {
+                    ascii++;
+                } else {
+                    tokens++;
                 }
-
-                messages.add(Map.of("role", role, "content", content));
             }
-
-            Map<String, Object> root = new LinkedHashMap<>();
-            root.put("model", model);
-            root.put("messages", messages);
-            root.put("max_tokens", maxTokens);
-            root.put("temperature", temperature);
-            root.put("response_format", Map.of("type", "json_object"));
-            return objectMapper.writeValueAsString(root);
-        } catch (IOException ex) {
-            throw new IllegalStateException("Failed to build macro interpretation payload", ex);
         }
+        return tokens + (ascii + 3) / 4;
     }
 
-    private JsonNode loadPromptTemplate(Resource promptFile) throws IOException {
-        try (Reader reader = new InputStreamReader(promptFile.getInputStream(), StandardCharsets.UTF_8)) {
-            return objectMapper.readTree(reader);
-        }
+    /**
+     * Returns a short content hash of {@code promptFile}, so cached interpretations are keyed to the prompt
+     * that produced them.
+     */
+    String promptVersion(Resource promptFile) {
+        return promptTemplateEngine.compile(promptFile).version();
+    }
+
+    private Map<String, Object> articleFields(NewsEvent event) {
+        Map<String, Object> article = new LinkedHashMap<>();
+        article.put("id", safe(event.id()));
+        article.put("source", safe(event.source()));
+        article.put("title", safe(event.title()));
+        article.put("publishedAt", String.valueOf(event.publishedAt()));
+        article.put("url", safe(event.url()));
+        article.put("summary", safe(event.summary()));
+        return article;
     }
 
-    private String fillTemplate(String template, NewsEvent event) {
-        return template
-                .replace(SOURCE_PLACEHOLDER, safe(event.source()))
-                .replace(TITLE_PLACEHOLDER, safe(event.title()))
-                .replace(SUMMARY_PLACEHOLDER, safe(event.summary()))
-                .replace(URL_PLACEHOLDER, safe(event.url()))
-                .replace(PUBLISHED_AT_PLACEHOLDER, String.valueOf(event.publishedAt()));
+    private String placeholderValue(String name, NewsEvent event) {
+        return switch (name) {
+            case "source" -> safe(event.source());
+            case "title" -> safe(event.title());
+            case "summary" -> safe(event.summary());
+            case "url" -> safe(event.url());
+            case "publishedAt" -> String.valueOf(event.publishedAt());
+            default -> null;
+        };
     }
 
     private String safe(String value) {
@@ -6,13 +6,17 @@ import com.example.macronews.domain.MacroImpact;
 import com.example.macronews.domain.MacroVariable;
 import com.example.macronews.domain.MarketImpact;
 import com.example.macronews.domain.MarketType;
+import com.example.macronews.service.openai.OpenAiChatCompletion;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,41 +27,76 @@ final class MacroAiResponseParser {
 
     private final ObjectMapper objectMapper;
 
-    AnalysisResult parseAnalysisResult(String responseBody, String model) {
+    AnalysisResult parseAnalysisResult(OpenAiChatCompletion completion, String model) {
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            String content = root.path("choices")
-                    .path(0)
-                    .path("message")
-                    .path("content")
-                    .asText("");
-            if (!StringUtils.hasText(content)) {
-                throw new IllegalStateException("OpenAI response message content was empty");
-            }
+            return parseResultNode(extractJsonNode(requireContent(completion)), model, Instant.now());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to parse macro interpretation response", ex);
+        }
+    }
 
-            JsonNode node = extractJsonNode(content);
-            JsonNode macroImpactsNode = node.path("macroImpacts");
-            JsonNode marketImpactsNode = node.path("marketImpacts");
-            if (!macroImpactsNode.isArray() || !marketImpactsNode.isArray()) {
-                throw new IllegalStateException("Required impact arrays are missing");
+    /**
+     * Maps the {@code results} array of a batch response back to event ids. Entries without an id, with an
+     * id that was not requested, or failing the single-article validation are left out, so the caller can
+     * retry those articles on their own.
+     */
+    Map<String, AnalysisResult> parseBatchAnalysisResults(OpenAiChatCompletion completion, String model,
+            Collection<String> expectedIds) {
+        JsonNode resultsNode;
+        try {
+            JsonNode node = extractJsonNode(requireContent(completion));
+            resultsNode = node.isArray() ? node : node.path("results");
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to parse macro batch interpretation response", ex);
+        }
+        if (!resultsNode.isArray()) {
+            throw new IllegalStateException("Failed to parse macro batch interpretation response: results array is missing");
+        }
+
+        Instant analyzedAt = Instant.now();
+        Map<String, AnalysisResult> results = new LinkedHashMap<>();
+        for (JsonNode item : resultsNode) {
+            String id = readOptionalText(item, "id");
+            if (id == null || !expectedIds.contains(id) || results.containsKey(id)) {
+                continue;
             }
+            try {
+                results.put(id, parseResultNode(item, model, analyzedAt));
+            } catch (IllegalStateException ex) {
+                // Left out of the map; the article is interpreted again on its own.
+            }
+        }
+        return results;
+    }
 
-            List<MacroImpact> macroImpacts = parseMacroImpacts(macroImpactsNode);
-            List<MarketImpact> marketImpacts = parseMarketImpacts(marketImpactsNode);
-
-            return new AnalysisResult(
-                    model,
-                    Instant.now(),
-                    readOptionalText(node, "headlineKo"),
-                    readOptionalText(node, "headlineEn"),
-                    readOptionalText(node, "summaryKo"),
-                    readOptionalText(node, "summaryEn"),
-                    macroImpacts,
-                    marketImpacts
-            );
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to parse macro interpretation response", ex);
+    private String requireContent(OpenAiChatCompletion completion) {
+        String content = completion == null ? "" : completion.content();
+        if (!StringUtils.hasText(content)) {
+            throw new IllegalStateException("OpenAI response message content was empty");
         }
+        return content;
+    }
+
+    private AnalysisResult parseResultNode(JsonNode node, String model, Instant analyzedAt) {
+        JsonNode macroImpactsNode = node.path("macroImpacts");
+        JsonNode marketImpactsNode = node.path("marketImpacts");
+        if (!macroImpactsNode.isArray() || !marketImpactsNode.isArray()) {
+            throw new IllegalStateException("Required impact arrays are missing");
+        }
+
+        List<MacroImpact> macroImpacts = parseMacroImpacts(macroImpactsNode);
+        List<MarketImpact> marketImpacts = parseMarketImpacts(marketImpactsNode);
+
+        return new AnalysisResult(
+                model,
+                analyzedAt,
+                readOptionalText(node, "headlineKo"),
+                readOptionalText(node, "headlineEn"),
+                readOptionalText(node, "summaryKo"),
+                readOptionalText(node, "summaryEn"),
+                macroImpacts,
+                marketImpacts
+        );
     }
 
     private JsonNode extractJsonNode(String content) throws IOException {
@@ -2,10 +2,40 @@ package com.example.macronews.service.macro;
 
 import com.example.macronews.domain.AnalysisResult;
 import com.example.macronews.domain.NewsEvent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface MacroAiService {
 
     AnalysisResult interpret(NewsEvent event);
 
     NewsEvent interpretAndSave(String newsEventId);
-}
\ No newline at end of file
+
+    /**
+     * Interprets and saves several events, packing them into batched requests when batching is enabled.
+     * Events the batch response does not answer validly are interpreted again on their own.
+     */
+    default List<NewsEvent> interpretAndSaveAll(List<String> newsEventIds) {
+        return interpretAndSaveAll(newsEventIds, () -> {
+        });
+    }
+
+    /**
+     * Same as {@link #interpretAndSaveAll(List)}, running {@code beforeEachRequest} before every OpenAI
+     * request so a caller holding time-bound leases can renew them.
+     */
+    List<NewsEvent> interpretAndSaveAll(List<String> newsEventIds, Runnable beforeEachRequest);
+
+    /**
+     * Returns how many events one {@link #interpretAndSaveAll} request packs at most; {@code 1} when
+     * batching is disabled.
+     */
+    int maxBatchSize();
+
+    /**
+     * Saves interpretations produced outside the real-time path, such as offline batch output, in one bulk
+     * write. Events in {@code failedIds} that are not already analyzed are saved as FAILED.
+     */
+    List<NewsEvent> applyInterpretations(Map<String, AnalysisResult> resultsById, Collection<String> failedIds);
+}
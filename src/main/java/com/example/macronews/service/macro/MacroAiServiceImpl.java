@@ -5,12 +5,28 @@ import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import com.example.macronews.domain.OpenAiUsageFeatureType;
 import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.service.news.NewsClusterService;
+import com.example.macronews.service.news.NewsContentChangedEvent;
+import com.example.macronews.service.news.NewsPriorityScorer;
+import com.example.macronews.service.openai.OpenAiTokenUsage;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -20,11 +36,18 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class MacroAiServiceImpl implements MacroAiService {
 
+    private static final String NEWS_DETAIL_CACHE = "newsDetail";
+
     private final MacroAiPromptBuilder macroAiPromptBuilder;
     private final MacroAiClient macroAiClient;
     private final MacroAiResponseParser macroAiResponseParser;
     private final NewsEventRepository newsEventRepository;
     private final OpenAiUsageLoggingService openAiUsageLoggingService;
+    private final NewsPriorityScorer newsPriorityScorer;
+    private final NewsClusterService newsClusterService;
+    private final CacheManager cacheManager;
+    private final InterpretationResultCache interpretationResultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${openai.api-key:}")
     private String openAiApiKey;
@@ -44,6 +67,21 @@ public class MacroAiServiceImpl implements MacroAiService {
     @Value("${openai.macro-prompt-file:classpath:ai/prompts/macro_interpretation_prompt.json}")
     private Resource macroPromptFile;
 
+    @Value("${openai.macro-batch-prompt-file:classpath:ai/prompts/macro_interpretation_batch_prompt.json}")
+    private Resource macroBatchPromptFile;
+
+    @Value("${openai.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${openai.batch.size:6}")
+    private int batchSize = 6;
+
+    @Value("${openai.batch.max-prompt-tokens:6000}")
+    private int batchMaxPromptTokens = 6000;
+
+    @Value("${openai.batch.max-tokens:4000}")
+    private int batchMaxTokens = 4000;
+
     @Override
     public AnalysisResult interpret(NewsEvent event) {
         if (event == null) {
@@ -53,6 +91,15 @@ public class MacroAiServiceImpl implements MacroAiService {
 
         validateConfig();
 
+        String promptVersion = macroAiPromptBuilder.promptVersion(macroPromptFile);
+        Optional<AnalysisResult> cached = interpretationResultCache.lookup(interpretationModel, promptVersion, event);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return interpretUncached(event, promptVersion);
+    }
+
+    private AnalysisResult interpretUncached(NewsEvent event, String promptVersion) {
         String payload = macroAiPromptBuilder.buildPayload(
                 event, interpretationModel, openAiMaxTokens, openAiTemperature, macroPromptFile);
         var apiResult = macroAiClient.call(openAiApiKey, openAiUrl, payload);
@@ -64,15 +111,17 @@ public class MacroAiServiceImpl implements MacroAiService {
             throw new IllegalStateException(
                     "OpenAI interpretation failed with status=" + apiResult.statusCode());
         }
-        openAiUsageLoggingService.recordUsage(
+        openAiUsageLoggingService.recordCompletionUsage(
                 OpenAiUsageFeatureType.MACRO_INTERPRETATION,
                 interpretationModel,
-                apiResult.body());
+                apiResult.value());
 
-        AnalysisResult result = macroAiResponseParser.parseAnalysisResult(apiResult.body(), interpretationModel);
+        AnalysisResult result = macroAiResponseParser.parseAnalysisResult(apiResult.value(), interpretationModel);
         log.info("[INTERPRET] success id={} macroImpacts={} marketImpacts={}", event.id(),
                 result.macroImpacts() == null ? 0 : result.macroImpacts().size(),
                 result.marketImpacts() == null ? 0 : result.marketImpacts().size());
+        interpretationResultCache.store(interpretationModel, promptVersion, event, result,
+                apiResult.value() == null ? null : apiResult.value().usage(), 1);
         return result;
     }
 
@@ -82,16 +131,109 @@ public class MacroAiServiceImpl implements MacroAiService {
         log.info("[INTERPRET] persist-start id={}", newsEventId);
         NewsEvent event = newsEventRepository.findById(newsEventId)
                 .orElseThrow(() -> new IllegalArgumentException("NewsEvent not found: " + newsEventId));
+        NewsEvent saved = interpretAndPersist(event, () -> interpret(event));
+        publishInterpretationChange(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public List<NewsEvent> interpretAndSaveAll(List<String> newsEventIds, Runnable beforeEachRequest) {
+        if (newsEventIds == null || newsEventIds.isEmpty()) {
+            return List.of();
+        }
+        evictNewsDetails(newsEventIds);
+        Map<String, NewsEvent> eventsById = new HashMap<>();
+        newsEventRepository.findAllById(newsEventIds).forEach(event -> eventsById.put(event.id(), event));
+        List<NewsEvent> events = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(newsEventIds)) {
+            NewsEvent event = eventsById.get(id);
+            if (event == null) {
+                log.warn("[INTERPRET] batch skipped id={} reason=not-found", id);
+                continue;
+            }
+            events.add(event);
+        }
+
+        String promptVersion = null;
+        String batchPromptVersion = null;
+        try {
+            validateConfig();
+            promptVersion = macroAiPromptBuilder.promptVersion(macroPromptFile);
+            if (batchEnabled && promptVersion != null) {
+                // A batched result comes from both prompt files, so it is cached under both versions.
+                batchPromptVersion = promptVersion + "+batch:"
+                        + macroAiPromptBuilder.promptVersion(macroBatchPromptFile);
+            }
+        } catch (RuntimeException ex) {
+            // Each article then fails on its own below and is saved as FAILED.
+            log.warn("[INTERPRET] batch preparation failed reason={}", ex.getMessage());
+        }
+        List<NewsEvent> saved = new ArrayList<>();
+        List<NewsEvent> pending = new ArrayList<>();
+        for (NewsEvent event : events) {
+            Optional<AnalysisResult> cached = lookupCached(event, promptVersion, batchPromptVersion);
+            if (cached.isPresent()) {
+                saved.add(persistAnalyzed(event, cached.get(), Instant.now()));
+            } else {
+                pending.add(event);
+            }
+        }
+        for (List<NewsEvent> chunk : chunk(pending)) {
+            saved.addAll(interpretAndPersistChunk(chunk, promptVersion, batchPromptVersion, beforeEachRequest));
+        }
+        if (!saved.isEmpty()) {
+            publishInterpretationChange(saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return batchEnabled ? Math.max(batchSize, 1) : 1;
+    }
+
+    @Override
+    public List<NewsEvent> applyInterpretations(Map<String, AnalysisResult> resultsById,
+            Collection<String> failedIds) {
+        Set<String> ids = new LinkedHashSet<>(resultsById.keySet());
+        ids.addAll(failedIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        evictNewsDetails(ids);
         Instant attemptedAt = Instant.now();
+        List<NewsEvent> updates = new ArrayList<>();
+        for (NewsEvent event : newsEventRepository.findAllById(ids)) {
+            AnalysisResult result = resultsById.get(event.id());
+            if (result != null) {
+                updates.add(copyWithStatusAndResult(event, NewsStatus.ANALYZED, result, attemptedAt));
+            } else if (event.status() != NewsStatus.ANALYZED && event.status() != NewsStatus.FAILED) {
+                updates.add(copyWithStatusAndResult(event, NewsStatus.FAILED, null, attemptedAt));
+            }
+        }
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        List<NewsEvent> saved = newsEventRepository.saveAll(updates);
+        saved.stream()
+                .filter(event -> event.status() == NewsStatus.ANALYZED)
+                .forEach(this::linkClusterMembers);
+        log.info("[INTERPRET] applied analyzed={} failed={}", resultsById.size(), failedIds.size());
+        publishInterpretationChange(saved);
+        return saved;
+    }
 
+    private void publishInterpretationChange(List<NewsEvent> saved) {
+        eventPublisher.publishEvent(NewsContentChangedEvent.interpreted(saved));
+    }
+
+    private NewsEvent interpretAndPersist(NewsEvent event, Supplier<AnalysisResult> interpretation) {
+        Instant attemptedAt = Instant.now();
         try {
-            AnalysisResult analysisResult = interpret(event);
-            NewsEvent analyzed = copyWithStatusAndResult(event, NewsStatus.ANALYZED, analysisResult, attemptedAt);
-            NewsEvent saved = newsEventRepository.save(analyzed);
-            log.info("[INTERPRET] persist-success id={} status={}", saved.id(), saved.status());
-            return saved;
+            AnalysisResult analysisResult = interpretation.get();
+            return persistAnalyzed(event, analysisResult, attemptedAt);
         } catch (Exception ex) {
-            log.error("[INTERPRET] persist-failure id={}", newsEventId, ex);
+            log.error("[INTERPRET] persist-failure id={}", event.id(), ex);
             NewsEvent failed = copyWithStatusAndResult(event, NewsStatus.FAILED, null, attemptedAt);
             NewsEvent saved = newsEventRepository.save(failed);
             log.info("[INTERPRET] persisted-failed id={} status={}", saved.id(), saved.status());
@@ -99,9 +241,144 @@ public class MacroAiServiceImpl implements MacroAiService {
         }
     }
 
+    private NewsEvent persistAnalyzed(NewsEvent event, AnalysisResult analysisResult, Instant attemptedAt) {
+        NewsEvent analyzed = copyWithStatusAndResult(event, NewsStatus.ANALYZED, analysisResult, attemptedAt);
+        NewsEvent saved = newsEventRepository.save(analyzed);
+        log.info("[INTERPRET] persist-success id={} status={}", saved.id(), saved.status());
+        linkClusterMembers(saved);
+        return saved;
+    }
+
+    // Near-duplicate copies of this article were never sent to OpenAI; they share its result instead.
+    private void linkClusterMembers(NewsEvent saved) {
+        try {
+            newsClusterService.linkMembers(saved);
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET] cluster link failed id={} reason={}", saved.id(), ex.getMessage());
+        }
+    }
+
+    // Articles reaching this point already missed the cache, so single calls skip the lookup.
+    private List<NewsEvent> interpretAndPersistChunk(List<NewsEvent> chunk, String promptVersion,
+            String batchPromptVersion, Runnable beforeEachRequest) {
+        if (chunk.size() == 1) {
+            NewsEvent event = chunk.get(0);
+            beforeEachRequest.run();
+            return List.of(interpretAndPersist(event, () -> interpretCacheMissed(event, promptVersion)));
+        }
+        Instant attemptedAt = Instant.now();
+        Map<String, AnalysisResult> results;
+        try {
+            beforeEachRequest.run();
+            results = interpretBatch(chunk, batchPromptVersion);
+        } catch (Exception ex) {
+            log.warn("[INTERPRET] batch failed size={} reason={}", chunk.size(), ex.getMessage());
+            results = Map.of();
+        }
+
+        List<NewsEvent> saved = new ArrayList<>();
+        for (NewsEvent event : chunk) {
+            AnalysisResult result = results.get(event.id());
+            if (result == null) {
+                log.info("[INTERPRET] batch fallback id={}", event.id());
+                beforeEachRequest.run();
+                saved.add(interpretAndPersist(event, () -> interpretCacheMissed(event, promptVersion)));
+            } else {
+                saved.add(persistAnalyzed(event, result, attemptedAt));
+            }
+        }
+        return saved;
+    }
+
+    // Either prompt may answer an article in a batch run, so a result cached by either one is reused.
+    private Optional<AnalysisResult> lookupCached(NewsEvent event, String promptVersion, String batchPromptVersion) {
+        if (promptVersion == null) {
+            return Optional.empty();
+        }
+        Optional<AnalysisResult> cached = interpretationResultCache.lookup(interpretationModel, promptVersion, event);
+        if (cached.isPresent() || batchPromptVersion == null) {
+            return cached;
+        }
+        return interpretationResultCache.lookup(interpretationModel, batchPromptVersion, event);
+    }
+
+    private AnalysisResult interpretCacheMissed(NewsEvent event, String promptVersion) {
+        validateConfig();
+        return interpretUncached(event, promptVersion);
+    }
+
+    private Map<String, AnalysisResult> interpretBatch(List<NewsEvent> chunk, String batchPromptVersion) {
+        List<String> ids = chunk.stream().map(NewsEvent::id).toList();
+        log.info("[INTERPRET] batch start size={} ids={}", chunk.size(), ids);
+
+        validateConfig();
+
+        int maxTokens = (int) Math.min((long) Math.max(openAiMaxTokens, 1) * chunk.size(),
+                Math.max(batchMaxTokens, openAiMaxTokens));
+        String payload = macroAiPromptBuilder.buildBatchPayload(
+                chunk, interpretationModel, maxTokens, openAiTemperature, macroPromptFile, macroBatchPromptFile);
+        var apiResult = macroAiClient.call(openAiApiKey, openAiUrl, payload);
+
+        if (apiResult == null) {
+            throw new IllegalStateException("OpenAI batch interpretation response was null");
+        }
+        if (apiResult.statusCode() < 200 || apiResult.statusCode() >= 300) {
+            throw new IllegalStateException(
+                    "OpenAI batch interpretation failed with status=" + apiResult.statusCode());
+        }
+        openAiUsageLoggingService.recordCompletionUsage(
+                OpenAiUsageFeatureType.MACRO_INTERPRETATION,
+                interpretationModel,
+                apiResult.value());
+
+        Map<String, AnalysisResult> results = macroAiResponseParser.parseBatchAnalysisResults(
+                apiResult.value(), interpretationModel, ids);
+        log.info("[INTERPRET] batch success size={} parsed={}", chunk.size(), results.size());
+        OpenAiTokenUsage usage = apiResult.value() == null ? null : apiResult.value().usage();
+        for (NewsEvent event : chunk) {
+            AnalysisResult result = results.get(event.id());
+            if (result != null && batchPromptVersion != null) {
+                interpretationResultCache.store(interpretationModel, batchPromptVersion, event, result, usage,
+                        chunk.size());
+            }
+        }
+        return results;
+    }
+
+    // Splits into requests of at most batch.size articles whose estimated article tokens stay within
+    // batch.max-prompt-tokens; an article that alone exceeds the budget still goes out on its own.
+    private List<List<NewsEvent>> chunk(List<NewsEvent> events) {
+        int size = maxBatchSize();
+        List<List<NewsEvent>> chunks = new ArrayList<>();
+        List<NewsEvent> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (NewsEvent event : events) {
+            int tokens = MacroAiPromptBuilder.estimateArticleTokens(event);
+            if (!current.isEmpty() && (current.size() >= size || currentTokens + tokens > batchMaxPromptTokens)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(event);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private void evictNewsDetails(Collection<String> newsEventIds) {
+        Cache newsDetail = cacheManager.getCache(NEWS_DETAIL_CACHE);
+        if (newsDetail != null) {
+            newsEventIds.forEach(newsDetail::evict);
+        }
+    }
+
     private NewsEvent copyWithStatusAndResult(NewsEvent base, NewsStatus status,
             AnalysisResult result, Instant attemptedAt) {
-        return new NewsEvent(
+        // Re-interpretation refreshes the stored priority so scores follow the current rules version.
+        return newsPriorityScorer.applyScore(new NewsEvent(
                 base.id(),
                 base.externalId(),
                 base.title(),
@@ -113,8 +390,10 @@ public class MacroAiServiceImpl implements MacroAiService {
                 status,
                 result,
                 resolveRetryCount(base),
-                resolveAttemptedAt(base, attemptedAt)
-        );
+                resolveAttemptedAt(base, attemptedAt),
+                base.priority(),
+                base.clusterId()
+        ));
     }
 
     private int resolveRetryCount(NewsEvent event) {
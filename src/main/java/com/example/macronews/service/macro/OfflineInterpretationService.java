@@ -0,0 +1,298 @@
+package com.example.macronews.service.macro;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.OfflineInterpretationBatch;
+import com.example.macronews.domain.OfflineInterpretationBatchStatus;
+import com.example.macronews.domain.OpenAiUsageFeatureType;
+import com.example.macronews.repository.OfflineInterpretationBatchRepository;
+import com.example.macronews.service.openai.OpenAiBatchClient;
+import com.example.macronews.service.openai.OpenAiBatchStatus;
+import com.example.macronews.service.openai.OpenAiChatCompletion;
+import com.example.macronews.service.openai.OpenAiTokenUsage;
+import com.example.macronews.service.openai.OpenAiUsageLoggingService;
+import com.example.macronews.util.ExternalApiUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Interprets non-urgent work, such as analysis retries and backfills, through the OpenAI Batch API instead of
+ * one real-time chat completion per article.
+ *
+ * <p>{@link #submit} answers what it can from the {@link InterpretationResultCache}, writes one chat
+ * completion request per remaining event into a JSONL file of at most {@code max-requests-per-batch} lines
+ * and submits it through the {@link OpenAiBatchClient}; each batch is tracked in
+ * {@code offline_interpretation_batches} so it survives restarts. {@link #pollSubmitted} reads finished
+ * batches and applies their results in one bulk write. Events in a running batch are left out of retry passes
+ * ({@link #pendingEventIds}); events a finished batch does not answer validly stay FAILED and are picked up
+ * by a later retry pass, within the usual retry budget.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OfflineInterpretationService {
+
+    private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+    private static final int DEFAULT_MAX_REQUESTS_PER_BATCH = 1_000;
+
+    private final MacroAiPromptBuilder macroAiPromptBuilder;
+    private final MacroAiResponseParser macroAiResponseParser;
+    private final MacroAiService macroAiService;
+    private final OpenAiBatchClient openAiBatchClient;
+    private final OfflineInterpretationBatchRepository offlineInterpretationBatchRepository;
+    private final OpenAiUsageLoggingService openAiUsageLoggingService;
+    private final InterpretationResultCache interpretationResultCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.offline-interpretation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.offline-interpretation.work-dir:${java.io.tmpdir}/macronews-offline-interpretation}")
+    private String workDir;
+
+    @Value("${app.offline-interpretation.max-requests-per-batch:1000}")
+    private int maxRequestsPerBatch = DEFAULT_MAX_REQUESTS_PER_BATCH;
+
+    @Value("${openai.interpretation-model:${openai.model:gpt-4o-mini}}")
+    private String interpretationModel;
+
+    @Value("${openai.max-tokens:800}")
+    private int openAiMaxTokens;
+
+    @Value("${openai.temperature:0.2}")
+    private double openAiTemperature;
+
+    @Value("${openai.macro-prompt-file:classpath:ai/prompts/macro_interpretation_prompt.json}")
+    private Resource macroPromptFile;
+
+    private Clock clock = Clock.systemUTC();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Submits the events for offline interpretation.
+     *
+     * @return the number of events answered from the cache or submitted in a batch
+     */
+    public int submit(Collection<NewsEvent> events) {
+        Map<String, NewsEvent> targets = new LinkedHashMap<>();
+        if (events != null) {
+            events.stream()
+                    .filter(event -> event != null && StringUtils.hasText(event.id()))
+                    .forEach(event -> targets.putIfAbsent(event.id(), event));
+        }
+        if (!enabled || targets.isEmpty()) {
+            return 0;
+        }
+
+        String promptVersion = macroAiPromptBuilder.promptVersion(macroPromptFile);
+        Map<String, AnalysisResult> cached = new LinkedHashMap<>();
+        List<NewsEvent> pending = new ArrayList<>();
+        for (NewsEvent event : targets.values()) {
+            interpretationResultCache.lookup(interpretationModel, promptVersion, event)
+                    .ifPresentOrElse(result -> cached.put(event.id(), result), () -> pending.add(event));
+        }
+        if (!cached.isEmpty()) {
+            macroAiService.applyInterpretations(cached, List.of());
+        }
+
+        int handled = cached.size();
+        int limit = maxRequestsPerBatch > 0 ? maxRequestsPerBatch : DEFAULT_MAX_REQUESTS_PER_BATCH;
+        for (int start = 0; start < pending.size(); start += limit) {
+            List<NewsEvent> chunk = pending.subList(start, Math.min(start + limit, pending.size()));
+            if (submitChunk(chunk, promptVersion)) {
+                handled += chunk.size();
+            }
+        }
+        log.info("[OFFLINE-INTERPRET] submit requested={} cached={} submitted={}",
+                targets.size(), cached.size(), handled - cached.size());
+        return handled;
+    }
+
+    /**
+     * Returns the ids of the events in batches that are still running, which a retry pass must not submit
+     * again before {@link #pollSubmitted} has applied their results.
+     */
+    public Set<String> pendingEventIds() {
+        if (!enabled) {
+            return Set.of();
+        }
+        Set<String> ids = new HashSet<>();
+        for (OfflineInterpretationBatch batch : offlineInterpretationBatchRepository
+                .findByStatusOrderBySubmittedAtAsc(OfflineInterpretationBatchStatus.SUBMITTED)) {
+            if (batch.newsEventIds() != null) {
+                ids.addAll(batch.newsEventIds());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Applies the results of every submitted batch that has finished.
+     *
+     * @return the number of batches finished by this pass
+     */
+    public int pollSubmitted() {
+        if (!enabled) {
+            return 0;
+        }
+        int finished = 0;
+        for (OfflineInterpretationBatch batch : offlineInterpretationBatchRepository
+                .findByStatusOrderBySubmittedAtAsc(OfflineInterpretationBatchStatus.SUBMITTED)) {
+            try {
+                if (poll(batch)) {
+                    finished++;
+                }
+            } catch (RuntimeException ex) {
+                // The batch stays SUBMITTED and is polled again next pass.
+                log.warn("[OFFLINE-INTERPRET] poll failed batchId={} reason={}", batch.id(), ex.getMessage());
+            }
+        }
+        return finished;
+    }
+
+    private boolean submitChunk(List<NewsEvent> chunk, String promptVersion) {
+        Path requestFile = null;
+        try {
+            requestFile = writeRequestFile(chunk);
+            String batchId = openAiBatchClient.submit(requestFile);
+            offlineInterpretationBatchRepository.save(OfflineInterpretationBatch.submitted(batchId,
+                    interpretationModel, promptVersion, chunk.stream().map(NewsEvent::id).toList(), clock.instant()));
+            deleteRequestFile(requestFile);
+            log.info("[OFFLINE-INTERPRET] submitted batchId={} requests={}", batchId, chunk.size());
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            // Retries keep their FAILED status and come back on a later retry pass.
+            log.warn("[OFFLINE-INTERPRET] submit failed requests={} file={} reason={}",
+                    chunk.size(), requestFile, ex.getMessage());
+            return false;
+        }
+    }
+
+    private Path writeRequestFile(List<NewsEvent> chunk) throws IOException {
+        Path directory = Files.createDirectories(Path.of(workDir));
+        Path requestFile = directory.resolve("interpretation-" + clock.millis() + "-" + UUID.randomUUID() + ".jsonl");
+        try (BufferedWriter writer = Files.newBufferedWriter(requestFile, StandardCharsets.UTF_8)) {
+            for (NewsEvent event : chunk) {
+                String payload = macroAiPromptBuilder.buildPayload(
+                        event, interpretationModel, openAiMaxTokens, openAiTemperature, macroPromptFile);
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("custom_id", event.id());
+                line.put("method", "POST");
+                line.put("url", CHAT_COMPLETIONS_ENDPOINT);
+                line.put("body", new RawValue(payload));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+            }
+        }
+        return requestFile;
+    }
+
+    // The uploaded copy is what the batch runs on; a leftover local file only costs disk.
+    private void deleteRequestFile(Path requestFile) {
+        try {
+            Files.deleteIfExists(requestFile);
+        } catch (IOException ex) {
+            log.debug("[OFFLINE-INTERPRET] request file not deleted file={} reason={}", requestFile, ex.getMessage());
+        }
+    }
+
+    private boolean poll(OfflineInterpretationBatch batch) {
+        OpenAiBatchStatus status = openAiBatchClient.status(batch.id());
+        if (status == null || status.running()) {
+            return false;
+        }
+        List<String> ids = batch.newsEventIds() == null ? List.of() : batch.newsEventIds();
+        if (status.state() == OpenAiBatchStatus.State.FAILED) {
+            macroAiService.applyInterpretations(Map.of(), ids);
+            offlineInterpretationBatchRepository.save(batch.finished(
+                    OfflineInterpretationBatchStatus.FAILED, clock.instant(), 0, ids.size()));
+            log.warn("[OFFLINE-INTERPRET] batch failed batchId={} requests={}", batch.id(), ids.size());
+            return true;
+        }
+
+        Map<String, AnalysisResult> results = new LinkedHashMap<>();
+        Map<String, OpenAiTokenUsage> usages = new HashMap<>();
+        Set<String> expectedIds = new HashSet<>(ids);
+        for (String line : openAiBatchClient.outputLines(status)) {
+            readResult(line, batch, expectedIds).ifPresent(result -> {
+                if (results.putIfAbsent(result.id(), result.analysis()) == null) {
+                    usages.put(result.id(), result.usage());
+                }
+            });
+        }
+        List<String> failedIds = ids.stream().filter(id -> !results.containsKey(id)).toList();
+        List<NewsEvent> saved = macroAiService.applyInterpretations(results, failedIds);
+        for (NewsEvent event : saved) {
+            AnalysisResult result = results.get(event.id());
+            if (result != null && event.status() == NewsStatus.ANALYZED) {
+                interpretationResultCache.store(batch.model(), batch.promptVersion(), event, result,
+                        usages.get(event.id()), 1);
+            }
+        }
+        offlineInterpretationBatchRepository.save(batch.finished(
+                OfflineInterpretationBatchStatus.COMPLETED, clock.instant(), results.size(), failedIds.size()));
+        log.info("[OFFLINE-INTERPRET] applied batchId={} analyzed={} failed={}",
+                batch.id(), results.size(), failedIds.size());
+        return true;
+    }
+
+    private Optional<BatchResult> readResult(String line, OfflineInterpretationBatch batch,
+            Set<String> expectedIds) {
+        String customId = null;
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            customId = node.path("custom_id").asText("");
+            if (!expectedIds.contains(customId)) {
+                log.warn("[OFFLINE-INTERPRET] skipped batchId={} customId={} reason=unknown-id", batch.id(), customId);
+                return Optional.empty();
+            }
+            JsonNode response = node.path("response");
+            int statusCode = response.path("status_code").asInt(0);
+            if (statusCode < 200 || statusCode >= 300) {
+                log.warn("[OFFLINE-INTERPRET] request failed batchId={} id={} status={} error={}",
+                        batch.id(), customId, statusCode, node.path("error").path("message").asText(""));
+                return Optional.empty();
+            }
+            OpenAiChatCompletion completion = ExternalApiUtils.readJson(
+                    response.path("body").toString(), OpenAiChatCompletion::read);
+            openAiUsageLoggingService.recordCompletionUsage(
+                    OpenAiUsageFeatureType.MACRO_INTERPRETATION_BATCH, batch.model(), completion);
+            AnalysisResult analysis = macroAiResponseParser.parseAnalysisResult(completion, batch.model());
+            return Optional.of(new BatchResult(customId, analysis, completion == null ? null : completion.usage()));
+        } catch (IOException | RuntimeException ex) {
+            log.warn("[OFFLINE-INTERPRET] invalid result batchId={} id={} reason={}",
+                    batch.id(), customId, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private record BatchResult(String id, AnalysisResult analysis, OpenAiTokenUsage usage) {
+    }
+}
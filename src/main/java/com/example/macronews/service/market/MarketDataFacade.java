@@ -1,23 +1,38 @@
 package com.example.macronews.service.market;
 
+import com.example.macronews.config.MarketQuoteCacheProperties;
 import com.example.macronews.dto.market.FxSnapshotDto;
 import com.example.macronews.dto.market.DxySnapshotDto;
 import com.example.macronews.dto.market.GoldSnapshotDto;
 import com.example.macronews.dto.market.IndexSnapshotDto;
 import com.example.macronews.dto.market.OilSnapshotDto;
 import com.example.macronews.dto.market.Us10ySnapshotDto;
+import com.example.macronews.util.RefreshingValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
+/**
+ * Market quotes for the pages and the news scoring, served from a cache per instrument.
+ *
+ * <p>{@link #refreshDueQuotes()}, run on a timer, fetches each configured instrument again once its ttl from
+ * {@link MarketQuoteCacheProperties} has passed, so reads return the cached quote without waiting on the
+ * upstream. When a refresh fails the last good quote stays in use, with its own capture time, up to the
+ * {@code max-stale} limit. Only a read that finds no usable quote, such as the first one after startup,
+ * fetches it itself; concurrent reads share that fetch.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MarketDataFacade {
 
@@ -27,33 +42,82 @@ public class MarketDataFacade {
     private final IndexQuoteProvider indexQuoteProvider;
     private final Us10yProvider us10yProvider;
     private final DxyProvider dxyProvider;
+    private final Scheduler blockingIoScheduler;
+    private final Quote<FxSnapshotDto> usdKrw;
+    private final Quote<GoldSnapshotDto> gold;
+    private final Quote<OilSnapshotDto> oil;
+    private final Quote<IndexSnapshotDto> kospi;
+    private final Quote<Us10ySnapshotDto> us10y;
+    private final Quote<DxySnapshotDto> dxy;
+    private final List<Quote<?>> quotes;
 
     @Value("${app.market.index.symbol.kospi:}")
     private String kospiSymbol;
 
+    public MarketDataFacade(ExchangeRateProvider exchangeRateProvider,
+            GoldPriceProvider goldPriceProvider,
+            OilPriceProvider oilPriceProvider,
+            IndexQuoteProvider indexQuoteProvider,
+            Us10yProvider us10yProvider,
+            DxyProvider dxyProvider,
+            Scheduler blockingIoScheduler,
+            MarketQuoteCacheProperties cacheProperties,
+            MeterRegistry meterRegistry) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.goldPriceProvider = goldPriceProvider;
+        this.oilPriceProvider = oilPriceProvider;
+        this.indexQuoteProvider = indexQuoteProvider;
+        this.us10yProvider = us10yProvider;
+        this.dxyProvider = dxyProvider;
+        this.blockingIoScheduler = blockingIoScheduler;
+        Duration maxStale = cacheProperties.getMaxStale();
+        this.usdKrw = new Quote<>("USD/KRW", exchangeRateProvider::isConfigured, exchangeRateProvider::getUsdKrw,
+                cacheProperties.getUsdKrwTtl(), maxStale, meterRegistry);
+        this.gold = new Quote<>("Gold", goldPriceProvider::isConfigured, goldPriceProvider::getGold,
+                cacheProperties.getGoldTtl(), maxStale, meterRegistry);
+        this.oil = new Quote<>("Oil", oilPriceProvider::isConfigured, oilPriceProvider::getOil,
+                cacheProperties.getOilTtl(), maxStale, meterRegistry);
+        this.kospi = new Quote<>("KOSPI", indexQuoteProvider::isConfigured,
+                () -> indexQuoteProvider.getQuote(StringUtils.hasText(kospiSymbol) ? kospiSymbol : "KOSPI"),
+                cacheProperties.getKospiTtl(), maxStale, meterRegistry);
+        this.us10y = new Quote<>("US10Y", us10yProvider::isConfigured, us10yProvider::getUs10y,
+                cacheProperties.getUs10yTtl(), maxStale, meterRegistry);
+        this.dxy = new Quote<>("DXY", dxyProvider::isConfigured, dxyProvider::getDxy,
+                cacheProperties.getDxyTtl(), maxStale, meterRegistry);
+        this.quotes = List.of(usdKrw, gold, oil, kospi, us10y, dxy);
+    }
+
     public Optional<FxSnapshotDto> getUsdKrw() {
-        return exchangeRateProvider.getUsdKrw();
+        return usdKrw.read();
     }
 
     public Optional<GoldSnapshotDto> getGold() {
-        return goldPriceProvider.getGold();
+        return gold.read();
     }
 
     public Optional<OilSnapshotDto> getOil() {
-        return oilPriceProvider.getOil();
+        return oil.read();
     }
 
     public Optional<IndexSnapshotDto> getKospi() {
-        String symbol = StringUtils.hasText(kospiSymbol) ? kospiSymbol : "KOSPI";
-        return indexQuoteProvider.getQuote(symbol);
+        return kospi.read();
     }
 
     public Optional<Us10ySnapshotDto> getUs10y() {
-        return us10yProvider.getUs10y();
+        return us10y.read();
     }
 
     public Optional<DxySnapshotDto> getDxy() {
-        return dxyProvider.getDxy();
+        return dxy.read();
+    }
+
+    /**
+     * Fetches every configured quote whose ttl has passed, one instrument at a time.
+     */
+    public void refreshDueQuotes() {
+        for (Quote<?> quote : quotes) {
+            quote.refreshIfDue();
+        }
     }
 
     public MarketDataSnapshot getCurrentMarketSnapshot() {
@@ -81,13 +145,53 @@ public class MarketDataFacade {
 
     private <T> Mono<Optional<T>> loadAsync(String label, Supplier<Optional<T>> supplier) {
         return Mono.fromCallable(supplier::get)
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(blockingIoScheduler)
                 .onErrorResume(ex -> {
                     log.warn("[MARKET] provider failed label={}", label, ex);
                     return Mono.just(Optional.empty());
                 });
     }
 
+    private static final class Quote<T> {
+
+        private final String label;
+        private final BooleanSupplier configured;
+        private final Supplier<Optional<T>> fetch;
+        private final RefreshingValue<T> value;
+
+        private Quote(String label, BooleanSupplier configured, Supplier<Optional<T>> fetch, Duration ttl,
+                Duration maxStale, MeterRegistry meterRegistry) {
+            this.label = label;
+            this.configured = configured;
+            this.fetch = fetch;
+            this.value = new RefreshingValue<>("market-quote-" + label,
+                    RefreshingValue.Policy.of(ttl, maxStale), InstantSource.system(), meterRegistry);
+        }
+
+        private Optional<T> read() {
+            if (!configured.getAsBoolean()) {
+                return Optional.empty();
+            }
+            Optional<T> cached = value.peek();
+            return cached.isPresent() ? cached : value.get(this::fetchOrThrow);
+        }
+
+        private void refreshIfDue() {
+            if (!configured.getAsBoolean() || !value.isDue()) {
+                return;
+            }
+            if (!value.refresh(this::fetchOrThrow)) {
+                value.loadedAt().ifPresent(loadedAt -> log.info("[MARKET] keeping last quote label={} ageSeconds={}",
+                        label, Duration.between(loadedAt, Instant.now()).toSeconds()));
+            }
+        }
+
+        // Providers answer a failed call with empty; throwing keeps the last good quote instead of replacing it.
+        private T fetchOrThrow() {
+            return fetch.get().orElseThrow(() -> new IllegalStateException(label + " quote unavailable"));
+        }
+    }
+
     public record MarketDataSnapshot(
             Optional<FxSnapshotDto> usdKrw,
             Optional<GoldSnapshotDto> gold,
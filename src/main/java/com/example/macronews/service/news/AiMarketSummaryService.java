@@ -14,15 +14,16 @@ import com.example.macronews.dto.request.ExternalApiRequest;
 import com.example.macronews.config.policy.FeaturedMarketSummaryPolicyProperties;
 import com.example.macronews.service.forecast.MarketForecastQueryService;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
+import com.example.macronews.service.openai.PromptTemplateEngine;
+import com.example.macronews.service.openai.PromptTemplateEngine.CompiledPrompt;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
+import com.example.macronews.util.RefreshingValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -33,8 +34,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -44,10 +43,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiMarketSummaryService {
 
@@ -58,10 +56,13 @@ public class AiMarketSummaryService {
     private final MarketForecastQueryService marketForecastQueryService;
     private final ExternalApiUtils externalApiUtils;
     private final ObjectMapper objectMapper;
+    private final PromptTemplateEngine promptTemplateEngine;
     private final OpenAiUsageLoggingService openAiUsageLoggingService;
     private final FeaturedMarketSummaryPolicyProperties policyProperties;
+    private final Scheduler blockingIoScheduler;
 
-    private final AtomicReference<CachedSummary> cachedSummary = new AtomicReference<>();
+    // The current summary; one caller regenerates it when due while the rest keep the previous one.
+    private final RefreshingValue<Optional<FeaturedMarketSummaryDto>> currentSummary;
 
     @Value("${app.featured.market-summary.ai-model:gpt-4o-mini}")
     private String aiModel;
@@ -85,6 +86,28 @@ public class AiMarketSummaryService {
 
     private Clock clock = DEFAULT_CLOCK;
 
+    public AiMarketSummaryService(RecentMarketSummaryService recentMarketSummaryService,
+            MarketForecastQueryService marketForecastQueryService,
+            ExternalApiUtils externalApiUtils,
+            ObjectMapper objectMapper,
+            PromptTemplateEngine promptTemplateEngine,
+            OpenAiUsageLoggingService openAiUsageLoggingService,
+            FeaturedMarketSummaryPolicyProperties policyProperties,
+            Scheduler blockingIoScheduler,
+            MeterRegistry meterRegistry) {
+        this.recentMarketSummaryService = recentMarketSummaryService;
+        this.marketForecastQueryService = marketForecastQueryService;
+        this.externalApiUtils = externalApiUtils;
+        this.objectMapper = objectMapper;
+        this.promptTemplateEngine = promptTemplateEngine;
+        this.openAiUsageLoggingService = openAiUsageLoggingService;
+        this.policyProperties = policyProperties;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.currentSummary = new RefreshingValue<>("market-summary",
+                RefreshingValue.Policy.of(resolveCacheDuration(), resolveMaxStaleDuration()),
+                () -> clock.instant(), meterRegistry);
+    }
+
     public Optional<FeaturedMarketSummaryDto> getCurrentSummary() {
         if (!policyProperties.isAiEnabled()) {
             return Optional.empty();
@@ -94,17 +117,23 @@ public class AiMarketSummaryService {
             return Optional.empty();
         }
 
-        CachedSummary current = cachedSummary.get();
-        if (current != null && !current.isExpired(resolveCacheDuration(), clock)) {
-            return current.summary();
-        }
-
-        Optional<FeaturedMarketSummaryDto> generated = generateCurrentSummary();
-        cachedSummary.set(new CachedSummary(generated, Instant.now(clock)));
-        return generated;
+        return currentSummary.get(this::synthesizeCurrentSummary).flatMap(summary -> summary);
     }
 
     public Optional<FeaturedMarketSummaryDto> generateCurrentSummary() {
+        try {
+            return synthesizeCurrentSummary();
+        } catch (RuntimeException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Synthesizes the summary, or returns empty when there is too little recent news.
+     *
+     * @throws IllegalStateException when the OpenAI call or its answer fails
+     */
+    private Optional<FeaturedMarketSummaryDto> synthesizeCurrentSummary() {
         SummaryPreparation preparation = loadSummaryPreparation();
         List<NewsEvent> recentItems = preparation.recentItems();
         if (recentItems.size() < resolveMinItems()) {
@@ -129,7 +158,8 @@ public class AiMarketSummaryService {
             ));
             if (apiResult == null || apiResult.statusCode() < 200 || apiResult.statusCode() >= 300) {
                 log.warn("[MARKET_SUMMARY] synthesis failed status={}", apiResult == null ? -1 : apiResult.statusCode());
-                return Optional.empty();
+                throw new IllegalStateException("Market summary synthesis failed with status "
+                        + (apiResult == null ? -1 : apiResult.statusCode()));
             }
 
             openAiUsageLoggingService.recordUsage(
@@ -138,9 +168,11 @@ public class AiMarketSummaryService {
                     apiResult.body());
 
             return Optional.of(parseSummary(apiResult.body(), recentItems));
+        } catch (IllegalStateException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.warn("[MARKET_SUMMARY] synthesis failed", ex);
-            return Optional.empty();
+            throw new IllegalStateException("Market summary synthesis failed", ex);
         }
     }
 
@@ -149,9 +181,9 @@ public class AiMarketSummaryService {
             SummaryPreparation preparation = Mono.zip(
                             Mono.fromCallable(() -> recentMarketSummaryService.loadRecentAnalyzedNews(
                                     resolveWindowHours(), resolveMaxItems()))
-                                    .subscribeOn(Schedulers.boundedElastic()),
+                                    .subscribeOn(blockingIoScheduler),
                             Mono.fromCallable(marketForecastQueryService::getCurrentSummaryHandoff)
-                                    .subscribeOn(Schedulers.boundedElastic()))
+                                    .subscribeOn(blockingIoScheduler))
                     .map(tuple -> new SummaryPreparation(tuple.getT1(), tuple.getT2()))
                     .block();
             return preparation == null ? SummaryPreparation.empty() : preparation;
@@ -162,42 +194,21 @@ public class AiMarketSummaryService {
     }
 
     String buildPayload(List<NewsEvent> recentItems, MarketForecastSummaryHandoffDto forecastHandoff) {
+        CompiledPrompt prompt = promptTemplateEngine.compile(promptFile);
+        String newsItemsJson;
+        String forecastSummaryHandoffJson;
         try {
-            JsonNode promptRoot = loadPromptTemplate();
-            JsonNode promptMessages = promptRoot.path("messages");
-            if (!promptMessages.isArray()) {
-                throw new IllegalStateException("Featured market summary prompt file must contain messages array");
-            }
-
-            String newsItemsJson = buildNewsItemsJson(recentItems);
-            String forecastSummaryHandoffJson = buildForecastSummaryHandoffJson(forecastHandoff);
-            List<Map<String, Object>> messages = new ArrayList<>();
-            for (JsonNode node : promptMessages) {
-                String role = node.path("role").asText("");
-                if (!StringUtils.hasText(role)) {
-                    continue;
-                }
-                String content = node.has("content")
-                        ? node.path("content").asText("")
-                        : node.path("template").asText("")
-                                .replace("{{newsItemsJson}}", newsItemsJson)
-                                .replace("{{forecastSummaryHandoffJson}}", forecastSummaryHandoffJson);
-                if (!StringUtils.hasText(content)) {
-                    continue;
-                }
-                messages.add(Map.of("role", role, "content", content));
-            }
-
-            Map<String, Object> root = new LinkedHashMap<>();
-            root.put("model", resolveModel());
-            root.put("messages", messages);
-            root.put("max_tokens", openAiMaxTokens);
-            root.put("temperature", openAiTemperature);
-            root.put("response_format", Map.of("type", "json_object"));
-            return objectMapper.writeValueAsString(root);
-        } catch (IOException ex) {
+            newsItemsJson = buildNewsItemsJson(recentItems);
+            forecastSummaryHandoffJson = buildForecastSummaryHandoffJson(forecastHandoff);
+        } catch (JsonProcessingException ex) {
             throw new IllegalStateException("Failed to build featured market summary payload", ex);
         }
+        return promptTemplateEngine.renderPayload(resolveModel(), openAiMaxTokens, openAiTemperature,
+                messages -> messages.addAll(prompt, name -> switch (name) {
+                    case "newsItemsJson" -> newsItemsJson;
+                    case "forecastSummaryHandoffJson" -> forecastSummaryHandoffJson;
+                    default -> null;
+                }));
     }
 
     private String buildForecastSummaryHandoffJson(MarketForecastSummaryHandoffDto forecastHandoff) throws JsonProcessingException {
@@ -269,12 +280,6 @@ public class AiMarketSummaryService {
         }
     }
 
-    private JsonNode loadPromptTemplate() throws IOException {
-        try (Reader reader = new InputStreamReader(promptFile.getInputStream(), StandardCharsets.UTF_8)) {
-            return objectMapper.readTree(reader);
-        }
-    }
-
     private String buildNewsItemsJson(List<NewsEvent> recentItems) throws JsonProcessingException {
         List<Map<String, Object>> items = new ArrayList<>();
         int maxInputChars = resolveMaxInputChars();
@@ -553,13 +558,7 @@ public class AiMarketSummaryService {
         return Duration.ofMinutes(policyProperties.getAiCacheMinutes() > 0 ? policyProperties.getAiCacheMinutes() : 15L);
     }
 
-    private record CachedSummary(Optional<FeaturedMarketSummaryDto> summary, Instant createdAt) {
-
-        private boolean isExpired(Duration ttl, Clock clock) {
-            if (ttl == null || ttl.isZero() || ttl.isNegative()) {
-                return true;
-            }
-            return createdAt.plus(ttl).isBefore(Instant.now(clock));
-        }
+    private Duration resolveMaxStaleDuration() {
+        return Duration.ofMinutes(Math.max(0, policyProperties.getAiMaxStaleMinutes()));
     }
 }
@@ -0,0 +1,20 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.dto.FeaturedMarketSummaryDto;
+
+/**
+ * The market summary featured on the homepage: the latest stored snapshot, else the current AI summary,
+ * else the recent-news summary, else the lead article ({@code primaryMode} {@code article}).
+ */
+public record HomepageFeaturedSummary(
+        FeaturedMarketSummaryDto storedSummary,
+        FeaturedMarketSummaryDto aiSummary,
+        FeaturedMarketSummaryDto recentSummary,
+        String primaryMode,
+        boolean summaryMode
+) {
+
+    public static HomepageFeaturedSummary article() {
+        return new HomepageFeaturedSummary(null, null, null, "article", false);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.dto.NewsListItemDto;
+import java.util.List;
+
+/**
+ * The news list and market signal overview the homepage shows for one status filter and sort.
+ */
+public record HomepageNewsSection(
+        List<NewsListItemDto> newsItems,
+        MarketSignalOverviewDto marketSignalOverview
+) {
+
+    public static HomepageNewsSection empty() {
+        return new HomepageNewsSection(List.of(), new MarketSignalOverviewDto(List.of()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.dto.NewsListItemDto;
+import com.example.macronews.dto.forecast.MarketForecastSnapshotDto;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Everything the {@code /news} page renders for one status filter and sort, built ahead of requests by
+ * {@link HomepageViewService}. Views built by the same rebuild share its {@code version}.
+ */
+public record HomepageView(
+        long version,
+        NewsStatus status,
+        NewsListSort sort,
+        List<NewsListItemDto> newsItems,
+        MarketSignalOverviewDto marketSignalOverview,
+        MarketForecastSnapshotDto marketForecastSnapshot,
+        HomepageFeaturedSummary featuredSummary,
+        Instant builtAt
+) {
+
+    public NewsListItemDto featuredNews() {
+        return newsItems.isEmpty() ? null : newsItems.get(0);
+    }
+}
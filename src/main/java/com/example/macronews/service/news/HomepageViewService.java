@@ -0,0 +1,313 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.dto.FeaturedMarketSummaryDto;
+import com.example.macronews.dto.forecast.MarketForecastSnapshotDto;
+import com.example.macronews.service.forecast.MarketForecastQueryService;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Serves the {@code /news} page from {@link HomepageView}s built ahead of requests, one per status filter
+ * and sort, so rendering the page runs no queries.
+ *
+ * <p>Writes publish a {@link NewsContentChangedEvent}; each change only rebuilds the parts it can affect
+ * (an ingestion touches the unfiltered and {@code INGESTED} lists, a new summary snapshot only the featured
+ * summary) and reuses the rest of the current views. These rebuilds run on a dedicated thread, one at
+ * a time, and changes that arrive during a rebuild are folded into the next one. The finished set replaces the
+ * current one in a single swap with the next version number. A section whose rebuild fails keeps its previous
+ * content. {@link #requestRefresh()}, run at startup and on a timer, rebuilds everything, which picks up the day
+ * rollover, the eligibility windows moving on and the summary caches expiring.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HomepageViewService {
+
+    private static final List<NewsStatus> STATUS_FILTERS = statusFilters();
+    private static final NewsListSort[] SORTS = NewsListSort.values();
+    private static final int FEATURED_SCOPE = 1;
+    private static final int ALL_SCOPES = (1 << (STATUS_FILTERS.size() + 1)) - 1;
+
+    private final NewsQueryService newsQueryService;
+    private final MarketForecastQueryService marketForecastQueryService;
+    private final MarketSummarySnapshotService marketSummarySnapshotService;
+    private final AiMarketSummaryService aiMarketSummaryService;
+    private final RecentMarketSummaryService recentMarketSummaryService;
+
+    private final AtomicReference<Views> views = new AtomicReference<>();
+    private final AtomicInteger pendingScopes = new AtomicInteger();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Rebuilds get their own thread rather than the shared blocking-io scheduler: they run one at a time anyway,
+    // and a rebuild stuck on a slow Mongo must not hold up the request fan-outs queued there.
+    private Scheduler rebuildScheduler = Schedulers.newSingle("homepage-view", true);
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Returns the current view for {@code status} ({@code null} for every status) and {@code sort}. Only the
+     * first call before any rebuild has finished builds the views itself.
+     */
+    public HomepageView getView(NewsStatus status, NewsListSort sort) {
+        Views current = views.get();
+        if (current == null) {
+            current = initialize();
+        }
+        NewsListSort resolvedSort = sort == null ? NewsListSort.PUBLISHED_DESC : sort;
+        return current.byFilter()[filterIndex(status)][resolvedSort.ordinal()];
+    }
+
+    /**
+     * Returns the version of the current views, or {@code 0} before the first rebuild.
+     */
+    public long version() {
+        Views current = views.get();
+        return current == null ? 0L : current.version();
+    }
+
+    /**
+     * Schedules a rebuild of every view on the blocking-io scheduler.
+     */
+    public void requestRefresh() {
+        requestRebuild(ALL_SCOPES);
+    }
+
+    /**
+     * Rebuilds every view on the calling thread.
+     */
+    public void refresh() {
+        try {
+            rebuild(ALL_SCOPES);
+        } catch (RuntimeException ex) {
+            log.warn("[HOMEPAGE-VIEW] refresh failed reason={}", ex.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsContentChanged(NewsContentChangedEvent event) {
+        requestRebuild(scopesOf(event.change()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuildScheduler.dispose();
+    }
+
+    private Views initialize() {
+        rebuildLock.lock();
+        try {
+            Views current = views.get();
+            if (current == null) {
+                rebuild(ALL_SCOPES);
+                current = views.get();
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void requestRebuild(int scopes) {
+        pendingScopes.getAndUpdate(current -> current | scopes);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildScheduler.schedule(this::drainPendingRebuilds);
+        } catch (RuntimeException ex) {
+            rebuildScheduled.set(false);
+            log.warn("[HOMEPAGE-VIEW] rebuild not scheduled reason={}", ex.getMessage());
+        }
+    }
+
+    private void drainPendingRebuilds() {
+        try {
+            int scopes;
+            while ((scopes = pendingScopes.getAndSet(0)) != 0) {
+                try {
+                    rebuild(scopes);
+                } catch (RuntimeException ex) {
+                    log.warn("[HOMEPAGE-VIEW] rebuild failed scopes={} reason={}", scopes, ex.getMessage());
+                }
+            }
+        } finally {
+            rebuildScheduled.set(false);
+        }
+        // A change that arrived after the last drain but before the flag was cleared is not left waiting.
+        if (pendingScopes.get() != 0) {
+            scheduleDrain();
+        }
+    }
+
+    private void rebuild(int scopes) {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            Views previous = views.get();
+            int effectiveScopes = previous == null ? ALL_SCOPES : scopes;
+
+            MarketForecastSnapshotDto forecast;
+            HomepageFeaturedSummary featuredSummary;
+            if ((effectiveScopes & FEATURED_SCOPE) != 0) {
+                forecast = loadForecastSnapshot(previous);
+                featuredSummary = loadFeaturedSummary(previous);
+            } else {
+                forecast = previous.sample().marketForecastSnapshot();
+                featuredSummary = previous.sample().featuredSummary();
+            }
+
+            long version = previous == null ? 1L : previous.version() + 1;
+            Instant builtAt = clock.instant();
+            HomepageView[][] byFilter = new HomepageView[STATUS_FILTERS.size()][SORTS.length];
+            int rebuiltFilters = 0;
+            for (int index = 0; index < STATUS_FILTERS.size(); index++) {
+                NewsStatus status = STATUS_FILTERS.get(index);
+                Map<NewsListSort, HomepageNewsSection> sections;
+                if ((effectiveScopes & filterScope(status)) != 0) {
+                    sections = loadSections(status, previous);
+                    rebuiltFilters++;
+                } else {
+                    sections = previous.sections(index);
+                }
+                for (NewsListSort sort : SORTS) {
+                    HomepageNewsSection section = sections.getOrDefault(sort, HomepageNewsSection.empty());
+                    byFilter[index][sort.ordinal()] = new HomepageView(version, status, sort,
+                            section.newsItems(), section.marketSignalOverview(), forecast, featuredSummary, builtAt);
+                }
+            }
+            views.set(new Views(version, byFilter));
+            log.info("[HOMEPAGE-VIEW] rebuilt version={} statusFilters={} featured={} elapsedMs={}",
+                    version, rebuiltFilters, (effectiveScopes & FEATURED_SCOPE) != 0,
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Map<NewsListSort, HomepageNewsSection> loadSections(NewsStatus status, Views previous) {
+        try {
+            Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(status);
+            return sections == null ? Map.of() : sections;
+        } catch (RuntimeException ex) {
+            log.warn("[HOMEPAGE-VIEW] news sections kept previous content due to query failure status={}",
+                    status, ex);
+            return previous == null ? Map.of() : previous.sections(filterIndex(status));
+        }
+    }
+
+    private MarketForecastSnapshotDto loadForecastSnapshot(Views previous) {
+        try {
+            return marketForecastQueryService.getCurrentSnapshot().orElse(null);
+        } catch (RuntimeException ex) {
+            log.warn("[HOMEPAGE-VIEW] market forecast snapshot kept previous content due to forecast query failure",
+                    ex);
+            return previous == null ? null : previous.sample().marketForecastSnapshot();
+        }
+    }
+
+    private HomepageFeaturedSummary loadFeaturedSummary(Views previous) {
+        try {
+            return resolveFeaturedSummary();
+        } catch (RuntimeException ex) {
+            log.warn("[HOMEPAGE-VIEW] featured market summary kept previous content due to summary resolution failure",
+                    ex);
+            return previous == null ? HomepageFeaturedSummary.article() : previous.sample().featuredSummary();
+        }
+    }
+
+    private HomepageFeaturedSummary resolveFeaturedSummary() {
+        FeaturedMarketSummaryDto storedSummary = marketSummarySnapshotService.getLatestValidSummary().orElse(null);
+        if (storedSummary != null) {
+            log.debug("Featured summary mode resolved to stored snapshot id={}", storedSummary.snapshotId());
+            return new HomepageFeaturedSummary(storedSummary, null, null, "stored-summary", true);
+        }
+
+        FeaturedMarketSummaryDto aiSummary = aiMarketSummaryService.getCurrentSummary().orElse(null);
+        if (aiSummary != null) {
+            log.debug("Featured summary mode resolved to current AI summary generatedAt={}", aiSummary.generatedAt());
+            return new HomepageFeaturedSummary(null, aiSummary, null, "ai-summary", true);
+        }
+
+        FeaturedMarketSummaryDto recentSummary = recentMarketSummaryService.getCurrentSummary().orElse(null);
+        if (recentSummary != null) {
+            log.debug("Featured summary mode resolved to recent summary generatedAt={}", recentSummary.generatedAt());
+            return new HomepageFeaturedSummary(null, null, recentSummary, "recent-summary", true);
+        }
+
+        log.debug("Featured summary mode resolved to article fallback");
+        return HomepageFeaturedSummary.article();
+    }
+
+    private static int scopesOf(NewsContentChangedEvent.Change change) {
+        if (change == null) {
+            return ALL_SCOPES;
+        }
+        return switch (change) {
+            case INGESTION -> filterScope(null) | filterScope(NewsStatus.INGESTED);
+            case INTERPRETATION -> FEATURED_SCOPE | filterScope(null) | filterScope(NewsStatus.INGESTED)
+                    | filterScope(NewsStatus.ANALYZED) | filterScope(NewsStatus.FAILED);
+            case DELETION -> ALL_SCOPES;
+            case SUMMARY_SNAPSHOT -> FEATURED_SCOPE;
+        };
+    }
+
+    private static int filterScope(NewsStatus status) {
+        return 1 << (filterIndex(status) + 1);
+    }
+
+    private static int filterIndex(NewsStatus status) {
+        return status == null ? 0 : status.ordinal() + 1;
+    }
+
+    private static List<NewsStatus> statusFilters() {
+        List<NewsStatus> filters = new ArrayList<>();
+        filters.add(null);
+        filters.addAll(Arrays.asList(NewsStatus.values()));
+        return Collections.unmodifiableList(filters);
+    }
+
+    private record Views(long version, HomepageView[][] byFilter) {
+
+        private HomepageView sample() {
+            return byFilter[0][0];
+        }
+
+        private Map<NewsListSort, HomepageNewsSection> sections(int filterIndex) {
+            Map<NewsListSort, HomepageNewsSection> sections = new EnumMap<>(NewsListSort.class);
+            for (HomepageView view : byFilter[filterIndex]) {
+                sections.put(view.sort(), new HomepageNewsSection(view.newsItems(), view.marketSignalOverview()));
+            }
+            return sections;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobOrigin;
+import com.example.macronews.domain.InterpretationJobStatus;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.dto.InterpretationQueueStatusDto;
+import com.example.macronews.repository.InterpretationJobRepository;
+import com.example.macronews.service.macro.MacroAiService;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Durable, prioritized queue of pending article interpretations.
+ *
+ * <p>Jobs live in the {@code interpretation_jobs} collection until a worker finishes them, so a burst of
+ * headlines is absorbed by the queue instead of an in-memory executor queue that drops work when full
+ * or when the process restarts. Fresh events always outrank retries, then newer and higher-scored events
+ * go first. Admission is bounded: retries stop being admitted well before the hard depth limit so a
+ * retry wave can never crowd out newly ingested headlines.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterpretationQueueService {
+
+    private static final Clock DEFAULT_CLOCK = Clock.system(ZoneId.of("Asia/Seoul"));
+    static final int INGESTED_PRIORITY_BASE = 10_000;
+    static final long FRESHNESS_WINDOW_HOURS = 48L;
+    static final int FRESHNESS_POINTS_PER_HOUR = 2;
+
+    private final InterpretationJobRepository interpretationJobRepository;
+    private final MacroAiService macroAiService;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @Value("${app.ingestion.interpretation-queue.max-depth:1000}")
+    private int maxDepth;
+
+    @Value("${app.ingestion.interpretation-queue.retry-admission-depth:100}")
+    private int retryAdmissionDepth;
+
+    @Value("${app.ingestion.interpretation-queue.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.ingestion.interpretation-queue.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.ingestion.interpretation-queue.max-attempts:3}")
+    private int maxAttempts;
+
+    private Clock clock = DEFAULT_CLOCK;
+
+    /**
+     * Queues the given events for interpretation, up to the admission limit for {@code origin}.
+     *
+     * <p>Events that already have a job are left out before admission, so they never take a slot from
+     * one that does not.
+     *
+     * @return the number of jobs newly queued; events that already have a job are not counted
+     */
+    public int enqueue(Collection<NewsEvent> events, InterpretationJobOrigin origin) {
+        List<NewsEvent> requested = events == null ? List.of() : events.stream()
+                .filter(event -> event != null && StringUtils.hasText(event.id()))
+                .toList();
+        if (requested.isEmpty()) {
+            return 0;
+        }
+        Set<String> alreadyQueued = interpretationJobRepository.findJobIds(
+                requested.stream().map(NewsEvent::id).toList());
+        List<NewsEvent> candidates = requested.stream()
+                .filter(event -> !alreadyQueued.contains(event.id()))
+                .toList();
+        if (candidates.isEmpty()) {
+            log.debug("[INTERPRET-QUEUE] enqueue skipped reason=already-queued origin={} requested={}",
+                    origin, requested.size());
+            return 0;
+        }
+
+        int capacity = remainingCapacity(origin);
+        Instant now = now();
+        List<InterpretationJob> admitted = new ArrayList<>();
+        for (NewsEvent event : candidates.subList(0, Math.min(capacity, candidates.size()))) {
+            admitted.add(InterpretationJob.queued(event.id(), priorityOf(event, origin, now), origin, now));
+        }
+        int rejected = candidates.size() - admitted.size();
+        if (rejected > 0) {
+            rejectedCount.addAndGet(rejected);
+            log.warn("[INTERPRET-QUEUE] admission rejected origin={} requested={} rejected={} depthLimit={}",
+                    origin, candidates.size(), rejected, depthLimit(origin));
+        }
+
+        int queued = interpretationJobRepository.enqueueAllIfAbsent(admitted);
+        log.info("[INTERPRET-QUEUE] enqueued origin={} requested={} admitted={} queued={}",
+                origin, candidates.size(), admitted.size(), queued);
+        return queued;
+    }
+
+    /**
+     * Returns how many more jobs of {@code origin} the queue admits right now.
+     */
+    public int remainingCapacity(InterpretationJobOrigin origin) {
+        return (int) Math.max(0L, depthLimit(origin) - interpretationJobRepository.count());
+    }
+
+    public Optional<InterpretationJob> leaseNext(String owner) {
+        return interpretationJobRepository.leaseNext(owner, now(), Duration.ofSeconds(Math.max(leaseSeconds, 1L)));
+    }
+
+    /**
+     * Interprets the leased job's event and removes the job.
+     *
+     * <p>When the interpreter batches, the worker also leases up to {@code batch.size - 1} more jobs and
+     * interprets them in the same request. Their leases are renewed before every OpenAI request, so a batch
+     * that falls back to one request per article never outlives its lease. Interpretation failures are recorded on the event itself and
+     * picked up by the analysis retry pass, so the jobs are removed either way. A job only comes back when
+     * its worker dies mid-lease; one that keeps coming back is dropped after {@code max-attempts} leases.
+     * Events whose job is dropped or whose processing throws are saved as FAILED first, so the retry pass
+     * sees them; if that save fails too, their jobs are kept and come back when the lease expires.
+     */
+    public void process(InterpretationJob job, String owner) {
+        List<InterpretationJob> batch = new ArrayList<>();
+        batch.add(job);
+        Set<String> unfinished = new LinkedHashSet<>();
+        try {
+            batch.addAll(leaseCompanions(owner, macroAiService.maxBatchSize() - 1));
+            List<InterpretationJob> runnable = new ArrayList<>();
+            for (InterpretationJob leased : batch) {
+                if (withinAttemptLimit(leased)) {
+                    runnable.add(leased);
+                } else {
+                    unfinished.add(leased.id());
+                }
+            }
+            if (runnable.isEmpty()) {
+                return;
+            }
+            runnable.forEach(leased -> log.info("[INTERPRET-QUEUE] processing id={} origin={} priority={} attempts={}",
+                    leased.id(), leased.origin(), leased.priority(), leased.attempts()));
+            if (runnable.size() == 1) {
+                macroAiService.interpretAndSave(runnable.get(0).id());
+            } else {
+                List<String> ids = runnable.stream().map(InterpretationJob::id).toList();
+                macroAiService.interpretAndSaveAll(ids, () -> renewLeases(ids, owner));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET-QUEUE] processing failed ids={} attempts={} reason={}",
+                    batch.stream().map(InterpretationJob::id).toList(), job.attempts(), ex.getMessage());
+            batch.forEach(leased -> unfinished.add(leased.id()));
+        } finally {
+            boolean recorded = markFailed(unfinished);
+            batch.stream()
+                    .filter(leased -> recorded || !unfinished.contains(leased.id()))
+                    .forEach(leased -> interpretationJobRepository.complete(leased.id(), owner));
+        }
+    }
+
+    private void renewLeases(List<String> ids, String owner) {
+        try {
+            interpretationJobRepository.renewLeases(ids, owner,
+                    now().plus(Duration.ofSeconds(Math.max(leaseSeconds, 1L))));
+        } catch (RuntimeException ex) {
+            // Worst case the lease lapses and another worker interprets the event again.
+            log.warn("[INTERPRET-QUEUE] lease renewal failed ids={} reason={}", ids, ex.getMessage());
+        }
+    }
+
+    private boolean markFailed(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return true;
+        }
+        try {
+            // Events already analyzed or failed are left as they are.
+            macroAiService.applyInterpretations(Map.of(), ids);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET-QUEUE] failed to record failure ids={} reason={}", ids, ex.getMessage());
+            return false;
+        }
+    }
+
+    private List<InterpretationJob> leaseCompanions(String owner, int count) {
+        List<InterpretationJob> companions = new ArrayList<>();
+        try {
+            while (companions.size() < count) {
+                Optional<InterpretationJob> leased = leaseNext(owner);
+                if (leased.isEmpty()) {
+                    break;
+                }
+                companions.add(leased.get());
+            }
+        } catch (RuntimeException ex) {
+            // The job already leased still runs; the batch is just smaller.
+            log.warn("[INTERPRET-QUEUE] batch lease stopped leased={} reason={}", companions.size(), ex.getMessage());
+        }
+        return companions;
+    }
+
+    private boolean withinAttemptLimit(InterpretationJob job) {
+        if (job.attempts() > Math.max(maxAttempts, 1)) {
+            log.warn("[INTERPRET-QUEUE] dropped id={} attempts={} reason=max-attempts", job.id(), job.attempts());
+            return false;
+        }
+        return true;
+    }
+
+    public InterpretationQueueStatusDto getStatus() {
+        try {
+            Instant now = now();
+            long depth = interpretationJobRepository.count();
+            long leased = interpretationJobRepository.countByStatusAndLeaseExpiresAtAfter(
+                    InterpretationJobStatus.LEASED, now);
+            Long lagSeconds = interpretationJobRepository.findFirstByOrderByEnqueuedAtAsc()
+                    .map(InterpretationJob::enqueuedAt)
+                    .map(oldest -> Math.max(0L, Duration.between(oldest, now).getSeconds()))
+                    .orElse(null);
+            return new InterpretationQueueStatusDto(true, depth, leased, lagSeconds, maxDepth, concurrency(),
+                    rejectedCount.get());
+        } catch (RuntimeException ex) {
+            log.warn("[INTERPRET-QUEUE] status unavailable reason={}", ex.getMessage());
+            return InterpretationQueueStatusDto.unavailable(maxDepth, concurrency(), rejectedCount.get());
+        }
+    }
+
+    public int concurrency() {
+        return Math.max(concurrency, 1);
+    }
+
+    int priorityOf(NewsEvent event, InterpretationJobOrigin origin, Instant now) {
+        int base = origin == InterpretationJobOrigin.INGESTED ? INGESTED_PRIORITY_BASE : 0;
+        int score = event.priority() == null ? 0 : event.priority().score();
+        return base + freshnessPoints(event.publishedAt(), now) + score;
+    }
+
+    private int freshnessPoints(Instant publishedAt, Instant now) {
+        if (publishedAt == null) {
+            return 0;
+        }
+        long ageHours = Math.max(0L, Duration.between(publishedAt, now).toHours());
+        return (int) Math.max(0L, FRESHNESS_WINDOW_HOURS - ageHours) * FRESHNESS_POINTS_PER_HOUR;
+    }
+
+    private int depthLimit(InterpretationJobOrigin origin) {
+        return origin == InterpretationJobOrigin.RETRY ? Math.min(retryAdmissionDepth, maxDepth) : maxDepth;
+    }
+
+    private Instant now() {
+        return Instant.now(clock);
+    }
+}
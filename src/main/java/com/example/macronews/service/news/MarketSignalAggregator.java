@@ -0,0 +1,311 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.ImpactDirection;
+import com.example.macronews.domain.MacroImpact;
+import com.example.macronews.domain.MacroVariable;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.dto.MarketSignalItemDto;
+import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.repository.NewsEventRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Keeps the market signal overview of every signal-eligible event current as interpretations are saved, so
+ * reading it costs one pass over the {@link MacroVariable}s instead of loading and scoring the analyzed news.
+ *
+ * <p>Each eligible event adds its {@link NewsScoringPolicy#resolveImpactWeight weighted} impacts to running
+ * UP/DOWN/NEUTRAL sums per variable until its signal window closes; a queue ordered by that instant takes it
+ * back out on the next read. A re-interpreted event replaces its previous contribution and a deleted one
+ * withdraws it. Cluster members carry their representative's analysis, so only representatives count.
+ *
+ * <p>The sums are seeded on the first read from the analyzed news still inside the longest signal window,
+ * loading only the fields the signal reads. {@link #rebuild()}, run on a timer, reseeds them, which also
+ * settles rounding drift and changes made without an event (another instance's writes, members linked to a
+ * cluster). Updates that land while it loads are replayed on top of the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MarketSignalAggregator {
+
+    private static final MacroVariable[] VARIABLES = MacroVariable.values();
+    private static final int DIRECTIONS = ImpactDirection.values().length;
+
+    private final NewsEventRepository newsEventRepository;
+    private final NewsEligibilityEvaluator eligibilityEvaluator;
+    private final NewsScoringPolicy scoringPolicy;
+
+    @Value("${app.news.naver.max-age-hours:168}")
+    private long naverMaxAgeHours;
+
+    @Value("${app.news.global.max-age-hours:24}")
+    private long globalMaxAgeHours;
+
+    @Value("${app.news.naver.fallback-max-age-hours:336}")
+    private long naverFallbackMaxAgeHours;
+
+    @Value("${app.news.global.fallback-max-age-hours:36}")
+    private long globalFallbackMaxAgeHours;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final PriorityQueue<Contribution> expiryQueue =
+            new PriorityQueue<>(Comparator.comparing(Contribution::expiresAt));
+    private final double[][] weights = new double[VARIABLES.length][DIRECTIONS];
+    private final int[][] counts = new int[VARIABLES.length][DIRECTIONS];
+    // Ids written while a rebuild loads its snapshot, mapped to null when deleted; null outside a rebuild.
+    private Map<String, NewsEvent> changedDuringRebuild;
+    private volatile boolean seeded;
+    private Clock clock = Clock.systemUTC();
+
+    void setClock(Clock clock) {
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
+
+    /**
+     * Returns the signal of every {@link MacroVariable} over the events whose signal window is still open.
+     */
+    public MarketSignalOverviewDto overview() {
+        if (!seeded) {
+            rebuildOnce();
+        }
+        lock.lock();
+        try {
+            evictExpired(Instant.now(clock));
+            List<MarketSignalItemDto> items = new ArrayList<>(VARIABLES.length);
+            for (int variable = 0; variable < VARIABLES.length; variable++) {
+                double[] sums = weights[variable];
+                items.add(scoringPolicy.summarizeSignal(VARIABLES[variable],
+                        Math.max(0d, sums[ImpactDirection.UP.ordinal()]),
+                        Math.max(0d, sums[ImpactDirection.DOWN.ordinal()]),
+                        Math.max(0d, sums[ImpactDirection.NEUTRAL.ordinal()]),
+                        Arrays.stream(counts[variable]).sum()));
+            }
+            return new MarketSignalOverviewDto(items);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the overview with no signals, for status filters no signal-eligible event can match.
+     */
+    public MarketSignalOverviewDto emptyOverview() {
+        List<MarketSignalItemDto> items = new ArrayList<>(VARIABLES.length);
+        for (MacroVariable variable : VARIABLES) {
+            items.add(scoringPolicy.summarizeSignal(variable, 0d, 0d, 0d, 0));
+        }
+        return new MarketSignalOverviewDto(items);
+    }
+
+    /**
+     * Reseeds the sums from the analyzed news in the repository.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            reseed();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Runs before the homepage views listener so the rebuild it schedules reads the updated sums.
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsContentChanged(NewsContentChangedEvent event) {
+        switch (event.change()) {
+            case INTERPRETATION -> record(event.events());
+            case DELETION -> remove(event.deletedIds());
+            default -> {
+            }
+        }
+    }
+
+    void record(Collection<NewsEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (NewsEvent event : events) {
+                if (event == null || !StringUtils.hasText(event.id())) {
+                    continue;
+                }
+                apply(event);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(event.id(), event);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (String id : ids) {
+                withdraw(contributions.remove(id));
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(id, null);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildOnce() {
+        rebuildLock.lock();
+        try {
+            if (!seeded) {
+                reseed();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void reseed() {
+        lock.lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        List<NewsEvent> analyzed;
+        try {
+            // No event whose basis is older than the longest signal window can still contribute.
+            long maxAgeHours = eligibilityEvaluator.resolveMaxDisplayHours(
+                    naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours);
+            analyzed = newsEventRepository.findSignalCandidates(Instant.now(clock).minus(Duration.ofHours(maxAgeHours)));
+        } catch (RuntimeException ex) {
+            lock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        }
+        lock.lock();
+        try {
+            contributions.clear();
+            expiryQueue.clear();
+            for (double[] sums : weights) {
+                Arrays.fill(sums, 0d);
+            }
+            for (int[] directionCounts : counts) {
+                Arrays.fill(directionCounts, 0);
+            }
+            for (NewsEvent event : analyzed) {
+                if (event != null && StringUtils.hasText(event.id())) {
+                    apply(event);
+                }
+            }
+            for (Map.Entry<String, NewsEvent> changed : changedDuringRebuild.entrySet()) {
+                if (changed.getValue() == null) {
+                    withdraw(contributions.remove(changed.getKey()));
+                } else {
+                    apply(changed.getValue());
+                }
+            }
+            changedDuringRebuild = null;
+            seeded = true;
+            log.info("[MARKET-SIGNAL] rebuilt analyzed={} contributing={}", analyzed.size(), contributions.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(NewsEvent event) {
+        withdraw(contributions.remove(event.id()));
+        Contribution contribution = contributionOf(event);
+        if (contribution == null) {
+            return;
+        }
+        contributions.put(event.id(), contribution);
+        expiryQueue.add(contribution);
+        for (Impact impact : contribution.impacts()) {
+            weights[impact.variable()][impact.direction()] += impact.weight();
+            counts[impact.variable()][impact.direction()]++;
+        }
+    }
+
+    private void withdraw(Contribution contribution) {
+        if (contribution == null) {
+            return;
+        }
+        // Left in the expiry queue; evictExpired skips entries that are no longer current.
+        for (Impact impact : contribution.impacts()) {
+            // Subtracting leaves a rounding residue, so a direction with no impacts left is reset to zero.
+            if (--counts[impact.variable()][impact.direction()] == 0) {
+                weights[impact.variable()][impact.direction()] = 0d;
+            } else {
+                weights[impact.variable()][impact.direction()] -= impact.weight();
+            }
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().expiresAt().isBefore(now)) {
+            Contribution expired = expiryQueue.poll();
+            if (contributions.get(expired.id()) == expired) {
+                contributions.remove(expired.id());
+                withdraw(expired);
+            }
+        }
+    }
+
+    private Contribution contributionOf(NewsEvent event) {
+        if (!NewsClusterService.isRepresentative(event)) {
+            return null;
+        }
+        Instant expiresAt = eligibilityEvaluator.resolveSignalExpiry(event,
+                naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours);
+        if (expiresAt == null || expiresAt.isBefore(Instant.now(clock))) {
+            return null;
+        }
+        List<MacroImpact> macroImpacts = event.analysisResult().macroImpacts();
+        List<Impact> impacts = new ArrayList<>();
+        if (macroImpacts != null) {
+            for (MacroImpact impact : macroImpacts) {
+                if (impact == null || impact.variable() == null || impact.direction() == null) {
+                    continue;
+                }
+                impacts.add(new Impact(impact.variable().ordinal(), impact.direction().ordinal(),
+                        scoringPolicy.resolveImpactWeight(impact)));
+            }
+        }
+        return new Contribution(event.id(), expiresAt, List.copyOf(impacts));
+    }
+
+    private record Contribution(String id, Instant expiresAt, List<Impact> impacts) {
+    }
+
+    private record Impact(int variable, int direction, double weight) {
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -33,6 +34,7 @@ public class MarketSummarySnapshotService {
     private final NewsEventRepository newsEventRepository;
     private final AiMarketSummaryService aiMarketSummaryService;
     private final NewsQueryService newsQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.featured.market-summary.snapshot-enabled:true}")
     private boolean snapshotEnabled;
@@ -114,6 +116,7 @@ public class MarketSummarySnapshotService {
                 aiMarketSummaryService.getConfiguredModel()
         );
         MarketSummarySnapshot saved = marketSummarySnapshotRepository.save(snapshot);
+        eventPublisher.publishEvent(new NewsContentChangedEvent(NewsContentChangedEvent.Change.SUMMARY_SNAPSHOT));
         log.info("[MARKET_SUMMARY_SNAPSHOT] saved id={} generatedAt={} sourceCount={}",
                 saved.id(), saved.generatedAt(), saved.sourceCount());
         return Optional.of(saved);
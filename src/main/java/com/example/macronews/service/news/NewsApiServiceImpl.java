@@ -5,10 +5,12 @@ import com.example.macronews.dto.request.ExternalApiRequest;
 import com.example.macronews.service.news.source.NewsFreshnessBucket;
 import com.example.macronews.service.news.source.NewsFeedPriority;
 import com.example.macronews.service.news.source.NewsSourceProvider;
+import com.example.macronews.service.news.source.ProviderPageCache;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.example.macronews.util.external.ExternalResponseTextNormalizer;
 import com.example.macronews.util.external.ExternalResponseValueParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
@@ -36,8 +38,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 @Slf4j
 public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
 
+    private static final TypeReference<List<ExternalNewsItem>> ARTICLES_TYPE = new TypeReference<>() {
+    };
+
     private final ExternalApiUtils externalApiUtils;
     private final ObjectMapper objectMapper;
+    private final ProviderPageCache providerPageCache;
 
     @Value("${app.news.global.enabled:true}")
     private boolean enabled;
@@ -122,7 +128,7 @@ public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
         }
 
         List<ExternalNewsItem> headlines = fetchFromUrl(buildTopHeadlinesUrl(resolvedLimit), resolvedLimit,
-                "top-headlines", bucket, cycleContext);
+                "top-headlines", country + "/" + category, bucket, cycleContext);
         return mergeAndLimit(freshest, headlines, resolvedLimit);
     }
 
@@ -148,7 +154,7 @@ public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
         log.info("Recent foreign NewsAPI bucket={} results returned {} of {} items; supplementing with top-headlines",
                 bucket, freshest.size(), resolvedLimit);
         List<ExternalNewsItem> headlines = fetchFromUrl(buildTopHeadlinesUrl(resolvedLimit), resolvedLimit,
-                "top-headlines", bucket, cycleContext);
+                "top-headlines", country + "/" + category, bucket, cycleContext);
         return mergeAndLimit(freshest, headlines, resolvedLimit);
     }
 
@@ -203,7 +209,7 @@ public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
                 .build()
                 .encode()
                 .toUriString();
-        return fetchFromUrl(url, limit, feedName, bucket, cycleContext);
+        return fetchFromUrl(url, limit, feedName, query, bucket, cycleContext);
     }
 
     private String buildTopHeadlinesUrl(int limit) {
@@ -217,9 +223,16 @@ public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
                 .toUriString();
     }
 
-    private List<ExternalNewsItem> fetchFromUrl(String url, int limit, String feedName, NewsFreshnessBucket bucket,
-            NewsApiCycleContext cycleContext) {
+    // The page key uses the feed and query, not the URL: the URL embeds the API key and a moving cutoff.
+    private List<ExternalNewsItem> fetchFromUrl(String url, int limit, String feedName, String cacheQuery,
+            NewsFreshnessBucket bucket, NewsApiCycleContext cycleContext) {
         String requestFamily = resolveRequestFamily(url);
+        ProviderPageCache.PageKey pageKey = new ProviderPageCache.PageKey(
+                sourceCode(), feedName + "|" + cacheQuery, 1, limit, bucket);
+        Optional<List<ExternalNewsItem>> cached = providerPageCache.get(pageKey, ARTICLES_TYPE);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         if (cycleContext.rateLimitEncountered()) {
             log.info("[NEWSAPI] skipping call after prior 429 cycle={} feed={} requestFamily={} bucket={}",
                     cycleContext.entryPoint(), feedName, requestFamily, bucket);
@@ -233,19 +246,22 @@ public class NewsApiServiceImpl implements NewsApiService, NewsSourceProvider {
                 null));
 
         if (result == null || result.statusCode() < 200 || result.statusCode() >= 300) {
-            if (result != null && result.statusCode() == 429) {
+            if (result != null && result.statusCode() == 429 && !result.shortCircuited()) {
                 cycleContext.markRateLimitEncountered();
                 log.warn("[NEWSAPI] provider empty reason=rate-limit cycle={} feed={} requestFamily={} bucket={} first429InCycle=true",
                         cycleContext.entryPoint(), feedName, requestFamily, bucket);
                 return List.of();
             }
-            log.warn("[NEWSAPI] provider empty reason=upstream-rejection cycle={} feed={} requestFamily={} bucket={} status={}",
+            log.warn("[NEWSAPI] provider empty reason={} cycle={} feed={} requestFamily={} bucket={} status={}",
+                    result != null && result.shortCircuited() ? "short-circuited" : "upstream-rejection",
                     cycleContext.entryPoint(), feedName, requestFamily, bucket,
                     result == null ? -1 : result.statusCode());
             return List.of();
         }
 
-        return parseArticles(result.body(), limit, bucket);
+        List<ExternalNewsItem> items = parseArticles(result.body(), limit, bucket);
+        providerPageCache.put(pageKey, items);
+        return items;
     }
 
     private List<ExternalNewsItem> mergeAndLimit(List<ExternalNewsItem> primary, List<ExternalNewsItem> secondary,
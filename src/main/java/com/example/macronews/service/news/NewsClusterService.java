@@ -0,0 +1,148 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.repository.NewsEventRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Shares the interpretation of a near-duplicate cluster's representative with the other members.
+ *
+ * <p>Only the representative is sent to OpenAI; members wait as {@code INGESTED} and receive a copy of its
+ * {@code AnalysisResult} once it is analyzed. Linking runs both when the representative is saved and when
+ * members are ingested after it, so a member never misses a result that lands in between. A representative
+ * that runs out of retries hands its cluster to a waiting member instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsClusterService {
+
+    private static final String NEWS_DETAIL_CACHE = "newsDetail";
+
+    private final NewsEventRepository newsEventRepository;
+    private final NewsPriorityScorer newsPriorityScorer;
+    private final CacheManager cacheManager;
+
+    public static boolean isRepresentative(NewsEvent event) {
+        return event.clusterId() == null || event.clusterId().equals(event.id());
+    }
+
+    /**
+     * Copies the representative's analysis onto every member still waiting for one.
+     *
+     * @return the number of members updated
+     */
+    public int linkMembers(NewsEvent representative) {
+        if (representative == null
+                || !StringUtils.hasText(representative.id())
+                || representative.status() != NewsStatus.ANALYZED
+                || representative.analysisResult() == null) {
+            return 0;
+        }
+        List<NewsEvent> linked = newsEventRepository.findByClusterId(representative.id()).stream()
+                .filter(member -> !representative.id().equals(member.id()))
+                .filter(member -> member.analysisResult() == null)
+                .map(member -> linkTo(member, representative))
+                .toList();
+        if (linked.isEmpty()) {
+            return 0;
+        }
+        newsEventRepository.saveAll(linked);
+        Cache newsDetail = cacheManager.getCache(NEWS_DETAIL_CACHE);
+        if (newsDetail != null) {
+            linked.forEach(member -> newsDetail.evict(member.id()));
+        }
+        log.info("[CLUSTER] linked members representative={} members={}", representative.id(), linked.size());
+        return linked.size();
+    }
+
+    /**
+     * Links the waiting members of every already analyzed representative among {@code representativeIds}.
+     */
+    public int linkAnalyzedRepresentatives(Collection<String> representativeIds) {
+        if (representativeIds == null || representativeIds.isEmpty()) {
+            return 0;
+        }
+        return StreamSupport.stream(newsEventRepository.findAllById(representativeIds).spliterator(), false)
+                .mapToInt(this::linkMembers)
+                .sum();
+    }
+
+    /**
+     * Promotes a waiting member of each representative that will never be analyzed. The earliest member
+     * becomes the new representative; the other members and the old representative are pointed at it, so
+     * they all receive its analysis once it is saved.
+     *
+     * @return the promoted representatives, to be queued for interpretation
+     */
+    public List<NewsEvent> promoteWaitingMembers(Collection<NewsEvent> abandonedRepresentatives) {
+        Map<String, NewsEvent> abandonedById = new LinkedHashMap<>();
+        if (abandonedRepresentatives != null) {
+            abandonedRepresentatives.stream()
+                    .filter(representative -> representative != null && StringUtils.hasText(representative.id()))
+                    .forEach(representative -> abandonedById.put(representative.id(), representative));
+        }
+        if (abandonedById.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<NewsEvent>> waitingByCluster = newsEventRepository.findByClusterIdIn(abandonedById.keySet())
+                .stream()
+                .filter(member -> !abandonedById.containsKey(member.id()))
+                .filter(member -> member.status() == NewsStatus.INGESTED && member.analysisResult() == null)
+                .sorted(Comparator.comparing(NewsEvent::ingestedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.groupingBy(NewsEvent::clusterId, LinkedHashMap::new, Collectors.toList()));
+        if (waitingByCluster.isEmpty()) {
+            return List.of();
+        }
+        List<NewsEvent> promoted = new ArrayList<>();
+        List<NewsEvent> updated = new ArrayList<>();
+        waitingByCluster.forEach((clusterId, members) -> {
+            NewsEvent representative = members.get(0).withClusterId(members.get(0).id());
+            promoted.add(representative);
+            updated.add(representative);
+            members.stream()
+                    .skip(1)
+                    .map(member -> member.withClusterId(representative.id()))
+                    .forEach(updated::add);
+            updated.add(abandonedById.get(clusterId).withClusterId(representative.id()));
+            log.info("[CLUSTER] promoted member abandonedRepresentative={} representative={} members={}",
+                    clusterId, representative.id(), members.size() - 1);
+        });
+        newsEventRepository.saveAll(updated);
+        return promoted;
+    }
+
+    private NewsEvent linkTo(NewsEvent member, NewsEvent representative) {
+        // Scored again because the priority rules read the macro impacts of the analysis.
+        return newsPriorityScorer.applyScore(new NewsEvent(
+                member.id(),
+                member.externalId(),
+                member.title(),
+                member.summary(),
+                member.source(),
+                member.url(),
+                member.publishedAt(),
+                member.ingestedAt(),
+                NewsStatus.ANALYZED,
+                representative.analysisResult(),
+                member.analysisRetryCount(),
+                representative.analysisLastAttemptAt(),
+                member.priority(),
+                member.clusterId()
+        ));
+    }
+}
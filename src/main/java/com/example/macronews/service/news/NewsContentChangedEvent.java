@@ -0,0 +1,39 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published after a write that changes what the news pages show. Listeners that need the write to be
+ * visible should run after the publishing transaction commits.
+ *
+ * <p>An {@link Change#INTERPRETATION} carries the events as saved and a {@link Change#DELETION} the ids it
+ * removed, when the publisher knows them; both lists are otherwise empty.
+ */
+public record NewsContentChangedEvent(Change change, List<NewsEvent> events, List<String> deletedIds) {
+
+    public NewsContentChangedEvent {
+        events = events == null ? List.of() : List.copyOf(events);
+        deletedIds = deletedIds == null ? List.of() : List.copyOf(deletedIds);
+    }
+
+    public NewsContentChangedEvent(Change change) {
+        this(change, List.of(), List.of());
+    }
+
+    public static NewsContentChangedEvent interpreted(Collection<NewsEvent> events) {
+        return new NewsContentChangedEvent(Change.INTERPRETATION, events == null ? null : List.copyOf(events), null);
+    }
+
+    public static NewsContentChangedEvent deleted(Collection<String> ids) {
+        return new NewsContentChangedEvent(Change.DELETION, null, ids == null ? null : List.copyOf(ids));
+    }
+
+    public enum Change {
+        INGESTION,
+        INTERPRETATION,
+        DELETION,
+        SUMMARY_SNAPSHOT
+    }
+}
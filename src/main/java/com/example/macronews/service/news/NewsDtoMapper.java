@@ -68,7 +68,7 @@ class NewsDtoMapper {
                 primarySentiment,
                 macroSummary,
                 translationSelector.buildInterpretationSummary(macroSummary, preferredSummary, displayTitle),
-                scoringPolicy.calculatePriorityScore(event)
+                scoringPolicy.resolvePriorityScore(event)
         );
     }
 
@@ -1,6 +1,8 @@
 package com.example.macronews.service.news;
 
 import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.repository.NewsListWindow;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -32,16 +34,59 @@ class NewsEligibilityEvaluator {
             long globalMaxAgeHours,
             long naverFallbackMaxAgeHours,
             long globalFallbackMaxAgeHours
+    ) {
+        Instant expiry = resolveSignalExpiry(event,
+                naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours);
+        return expiry != null && !expiry.isBefore(Instant.now(clock));
+    }
+
+    /**
+     * Returns the last instant {@code event} is {@link #isSignalEligible signal eligible} at, or {@code null}
+     * when it is not eligible at any time.
+     */
+    Instant resolveSignalExpiry(
+            NewsEvent event,
+            long naverMaxAgeHours,
+            long globalMaxAgeHours,
+            long naverFallbackMaxAgeHours,
+            long globalFallbackMaxAgeHours
     ) {
         if (event == null || event.status() != com.example.macronews.domain.NewsStatus.ANALYZED || event.analysisResult() == null) {
-            return false;
+            return null;
         }
         Instant basis = resolveSignalBasis(event);
         if (basis == null) {
-            return false;
+            return null;
         }
-        return !basis.isBefore(Instant.now(clock).minus(resolveDisplayMaxAge(event,
+        return basis.plus(resolveDisplayMaxAge(event,
+                naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours));
+    }
+
+    /**
+     * Translates {@link #isDisplayEligible} into a server-side window, optionally narrowed to
+     * {@code [notBefore, notAfter)} (for example the current business day).
+     */
+    NewsListWindow buildDisplayWindow(
+            NewsStatus status,
+            Clock clock,
+            Instant notBefore,
+            Instant notAfter,
+            long naverMaxAgeHours,
+            long globalMaxAgeHours,
+            long naverFallbackMaxAgeHours,
+            long globalFallbackMaxAgeHours
+    ) {
+        Instant now = Instant.now(clock);
+        Instant naverCutoff = now.minus(Duration.ofHours(resolveDisplayHours(true,
                 naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours)));
+        Instant globalCutoff = now.minus(Duration.ofHours(resolveDisplayHours(false,
+                naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours)));
+        return new NewsListWindow(
+                status,
+                latest(naverCutoff, notBefore),
+                latest(globalCutoff, notBefore),
+                notAfter
+        );
     }
 
     long resolveMaxDisplayHours(long naverMaxAgeHours, long globalMaxAgeHours, long naverFallbackMaxAgeHours, long globalFallbackMaxAgeHours) {
@@ -49,6 +94,10 @@ class NewsEligibilityEvaluator {
                 resolveDisplayHours(false, naverMaxAgeHours, globalMaxAgeHours, naverFallbackMaxAgeHours, globalFallbackMaxAgeHours));
     }
 
+    private Instant latest(Instant cutoff, Instant notBefore) {
+        return notBefore != null && notBefore.isAfter(cutoff) ? notBefore : cutoff;
+    }
+
     private Instant resolveDisplayBasis(NewsEvent event) {
         if (event == null) {
             return null;
@@ -21,4 +21,6 @@ public interface NewsIngestionService {
     int deleteByIds(List<String> ids);
 
     int deleteExpiredBefore(Instant cutoff);
+
+    int rebuildSeenArticleFilter();
 }
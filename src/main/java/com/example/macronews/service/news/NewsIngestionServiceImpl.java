@@ -1,11 +1,12 @@
 package com.example.macronews.service.news;
 
+import com.example.macronews.domain.InterpretationJobOrigin;
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import com.example.macronews.dto.external.ExternalNewsItem;
 import com.example.macronews.dto.request.AdminIngestionRequest;
 import com.example.macronews.repository.NewsEventRepository;
-import com.example.macronews.service.macro.MacroAiService;
+import com.example.macronews.service.macro.OfflineInterpretationService;
 import com.example.macronews.service.news.source.NewsSourceProviderSelector;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -16,17 +17,24 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Executor;
+import java.util.Set;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -39,13 +47,17 @@ import org.springframework.util.StringUtils;
 public class NewsIngestionServiceImpl implements NewsIngestionService {
 
     private static final Clock DEFAULT_CLOCK = Clock.system(ZoneId.of("Asia/Seoul"));
+    private static final String NEWS_DETAIL_CACHE = "newsDetail";
 
     private final NewsEventRepository newsEventRepository;
     private final NewsSourceProviderSelector newsSourceProviderSelector;
-    private final MacroAiService macroAiService;
-
-    @Qualifier("ingestionExecutor")
-    private final Executor ingestionExecutor;
+    private final NewsPriorityScorer newsPriorityScorer;
+    private final InterpretationQueueService interpretationQueueService;
+    private final SeenArticleFilter seenArticleFilter;
+    private final NewsClusterService newsClusterService;
+    private final OfflineInterpretationService offlineInterpretationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     @Value("${app.news.naver.max-age-hours:168}")
     private long naverMaxAgeHours;
@@ -65,6 +77,15 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
     @Value("${app.ingestion.analysis-retry.min-delay-minutes:60}")
     private long analysisRetryMinDelayMinutes;
 
+    @Value("${app.news.clustering.enabled:false}")
+    private boolean clusteringEnabled;
+
+    @Value("${app.news.clustering.window-hours:24}")
+    private long clusteringWindowHours;
+
+    @Value("${app.news.clustering.max-distance:6}")
+    private int clusteringMaxDistance;
+
     private Clock clock = DEFAULT_CLOCK;
 
     @Override
@@ -85,24 +106,10 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
             return existing.get();
         }
 
-        Instant now = Instant.now();
-        String normalizedTitle = defaultText(item.title(), "Untitled");
-        NewsEvent event = new NewsEvent(
-                null,
-                resolvedExternalId,
-                normalizedTitle,
-                normalizeSummary(item.summary(), normalizedTitle),
-                defaultText(item.source(), "External"),
-                defaultText(item.url(), ""),
-                item.publishedAt() == null ? now : item.publishedAt(),
-                now,
-                NewsStatus.INGESTED,
-                null,
-                null,
-                null
-        );
-
+        NewsEvent event = buildNewEvent(item, resolvedExternalId, null, Instant.now());
         NewsEvent saved = newsEventRepository.save(event);
+        seenArticleFilter.record(saved);
+        eventPublisher.publishEvent(new NewsContentChangedEvent(NewsContentChangedEvent.Change.INGESTION));
         log.info("[INGEST] completed id={} status={}", saved.id(), saved.status());
         return saved;
     }
@@ -112,29 +119,77 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
     public NewsIngestionSummary ingestTopHeadlines(int limit) {
         log.info("[INGEST] batch start limit={}", limit);
         List<ExternalNewsItem> externalItems = loadScheduledHeadlineFeed(limit);
+
+        // Resolve every duplicate for the whole feed with one $in lookup and write all new events with
+        // one unordered bulk insert, instead of per-item findByExternalId/findByUrl/save round-trips.
+        KnownEventIndex knownEvents = loadKnownEvents(externalItems);
+        Instant now = Instant.now();
         List<NewsEvent> results = new ArrayList<>();
-        List<String> interpretationTargets = new ArrayList<>();
-        int newlyPersisted = 0;
+        List<NewsEvent> pendingInserts = new ArrayList<>();
+        NewsSimilarityIndex similarStories = null;
         int duplicates = 0;
 
         for (ExternalNewsItem item : externalItems) {
-            boolean duplicateBeforeIngest = findDuplicate(item, resolveExternalId(item)).isPresent();
-            NewsEvent ingested = ingestExternalItem(item);
-            results.add(ingested);
-
-            // Count newly persisted vs duplicate using the same pre-ingest duplicate check that the
-            // async-interpretation gate already relied on, so no extra repository queries are added.
-            if (duplicateBeforeIngest) {
+            String resolvedExternalId = resolveExternalId(item);
+            Optional<NewsEvent> existing = knownEvents.find(resolvedExternalId, item.url());
+            if (existing.isPresent()) {
+                log.info("[INGEST] duplicate detected existingId={} externalId={}", existing.get().id(),
+                        resolvedExternalId);
                 duplicates++;
-            } else {
-                newlyPersisted++;
-                if (isAsyncInterpretationTarget(ingested)) {
-                    interpretationTargets.add(ingested.id());
+                results.add(existing.get());
+                continue;
+            }
+            if (knownEvents.wasLookedUp(resolvedExternalId)) {
+                seenArticleFilter.recordFalsePositive();
+            }
+            // Ids are assigned up front so in-batch duplicates and the async interpretation targets can
+            // reference the new events without reading them back after the bulk insert.
+            NewsEvent event = buildNewEvent(item, resolvedExternalId, new ObjectId().toHexString(), now);
+            if (clusteringEnabled) {
+                if (similarStories == null) {
+                    similarStories = loadSimilarStories(now);
                 }
+                event = assignCluster(event, similarStories);
             }
+            knownEvents.register(event);
+            pendingInserts.add(event);
+            results.add(event);
         }
 
-        submitAsyncInterpretations(interpretationTargets);
+        List<NewsEvent> inserted = pendingInserts.isEmpty()
+                ? List.of()
+                : newsEventRepository.insertAllUnordered(pendingInserts);
+        List<NewsEvent> stored = pendingInserts;
+        if (inserted.size() < pendingInserts.size()) {
+            RejectedInserts rejected = reconcileRejectedInserts(results, pendingInserts, inserted);
+            results = rejected.results();
+            duplicates += rejected.duplicates();
+            if (rejected.duplicates() > 0) {
+                log.warn("[INGEST] bulk insert rejected rows resolved as duplicates duplicates={}",
+                        rejected.duplicates());
+            }
+            if (!rejected.failed().isEmpty()) {
+                log.error("[INGEST] bulk insert failed rows dropped from this run failed={} ids={}",
+                        rejected.failed().size(), rejected.failed().stream().map(NewsEvent::id).toList());
+                stored = pendingInserts.stream()
+                        .filter(event -> !rejected.failed().contains(event))
+                        .toList();
+            }
+        }
+        // Duplicate rows already have a stored copy, so recording every row that was not a write failure
+        // keeps the filter a superset of news_events without hiding failed rows from the next run.
+        seenArticleFilter.recordAll(stored);
+
+        int newlyPersisted = inserted.size();
+        List<NewsEvent> interpretationTargets = inserted.stream()
+                .filter(this::isAsyncInterpretationTarget)
+                .toList();
+        linkClusterMembers(inserted);
+        if (newlyPersisted > 0) {
+            eventPublisher.publishEvent(new NewsContentChangedEvent(NewsContentChangedEvent.Change.INGESTION));
+        }
+
+        enqueueInterpretations(interpretationTargets, InterpretationJobOrigin.INGESTED);
         int selected = externalItems.size();
         int submittedForAnalysis = interpretationTargets.size();
         log.info(buildBatchSummaryLog(limit, selected, results.size(), newlyPersisted, duplicates, submittedForAnalysis));
@@ -152,9 +207,13 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
     public int retryFailedAnalyses() {
         Instant now = Instant.now(clock);
         Instant retryCutoff = now.minus(Duration.ofMinutes(resolveAnalysisRetryMinDelayMinutes()));
-        List<NewsEvent> eligibleFailedItems = newsEventRepository.findByStatus(NewsStatus.FAILED).stream()
-                .filter(event -> isEligibleForAnalysisRetry(event, retryCutoff))
-                .map(event -> reserveAnalysisRetry(event, now))
+        // A Batch API job can run for up to a day; its events stay FAILED until it is polled, so they are
+        // skipped here rather than paid for twice.
+        Set<String> pendingOffline = offlineInterpretationService.pendingEventIds();
+        List<NewsEvent> failedItems = newsEventRepository.findByStatus(NewsStatus.FAILED);
+        requeueStalledEvents(failedItems, now, retryCutoff, pendingOffline);
+        List<NewsEvent> eligibleFailedItems = failedItems.stream()
+                .filter(event -> isEligibleForAnalysisRetry(event, retryCutoff, pendingOffline))
                 .toList();
 
         if (eligibleFailedItems.isEmpty()) {
@@ -163,7 +222,33 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
             return 0;
         }
 
-        submitAsyncInterpretations(eligibleFailedItems.stream().map(NewsEvent::id).toList());
+        // Retries are not latency-sensitive: with offline interpretation on they all go into one Batch API
+        // submission at batch pricing instead of through the real-time queue.
+        if (offlineInterpretationService.isEnabled()) {
+            List<NewsEvent> reserved = eligibleFailedItems.stream()
+                    .map(event -> reserveAnalysisRetry(event, now))
+                    .toList();
+            runAfterCommit(() -> offlineInterpretationService.submit(reserved));
+            log.info("[INGEST-RETRY] submitted-offline eligible={} cutoff={} maxRetries={}",
+                    reserved.size(), retryCutoff, resolveMaxAnalysisRetries());
+            return reserved.size();
+        }
+
+        // Only reserve as many retries as the queue admits; the rest keep their retry budget for a later pass.
+        int capacity = interpretationQueueService.remainingCapacity(InterpretationJobOrigin.RETRY);
+        if (eligibleFailedItems.size() > capacity) {
+            log.info("[INGEST-RETRY] deferred reason=queue-backpressure eligible={} admitted={}",
+                    eligibleFailedItems.size(), capacity);
+            eligibleFailedItems = eligibleFailedItems.subList(0, capacity);
+            if (eligibleFailedItems.isEmpty()) {
+                return 0;
+            }
+        }
+        eligibleFailedItems = eligibleFailedItems.stream()
+                .map(event -> reserveAnalysisRetry(event, now))
+                .toList();
+
+        enqueueInterpretations(eligibleFailedItems, InterpretationJobOrigin.RETRY);
         log.info("[INGEST-RETRY] submitted eligible={} cutoff={} maxRetries={}",
                 eligibleFailedItems.size(), retryCutoff, resolveMaxAnalysisRetries());
         return eligibleFailedItems.size();
@@ -196,13 +281,13 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
             return false;
         }
         newsEventRepository.deleteById(id);
+        eventPublisher.publishEvent(NewsContentChangedEvent.deleted(List.of(id)));
         log.info("[ADMIN] delete completed id={}", id);
         return true;
     }
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "newsDetail", allEntries = true, beforeInvocation = true)
     public int deleteByIds(List<String> ids) {
         List<String> requestedIds = ids == null ? List.of() : ids;
         List<String> sanitizedIds = requestedIds.stream()
@@ -230,6 +315,8 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
         }
 
         newsEventRepository.deleteAllById(existingIds);
+        evictNewsDetails(existingIds);
+        eventPublisher.publishEvent(NewsContentChangedEvent.deleted(existingIds));
         log.info("[ADMIN] bulk delete completed requested={} sanitized={} deleted={}",
                 requestedIds.size(), sanitizedIds.size(), existingIds.size());
         return existingIds.size();
@@ -257,48 +344,165 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
         int deletedCount = deleteByIds(expiredIds);
         log.info("[CLEANUP] expired delete completed cutoff={} requested={} deleted={}",
                 cutoff, expiredIds.size(), deletedCount);
+        if (deletedCount > 0) {
+            // The seen filter cannot drop keys, so it is rebuilt once the deletes are committed.
+            runAfterCommit(this::rebuildSeenArticleFilter);
+        }
         return deletedCount;
     }
 
-    private void submitAsyncInterpretations(List<String> eventIds) {
-        if (eventIds.isEmpty()) {
+    @Override
+    public int rebuildSeenArticleFilter() {
+        try (Stream<NewsEvent> events = newsEventRepository.streamDedupKeys()) {
+            return seenArticleFilter.rebuild(events);
+        } catch (RuntimeException ex) {
+            log.warn("[SEEN-FILTER] rebuild skipped reason={}", ex.getMessage());
+            return -1;
+        }
+    }
+
+    // Only the deleted ids leave the detail cache; the cached pages of every other article stay warm.
+    private void evictNewsDetails(List<String> ids) {
+        Cache newsDetail = cacheManager.getCache(NEWS_DETAIL_CACHE);
+        if (newsDetail != null) {
+            ids.forEach(newsDetail::evict);
+        }
+    }
+
+    private void enqueueInterpretations(List<NewsEvent> events, InterpretationJobOrigin origin) {
+        if (events.isEmpty()) {
             return;
         }
 
-        Runnable submitTask = () -> {
-            for (String id : eventIds) {
-                ingestionExecutor.execute(() -> {
-                    log.info("[INTERPRET-ASYNC] submitted id={}", id);
-                    macroAiService.interpretAndSave(id);
-                });
-            }
-        };
+        runAfterCommit(() -> interpretationQueueService.enqueue(events, origin));
+    }
 
+    private void runAfterCommit(Runnable task) {
         if (TransactionSynchronizationManager.isActualTransactionActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    submitTask.run();
+                    task.run();
                 }
             });
             return;
         }
 
-        submitTask.run();
+        task.run();
     }
 
     private boolean isAsyncInterpretationTarget(NewsEvent event) {
         return event != null
                 && StringUtils.hasText(event.id())
                 && event.status() == NewsStatus.INGESTED
-                && event.analysisResult() == null;
+                && event.analysisResult() == null
+                && NewsClusterService.isRepresentative(event);
+    }
+
+    private NewsSimilarityIndex loadSimilarStories(Instant now) {
+        NewsSimilarityIndex index = new NewsSimilarityIndex(clusteringMaxDistance);
+        List<NewsEvent> candidates = newsEventRepository.findClusterCandidates(now.minus(resolveClusteringWindow()));
+        // A representative out of retries will never be analyzed, so new copies start a cluster of their own
+        // rather than wait on it.
+        Set<String> abandonedClusters = new HashSet<>();
+        candidates.stream()
+                .filter(this::isAbandonedRepresentative)
+                .forEach(candidate -> abandonedClusters.add(candidate.id()));
+        candidates.stream()
+                .filter(candidate -> !abandonedClusters.contains(
+                        StringUtils.hasText(candidate.clusterId()) ? candidate.clusterId() : candidate.id()))
+                .forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Queues again the events that would otherwise never be interpreted: a waiting member of each cluster
+     * whose representative's retries are exhausted, and every {@code INGESTED} representative past the retry
+     * delay, typically because its queue admission was rejected. The latter holds whether or not clustering
+     * is on. Events that still have a job are skipped by the queue.
+     */
+    private void requeueStalledEvents(List<NewsEvent> failedItems, Instant now, Instant retryCutoff,
+            Set<String> pendingOffline) {
+        Map<String, NewsEvent> requeued = new LinkedHashMap<>();
+        promoteStalledClusters(failedItems, now, pendingOffline).forEach(event -> requeued.put(event.id(), event));
+        int promoted = requeued.size();
+        newsEventRepository.findByStatusAndIngestedAtBefore(NewsStatus.INGESTED, retryCutoff).stream()
+                .filter(this::isAsyncInterpretationTarget)
+                .forEach(event -> requeued.putIfAbsent(event.id(), event));
+        if (requeued.isEmpty()) {
+            return;
+        }
+        enqueueInterpretations(List.copyOf(requeued.values()), InterpretationJobOrigin.RETRY);
+        log.info("[INGEST-RETRY] requeued stalled events promoted={} ingested={}",
+                promoted, requeued.size() - promoted);
+    }
+
+    /**
+     * Hands each cluster whose representative's retries are exhausted to a waiting member.
+     *
+     * @return the promoted members
+     */
+    private List<NewsEvent> promoteStalledClusters(List<NewsEvent> failedItems, Instant now,
+            Set<String> pendingOffline) {
+        Instant windowStart = now.minus(resolveClusteringWindow());
+        List<NewsEvent> abandoned = failedItems.stream()
+                .filter(event -> StringUtils.hasText(event.clusterId()))
+                .filter(this::isAbandonedRepresentative)
+                .filter(event -> !pendingOffline.contains(event.id()))
+                .filter(event -> {
+                    Instant lastAttemptAt = event.analysisLastAttemptAt() != null
+                            ? event.analysisLastAttemptAt()
+                            : event.ingestedAt();
+                    return lastAttemptAt == null || lastAttemptAt.isAfter(windowStart);
+                })
+                .toList();
+        return newsClusterService.promoteWaitingMembers(abandoned);
     }
 
-    boolean isEligibleForAnalysisRetry(NewsEvent event, Instant retryCutoff) {
+    private boolean isAbandonedRepresentative(NewsEvent event) {
+        int retryCount = event.analysisRetryCount() == null ? 0 : event.analysisRetryCount();
+        return event.status() == NewsStatus.FAILED
+                && NewsClusterService.isRepresentative(event)
+                && retryCount >= resolveMaxAnalysisRetries();
+    }
+
+    private Duration resolveClusteringWindow() {
+        return Duration.ofHours(clusteringWindowHours > 0 ? clusteringWindowHours : 24L);
+    }
+
+    private NewsEvent assignCluster(NewsEvent event, NewsSimilarityIndex similarStories) {
+        NewsEvent clustered = event.withClusterId(similarStories.findCluster(event).orElse(event.id()));
+        similarStories.add(clustered);
+        return clustered;
+    }
+
+    private void linkClusterMembers(List<NewsEvent> inserted) {
+        Set<String> insertedIds = new HashSet<>();
+        inserted.forEach(event -> insertedIds.add(event.id()));
+        List<NewsEvent> members = inserted.stream()
+                .filter(event -> !NewsClusterService.isRepresentative(event))
+                .toList();
+        if (members.isEmpty()) {
+            return;
+        }
+        // Members of a representative stored by an earlier run may join after it was analyzed; those get the
+        // result now, the rest when their representative's interpretation is saved.
+        Set<String> storedRepresentatives = new LinkedHashSet<>();
+        members.stream()
+                .map(NewsEvent::clusterId)
+                .filter(clusterId -> !insertedIds.contains(clusterId))
+                .forEach(storedRepresentatives::add);
+        int linked = newsClusterService.linkAnalyzedRepresentatives(storedRepresentatives);
+        log.info("[INGEST] near-duplicates clustered members={} clusters={} linkedToAnalyzed={}",
+                members.size(), members.stream().map(NewsEvent::clusterId).distinct().count(), linked);
+    }
+
+    boolean isEligibleForAnalysisRetry(NewsEvent event, Instant retryCutoff, Set<String> pendingOffline) {
         if (event == null
                 || !StringUtils.hasText(event.id())
                 || event.status() != NewsStatus.FAILED
-                || event.analysisResult() != null) {
+                || event.analysisResult() != null
+                || pendingOffline.contains(event.id())) {
             return false;
         }
 
@@ -326,27 +530,101 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
                 event.status(),
                 event.analysisResult(),
                 (event.analysisRetryCount() == null ? 0 : event.analysisRetryCount()) + 1,
-                attemptedAt
+                attemptedAt,
+                event.priority(),
+                event.clusterId()
         );
         return newsEventRepository.save(reserved);
     }
 
     private Optional<NewsEvent> findDuplicate(ExternalNewsItem item, String resolvedExternalId) {
-        if (StringUtils.hasText(resolvedExternalId)) {
+        // Only the external id lookup is skipped for ids the seen filter rules out: the filter is local to
+        // this instance, and the unique externalId index rejects a copy another instance stored meanwhile.
+        // Urls have no such index, so they are always checked.
+        if (StringUtils.hasText(resolvedExternalId) && seenArticleFilter.mightContainExternalId(resolvedExternalId)) {
             Optional<NewsEvent> byExternalId = newsEventRepository.findByExternalId(resolvedExternalId);
             if (byExternalId.isPresent()) {
                 return byExternalId;
             }
+            seenArticleFilter.recordFalsePositive();
         }
 
         if (StringUtils.hasText(item.url())) {
-            Optional<NewsEvent> byUrl = newsEventRepository.findByUrl(item.url());
-            if (byUrl.isPresent()) {
-                return byUrl;
+            return newsEventRepository.findByUrl(item.url());
+        }
+        return Optional.empty();
+    }
+
+    private KnownEventIndex loadKnownEvents(List<ExternalNewsItem> items) {
+        Set<String> externalIds = new LinkedHashSet<>();
+        Set<String> urls = new LinkedHashSet<>();
+        for (ExternalNewsItem item : items) {
+            String resolvedExternalId = resolveExternalId(item);
+            if (StringUtils.hasText(resolvedExternalId) && seenArticleFilter.mightContainExternalId(resolvedExternalId)) {
+                externalIds.add(resolvedExternalId);
+            }
+            if (StringUtils.hasText(item.url())) {
+                urls.add(item.url());
             }
         }
 
-        return Optional.empty();
+        KnownEventIndex index = new KnownEventIndex(externalIds);
+        if (externalIds.isEmpty() && urls.isEmpty()) {
+            return index;
+        }
+        newsEventRepository.findByExternalIdInOrUrlIn(externalIds, urls).forEach(index::register);
+        return index;
+    }
+
+    private RejectedInserts reconcileRejectedInserts(List<NewsEvent> results, List<NewsEvent> pendingInserts,
+            List<NewsEvent> inserted) {
+        Set<String> insertedIds = new HashSet<>();
+        inserted.forEach(event -> insertedIds.add(event.id()));
+        List<NewsEvent> rejected = pendingInserts.stream()
+                .filter(event -> !insertedIds.contains(event.id()))
+                .toList();
+
+        // A duplicate-key rejection means a concurrent run stored the same article between our lookup and
+        // the insert, so swap in the stored event for both the rejected row and any in-batch duplicates of
+        // it. A rejected row with no stored copy hit some other write error and is reported as failed.
+        KnownEventIndex stored = new KnownEventIndex(Set.of());
+        newsEventRepository.findByExternalIdInOrUrlIn(
+                rejected.stream().map(NewsEvent::externalId).filter(StringUtils::hasText).toList(),
+                rejected.stream().map(NewsEvent::url).filter(StringUtils::hasText).toList()
+        ).forEach(stored::register);
+
+        Map<String, Optional<NewsEvent>> replacements = new HashMap<>();
+        List<NewsEvent> failed = new ArrayList<>();
+        for (NewsEvent event : rejected) {
+            Optional<NewsEvent> replacement = stored.find(event.externalId(), event.url());
+            replacements.put(event.id(), replacement);
+            if (replacement.isEmpty()) {
+                failed.add(event);
+            }
+        }
+        List<NewsEvent> reconciled = results.stream()
+                .map(event -> replacements.getOrDefault(event.id(), Optional.of(event)))
+                .flatMap(Optional::stream)
+                .toList();
+        return new RejectedInserts(reconciled, rejected.size() - failed.size(), failed);
+    }
+
+    private NewsEvent buildNewEvent(ExternalNewsItem item, String resolvedExternalId, String id, Instant now) {
+        String normalizedTitle = defaultText(item.title(), "Untitled");
+        return newsPriorityScorer.applyScore(new NewsEvent(
+                id,
+                resolvedExternalId,
+                normalizedTitle,
+                normalizeSummary(item.summary(), normalizedTitle),
+                defaultText(item.source(), "External"),
+                defaultText(item.url(), ""),
+                item.publishedAt() == null ? now : item.publishedAt(),
+                now,
+                NewsStatus.INGESTED,
+                null,
+                null,
+                null
+        ));
     }
 
     private List<ExternalNewsItem> loadScheduledHeadlineFeed(int limit) {
@@ -479,4 +757,45 @@ public class NewsIngestionServiceImpl implements NewsIngestionService {
     private long resolveAnalysisRetryMinDelayMinutes() {
         return analysisRetryMinDelayMinutes > 0 ? analysisRetryMinDelayMinutes : 60L;
     }
+
+    private record RejectedInserts(List<NewsEvent> results, int duplicates, List<NewsEvent> failed) {
+    }
+
+    /**
+     * In-memory duplicate lookup mirroring {@link #findDuplicate}: external id first, then raw url.
+     */
+    private static final class KnownEventIndex {
+
+        private final Map<String, NewsEvent> byExternalId = new HashMap<>();
+        private final Map<String, NewsEvent> byUrl = new HashMap<>();
+        private final Set<String> lookedUpExternalIds;
+
+        KnownEventIndex(Set<String> lookedUpExternalIds) {
+            this.lookedUpExternalIds = lookedUpExternalIds;
+        }
+
+        void register(NewsEvent event) {
+            if (StringUtils.hasText(event.externalId())) {
+                byExternalId.putIfAbsent(event.externalId(), event);
+            }
+            if (StringUtils.hasText(event.url())) {
+                byUrl.putIfAbsent(event.url(), event);
+            }
+        }
+
+        Optional<NewsEvent> find(String externalId, String url) {
+            if (StringUtils.hasText(externalId) && byExternalId.containsKey(externalId)) {
+                return Optional.of(byExternalId.get(externalId));
+            }
+            if (StringUtils.hasText(url) && byUrl.containsKey(url)) {
+                return Optional.of(byUrl.get(url));
+            }
+            return Optional.empty();
+        }
+
+        // True when the item's external id survived the seen filter and was part of the Mongo lookup.
+        boolean wasLookedUp(String externalId) {
+            return StringUtils.hasText(externalId) && lookedUpExternalIds.contains(externalId);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.PriorityScore;
+import com.example.macronews.repository.NewsEventRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Recomputes stored priority scores that are missing or were produced by an older rules version.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsPriorityBackfillService {
+
+    private final NewsEventRepository newsEventRepository;
+    private final NewsPriorityScorer newsPriorityScorer;
+
+    /**
+     * Walks the stale events in id order, one batch at a time, and writes only their {@code priority}.
+     *
+     * @return the number of events rescored
+     */
+    public int backfillStaleScores(int batchSize) {
+        int rulesVersion = newsPriorityScorer.rulesVersion();
+        int safeBatchSize = Math.max(batchSize, 1);
+        String lastId = null;
+        int rescored = 0;
+        while (true) {
+            List<NewsEvent> batch = newsEventRepository.findPriorityStale(rulesVersion, lastId, safeBatchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            Map<String, PriorityScore> scoresById = new LinkedHashMap<>();
+            for (NewsEvent event : batch) {
+                scoresById.put(event.id(), newsPriorityScorer.score(event));
+            }
+            newsEventRepository.updatePriorities(scoresById);
+            rescored += batch.size();
+            lastId = batch.get(batch.size() - 1).id();
+            log.debug("[PRIORITY-BACKFILL] batch rescored={} total={} lastId={}", batch.size(), rescored, lastId);
+            if (batch.size() < safeBatchSize) {
+                break;
+            }
+        }
+        return rescored;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.PriorityScore;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps news events with a {@link PriorityScore} computed by the current scoring rules, so list
+ * queries can sort by priority in Mongo instead of rescoring every candidate per request.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsPriorityScorer {
+
+    private final NewsScoringPolicy scoringPolicy;
+
+    public NewsEvent applyScore(NewsEvent event) {
+        return event.withPriority(score(event));
+    }
+
+    public PriorityScore score(NewsEvent event) {
+        return scoringPolicy.scorePriority(event, Instant.now());
+    }
+
+    public int rulesVersion() {
+        return NewsScoringPolicy.PRIORITY_RULES_VERSION;
+    }
+}
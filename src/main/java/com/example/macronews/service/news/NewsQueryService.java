@@ -3,17 +3,20 @@ package com.example.macronews.service.news;
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import com.example.macronews.dto.AutoIngestionBatchStatusDto;
-import com.example.macronews.dto.MarketSignalItemDto;
 import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.dto.NewsCursorPageDto;
 import com.example.macronews.dto.NewsDetailDto;
 import com.example.macronews.dto.NewsListItemDto;
 import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.repository.NewsListCursor;
+import com.example.macronews.repository.NewsListWindow;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,11 +36,14 @@ public class NewsQueryService {
 
     private static final Clock DEFAULT_CLOCK = Clock.system(ZoneId.of("Asia/Seoul"));
     private static final ZoneId BUSINESS_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int RECENT_NEWS_LIMIT = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
     private final NewsEventRepository newsEventRepository;
     private final NewsEligibilityEvaluator eligibilityEvaluator;
     private final NewsScoringPolicy scoringPolicy;
     private final NewsDtoMapper newsDtoMapper;
+    private final MarketSignalAggregator marketSignalAggregator;
 
     @Value("${app.news.naver.max-age-hours:168}")
     private long naverMaxAgeHours;
@@ -67,53 +73,121 @@ public class NewsQueryService {
 
     public List<NewsListItemDto> getRecentNews(NewsStatus status, NewsListSort sort) {
         return getRecentNewsItems(status, sort).stream()
-                .limit(20)
+                .limit(RECENT_NEWS_LIMIT)
                 .toList();
     }
 
     public List<NewsListItemDto> getRecentNewsForToday(NewsStatus status, NewsListSort sort) {
         LocalDate today = LocalDate.now(clock.withZone(BUSINESS_ZONE));
-        return loadTodayCandidates(status).stream()
-                .filter(event -> eligibilityEvaluator.isDisplayEligible(
-                        event, clock,
-                        naverMaxAgeHours, globalMaxAgeHours,
-                        naverFallbackMaxAgeHours, globalFallbackMaxAgeHours))
-                .filter(event -> isSameBusinessDay(event, today))
-                .sorted(scoringPolicy.buildComparator(sort))
+        NewsListWindow todayWindow = buildDisplayWindow(status,
+                today.atStartOfDay(BUSINESS_ZONE).toInstant(),
+                today.plusDays(1).atStartOfDay(BUSINESS_ZONE).toInstant());
+        return loadWindow(todayWindow, sort, 0).stream()
                 .map(newsDtoMapper::toListItem)
                 .toList();
     }
 
     public Page<NewsListItemDto> getArchiveNews(int page, int pageSize) {
-        List<NewsListItemDto> archiveItems = getRecentNewsItems(NewsStatus.ANALYZED, NewsListSort.PUBLISHED_DESC);
-        return pageArchiveItems(archiveItems, page, pageSize);
+        NewsListWindow archiveWindow = buildDisplayWindow(NewsStatus.ANALYZED, null, null);
+        int safePageSize = Math.max(pageSize, 1);
+        long totalItems = newsEventRepository.countListWindow(archiveWindow);
+        int safePage = resolveArchivePage(page, safePageSize, totalItems);
+        List<NewsListItemDto> pageItems = totalItems == 0
+                ? List.of()
+                : newsEventRepository.findListWindow(archiveWindow,
+                                scoringPolicy.buildSort(NewsListSort.PUBLISHED_DESC),
+                                (long) (safePage - 1) * safePageSize, safePageSize).stream()
+                        .map(newsDtoMapper::toListItem)
+                        .toList();
+        return new PageImpl<>(pageItems, PageRequest.of(safePage - 1, safePageSize), totalItems);
     }
 
+    /**
+     * Returns the archive slice after {@code cursor}, newest first, using a keyset range instead of a skip.
+     *
+     * @throws IllegalArgumentException when {@code cursor} is not a token issued by this service
+     */
+    public NewsCursorPageDto getArchiveNewsAfter(String cursor, int pageSize) {
+        return loadCursorPage(buildDisplayWindow(NewsStatus.ANALYZED, null, null), cursor, pageSize);
+    }
+
+    /**
+     * Returns today's news slice after {@code cursor}, ordered by {@code publishedAt} descending.
+     *
+     * @throws IllegalArgumentException when {@code cursor} is not a token issued by this service
+     */
+    public NewsCursorPageDto getRecentNewsForTodayAfter(NewsStatus status, String cursor, int pageSize) {
+        LocalDate today = LocalDate.now(clock.withZone(BUSINESS_ZONE));
+        NewsListWindow todayWindow = buildDisplayWindow(status,
+                today.atStartOfDay(BUSINESS_ZONE).toInstant(),
+                today.plusDays(1).atStartOfDay(BUSINESS_ZONE).toInstant());
+        return loadCursorPage(todayWindow, cursor, pageSize);
+    }
+
+    /**
+     * Returns the market signal overview maintained by {@link MarketSignalAggregator}. Only analyzed news
+     * carries a signal, so any other {@code status} gets the overview without signals; {@code sort} does not
+     * change it.
+     */
     public MarketSignalOverviewDto getMarketSignalOverview(NewsStatus status, NewsListSort sort) {
-        List<NewsEvent> candidates = loadCandidates(status);
-        List<NewsEvent> recentAnalyzed = candidates.stream()
-                .filter(event -> eligibilityEvaluator.isSignalEligible(
-                        event, clock,
-                        naverMaxAgeHours, globalMaxAgeHours,
-                        naverFallbackMaxAgeHours, globalFallbackMaxAgeHours))
-                .sorted(scoringPolicy.buildComparator(sort))
-                .limit(20)
-                .toList();
+        return status == null || status == NewsStatus.ANALYZED
+                ? marketSignalAggregator.overview()
+                : marketSignalAggregator.emptyOverview();
+    }
 
-        if (log.isDebugEnabled()) {
-            Instant cutoff = Instant.now(clock).minus(java.time.Duration.ofHours(
-                    eligibilityEvaluator.resolveMaxDisplayHours(
-                            naverMaxAgeHours, globalMaxAgeHours,
-                            naverFallbackMaxAgeHours, globalFallbackMaxAgeHours)));
-            log.debug("[NEWS-QUERY] displayCandidates={} signalCandidates={} signalBasis=analysisResult.createdAt|ingestedAt|publishedAt cutoff={}",
-                    candidates.size(), recentAnalyzed.size(), cutoff);
+    /**
+     * Builds the homepage news list and market signal overview of {@code status} for every sort.
+     *
+     * <p>Today's window is loaded once and ordered in memory per sort, and the signal overview is read from
+     * {@link MarketSignalAggregator}, so the sections cost one query; only nothing published today falls back
+     * to the recent candidates, or to one sorted query per sort under a status filter, as
+     * {@link #getRecentNews(NewsStatus, NewsListSort)} does. A failed signal overview leaves the news items in
+     * place with the empty overview.
+     */
+    public Map<NewsListSort, HomepageNewsSection> getHomepageSections(NewsStatus status) {
+        LocalDate today = LocalDate.now(clock.withZone(BUSINESS_ZONE));
+        NewsListWindow todayWindow = buildDisplayWindow(status,
+                today.atStartOfDay(BUSINESS_ZONE).toInstant(),
+                today.plusDays(1).atStartOfDay(BUSINESS_ZONE).toInstant());
+        List<NewsEvent> todayEvents = loadWindow(todayWindow, NewsListSort.PUBLISHED_DESC, 0);
+        List<NewsEvent> displayEligible = todayEvents.isEmpty() && status == null
+                ? loadCandidates(null).stream().filter(this::isDisplayEligible).toList()
+                : List.of();
+        MarketSignalOverviewDto signalOverview = loadHomepageSignalOverview(status);
+
+        Map<NewsEvent, NewsListItemDto> listItems = new IdentityHashMap<>();
+        Map<NewsListSort, HomepageNewsSection> sections = new EnumMap<>(NewsListSort.class);
+        for (NewsListSort sort : NewsListSort.values()) {
+            List<NewsListItemDto> newsItems;
+            if (!todayEvents.isEmpty()) {
+                // Same order as the window query: the sort keys, then _id descending.
+                newsItems = todayEvents.stream()
+                        .sorted(scoringPolicy.buildComparator(sort)
+                                .thenComparing(NewsEvent::id, Comparator.nullsLast(Comparator.reverseOrder())))
+                        .map(event -> listItems.computeIfAbsent(event, newsDtoMapper::toListItem))
+                        .toList();
+            } else if (status == null) {
+                newsItems = displayEligible.stream()
+                        .sorted(scoringPolicy.buildComparator(sort))
+                        .limit(RECENT_NEWS_LIMIT)
+                        .map(event -> listItems.computeIfAbsent(event, newsDtoMapper::toListItem))
+                        .toList();
+            } else {
+                newsItems = getRecentNews(status, sort);
+            }
+            sections.put(sort, new HomepageNewsSection(newsItems, signalOverview));
         }
+        return sections;
+    }
 
-        List<MarketSignalItemDto> items = Arrays.stream(com.example.macronews.domain.MacroVariable.values())
-                .map(variable -> scoringPolicy.aggregateSignal(variable, recentAnalyzed))
-                .toList();
-
-        return new MarketSignalOverviewDto(items);
+    private MarketSignalOverviewDto loadHomepageSignalOverview(NewsStatus status) {
+        try {
+            return getMarketSignalOverview(status, null);
+        } catch (RuntimeException ex) {
+            log.warn("Building homepage sections without market signal overview due to query failure status={}",
+                    status, ex);
+            return marketSignalAggregator.emptyOverview();
+        }
     }
 
     public AutoIngestionBatchStatusDto getAutoIngestionBatchStatus(int requestedCount, int returnedCount, List<String> itemIds) {
@@ -175,51 +249,63 @@ public class NewsQueryService {
                 : newsEventRepository.findByStatus(status);
     }
 
-    private List<NewsEvent> loadTodayCandidates(NewsStatus status) {
-        return status == null
-                ? java.util.stream.StreamSupport.stream(newsEventRepository.findAll().spliterator(), false).toList()
-                : newsEventRepository.findByStatus(status);
-    }
-
     private List<NewsListItemDto> getRecentNewsItems(NewsStatus status, NewsListSort sort) {
-        List<NewsEvent> candidates = loadCandidates(status);
+        if (status != null) {
+            return loadWindow(buildDisplayWindow(status, null, null), sort, RECENT_NEWS_LIMIT).stream()
+                    .map(newsDtoMapper::toListItem)
+                    .toList();
+        }
+        List<NewsEvent> candidates = loadCandidates(null);
         return candidates.stream()
-                .filter(event -> eligibilityEvaluator.isDisplayEligible(
-                        event, clock,
-                        naverMaxAgeHours, globalMaxAgeHours,
-                        naverFallbackMaxAgeHours, globalFallbackMaxAgeHours))
+                .filter(this::isDisplayEligible)
                 .sorted(scoringPolicy.buildComparator(sort))
                 .map(newsDtoMapper::toListItem)
                 .toList();
     }
 
-    private boolean isSameBusinessDay(NewsEvent event, LocalDate today) {
-        if (event == null || today == null) {
-            return false;
-        }
-        Instant basis = event.ingestedAt() != null ? event.ingestedAt() : event.publishedAt();
-        if (basis == null) {
-            return false;
+    private boolean isDisplayEligible(NewsEvent event) {
+        return eligibilityEvaluator.isDisplayEligible(
+                event, clock,
+                naverMaxAgeHours, globalMaxAgeHours,
+                naverFallbackMaxAgeHours, globalFallbackMaxAgeHours);
+    }
+
+    private NewsListWindow buildDisplayWindow(NewsStatus status, Instant notBefore, Instant notAfter) {
+        return eligibilityEvaluator.buildDisplayWindow(status, clock, notBefore, notAfter,
+                naverMaxAgeHours, globalMaxAgeHours,
+                naverFallbackMaxAgeHours, globalFallbackMaxAgeHours);
+    }
+
+    private List<NewsEvent> loadWindow(NewsListWindow window, NewsListSort sort, int limit) {
+        return newsEventRepository.findListWindow(window, scoringPolicy.buildSort(sort), 0, limit);
+    }
+
+    private NewsCursorPageDto loadCursorPage(NewsListWindow window, String cursor, int pageSize) {
+        NewsListCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = NewsListCursor.decode(cursor)
+                    .orElseThrow(() -> new IllegalArgumentException("Malformed news list cursor"));
         }
-        return basis.atZone(BUSINESS_ZONE).toLocalDate().equals(today);
+        int safePageSize = Math.min(Math.max(pageSize, 1), MAX_CURSOR_PAGE_SIZE);
+        // One extra row tells whether another slice exists without a count query.
+        List<NewsEvent> events = newsEventRepository.findListWindowAfter(window, after, safePageSize + 1);
+        boolean hasNext = events.size() > safePageSize;
+        List<NewsEvent> pageEvents = hasNext ? events.subList(0, safePageSize) : events;
+        String nextCursor = hasNext
+                ? NewsListCursor.of(pageEvents.get(pageEvents.size() - 1)).encode()
+                : null;
+        List<NewsListItemDto> items = pageEvents.stream()
+                .map(newsDtoMapper::toListItem)
+                .toList();
+        return new NewsCursorPageDto(items, nextCursor, hasNext);
     }
 
-    private Page<NewsListItemDto> pageArchiveItems(List<NewsListItemDto> items, int requestedPage, int pageSize) {
-        int safePageSize = Math.max(pageSize, 1);
-        int totalItems = items.size();
-        int totalPages = totalItems == 0 ? 0 : (int) Math.ceil((double) totalItems / safePageSize);
+    private int resolveArchivePage(int requestedPage, int pageSize, long totalItems) {
+        int totalPages = totalItems == 0 ? 0 : (int) Math.ceil((double) totalItems / pageSize);
         int safePage = Math.max(requestedPage, 1);
         if (totalPages > 0 && safePage > totalPages) {
             safePage = totalPages;
         }
-
-        int fromIndex = totalItems == 0 ? 0 : Math.min((safePage - 1) * safePageSize, totalItems);
-        int toIndex = Math.min(fromIndex + safePageSize, totalItems);
-
-        return new PageImpl<>(
-                items.subList(fromIndex, toIndex),
-                PageRequest.of(Math.max(safePage - 1, 0), safePageSize),
-                totalItems
-        );
+        return safePage;
     }
 }
@@ -4,17 +4,23 @@ import com.example.macronews.domain.ImpactDirection;
 import com.example.macronews.domain.MacroImpact;
 import com.example.macronews.domain.MacroVariable;
 import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.PriorityScore;
 import com.example.macronews.domain.SignalSentiment;
 import com.example.macronews.dto.MarketSignalItemDto;
-import com.example.macronews.util.KeywordMatcher;
+import com.example.macronews.util.KeywordAutomaton;
 import com.example.macronews.util.KeywordSource;
 import java.net.URI;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -30,22 +36,52 @@ class NewsScoringPolicy {
     private static final double CRISIS_BOOST_EDGE_THRESHOLD = 0.20d;
     private static final double CRISIS_BOOST_NEGATIVE_NEUTRAL_RATIO = 1.1d;
     private static final double CRISIS_BOOST_CONFIDENCE = 0.03d;
+    /**
+     * Version of the priority rules below. Bump it whenever a keyword list, weight or bonus changes so
+     * stored {@link PriorityScore}s are recomputed by the backfill job.
+     */
+    static final int PRIORITY_RULES_VERSION = 1;
+    static final String PRIORITY_SCORE_FIELD = "priority.score";
     private static final List<KeywordWeightRule> PRIORITY_WEIGHT_RULES = List.of(
-            new KeywordWeightRule(8, 5, 3, "south korea", "korea", "kospi", "krw", "won"),
-            new KeywordWeightRule(6, 4, 2, "semiconductor", "chip", "memory", "samsung", "sk hynix", "battery", "ev", "auto",
-                    "shipbuilding", "ai"),
-            new KeywordWeightRule(9, 6, 3, "fed", "fomc", "ecb", "boj", "bok", "central bank", "rate decision", "interest rate",
-                    "cpi", "inflation", "ppi", "employment", "jobs", "payroll", "gdp", "recession", "slowdown"),
-            new KeywordWeightRule(7, 5, 2, "fx", "foreign exchange", "exchange rate", "usd", "dollar", "yen", "treasury",
-                    "treasury yield", "bond yield", "oil", "crude", "brent", "wti", "commodity", "commodities"),
-            new KeywordWeightRule(6, 4, 2, "tariff", "trade", "export", "china", "sanctions", "geopolitics", "u.s.", "united states")
+            new KeywordWeightRule("korea", 8, 5, 3, "south korea", "korea", "kospi", "krw", "won"),
+            new KeywordWeightRule("industry", 6, 4, 2, "semiconductor", "chip", "memory", "samsung", "sk hynix", "battery",
+                    "ev", "auto", "shipbuilding", "ai"),
+            new KeywordWeightRule("macro-policy", 9, 6, 3, "fed", "fomc", "ecb", "boj", "bok", "central bank", "rate decision",
+                    "interest rate", "cpi", "inflation", "ppi", "employment", "jobs", "payroll", "gdp", "recession",
+                    "slowdown"),
+            new KeywordWeightRule("fx-rates-commodities", 7, 5, 2, "fx", "foreign exchange", "exchange rate", "usd", "dollar",
+                    "yen", "treasury", "treasury yield", "bond yield", "oil", "crude", "brent", "wti", "commodity",
+                    "commodities"),
+            new KeywordWeightRule("trade-geopolitics", 6, 4, 2, "tariff", "trade", "export", "china", "sanctions",
+                    "geopolitics", "u.s.", "united states")
     );
     private static final List<KeywordWeightRule> NOISE_DEMOTION_RULES = List.of(
-            new KeywordWeightRule(3, 2, 0, "tips", "how to", "guide", "best way", "must try", "life hack", "checklist"),
-            new KeywordWeightRule(3, 2, 0, "festival", "event", "giveaway", "sale", "discount", "promotion", "opening"),
-            new KeywordWeightRule(4, 2, 0, "celebrity", "star", "romance", "wedding", "fashion", "beauty", "viral", "buzz"),
-            new KeywordWeightRule(3, 2, 0, "hot issue", "shocking", "surprising", "what happened", "you need to know", "attention")
+            new KeywordWeightRule("noise-howto", 3, 2, 0, "tips", "how to", "guide", "best way", "must try", "life hack",
+                    "checklist"),
+            new KeywordWeightRule("noise-promotion", 3, 2, 0, "festival", "event", "giveaway", "sale", "discount",
+                    "promotion", "opening"),
+            new KeywordWeightRule("noise-entertainment", 4, 2, 0, "celebrity", "star", "romance", "wedding", "fashion",
+                    "beauty", "viral", "buzz"),
+            new KeywordWeightRule("noise-clickbait", 3, 2, 0, "hot issue", "shocking", "surprising", "what happened",
+                    "you need to know", "attention")
     );
+    private static final String[] KOREA_INDUSTRY_TERMS = {"semiconductor", "chip", "memory", "samsung", "sk hynix"};
+    private static final String[] KOREA_TRADE_TERMS = {"trade", "export", "china", "u.s.", "united states", "tariff"};
+    private static final String[] KOREA_MARKET_TERMS = {"kospi", "krw", "won"};
+    private static final String[] CENTRAL_BANK_TERMS = {"fed", "fomc", "ecb", "boj", "bok", "central bank"};
+    private static final String[] MACRO_DATA_TERMS = {"interest rate", "rate decision", "cpi", "inflation", "employment",
+            "jobs", "payroll", "gdp"};
+    private static final String[] RATES_FX_TERMS = {"treasury", "treasury yield", "bond yield", "fx", "exchange rate",
+            "usd", "dollar", "yen"};
+    private static final String[] POLICY_TRIGGER_TERMS = {"fed", "fomc", "cpi", "inflation", "rate decision"};
+    private static final String[] COMMODITY_TERMS = {"oil", "crude", "brent", "wti", "commodity", "commodities"};
+    private static final String[] PRICE_DATA_TERMS = {"inflation", "cpi", "ppi"};
+    private static final String[] TRADE_ACTION_TERMS = {"tariff", "trade", "sanctions"};
+    private static final String[] TRADE_COUNTERPARTY_TERMS = {"china", "u.s.", "united states", "korea"};
+    private static final String[] STRONG_MARKET_SIGNAL_TERMS = {"fed", "fomc", "ecb", "boj", "bok", "central bank",
+            "interest rate", "rate decision", "cpi", "inflation", "employment", "payroll", "gdp", "recession",
+            "treasury", "bond yield", "fx", "exchange rate", "oil", "crude", "tariff", "trade", "sanctions"};
+    private static final String KOREA_TERM = "korea";
     private static final List<String> TRUSTED_SOURCE_MARKERS = List.of(
             "reuters", "bloomberg", "yonhap", "financial times", "wall street journal", "wsj",
             "associated press", "nikkei", "cnbc"
@@ -59,13 +95,15 @@ class NewsScoringPolicy {
     // snapshot of the curated lists above, so behavior is identical to the prior build.
     private static final KeywordSource TRUSTED_SOURCE_KEYWORDS = KeywordSource.fixed(TRUSTED_SOURCE_MARKERS);
     private static final KeywordSource TRUSTED_DOMAIN_KEYWORDS = KeywordSource.fixed(TRUSTED_DOMAIN_MARKERS);
+    // Every term the rules above look up, so each text is scanned once and rules read the hit set.
+    private static final KeywordSource SCORING_KEYWORDS = KeywordSource.fixed(collectScoringKeywords());
 
     Comparator<NewsEvent> buildComparator(NewsListSort sort) {
         NewsListSort resolvedSort = sort == null ? NewsListSort.PUBLISHED_DESC : sort;
         return switch (resolvedSort) {
             case PUBLISHED_ASC -> Comparator.comparing(NewsEvent::publishedAt, Comparator.nullsLast(Comparator.naturalOrder()))
                     .thenComparing(NewsEvent::ingestedAt, Comparator.nullsLast(Comparator.reverseOrder()));
-            case PRIORITY -> Comparator.comparingInt(this::calculatePriorityScore)
+            case PRIORITY -> Comparator.comparingInt(this::resolvePriorityScore)
                     .reversed()
                     .thenComparing(NewsEvent::publishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
             case INGESTED_DESC -> Comparator.comparing(NewsEvent::ingestedAt, Comparator.nullsLast(Comparator.reverseOrder()))
@@ -75,6 +113,20 @@ class NewsScoringPolicy {
         };
     }
 
+    /**
+     * Server-side equivalent of {@link #buildComparator(NewsListSort)}. {@link NewsListSort#PRIORITY}
+     * sorts on the stored {@link PriorityScore}.
+     */
+    Sort buildSort(NewsListSort sort) {
+        NewsListSort resolvedSort = sort == null ? NewsListSort.PUBLISHED_DESC : sort;
+        return switch (resolvedSort) {
+            case PUBLISHED_ASC -> Sort.by(Sort.Order.asc("publishedAt"), Sort.Order.desc("ingestedAt"));
+            case PRIORITY -> Sort.by(Sort.Order.desc(PRIORITY_SCORE_FIELD), Sort.Order.desc("publishedAt"));
+            case INGESTED_DESC -> Sort.by(Sort.Order.desc("ingestedAt"), Sort.Order.desc("publishedAt"));
+            case PUBLISHED_DESC -> Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("ingestedAt"));
+        };
+    }
+
     MarketSignalItemDto aggregateSignal(MacroVariable variable, List<NewsEvent> recentAnalyzed) {
         Map<ImpactDirection, Double> weightedScores = new EnumMap<>(ImpactDirection.class);
         weightedScores.put(ImpactDirection.UP, 0d);
@@ -95,7 +147,20 @@ class NewsScoringPolicy {
             }
         }
 
-        AggregatedDirection aggregatedDirection = resolveDominantDirection(variable, weightedScores, sampleCount);
+        return summarizeSignal(variable,
+                weightedScores.get(ImpactDirection.UP),
+                weightedScores.get(ImpactDirection.DOWN),
+                weightedScores.get(ImpactDirection.NEUTRAL),
+                sampleCount);
+    }
+
+    /**
+     * Resolves the signal of {@code variable} from impact weights already summed per direction, as
+     * {@link #aggregateSignal(MacroVariable, List)} does after adding up each impact's
+     * {@link #resolveImpactWeight(MacroImpact)}.
+     */
+    MarketSignalItemDto summarizeSignal(MacroVariable variable, double up, double down, double neutral, int sampleCount) {
+        AggregatedDirection aggregatedDirection = resolveDominantDirection(variable, up, down, neutral, sampleCount);
         return new MarketSignalItemDto(
                 variable,
                 aggregatedDirection.direction(),
@@ -105,63 +170,85 @@ class NewsScoringPolicy {
         );
     }
 
+    double resolveImpactWeight(MacroImpact impact) {
+        double confidence = normalizeConfidence(impact.confidence());
+        return impact.direction() == ImpactDirection.NEUTRAL ? confidence * NEUTRAL_WEIGHT_DAMPING : confidence;
+    }
+
+    /**
+     * Returns the stored priority score when it was produced by the current rules, computing it
+     * otherwise.
+     */
+    int resolvePriorityScore(NewsEvent event) {
+        PriorityScore stored = event.priority();
+        if (stored != null && stored.rulesVersion() == PRIORITY_RULES_VERSION) {
+            return stored.score();
+        }
+        return calculatePriorityScore(event);
+    }
+
     int calculatePriorityScore(NewsEvent event) {
+        return scorePriority(event, null).score();
+    }
+
+    PriorityScore scorePriority(NewsEvent event, Instant scoredAt) {
         String title = normalize(event.title());
         String summary = normalize(event.summary());
         String source = normalize(event.source());
-        String combined = combineText(title, summary);
         String domain = normalize(extractDomain(event.url()));
 
-        int score = 0;
+        KeywordAutomaton automaton = SCORING_KEYWORDS.automaton();
+        Set<String> titleHits = automaton.findAll(title);
+        Set<String> summaryHits = automaton.findAll(summary);
+        Set<String> sourceHits = automaton.findAll(source);
+        Set<String> combinedHits = automaton.findAll(combineText(title, summary));
+
+        Map<String, Integer> breakdown = new LinkedHashMap<>();
         for (KeywordWeightRule rule : PRIORITY_WEIGHT_RULES) {
-            score += scoreKeywords(title, rule.titleWeight(), rule.keywords());
-            score += scoreKeywords(summary, rule.summaryWeight(), rule.keywords());
-            score += scoreKeywords(source, rule.sourceWeight(), rule.keywords());
+            addContribution(breakdown, rule.name(), scoreRule(rule, titleHits, summaryHits, sourceHits));
         }
 
-        if (containsKeyword(title, "korea")
-                && containsAnyKeyword(title, "semiconductor", "chip", "memory", "samsung", "sk hynix")) {
-            score += 5;
+        if (titleHits.contains(KOREA_TERM) && containsAnyKeyword(titleHits, KOREA_INDUSTRY_TERMS)) {
+            addContribution(breakdown, "korea-industry-title", 5);
         }
-        if (containsKeyword(summary, "korea")
-                && containsAnyKeyword(summary, "trade", "export", "china", "u.s.", "united states", "tariff")) {
-            score += 4;
+        if (summaryHits.contains(KOREA_TERM) && containsAnyKeyword(summaryHits, KOREA_TRADE_TERMS)) {
+            addContribution(breakdown, "korea-trade-summary", 4);
         }
-        if (containsAnyKeyword(title, "kospi", "krw", "won")) {
-            score += 6;
+        if (containsAnyKeyword(titleHits, KOREA_MARKET_TERMS)) {
+            addContribution(breakdown, "korea-market-title", 6);
         }
-        if (containsAnyKeyword(combined, "fed", "fomc", "ecb", "boj", "bok", "central bank")
-                && containsAnyKeyword(combined, "interest rate", "rate decision", "cpi", "inflation", "employment",
-                "jobs", "payroll", "gdp")) {
-            score += 8;
+        if (containsAnyKeyword(combinedHits, CENTRAL_BANK_TERMS) && containsAnyKeyword(combinedHits, MACRO_DATA_TERMS)) {
+            addContribution(breakdown, "central-bank-data", 8);
         }
-        if (containsAnyKeyword(combined, "treasury", "treasury yield", "bond yield", "fx", "exchange rate", "usd",
-                "dollar", "yen")
-                && containsAnyKeyword(combined, "fed", "fomc", "cpi", "inflation", "rate decision")) {
-            score += 6;
+        if (containsAnyKeyword(combinedHits, RATES_FX_TERMS) && containsAnyKeyword(combinedHits, POLICY_TRIGGER_TERMS)) {
+            addContribution(breakdown, "rates-fx-policy", 6);
         }
-        if (containsAnyKeyword(combined, "oil", "crude", "brent", "wti", "commodity", "commodities")
-                && containsAnyKeyword(combined, "inflation", "cpi", "ppi")) {
-            score += 5;
+        if (containsAnyKeyword(combinedHits, COMMODITY_TERMS) && containsAnyKeyword(combinedHits, PRICE_DATA_TERMS)) {
+            addContribution(breakdown, "commodity-inflation", 5);
         }
-        if (containsAnyKeyword(combined, "tariff", "trade", "sanctions")
-                && containsAnyKeyword(combined, "china", "u.s.", "united states", "korea")) {
-            score += 4;
+        if (containsAnyKeyword(combinedHits, TRADE_ACTION_TERMS)
+                && containsAnyKeyword(combinedHits, TRADE_COUNTERPARTY_TERMS)) {
+            addContribution(breakdown, "trade-counterparty", 4);
         }
 
-        score += calculateSourceReliabilityWeight(source, domain);
-        score -= calculateNoiseDemotion(title, summary, source, combined, score);
-        return score;
+        addContribution(breakdown, "source-reliability", calculateSourceReliabilityWeight(source, domain));
+        int score = breakdown.values().stream().mapToInt(Integer::intValue).sum();
+        addContribution(breakdown, "noise-demotion",
+                -calculateNoiseDemotion(titleHits, summaryHits, sourceHits, combinedHits, score));
+        return new PriorityScore(
+                breakdown.values().stream().mapToInt(Integer::intValue).sum(),
+                PRIORITY_RULES_VERSION,
+                breakdown,
+                scoredAt);
     }
 
     private AggregatedDirection resolveDominantDirection(
             MacroVariable variable,
-            Map<ImpactDirection, Double> weightedScores,
+            double up,
+            double down,
+            double neutral,
             int sampleCount
     ) {
-        double up = weightedScores.getOrDefault(ImpactDirection.UP, 0d);
-        double down = weightedScores.getOrDefault(ImpactDirection.DOWN, 0d);
-        double neutral = weightedScores.getOrDefault(ImpactDirection.NEUTRAL, 0d);
         double directionalMax = Math.max(up, down);
         double directionalMin = Math.min(up, down);
         double total = up + down + neutral;
@@ -213,11 +300,6 @@ class NewsScoringPolicy {
         );
     }
 
-    private double resolveImpactWeight(MacroImpact impact) {
-        double confidence = normalizeConfidence(impact.confidence());
-        return impact.direction() == ImpactDirection.NEUTRAL ? confidence * NEUTRAL_WEIGHT_DAMPING : confidence;
-    }
-
     private Double calculateConfidence(double winner, double runnerUp, double total) {
         if (total <= 0d) {
             return null;
@@ -241,63 +323,84 @@ class NewsScoringPolicy {
 
     private int calculateSourceReliabilityWeight(String source, String domain) {
         int weight = 0;
-        if (containsAnyKeyword(source, TRUSTED_SOURCE_KEYWORDS.keywords().toArray(String[]::new))) {
+        if (TRUSTED_SOURCE_KEYWORDS.automaton().matchesAny(source)) {
             weight += 3;
         }
-        if (containsAnyKeyword(domain, TRUSTED_DOMAIN_KEYWORDS.keywords().toArray(String[]::new))) {
+        if (TRUSTED_DOMAIN_KEYWORDS.automaton().matchesAny(domain)) {
             weight += 2;
         }
         return Math.min(weight, 4);
     }
 
-    private int calculateNoiseDemotion(String title, String summary, String source, String combined, int currentScore) {
+    private int calculateNoiseDemotion(Set<String> titleHits, Set<String> summaryHits, Set<String> sourceHits,
+            Set<String> combinedHits, int currentScore) {
         int demotion = 0;
         for (KeywordWeightRule rule : NOISE_DEMOTION_RULES) {
-            demotion += scoreKeywords(title, rule.titleWeight(), rule.keywords());
-            demotion += scoreKeywords(summary, rule.summaryWeight(), rule.keywords());
-            demotion += scoreKeywords(source, rule.sourceWeight(), rule.keywords());
+            demotion += scoreRule(rule, titleHits, summaryHits, sourceHits);
         }
 
         if (demotion == 0) {
             return 0;
         }
-        if (currentScore >= 20 || containsStrongMarketSignal(combined)) {
+        if (currentScore >= 20 || containsAnyKeyword(combinedHits, STRONG_MARKET_SIGNAL_TERMS)) {
             return Math.max(1, demotion / 2);
         }
         return demotion;
     }
 
-    private boolean containsStrongMarketSignal(String text) {
-        return containsAnyKeyword(text,
-                "fed", "fomc", "ecb", "boj", "bok", "central bank", "interest rate", "rate decision", "cpi",
-                "inflation", "employment", "payroll", "gdp", "recession", "treasury", "bond yield", "fx",
-                "exchange rate", "oil", "crude", "tariff", "trade", "sanctions");
+    private int scoreRule(KeywordWeightRule rule, Set<String> titleHits, Set<String> summaryHits,
+            Set<String> sourceHits) {
+        return scoreKeywords(titleHits, rule.titleWeight(), rule.keywords())
+                + scoreKeywords(summaryHits, rule.summaryWeight(), rule.keywords())
+                + scoreKeywords(sourceHits, rule.sourceWeight(), rule.keywords());
+    }
+
+    private void addContribution(Map<String, Integer> breakdown, String rule, int contribution) {
+        if (contribution != 0) {
+            breakdown.merge(rule, contribution, Integer::sum);
+        }
     }
 
-    private int scoreKeywords(String text, int weight, String... keywords) {
-        if (!StringUtils.hasText(text)) {
+    private int scoreKeywords(Set<String> hits, int weight, String... keywords) {
+        if (hits.isEmpty()) {
             return 0;
         }
         int score = 0;
         for (String keyword : keywords) {
-            if (containsKeyword(text, keyword)) {
+            if (hits.contains(keyword)) {
                 score += weight;
             }
         }
         return score;
     }
 
-    private boolean containsAnyKeyword(String text, String... keywords) {
+    private boolean containsAnyKeyword(Set<String> hits, String... keywords) {
+        if (hits.isEmpty()) {
+            return false;
+        }
         for (String keyword : keywords) {
-            if (containsKeyword(text, keyword)) {
+            if (hits.contains(keyword)) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean containsKeyword(String text, String keyword) {
-        return KeywordMatcher.matches(text, keyword);
+    private static List<String> collectScoringKeywords() {
+        Set<String> keywords = new LinkedHashSet<>();
+        for (KeywordWeightRule rule : PRIORITY_WEIGHT_RULES) {
+            keywords.addAll(List.of(rule.keywords()));
+        }
+        for (KeywordWeightRule rule : NOISE_DEMOTION_RULES) {
+            keywords.addAll(List.of(rule.keywords()));
+        }
+        keywords.add(KOREA_TERM);
+        for (String[] terms : List.of(KOREA_INDUSTRY_TERMS, KOREA_TRADE_TERMS, KOREA_MARKET_TERMS, CENTRAL_BANK_TERMS,
+                MACRO_DATA_TERMS, RATES_FX_TERMS, POLICY_TRIGGER_TERMS, COMMODITY_TERMS, PRICE_DATA_TERMS,
+                TRADE_ACTION_TERMS, TRADE_COUNTERPARTY_TERMS, STRONG_MARKET_SIGNAL_TERMS)) {
+            keywords.addAll(List.of(terms));
+        }
+        return List.copyOf(keywords);
     }
 
     private String normalize(String value) {
@@ -322,7 +425,7 @@ class NewsScoringPolicy {
         }
     }
 
-    private record KeywordWeightRule(int titleWeight, int summaryWeight, int sourceWeight, String... keywords) {
+    private record KeywordWeightRule(String name, int titleWeight, int summaryWeight, int sourceWeight, String... keywords) {
     }
 
     private record AggregatedDirection(ImpactDirection direction, Double confidence, ConfidenceBreakdown confidenceBreakdown) {
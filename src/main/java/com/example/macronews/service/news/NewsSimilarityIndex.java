@@ -0,0 +1,145 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import org.springframework.util.StringUtils;
+
+/**
+ * SimHash index over the title and summary of news events, used to cluster syndicated copies of one story.
+ *
+ * <p>Each event is reduced to a 64-bit SimHash of its character trigram shingles, so the same wire story
+ * rewritten with a different outlet prefix or a trimmed lead lands a few bits away. Fingerprints are
+ * bucketed by eight 8-bit bands: two fingerprints within {@code maxDistance <= 7} bits always share a band,
+ * so a lookup only compares against the events in its eight buckets. Texts with too few shingles carry no
+ * fingerprint and never cluster, since short generic headlines collide too easily.
+ */
+final class NewsSimilarityIndex {
+
+    static final int MIN_SHINGLES = 12;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 8;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private final int maxDistance;
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+
+    NewsSimilarityIndex(int maxDistance) {
+        this.maxDistance = Math.max(0, Math.min(maxDistance, BANDS - 1));
+    }
+
+    /**
+     * Adds a stored or newly clustered event under its cluster id, or its own id when it has none.
+     */
+    void add(NewsEvent event) {
+        OptionalLong fingerprint = fingerprint(event);
+        if (fingerprint.isEmpty() || !StringUtils.hasText(event.id())) {
+            return;
+        }
+        String clusterId = StringUtils.hasText(event.clusterId()) ? event.clusterId() : event.id();
+        Entry entry = new Entry(fingerprint.getAsLong(), clusterId);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(entry.fingerprint(), band), key -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * Returns the cluster of the nearest indexed event within {@code maxDistance} bits, if any.
+     */
+    Optional<String> findCluster(NewsEvent event) {
+        OptionalLong fingerprint = fingerprint(event);
+        if (fingerprint.isEmpty()) {
+            return Optional.empty();
+        }
+        long value = fingerprint.getAsLong();
+        Entry nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int band = 0; band < BANDS; band++) {
+            for (Entry candidate : buckets.getOrDefault(bucketKey(value, band), List.of())) {
+                int distance = Long.bitCount(candidate.fingerprint() ^ value);
+                if (distance <= maxDistance && distance < nearestDistance) {
+                    nearest = candidate;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearest == null ? Optional.empty() : Optional.of(nearest.clusterId());
+    }
+
+    static OptionalLong fingerprint(NewsEvent event) {
+        if (event == null) {
+            return OptionalLong.empty();
+        }
+        Set<String> shingles = shingles(normalize(event.title()) + " " + normalize(event.summary()));
+        if (shingles.size() < MIN_SHINGLES) {
+            return OptionalLong.empty();
+        }
+        int[] weights = new int[Long.SIZE];
+        for (String shingle : shingles) {
+            long hash = hash(shingle);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return OptionalLong.of(fingerprint);
+    }
+
+    // Lower-case letters and digits only, so punctuation, brackets and spacing differences between
+    // outlets do not move the fingerprint; Hangul counts as letters.
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static Set<String> shingles(String text) {
+        String compact = text.trim();
+        Set<String> shingles = new LinkedHashSet<>();
+        for (int i = 0; i + SHINGLE_LENGTH <= compact.length(); i++) {
+            shingles.add(compact.substring(i, i + SHINGLE_LENGTH));
+        }
+        return shingles;
+    }
+
+    private static long bucketKey(long fingerprint, int band) {
+        long bandValue = (fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+        return ((long) band << BAND_BITS) | bandValue;
+    }
+
+    // 64-bit FNV-1a finished with the MurmurHash3 mixer so nearby shingles spread over all bits.
+    private static long hash(String shingle) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : shingle.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Entry(long fingerprint, String clusterId) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.macronews.service.news;
+
+import com.example.macronews.domain.NewsEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * In-memory Bloom filter over the external ids of stored news events, consulted before the external id
+ * lookup of {@link NewsIngestionServiceImpl}.
+ *
+ * <p>A negative answer is definite for what this instance has seen, so the caller may skip the Mongo lookup
+ * for that id; a positive answer only means "maybe seen" and must fall through to the exact check. Until
+ * the filter has been warmed from {@code news_events}, or while it is disabled, every id answers "maybe
+ * seen", which keeps the exact path. Another instance may store an id this filter has not seen, which is
+ * safe only because {@code externalId} has a unique index that rejects the copy; urls have none, so they
+ * are not kept here and are always checked in Mongo.
+ *
+ * <p>Bloom filters cannot forget keys, so deleted events stay in the filter (costing only an extra exact
+ * lookup) until {@link #rebuild} replaces it; keys recorded while a rebuild runs go into both filters.
+ * The filter publishes {@code news.seen.filter.entries}, {@code news.seen.filter.fpp} (the expected
+ * false-positive rate at the current fill), {@code news.seen.filter.checks} by result and
+ * {@code news.seen.filter.false.positives} (a "maybe seen" the exact check did not find).
+ */
+@Slf4j
+@Component
+public class SeenArticleFilter {
+
+    static final String ENTRIES_METRIC = "news.seen.filter.entries";
+    static final String FPP_METRIC = "news.seen.filter.fpp";
+    static final String CHECKS_METRIC = "news.seen.filter.checks";
+    static final String FALSE_POSITIVES_METRIC = "news.seen.filter.false.positives";
+
+    private static final int DEFAULT_EXPECTED_EVENTS = 50_000;
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter active;
+    private BloomFilter rebuilding;
+
+    @Value("${app.news.seen-filter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.news.seen-filter.expected-events:50000}")
+    private int expectedEvents = DEFAULT_EXPECTED_EVENTS;
+
+    @Value("${app.news.seen-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+
+    public SeenArticleFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Registered once construction has finished, so the gauges never see a partly built filter.
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder(ENTRIES_METRIC, this, filter -> filter.snapshot().entries())
+                .description("Keys recorded in the seen-article Bloom filter")
+                .register(meterRegistry);
+        Gauge.builder(FPP_METRIC, this, filter -> filter.snapshot().expectedFalsePositiveRate())
+                .description("Expected false-positive rate of the seen-article Bloom filter at its current fill")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && active != null;
+    }
+
+    public boolean mightContainExternalId(String externalId) {
+        return mightContain(externalIdKey(externalId));
+    }
+
+    /**
+     * Counts a "maybe seen" answer that the exact lookup then failed to find.
+     */
+    public void recordFalsePositive() {
+        if (isReady()) {
+            meterRegistry.counter(FALSE_POSITIVES_METRIC).increment();
+        }
+    }
+
+    public void record(NewsEvent event) {
+        if (event == null || !enabled) {
+            return;
+        }
+        String externalIdKey = externalIdKey(event.externalId());
+        synchronized (this) {
+            add(active, externalIdKey);
+            add(rebuilding, externalIdKey);
+        }
+    }
+
+    public void recordAll(Collection<NewsEvent> events) {
+        if (events != null) {
+            events.forEach(this::record);
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from {@code events}, normally every stored event projected to its
+     * external id. A failed rebuild keeps the previous filter, which is still a superset.
+     *
+     * @return the number of events loaded, or {@code -1} when the filter is disabled or the rebuild failed
+     */
+    public int rebuild(Stream<NewsEvent> events) {
+        if (!enabled) {
+            return -1;
+        }
+        BloomFilter next = BloomFilter.create(resolveExpectedKeys(), resolveFalsePositiveRate());
+        synchronized (this) {
+            rebuilding = next;
+        }
+        int loaded = 0;
+        try {
+            for (NewsEvent event : (Iterable<NewsEvent>) events::iterator) {
+                add(next, externalIdKey(event.externalId()));
+                loaded++;
+            }
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            log.warn("[SEEN-FILTER] rebuild failed loaded={} reason={}", loaded, ex.getMessage());
+            return -1;
+        }
+        synchronized (this) {
+            active = next;
+            rebuilding = null;
+        }
+        FilterSnapshot snapshot = snapshot();
+        log.info("[SEEN-FILTER] rebuilt events={} entries={} bits={} hashes={} expectedFpp={}",
+                loaded, snapshot.entries(), snapshot.bits(), snapshot.hashes(),
+                String.format(Locale.ROOT, "%.5f", snapshot.expectedFalsePositiveRate()));
+        return loaded;
+    }
+
+    public FilterSnapshot snapshot() {
+        BloomFilter current = active;
+        return current == null ? new FilterSnapshot(0, 0, 0, 0.0) : current.snapshot();
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = enabled ? active : null;
+        if (current == null || key == null) {
+            return true;
+        }
+        boolean maybe = current.mightContain(key);
+        meterRegistry.counter(CHECKS_METRIC, "result", maybe ? "maybe" : "absent").increment();
+        return maybe;
+    }
+
+    private void add(BloomFilter filter, String externalIdKey) {
+        if (filter != null && externalIdKey != null) {
+            filter.put(externalIdKey);
+        }
+    }
+
+    private long resolveExpectedKeys() {
+        return expectedEvents > 0 ? expectedEvents : DEFAULT_EXPECTED_EVENTS;
+    }
+
+    private double resolveFalsePositiveRate() {
+        return falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : DEFAULT_FALSE_POSITIVE_RATE;
+    }
+
+    private static String externalIdKey(String externalId) {
+        return StringUtils.hasText(externalId) ? "id:" + externalId.trim() : null;
+    }
+
+    public record FilterSnapshot(long entries, long bits, int hashes, double expectedFalsePositiveRate) {
+    }
+
+    /**
+     * Fixed-size Bloom filter using double hashing over two 64-bit hashes of the key's UTF-8 bytes.
+     */
+    static final class BloomFilter {
+
+        private final long[] words;
+        private final long bitCount;
+        private final int hashes;
+        private long setBits;
+        private long entries;
+
+        private BloomFilter(long bitCount, int hashes) {
+            this.bitCount = bitCount;
+            this.hashes = hashes;
+            this.words = new long[(int) ((bitCount + 63) / 64)];
+        }
+
+        // m = -n ln p / (ln 2)^2 and k = (m / n) ln 2 give the smallest filter for n keys at rate p.
+        static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+            int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+            return new BloomFilter(bits, hashes);
+        }
+
+        synchronized boolean mightContain(String key) {
+            long[] hash = hash(key);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash[0] + i * hash[1], bitCount);
+                if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized void put(String key) {
+            long[] hash = hash(key);
+            boolean changed = false;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash[0] + i * hash[1], bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words[word] & mask) == 0) {
+                    words[word] |= mask;
+                    setBits++;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                entries++;
+            }
+        }
+
+        synchronized FilterSnapshot snapshot() {
+            double fill = (double) setBits / bitCount;
+            return new FilterSnapshot(entries, bitCount, hashes, Math.pow(fill, hashes));
+        }
+
+        private static long[] hash(String key) {
+            // 64-bit FNV-1a, then two MurmurHash3 finalizer passes to derive independent-enough hashes.
+            long fnv = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                fnv ^= b & 0xff;
+                fnv *= 0x100000001b3L;
+            }
+            return new long[] {mix(fnv), mix(fnv ^ 0x9e3779b97f4a7c15L) | 1L};
+        }
+
+        private static long mix(long value) {
+            long h = value;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
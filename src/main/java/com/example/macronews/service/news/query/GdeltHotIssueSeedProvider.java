@@ -1,17 +1,21 @@
 package com.example.macronews.service.news.query;
 
 import com.example.macronews.dto.request.ExternalApiRequest;
-import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.util.ExternalApiStreamResult;
 import com.example.macronews.util.ExternalApiUtils;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.macronews.util.SingleFlight;
+import com.example.macronews.util.external.ExternalJsonStreams;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.convert.DurationStyle;
@@ -41,14 +45,15 @@ import org.springframework.web.util.UriComponentsBuilder;
  *   <li>a malformed/empty body arms a short {@code cache.fallback-ttl} window so the same cycle does
  *       not re-enter the remote call;
  *   <li>during any active window the remote call is skipped and the safe fallback (or still-valid
- *       cached remote seeds) is returned.
+ *       cached remote seeds) is returned;
+ *   <li>only one caller at a time calls the upstream through a {@link SingleFlight}: while it does, callers
+ *       holding earlier remote seeds get those, and the rest wait for its result instead of calling again.
  * </ul>
  *
  * <p>Logging is restricted to counts, booleans, status codes and the resolution reason to avoid
  * leaking upstream content or request details.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class GdeltHotIssueSeedProvider {
 
@@ -73,6 +78,8 @@ public class GdeltHotIssueSeedProvider {
     private static final String REASON_RATE_LIMIT_COOLDOWN = "rate-limit-cooldown";
     private static final String REASON_UPSTREAM_COOLDOWN = "upstream-cooldown";
     private static final String REASON_FALLBACK_CACHED = "fallback-cached";
+    private static final String REASON_REFRESHING = "refreshing";
+    private static final String REASON_SHORT_CIRCUITED = "short-circuited";
 
     // Deterministic local seeds used whenever the remote endpoint is disabled, fails, times out, or
     // returns a malformed/empty payload. Ordering is stable so fallback output is reproducible. Each
@@ -93,7 +100,7 @@ public class GdeltHotIssueSeedProvider {
     );
 
     private final ExternalApiUtils externalApiUtils;
-    private final ObjectMapper objectMapper;
+    private final SingleFlight remoteFetch;
 
     // Single immutable snapshot swapped atomically; reads/writes are simple, so last-write-wins under
     // concurrent ingestion is acceptable and keeps the locking footprint minimal.
@@ -134,6 +141,11 @@ public class GdeltHotIssueSeedProvider {
     @Value("${app.news.gdelt.cooldown.upstream-failure:15m}")
     private String upstreamFailureCooldown = "15m";
 
+    public GdeltHotIssueSeedProvider(ExternalApiUtils externalApiUtils, MeterRegistry meterRegistry) {
+        this.externalApiUtils = externalApiUtils;
+        this.remoteFetch = new SingleFlight("gdelt-hot-issue-seeds", meterRegistry);
+    }
+
     /**
      * Backward-compatible entry point that returns only the resolved seed phrases. Prefer
      * {@link #resolveHotIssueSeedResult(int)} when the caller needs to know whether the seeds are a
@@ -161,6 +173,27 @@ public class GdeltHotIssueSeedProvider {
             return fallbackResult(resolvedLimit, HotIssueSeedOrigin.NOT_CONFIGURED, "not-configured", -1, now);
         }
 
+        HotIssueSeedResult cached = resolveWithoutCall(resolvedLimit, now);
+        if (cached != null) {
+            return cached;
+        }
+        SeedCacheState state = cacheState.get();
+        if (state.hasStoredRemote()) {
+            // Another caller is already fetching: keep serving the earlier remote seeds rather than wait.
+            return remoteFetch.tryRun(() -> fetchUnlessResolved(resolvedLimit, now), HotIssueSeedResult::usedFallback)
+                    .orElseGet(() -> remoteResult(state.remoteSeeds(), resolvedLimit, HotIssueSeedOrigin.CACHED_REMOTE,
+                            REASON_REFRESHING + "-cached-remote", -1, state.remoteSeedsFetchedAt()));
+        }
+        return remoteFetch.run(() -> fetchUnlessResolved(resolvedLimit, now), HotIssueSeedResult::usedFallback);
+    }
+
+    // Callers that waited for the flight before them find its result (or its cooldown) in the state.
+    private HotIssueSeedResult fetchUnlessResolved(int resolvedLimit, Instant now) {
+        HotIssueSeedResult cached = resolveWithoutCall(resolvedLimit, now);
+        return cached != null ? cached : fetchRemote(resolvedLimit, now);
+    }
+
+    private HotIssueSeedResult resolveWithoutCall(int resolvedLimit, Instant now) {
         SeedCacheState state = cacheState.get();
         boolean skipActive = state.skipActive(now);
 
@@ -182,20 +215,34 @@ public class GdeltHotIssueSeedProvider {
             }
             return fallbackResult(resolvedLimit, cooldownOrigin(state.skipReason()), state.skipReason(), -1, now);
         }
+        return null;
+    }
 
-        ExternalApiResult result = externalApiUtils.callAPI(new ExternalApiRequest(
+    private HotIssueSeedResult fetchRemote(int resolvedLimit, Instant now) {
+        int candidateCap = candidateCap(resolvedLimit);
+        ExternalApiStreamResult<SeedParseResult> result = externalApiUtils.callAPIStreaming(new ExternalApiRequest(
                 HttpMethod.GET,
                 new HttpHeaders(),
                 buildRequestUrl(resolvedLimit),
                 null
-        ));
+        ), parser -> parseSeeds(parser, candidateCap));
         int statusCode = result == null ? -1 : result.statusCode();
-        boolean httpOk = result != null && statusCode >= 200 && statusCode < 300;
+        boolean httpOk = result != null && result.isSuccessful() && result.value() != null;
         if (!httpOk) {
+            if (result != null && result.shortCircuited()) {
+                // The local limiter or circuit breaker answered without reaching GDELT: it already paces
+                // the next call, so no cooldown is armed. Prior remote seeds beat synthetic ones.
+                SeedCacheState state = cacheState.get();
+                if (state.hasStoredRemote()) {
+                    return remoteResult(state.remoteSeeds(), resolvedLimit, HotIssueSeedOrigin.CACHED_REMOTE,
+                            REASON_SHORT_CIRCUITED + "-cached-remote", statusCode, state.remoteSeedsFetchedAt());
+                }
+                return fallbackResult(resolvedLimit, HotIssueSeedOrigin.FALLBACK, REASON_SHORT_CIRCUITED, statusCode, now);
+            }
             if (statusCode == HTTP_TOO_MANY_REQUESTS) {
                 // Distinct rate-limit classification: GDELT is protecting its cluster, so back off for
                 // a conservative default window. Retry-After is not honoured because the shared
-                // ExternalApiResult abstraction exposes only status + body, never response headers.
+                // external API result exposes only status + body, never response headers.
                 armCooldown(now, resolveDuration(rateLimitCooldown, DEFAULT_RATE_LIMIT_COOLDOWN),
                         REASON_RATE_LIMIT_COOLDOWN);
                 return fallbackResult(resolvedLimit, HotIssueSeedOrigin.RATE_LIMIT_COOLDOWN, "rate-limited", statusCode, now);
@@ -207,7 +254,7 @@ public class GdeltHotIssueSeedProvider {
             return fallbackResult(resolvedLimit, HotIssueSeedOrigin.UPSTREAM_FAILURE_COOLDOWN, "upstream-unavailable", statusCode, now);
         }
 
-        SeedParseResult parsed = parseSeeds(result.body(), candidateCap(resolvedLimit));
+        SeedParseResult parsed = result.value();
         if (parsed.seeds().isEmpty()) {
             // Distinguish a GDELT 200 plain-text/HTML error body (malformed-body) from a valid but
             // empty result (no-articles) and from articles whose titles are unusable (no-usable-title),
@@ -287,27 +334,36 @@ public class GdeltHotIssueSeedProvider {
         return Math.max(cap, limit);
     }
 
-    private SeedParseResult parseSeeds(String body, int candidateCap) {
-        if (!StringUtils.hasText(body) || !looksLikeJsonObject(body)) {
+    private SeedParseResult parseSeeds(JsonParser parser, int candidateCap) {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                // Empty body or a JSON value that is not an object.
+                return new SeedParseResult(List.of(), SeedParseStatus.MALFORMED_BODY);
+            }
+        } catch (JsonParseException ex) {
             // GDELT frequently answers a rejected or too-broad query with HTTP 200 and a plain-text or
             // HTML error body instead of JSON; classify a non-JSON body as malformed without logging it.
             return new SeedParseResult(List.of(), SeedParseStatus.MALFORMED_BODY);
+        } catch (IOException ex) {
+            log.warn("[GDELT] failed to read hot-issue response; falling back");
+            return new SeedParseResult(List.of(), SeedParseStatus.MALFORMED_BODY);
         }
         try {
-            JsonNode root = objectMapper.readTree(body);
-            JsonNode articles = root.path("articles");
-            if (!articles.isArray() || articles.isEmpty()) {
+            if (!ExternalJsonStreams.seekArrayField(parser, "articles")) {
                 return new SeedParseResult(List.of(), SeedParseStatus.NO_ARTICLES);
             }
+            int articleCount = 0;
             LinkedHashSet<String> seeds = new LinkedHashSet<>();
-            for (JsonNode article : articles) {
-                String seed = normalizeSeed(article.path("title").asText(""));
+            // Only titles are pulled; once the candidate cap is reached the rest of the body is never read.
+            while (seeds.size() < candidateCap && ExternalJsonStreams.nextElement(parser)) {
+                articleCount++;
+                String seed = normalizeSeed(readTitle(parser));
                 if (seed != null) {
                     seeds.add(seed);
                 }
-                if (seeds.size() >= candidateCap) {
-                    break;
-                }
+            }
+            if (articleCount == 0) {
+                return new SeedParseResult(List.of(), SeedParseStatus.NO_ARTICLES);
             }
             if (seeds.isEmpty()) {
                 // Valid JSON with articles, but no article carried a usable title.
@@ -321,9 +377,21 @@ public class GdeltHotIssueSeedProvider {
         }
     }
 
-    private boolean looksLikeJsonObject(String body) {
-        String trimmed = body.stripLeading();
-        return !trimmed.isEmpty() && trimmed.charAt(0) == '{';
+    private String readTitle(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return "";
+        }
+        String title = "";
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            if ("title".equals(field)) {
+                title = ExternalJsonStreams.readText(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return title;
     }
 
     private String normalizeSeed(String rawTitle) {
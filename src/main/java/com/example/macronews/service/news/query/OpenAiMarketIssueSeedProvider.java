@@ -5,8 +5,10 @@ import com.example.macronews.dto.request.ExternalApiRequest;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
+import com.example.macronews.util.SingleFlight;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -19,7 +21,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.convert.DurationStyle;
@@ -42,6 +43,8 @@ import org.springframework.util.StringUtils;
  *   <li>a successful result is cached for {@code success-ttl} and served without another call;
  *   <li>a failure arms a {@code failure-cooldown} window during which no call is made;
  *   <li>a per-day call budget caps the number of live calls;
+ *   <li>only one caller at a time makes the call, through a {@link SingleFlight}; callers holding an earlier
+ *       success get it meanwhile, and the rest wait for the call's outcome instead of making their own;
  *   <li>seeds without evidence, below the confidence threshold, or carrying OR-syntax / advice-like
  *       queries are dropped; queries are normalized, de-duplicated and capped;
  *   <li>any failure degrades quietly so a caller can fall back without an exception.
@@ -53,7 +56,6 @@ import org.springframework.util.StringUtils;
  * logged — only counts and short reason labels.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OpenAiMarketIssueSeedProvider {
 
@@ -88,6 +90,7 @@ public class OpenAiMarketIssueSeedProvider {
     private final ExternalApiUtils externalApiUtils;
     private final ObjectMapper objectMapper;
     private final OpenAiUsageLoggingService openAiUsageLoggingService;
+    private final SingleFlight searchFlight;
 
     private final AtomicReference<SeedSnapshotState> state =
             new AtomicReference<>(SeedSnapshotState.empty());
@@ -125,6 +128,14 @@ public class OpenAiMarketIssueSeedProvider {
     @Value("${app.news.openai-seed.daily-call-limit:24}")
     private int dailyCallLimit;
 
+    public OpenAiMarketIssueSeedProvider(ExternalApiUtils externalApiUtils, ObjectMapper objectMapper,
+            OpenAiUsageLoggingService openAiUsageLoggingService, MeterRegistry meterRegistry) {
+        this.externalApiUtils = externalApiUtils;
+        this.objectMapper = objectMapper;
+        this.openAiUsageLoggingService = openAiUsageLoggingService;
+        this.searchFlight = new SingleFlight("openai-market-issue-seeds", meterRegistry);
+    }
+
     /**
      * Resolves Korea-market issue seeds, preferring a cached snapshot and never throwing. The returned
      * result is dynamic only for {@link MarketIssueSeedOrigin#OPENAI_WEB_SEARCH}/
@@ -140,23 +151,49 @@ public class OpenAiMarketIssueSeedProvider {
             return logged(MarketIssueSeedResult.disabled("not-configured", now), now);
         }
 
+        MarketIssueSeedResult resolved = resolveWithoutCall(now);
+        if (resolved != null) {
+            return logged(resolved, now);
+        }
+        SeedSnapshotState current = state.get();
+        if (current.hasCachedSuccess()) {
+            // Another caller is already searching: keep serving the earlier success rather than wait.
+            return logged(searchFlight.tryRun(() -> callUnlessResolved(now), result -> !result.isDynamic())
+                    .orElseGet(() -> MarketIssueSeedResult.cached(current.cachedQueries(), current.cachedSeeds(),
+                            current.cachedAt())), now);
+        }
+        return logged(searchFlight.run(() -> callUnlessResolved(now), result -> !result.isDynamic()), now);
+    }
+
+    // Callers that waited for the call before them find its outcome (or its cooldown) in the state.
+    private MarketIssueSeedResult callUnlessResolved(Instant now) {
+        MarketIssueSeedResult resolved = resolveWithoutCall(now);
+        return resolved != null ? resolved : callWebSearch(now);
+    }
+
+    private MarketIssueSeedResult resolveWithoutCall(Instant now) {
         SeedSnapshotState current = state.get();
         if (current.successValid(now)) {
-            return logged(MarketIssueSeedResult.cached(current.cachedQueries(), current.cachedSeeds(),
-                    current.cachedAt()), now);
+            return MarketIssueSeedResult.cached(current.cachedQueries(), current.cachedSeeds(),
+                    current.cachedAt());
         }
         if (current.cooldownActive(now)) {
-            return logged(current.hasCachedSuccess()
+            return current.hasCachedSuccess()
                     ? MarketIssueSeedResult.cached(current.cachedQueries(), current.cachedSeeds(), current.cachedAt())
-                    : MarketIssueSeedResult.cooldown("failure-cooldown", now), now);
+                    : MarketIssueSeedResult.cooldown("failure-cooldown", now);
         }
 
         LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
         if (resolvedDailyLimit() > 0 && current.usedToday(today) >= resolvedDailyLimit()) {
-            return logged(current.hasCachedSuccess()
+            return current.hasCachedSuccess()
                     ? MarketIssueSeedResult.cached(current.cachedQueries(), current.cachedSeeds(), current.cachedAt())
-                    : MarketIssueSeedResult.cooldown("daily-limit", now), now);
+                    : MarketIssueSeedResult.cooldown("daily-limit", now);
         }
+        return null;
+    }
+
+    private MarketIssueSeedResult callWebSearch(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
 
         // Count the call before issuing it so a thrown/failed call still consumes the daily budget.
         state.updateAndGet(prev -> prev.withCallOn(today));
@@ -168,13 +205,13 @@ public class OpenAiMarketIssueSeedProvider {
         } catch (Exception ex) {
             log.warn("[OPENAI-SEED] web-search call failed exceptionally");
             state.updateAndGet(prev -> prev.withCooldown(now.plus(resolvedFailureCooldown())));
-            return logged(MarketIssueSeedResult.failed("call-exception", now), now);
+            return MarketIssueSeedResult.failed("call-exception", now);
         }
 
         int status = apiResult == null ? -1 : apiResult.statusCode();
         if (apiResult == null || status < 200 || status >= 300) {
             state.updateAndGet(prev -> prev.withCooldown(now.plus(resolvedFailureCooldown())));
-            return logged(MarketIssueSeedResult.failed("upstream-status-" + status, now), now);
+            return MarketIssueSeedResult.failed("upstream-status-" + status, now);
         }
 
         // Tokens were consumed on this 2xx call regardless of whether seeds parse; record usage best
@@ -185,12 +222,12 @@ public class OpenAiMarketIssueSeedProvider {
         List<String> naverQueries = flattenQueries(seeds);
         if (seeds.isEmpty() || naverQueries.isEmpty()) {
             state.updateAndGet(prev -> prev.withCooldown(now.plus(resolvedFailureCooldown())));
-            return logged(MarketIssueSeedResult.failed("no-usable-seeds", now), now);
+            return MarketIssueSeedResult.failed("no-usable-seeds", now);
         }
 
         MarketIssueSeedResult success = MarketIssueSeedResult.webSearch(naverQueries, seeds, now);
         state.updateAndGet(prev -> prev.withSuccess(naverQueries, seeds, now, now.plus(resolvedSuccessTtl())));
-        return logged(success, now);
+        return success;
     }
 
     private HttpHeaders buildHeaders() {
@@ -0,0 +1,72 @@
+package com.example.macronews.service.news.source;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs a blocking upstream call on a scheduler and interrupts its worker thread when the subscriber
+ * cancels, so an unneeded call is aborted instead of running to completion. Not every scheduler
+ * interrupts on dispose (executor-backed virtual-thread schedulers do not), hence the explicit slot.
+ */
+final class CancellableBlockingCall {
+
+    private Thread worker;
+    private boolean cancelled;
+
+    private CancellableBlockingCall() {
+    }
+
+    /**
+     * Wraps {@code call}. A call cancelled before it starts, or failing because it was interrupted by
+     * a cancel, yields {@code cancelledValue}, which the cancelled subscriber never sees.
+     */
+    static <T> Mono<T> mono(Callable<T> call, Supplier<T> cancelledValue, Scheduler scheduler) {
+        return Mono.defer(() -> {
+            CancellableBlockingCall slot = new CancellableBlockingCall();
+            return Mono.fromCallable(() -> {
+                        if (!slot.enter()) {
+                            return cancelledValue.get();
+                        }
+                        try {
+                            return call.call();
+                        } catch (Exception ex) {
+                            if (slot.isCancelled()) {
+                                return cancelledValue.get();
+                            }
+                            throw ex;
+                        } finally {
+                            slot.exit();
+                        }
+                    })
+                    .subscribeOn(scheduler)
+                    .doOnCancel(slot::cancel);
+        });
+    }
+
+    private synchronized boolean enter() {
+        if (cancelled) {
+            return false;
+        }
+        worker = Thread.currentThread();
+        return true;
+    }
+
+    private synchronized void exit() {
+        worker = null;
+        // Clear an interrupt aimed at this call so it never leaks into the worker's next task.
+        Thread.interrupted();
+    }
+
+    private synchronized void cancel() {
+        cancelled = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private synchronized boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -6,6 +6,7 @@ import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.example.macronews.util.external.ExternalResponseTextNormalizer;
 import com.example.macronews.util.external.ExternalResponseValueParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Clock;
@@ -40,9 +41,12 @@ public class GNewsSourceProvider implements NewsSourceProvider {
     private static final Pattern OR_SPLITTER = Pattern.compile("(?i)\\s+OR\\s+");
     private static final int MAX_QUERIES = 6;
     private static final int MAX_QUERY_LENGTH = 60;
+    private static final TypeReference<List<ExternalNewsItem>> ARTICLES_TYPE = new TypeReference<>() {
+    };
 
     private final ExternalApiUtils externalApiUtils;
     private final ObjectMapper objectMapper;
+    private final ProviderPageCache providerPageCache;
 
     @Value("${app.news.gnews.enabled:false}")
     private boolean enabled;
@@ -114,6 +118,16 @@ public class GNewsSourceProvider implements NewsSourceProvider {
             attempted++;
             String url = buildSearchUrl(normalizedBaseUrl, candidate, resolvedLimit);
             String sanitizedUrl = sanitizeUrl(url);
+            ProviderPageCache.PageKey pageKey = new ProviderPageCache.PageKey(
+                    sourceCode(), candidate, 1, resolvedLimit, bucket);
+            List<ExternalNewsItem> cachedItems = providerPageCache.get(pageKey, ARTICLES_TYPE).orElse(null);
+            if (cachedItems != null) {
+                anyUpstreamOk = true;
+                if (!cachedItems.isEmpty()) {
+                    return cachedItems;
+                }
+                continue;
+            }
 
             ExternalApiResult result = externalApiUtils.callAPI(new ExternalApiRequest(
                     HttpMethod.GET,
@@ -125,7 +139,8 @@ public class GNewsSourceProvider implements NewsSourceProvider {
             boolean httpOk = result != null && status >= 200 && status < 300;
             if (!httpOk) {
                 if (status == 429) {
-                    log.warn("[GNEWS] provider empty reason=rate-limit bucket={} enabled={} requestFamily={} status={} attemptedQueries={} totalQueries={} configuredBaseUrl={} requestUrl={}",
+                    log.warn("[GNEWS] provider empty reason={} bucket={} enabled={} requestFamily={} status={} attemptedQueries={} totalQueries={} configuredBaseUrl={} requestUrl={}",
+                            result.shortCircuited() ? "short-circuited" : "rate-limit",
                             bucket, enabled, requestFamily, status, attempted, queries.size(), normalizedBaseUrl, sanitizedUrl);
                     return List.of();
                 }
@@ -137,6 +152,7 @@ public class GNewsSourceProvider implements NewsSourceProvider {
 
             anyUpstreamOk = true;
             List<ExternalNewsItem> items = parseArticles(result.body(), resolvedLimit, bucket);
+            providerPageCache.put(pageKey, items);
             if (!items.isEmpty()) {
                 log.info("[GNEWS] resolved usableItems={} bucket={} requestFamily={} queryIndex={} totalQueries={}",
                         items.size(), bucket, requestFamily, attempted, queries.size());
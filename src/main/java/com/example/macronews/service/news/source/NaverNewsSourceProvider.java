@@ -4,12 +4,16 @@ import com.example.macronews.dto.external.ExternalNewsItem;
 import com.example.macronews.dto.request.ExternalApiRequest;
 import com.example.macronews.service.news.query.MarketIssueSeedService;
 import com.example.macronews.service.news.query.ResolvedMarketIssueQueries;
-import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.util.ExternalApiStreamResult;
 import com.example.macronews.util.ExternalApiUtils;
+import com.example.macronews.util.KeywordAutomaton;
+import com.example.macronews.util.external.ExternalJsonStreams;
 import com.example.macronews.util.external.ExternalResponseTextNormalizer;
 import com.example.macronews.util.external.ExternalResponseValueParser;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -27,6 +31,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +43,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.HtmlUtils;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Component
 @RequiredArgsConstructor
@@ -111,23 +119,8 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
     );
     // Short ASCII tokens (rate, oil, fed, ppi, ...) cause false positives when matched as raw
     // substrings inside unrelated words, so they require an ASCII word-boundary match. Korean
-    // keywords keep substring matching because Java \b boundaries do not behave for Hangul.
-    private static final List<Pattern> ASCII_RELEVANCE_PATTERNS;
-    private static final List<String> NON_ASCII_RELEVANCE_KEYWORDS;
-
-    static {
-        List<Pattern> asciiPatterns = new ArrayList<>();
-        List<String> nonAsciiKeywords = new ArrayList<>();
-        for (String keyword : RELEVANCE_KEYWORDS) {
-            if (isAsciiKeyword(keyword)) {
-                asciiPatterns.add(Pattern.compile("\\b" + Pattern.quote(keyword) + "\\b", Pattern.CASE_INSENSITIVE));
-            } else {
-                nonAsciiKeywords.add(keyword.toLowerCase(Locale.ROOT));
-            }
-        }
-        ASCII_RELEVANCE_PATTERNS = List.copyOf(asciiPatterns);
-        NON_ASCII_RELEVANCE_KEYWORDS = List.copyOf(nonAsciiKeywords);
-    }
+    // keywords keep substring matching because Hangul has no word separators to anchor on.
+    private static final KeywordAutomaton RELEVANCE_AUTOMATON = KeywordAutomaton.compile(RELEVANCE_KEYWORDS);
 
     // Default queries are intentionally aligned with RELEVANCE_KEYWORDS so the safe-default path
     // still produces macro-relevant items when app.news.naver.queries is unset or blank.
@@ -157,11 +150,14 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
     private static final Pattern QUERY_DELIMITER = Pattern.compile("[,;\\r\\n]+");
     private static final int MAX_CONFIGURED_QUERIES = 50;
     private static final int MAX_QUERY_LENGTH = 100;
+    private static final TypeReference<NaverParseResult> PAGE_TYPE = new TypeReference<>() {
+    };
 
     private final ExternalApiUtils externalApiUtils;
-    private final ObjectMapper objectMapper;
     // Owns the GDELT -> OpenAI -> curated priority chain; the provider only issues the resolved queries.
     private final MarketIssueSeedService marketIssueSeedService;
+    private final Scheduler blockingIoScheduler;
+    private final ProviderPageCache providerPageCache;
 
     @Value("${app.news.naver.enabled:false}")
     private boolean enabled;
@@ -199,6 +195,10 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
     @Value("${app.news.naver.max-pages:3}")
     private int maxPages;
 
+    // Queries issued at once per pass; 1 (or less) keeps the original one-after-another pass.
+    @Value("${app.news.naver.fan-out.parallelism:1}")
+    private int fanOutParallelism;
+
     private Clock clock = DEFAULT_CLOCK;
 
     @PostConstruct
@@ -208,10 +208,10 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
         int queryCount = configuredQueries.isEmpty() ? DEFAULT_QUERIES.size() : configuredQueries.size();
         log.info("[NAVER] configuration enabled={} clientIdPresent={} clientSecretPresent={} configured={} "
                         + "dynamicQueriesEnabled={} queryMode={} queryCount={} display={} start={} maxPages={} maxAgeHours={} "
-                        + "fallbackMaxAgeHours={} baseUrl={}",
+                        + "fallbackMaxAgeHours={} fanOutParallelism={} baseUrl={}",
                 enabled, hasClientId(), hasClientSecret(), isConfigured(), dynamicQueriesEnabled, queryMode, queryCount,
                 resolveDisplay(display), resolveStart(), resolveMaxPages(), resolveMaxAgeHours(NewsFreshnessBucket.FRESH),
-                resolveMaxAgeHours(NewsFreshnessBucket.SEMI_FRESH), baseUrl);
+                resolveMaxAgeHours(NewsFreshnessBucket.SEMI_FRESH), Math.max(fanOutParallelism, 1), baseUrl);
     }
 
     @Override
@@ -280,23 +280,41 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
     }
 
     private NaverPassResult runQueryPass(List<String> queries, int resolvedLimit, NewsFreshnessBucket bucket) {
-        List<NaverCandidate> candidates = new ArrayList<>();
-        int staleItems = 0;
-        int rawItems = 0;
-        int filteredByRelevance = 0;
-        int unusableItems = 0;
-        for (String query : queries) {
-            NaverQueryOutcome outcome = fetchQuery(query, resolvedLimit, bucket);
-            candidates.addAll(outcome.candidates());
-            staleItems += outcome.staleItemCount();
-            rawItems += outcome.rawItemCount();
-            filteredByRelevance += outcome.filteredByRelevanceCount();
-            unusableItems += outcome.unusableItemCount();
-            if (deduplicateAndLimit(candidates, resolvedLimit).size() >= resolvedLimit) {
-                break;
+        NaverPassAccumulator pass = new NaverPassAccumulator();
+        int parallelism = Math.min(fanOutParallelism, queries.size());
+        if (parallelism <= 1) {
+            for (String query : queries) {
+                pass.add(fetchQuery(query, resolvedLimit, bucket));
+                if (deduplicateAndLimit(pass.candidates, resolvedLimit).size() >= resolvedLimit) {
+                    break;
+                }
             }
+            return pass.toResult();
         }
-        return new NaverPassResult(candidates, rawItems, staleItems, filteredByRelevance, unusableItems);
+
+        // Queries run concurrently but are merged in their original order, so the result (and the stop
+        // point) matches the sequential pass. Reaching the limit cancels every query still in flight.
+        AtomicInteger issuedQueries = new AtomicInteger();
+        Flux.fromIterable(queries)
+                .flatMapSequential(query -> fetchQueryCancellable(query, resolvedLimit, bucket, issuedQueries),
+                        parallelism, 1)
+                .takeUntil(outcome -> {
+                    pass.add(outcome);
+                    return deduplicateAndLimit(pass.candidates, resolvedLimit).size() >= resolvedLimit;
+                })
+                .blockLast();
+        log.info("[NAVER] fan-out complete bucket={} parallelism={} queries={} issuedQueries={} mergedQueries={} cancelledQueries={}",
+                bucket, parallelism, queries.size(), issuedQueries.get(), pass.mergedQueries,
+                Math.max(issuedQueries.get() - pass.mergedQueries, 0));
+        return pass.toResult();
+    }
+
+    private Mono<NaverQueryOutcome> fetchQueryCancellable(String query, int limit, NewsFreshnessBucket bucket,
+            AtomicInteger issuedQueries) {
+        return CancellableBlockingCall.mono(() -> {
+            issuedQueries.incrementAndGet();
+            return fetchQuery(query, limit, bucket);
+        }, () -> NaverQueryOutcome.EMPTY, blockingIoScheduler);
     }
 
     // The recovery pass only runs for the FRESH primary path, and only when the first pass actually
@@ -426,21 +444,32 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
                         query, pageIndex, pageSize);
                 break;
             }
-            ExternalApiResult result = externalApiUtils.callAPI(new ExternalApiRequest(
-                    HttpMethod.GET,
-                    buildHeaders(),
-                    buildQueryUrl(query, pageSize, pageStart),
-                    null
-            ));
-            if (result == null || result.statusCode() < 200 || result.statusCode() >= 300) {
-                int statusCode = result == null ? -1 : result.statusCode();
-                String reason = statusCode == 429 ? "rate-limit" : "upstream-rejection";
-                log.warn("[NAVER] provider empty reason={} bucket={} query='{}' pageStart={} status={}",
-                        reason, bucket, query, pageStart, statusCode);
-                break;
+            ProviderPageCache.PageKey pageKey = new ProviderPageCache.PageKey(
+                    sourceCode(), query, pageStart, pageSize, bucket);
+            NaverParseResult parsed = providerPageCache.get(pageKey, PAGE_TYPE).orElse(null);
+            if (parsed == null) {
+                long maxAgeHours = resolveMaxAgeHours(bucket);
+                // Items are evaluated as they stream in, so a page is never held as a whole body or tree.
+                ExternalApiStreamResult<NaverParseResult> result = externalApiUtils.callAPIStreaming(
+                        new ExternalApiRequest(
+                                HttpMethod.GET,
+                                buildHeaders(),
+                                buildQueryUrl(query, pageSize, pageStart),
+                                null
+                        ),
+                        parser -> parseItems(query, pageStart, parser, maxAgeHours, bucket));
+                if (result == null || !result.isSuccessful() || result.value() == null) {
+                    int statusCode = result == null ? -1 : result.statusCode();
+                    String reason = result != null && result.shortCircuited() ? "short-circuited"
+                            : statusCode == 429 ? "rate-limit" : "upstream-rejection";
+                    log.warn("[NAVER] provider empty reason={} bucket={} query='{}' pageStart={} status={}",
+                            reason, bucket, query, pageStart, statusCode);
+                    break;
+                }
+                parsed = result.value();
+                providerPageCache.put(pageKey, parsed);
             }
 
-            NaverParseResult parsed = parseItems(query, pageStart, result.body(), resolveMaxAgeHours(bucket), bucket);
             collected.addAll(parsed.items());
             staleItems += parsed.staleItemCount();
             rawItems += parsed.rawItemCount();
@@ -474,15 +503,28 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
         }
 
         try {
-            JsonNode root = objectMapper.readTree(body);
-            JsonNode items = root.path("items");
-            if (!items.isArray()) {
+            return ExternalApiUtils.readJson(body, parser -> parseItems(query, pageStart, parser, maxAgeHours, bucket));
+        } catch (Exception ex) {
+            log.warn("[NAVER] failed to parse response bucket={} query='{}' pageStart={}", bucket, query, pageStart, ex);
+            return new NaverParseResult(List.of(), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+    }
+
+    private NaverParseResult parseItems(String query, int pageStart, JsonParser parser, long maxAgeHours,
+            NewsFreshnessBucket bucket) {
+        try {
+            if (parser.nextToken() == null) {
+                log.info("[NAVER] provider empty reason=upstream-empty-response bucket={} query='{}' pageStart={} rawItems=0 bodyEmpty=true",
+                        bucket, query, pageStart);
+                return new NaverParseResult(List.of(), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+            }
+            if (!ExternalJsonStreams.seekArrayField(parser, "items")) {
                 log.info("[NAVER] provider empty reason=upstream-empty-response bucket={} query='{}' pageStart={} rawItems=0 itemsArray=false",
                         bucket, query, pageStart);
                 return new NaverParseResult(List.of(), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
             }
 
-            int rawItemCount = items.size();
+            int rawItemCount = 0;
             int invalidPubDateCount = 0;
             int nullPublishedAtCount = 0;
             int staleItemCount = 0;
@@ -512,16 +554,18 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
             // it visible that useful semi-fresh items within fallbackMaxAgeHours are kept, not hidden.
             Instant freshCutoff = now.minus(Duration.ofHours(resolveMaxAgeHours(NewsFreshnessBucket.FRESH)));
             List<NaverCandidate> mapped = new ArrayList<>();
-            for (JsonNode item : items) {
-                String cleanedTitle = cleanHtml(item.path("title").asText(""));
-                String originalLink = item.path("originallink").asText("");
-                String fallbackLink = item.path("link").asText("");
+            while (ExternalJsonStreams.nextElement(parser)) {
+                NaverRawItem item = readRawItem(parser);
+                rawItemCount++;
+                String cleanedTitle = cleanHtml(item.title());
+                String originalLink = item.originalLink();
+                String fallbackLink = item.link();
                 String cleanedDescription = normalizeNaverDescription(
-                        item.path("description").asText(""),
+                        item.description(),
                         originalLink,
                         fallbackLink
                 );
-                String rawPubDate = item.path("pubDate").asText("");
+                String rawPubDate = item.pubDate();
                 Instant publishedAt = ExternalResponseValueParser.parseInstant(
                         rawPubDate, NAVER_PUB_DATE_FORMATTER, NAVER_PUB_DATE_FALLBACK_FORMATTERS);
                 String resolvedUrl = StringUtils.hasText(originalLink) ? originalLink : fallbackLink;
@@ -639,6 +683,30 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
         }
     }
 
+    private NaverRawItem readRawItem(JsonParser parser) throws IOException {
+        String title = "";
+        String originalLink = "";
+        String link = "";
+        String description = "";
+        String pubDate = "";
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new NaverRawItem(title, originalLink, link, description, pubDate);
+        }
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            switch (field) {
+                case "title" -> title = ExternalJsonStreams.readText(parser);
+                case "originallink" -> originalLink = ExternalJsonStreams.readText(parser);
+                case "link" -> link = ExternalJsonStreams.readText(parser);
+                case "description" -> description = ExternalJsonStreams.readText(parser);
+                case "pubDate" -> pubDate = ExternalJsonStreams.readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new NaverRawItem(title, originalLink, link, description, pubDate);
+    }
+
     private HttpHeaders buildHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.add("X-Naver-Client-Id", clientId);
@@ -758,30 +826,7 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
     }
 
     private boolean containsRelevanceKeyword(String value) {
-        if (!StringUtils.hasText(value)) {
-            return false;
-        }
-        String normalized = value.toLowerCase(Locale.ROOT);
-        for (String keyword : NON_ASCII_RELEVANCE_KEYWORDS) {
-            if (normalized.contains(keyword)) {
-                return true;
-            }
-        }
-        for (Pattern pattern : ASCII_RELEVANCE_PATTERNS) {
-            if (pattern.matcher(value).find()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean isAsciiKeyword(String keyword) {
-        for (int i = 0; i < keyword.length(); i++) {
-            if (keyword.charAt(i) > 0x7F) {
-                return false;
-            }
-        }
-        return true;
+        return RELEVANCE_AUTOMATON.matchesAny(value);
     }
 
     private String formatAgeHours(Instant publishedAt, Instant now) {
@@ -967,6 +1012,10 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
 
     // Package-private so diagnostics (the freshness x relevance breakdown) can be asserted directly
     // in unit tests without parsing log output, which would be brittle.
+    private record NaverRawItem(String title, String originalLink, String link, String description,
+            String pubDate) {
+    }
+
     record NaverParseResult(
             List<NaverCandidate> items,
             int rawItemCount,
@@ -989,6 +1038,31 @@ public class NaverNewsSourceProvider implements NewsSourceProvider {
             int filteredByRelevanceCount,
             int unusableItemCount
     ) {
+
+        private static final NaverQueryOutcome EMPTY = new NaverQueryOutcome(List.of(), 0, 0, 0, 0);
+    }
+
+    private static final class NaverPassAccumulator {
+
+        private final List<NaverCandidate> candidates = new ArrayList<>();
+        private int rawItems;
+        private int staleItems;
+        private int filteredByRelevance;
+        private int unusableItems;
+        private int mergedQueries;
+
+        void add(NaverQueryOutcome outcome) {
+            candidates.addAll(outcome.candidates());
+            staleItems += outcome.staleItemCount();
+            rawItems += outcome.rawItemCount();
+            filteredByRelevance += outcome.filteredByRelevanceCount();
+            unusableItems += outcome.unusableItemCount();
+            mergedQueries++;
+        }
+
+        NaverPassResult toResult() {
+            return new NaverPassResult(candidates, rawItems, staleItems, filteredByRelevance, unusableItems);
+        }
     }
 
     private record NaverPassResult(
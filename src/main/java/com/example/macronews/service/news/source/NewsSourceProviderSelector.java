@@ -5,17 +5,24 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
 
 @Component
 @RequiredArgsConstructor
@@ -29,12 +36,16 @@ public class NewsSourceProviderSelector {
     private static final int DEFAULT_DOMESTIC_END_HOUR = 22;
     private static final int DEFAULT_BREAKING_BONUS_MINUTES = 45;
     private static final int DEFAULT_PREFERRED_SOURCE_BONUS_MINUTES = 15;
+    private static final int DEFAULT_LATENCY_WINDOW = 50;
 
     private final List<NewsSourceProvider> providers;
+    private final Scheduler blockingIoScheduler;
     private final ProviderPriorityResolver providerPriorityResolver = new ProviderPriorityResolver();
     private final ProviderEligibilityFilter providerEligibilityFilter = new ProviderEligibilityFilter();
     private final ProviderRankingPolicy providerRankingPolicy = new ProviderRankingPolicy();
 
+    private final LatencyWindow preferredLatency = new LatencyWindow(DEFAULT_LATENCY_WINDOW);
+
     private Clock clock = DEFAULT_CLOCK;
 
     @Value("${app.ingestion.business-timezone:Asia/Seoul}")
@@ -52,6 +63,15 @@ public class NewsSourceProviderSelector {
     @Value("${app.ingestion.preferred-source-bonus-minutes:15}")
     private int preferredSourceBonusMinutes;
 
+    @Value("${app.ingestion.provider-hedging.enabled:false}")
+    private boolean providerHedgingEnabled;
+
+    @Value("${app.ingestion.provider-hedging.delay:PT3S}")
+    private Duration hedgeDelay = Duration.ofSeconds(3);
+
+    @Value("${app.ingestion.provider-hedging.min-samples:5}")
+    private int hedgeMinSamples = 5;
+
     public List<ExternalNewsItem> fetchTopHeadlines(int limit) {
         int resolvedLimit = Math.max(limit, 1);
         NewsFeedPriority preferredPriority = currentPriority();
@@ -73,16 +93,24 @@ public class NewsSourceProviderSelector {
         Map<String, RankedNewsCandidate> freshCandidates = new LinkedHashMap<>();
         Map<String, RankedNewsCandidate> semiFreshCandidates = new LinkedHashMap<>();
 
-        int preferredFresh = collectCandidates(
-                freshCandidates, null, preferredProviders, preferredPriority, resolvedLimit, true, NewsFreshnessBucket.FRESH);
+        int preferredFresh;
         int fallbackFresh = 0;
-        if (preferredFresh == 0 && !preferredProviders.isEmpty() && !fallbackProviders.isEmpty()) {
-            log.info("[NEWS-SOURCE] preferred provider returned 0 fresh items; falling back to secondary providers");
-        }
-        if (freshCandidates.size() < resolvedLimit) {
-            fallbackFresh = collectCandidates(
-                    freshCandidates, null, fallbackProviders, fallbackPriority, resolvedLimit,
-                    false, NewsFreshnessBucket.FRESH);
+        if (providerHedgingEnabled) {
+            StageOutcome fresh = collectHedged(freshCandidates, null, preferredProviders, preferredPriority,
+                    fallbackProviders, fallbackPriority, resolvedLimit, NewsFreshnessBucket.FRESH);
+            preferredFresh = fresh.preferredReturned();
+            fallbackFresh = fresh.fallbackReturned();
+        } else {
+            preferredFresh = collectCandidates(
+                    freshCandidates, null, preferredProviders, preferredPriority, resolvedLimit, true, NewsFreshnessBucket.FRESH);
+            if (preferredFresh == 0 && !preferredProviders.isEmpty() && !fallbackProviders.isEmpty()) {
+                log.info("[NEWS-SOURCE] preferred provider returned 0 fresh items; falling back to secondary providers");
+            }
+            if (freshCandidates.size() < resolvedLimit) {
+                fallbackFresh = collectCandidates(
+                        freshCandidates, null, fallbackProviders, fallbackPriority, resolvedLimit,
+                        false, NewsFreshnessBucket.FRESH);
+            }
         }
         if (freshCandidates.size() >= resolvedLimit) {
             log.info("[NEWS-SOURCE] stopping early reason=requested-limit-satisfied bucket=fresh");
@@ -94,15 +122,22 @@ public class NewsSourceProviderSelector {
 
         int remaining = resolvedLimit - freshCandidates.size();
         int preferredSemiFresh = 0;
-        if (remaining > 0) {
-            preferredSemiFresh = collectCandidates(semiFreshCandidates, freshCandidates, preferredProviders, preferredPriority,
-                    remaining, true, NewsFreshnessBucket.SEMI_FRESH);
-        }
-        remaining = resolvedLimit - freshCandidates.size() - semiFreshCandidates.size();
         int fallbackSemiFresh = 0;
-        if (remaining > 0) {
-            fallbackSemiFresh = collectCandidates(semiFreshCandidates, freshCandidates, fallbackProviders, fallbackPriority,
-                    remaining, false, NewsFreshnessBucket.SEMI_FRESH);
+        if (providerHedgingEnabled) {
+            StageOutcome semiFresh = collectHedged(semiFreshCandidates, freshCandidates, preferredProviders,
+                    preferredPriority, fallbackProviders, fallbackPriority, remaining, NewsFreshnessBucket.SEMI_FRESH);
+            preferredSemiFresh = semiFresh.preferredReturned();
+            fallbackSemiFresh = semiFresh.fallbackReturned();
+        } else {
+            if (remaining > 0) {
+                preferredSemiFresh = collectCandidates(semiFreshCandidates, freshCandidates, preferredProviders,
+                        preferredPriority, remaining, true, NewsFreshnessBucket.SEMI_FRESH);
+            }
+            remaining = resolvedLimit - freshCandidates.size() - semiFreshCandidates.size();
+            if (remaining > 0) {
+                fallbackSemiFresh = collectCandidates(semiFreshCandidates, freshCandidates, fallbackProviders,
+                        fallbackPriority, remaining, false, NewsFreshnessBucket.SEMI_FRESH);
+            }
         }
 
         log.info("[NEWS-SOURCE] freshCandidates={} semiFreshCandidates={} requested={}",
@@ -201,6 +236,98 @@ public class NewsSourceProviderSelector {
         return returnedCount;
     }
 
+    // Hedged stage: the preferred group starts at once and the fallback group starts after the hedge
+    // delay, or immediately once the preferred group comes back short. Each group collects into its own
+    // map and the maps are merged into the stage with the same rank/selectBetterCandidate rule as the
+    // serial path, so arrival order does not change the selection. The stage ends as soon as the merged
+    // candidates meet the limit, even while the preferred group is still loading, or once both groups have
+    // finished; whatever is still pending then, a fallback delay or an in-flight fetch of either group, is
+    // cancelled and its worker interrupted, so a hung preferred provider cannot hold the stage.
+    private StageOutcome collectHedged(Map<String, RankedNewsCandidate> ranked,
+            Map<String, RankedNewsCandidate> preferredBucket,
+            List<NewsSourceProvider> preferredProviders,
+            NewsFeedPriority preferredPriority,
+            List<NewsSourceProvider> fallbackProviders,
+            NewsFeedPriority fallbackPriority,
+            int fetchLimit,
+            NewsFreshnessBucket bucket) {
+        if (fetchLimit <= 0) {
+            return new StageOutcome(0, 0);
+        }
+        Duration hedgeAfter = preferredProviders.isEmpty() ? Duration.ZERO : resolveHedgeAfter();
+        Sinks.Empty<Void> preferredShort = Sinks.empty();
+        long startedAt = System.nanoTime();
+        // Written from the provider workers and read by the fallback trigger and this thread.
+        AtomicBoolean preferredDone = new AtomicBoolean(preferredProviders.isEmpty());
+        AtomicInteger preferredReturned = new AtomicInteger();
+        AtomicInteger fallbackReturned = new AtomicInteger();
+
+        Mono<ProviderGroupBatch> preferredGroup = collectGroup(preferredBucket, preferredProviders,
+                preferredPriority, fetchLimit, true, bucket)
+                .doOnNext(batch -> {
+                    preferredLatency.record(Duration.ofNanos(System.nanoTime() - startedAt));
+                    if (batch.candidates().size() < fetchLimit) {
+                        if (batch.returnedCount() == 0 && !fallbackProviders.isEmpty()) {
+                            log.info("[NEWS-SOURCE] preferred provider returned 0 {} items; falling back to secondary providers",
+                                    bucket.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+                        }
+                        preferredShort.tryEmitEmpty();
+                    }
+                });
+        Mono<ProviderGroupBatch> fallbackGroup = fallbackProviders.isEmpty()
+                ? Mono.empty()
+                : Mono.firstWithSignal(Mono.delay(hedgeAfter).then(), preferredShort.asMono())
+                        .then(Mono.defer(() -> {
+                            log.info("[NEWS-SOURCE] hedged fallback started bucket={} afterMs={} preferredFinished={}",
+                                    bucket, Duration.ofNanos(System.nanoTime() - startedAt).toMillis(),
+                                    preferredDone.get());
+                            return collectGroup(preferredBucket, fallbackProviders, fallbackPriority, fetchLimit,
+                                    false, bucket);
+                        }));
+
+        Flux.merge(preferredGroup, fallbackGroup)
+                .takeUntil(batch -> {
+                    (batch.preferredSource() ? preferredReturned : fallbackReturned).addAndGet(batch.returnedCount());
+                    batch.candidates().forEach((dedupKey, candidate) ->
+                            ranked.merge(dedupKey, candidate, this::selectBetterCandidate));
+                    if (batch.preferredSource()) {
+                        preferredDone.set(true);
+                    }
+                    return ranked.size() >= fetchLimit;
+                })
+                .blockLast();
+        log.info("[NEWS-SOURCE] hedged stage complete bucket={} hedgeAfterMs={} elapsedMs={} preferredReturned={} fallbackReturned={} candidates={}",
+                bucket, hedgeAfter.toMillis(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis(),
+                preferredReturned.get(), fallbackReturned.get(), ranked.size());
+        return new StageOutcome(preferredReturned.get(), fallbackReturned.get());
+    }
+
+    private Mono<ProviderGroupBatch> collectGroup(Map<String, RankedNewsCandidate> preferredBucket,
+            List<NewsSourceProvider> selectedProviders,
+            NewsFeedPriority priority,
+            int fetchLimit,
+            boolean preferredSource,
+            NewsFreshnessBucket bucket) {
+        if (selectedProviders.isEmpty()) {
+            return Mono.empty();
+        }
+        return CancellableBlockingCall.mono(() -> {
+            Map<String, RankedNewsCandidate> candidates = new LinkedHashMap<>();
+            int returnedCount = collectCandidates(candidates, preferredBucket, selectedProviders, priority,
+                    fetchLimit, preferredSource, bucket);
+            return new ProviderGroupBatch(preferredSource, returnedCount, candidates);
+        }, () -> new ProviderGroupBatch(preferredSource, 0, Map.of()), blockingIoScheduler);
+    }
+
+    // Hedge at the preferred group's recent p90 when that comes sooner than the configured delay, so a
+    // fallback only waits as long as a typical preferred run would have taken.
+    private Duration resolveHedgeAfter() {
+        Duration configured = hedgeDelay == null || hedgeDelay.isNegative() ? Duration.ZERO : hedgeDelay;
+        return preferredLatency.percentile(0.9, Math.max(hedgeMinSamples, 1))
+                .filter(p90 -> p90.compareTo(configured) < 0)
+                .orElse(configured);
+    }
+
     private List<ExternalNewsItem> finalizeSelection(Map<String, RankedNewsCandidate> freshCandidates,
             Map<String, RankedNewsCandidate> semiFreshCandidates,
             int limit) {
@@ -298,6 +425,43 @@ public class NewsSourceProviderSelector {
     ) {
     }
 
+    private record ProviderGroupBatch(
+            boolean preferredSource,
+            int returnedCount,
+            Map<String, RankedNewsCandidate> candidates
+    ) {
+    }
+
+    private record StageOutcome(int preferredReturned, int fallbackReturned) {
+    }
+
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void record(Duration latency) {
+            samples[next] = latency.toNanos();
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        private synchronized Optional<Duration> percentile(double quantile, int minSamples) {
+            if (size < minSamples) {
+                return Optional.empty();
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(quantile * size) - 1;
+            return Optional.of(Duration.ofNanos(sorted[Math.max(Math.min(index, size - 1), 0)]));
+        }
+    }
+
     private enum ProviderOutcomeStatus {
         SUCCESS,
         EMPTY,
@@ -0,0 +1,261 @@
+package com.example.macronews.service.news.source;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Short-lived cache of parsed provider query pages, shared by the hourly ingestion, the admin ingest
+ * button and the Naver stale-recovery pass so that runs minutes apart do not re-fetch the same page.
+ *
+ * <p>Entries are keyed by provider, query, page start, page size and freshness bucket and hold the
+ * provider's parsed result, never the raw body. FRESH pages live for {@code fresh-ttl} and SEMI_FRESH
+ * pages for {@code semi-fresh-ttl}, since older pages change less. The memory tier is LRU-evicted by the
+ * serialized size of its entries against {@code max-size}; the optional disk tier keeps one JSON file per
+ * page so a restart inside the TTL still skips the upstream. Only successful upstream answers are cached.
+ */
+@Slf4j
+@Component
+public class ProviderPageCache {
+
+    private static final String DISK_FILE_SUFFIX = ".json";
+    private static final Duration DEFAULT_FRESH_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_SEMI_FRESH_TTL = Duration.ofMinutes(15);
+    private static final DataSize DEFAULT_MAX_SIZE = DataSize.ofMegabytes(8);
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedPage> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    @Value("${app.news.page-cache.enabled:false}")
+    private boolean enabled;
+
+    // Bound as raw strings, like the GDELT cache windows, so contexts without Spring Boot's converters
+    // still bind them; the initializers are the defaults for tests that skip @Value injection.
+    @Value("${app.news.page-cache.fresh-ttl:5m}")
+    private String freshTtl = "5m";
+
+    @Value("${app.news.page-cache.semi-fresh-ttl:15m}")
+    private String semiFreshTtl = "15m";
+
+    @Value("${app.news.page-cache.max-size:8MB}")
+    private String maxSize = "8MB";
+
+    @Value("${app.news.page-cache.disk.enabled:false}")
+    private boolean diskEnabled;
+
+    @Value("${app.news.page-cache.disk.directory:}")
+    private String diskDirectory;
+
+    private Clock clock = Clock.systemUTC();
+
+    public ProviderPageCache(ObjectMapper objectMapper) {
+        // The shared mapper has no java.time module, so pages get their own copy that writes Instants as
+        // ISO-8601 strings.
+        this.objectMapper = objectMapper.copy().registerModule(new SimpleModule()
+                .addSerializer(Instant.class, ToStringSerializer.instance)
+                .addDeserializer(Instant.class, new FromStringDeserializer<>(Instant.class) {
+                    @Override
+                    protected Instant _deserialize(String value, DeserializationContext context) {
+                        return Instant.parse(value);
+                    }
+                }));
+    }
+
+    public <T> Optional<T> get(PageKey key, TypeReference<T> type) {
+        if (!enabled || key == null) {
+            return Optional.empty();
+        }
+        String cacheKey = key.asString();
+        long now = clock.millis();
+        synchronized (this) {
+            CachedPage cached = entries.get(cacheKey);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    log.info("[NEWS-SOURCE] page cache hit tier=memory {}", key);
+                    @SuppressWarnings("unchecked")
+                    T value = (T) cached.value();
+                    return Optional.of(value);
+                }
+                remove(cacheKey);
+            }
+        }
+        Optional<T> fromDisk = readDisk(key, cacheKey, type, now);
+        fromDisk.ifPresent(value -> log.info("[NEWS-SOURCE] page cache hit tier=disk {}", key));
+        return fromDisk;
+    }
+
+    public void put(PageKey key, Object value) {
+        if (!enabled || key == null || value == null) {
+            return;
+        }
+        byte[] serialized;
+        try {
+            serialized = objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            log.warn("[NEWS-SOURCE] page cache skipped reason=unserializable {} error={}", key, ex.getMessage());
+            return;
+        }
+        long expiresAt = clock.millis() + ttl(key.bucket()).toMillis();
+        String cacheKey = key.asString();
+        storeInMemory(cacheKey, new CachedPage(value, serialized.length, expiresAt));
+        writeDisk(cacheKey, serialized, expiresAt);
+    }
+
+    synchronized long memoryBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void storeInMemory(String cacheKey, CachedPage page) {
+        long budget = resolveMaxBytes();
+        if (page.bytes() > budget) {
+            return;
+        }
+        remove(cacheKey);
+        entries.put(cacheKey, page);
+        totalBytes += page.bytes();
+        Iterator<Map.Entry<String, CachedPage>> eldest = entries.entrySet().iterator();
+        while (totalBytes > budget && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().bytes();
+            eldest.remove();
+        }
+    }
+
+    private void remove(String cacheKey) {
+        CachedPage removed = entries.remove(cacheKey);
+        if (removed != null) {
+            totalBytes -= removed.bytes();
+        }
+    }
+
+    private Duration ttl(NewsFreshnessBucket bucket) {
+        return bucket == NewsFreshnessBucket.SEMI_FRESH
+                ? resolveDuration(semiFreshTtl, DEFAULT_SEMI_FRESH_TTL)
+                : resolveDuration(freshTtl, DEFAULT_FRESH_TTL);
+    }
+
+    private Duration resolveDuration(String value, Duration fallback) {
+        if (!StringUtils.hasText(value)) {
+            return fallback;
+        }
+        try {
+            Duration parsed = DurationStyle.detectAndParse(value);
+            return parsed == null || parsed.isNegative() ? fallback : parsed;
+        } catch (Exception ex) {
+            return fallback;
+        }
+    }
+
+    private long resolveMaxBytes() {
+        if (!StringUtils.hasText(maxSize)) {
+            return DEFAULT_MAX_SIZE.toBytes();
+        }
+        try {
+            return Math.max(DataSize.parse(maxSize.trim()).toBytes(), 0);
+        } catch (Exception ex) {
+            return DEFAULT_MAX_SIZE.toBytes();
+        }
+    }
+
+    private <T> Optional<T> readDisk(PageKey key, String cacheKey, TypeReference<T> type, long now) {
+        Path file = diskFile(cacheKey);
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode envelope = objectMapper.readTree(file.toFile());
+            long expiresAt = envelope.path("expiresAt").asLong(0);
+            if (!cacheKey.equals(envelope.path("key").asText()) || expiresAt <= now) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            T value = objectMapper.convertValue(envelope.get("value"), type);
+            storeInMemory(cacheKey, new CachedPage(value, objectMapper.writeValueAsBytes(value).length, expiresAt));
+            return Optional.ofNullable(value);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("[NEWS-SOURCE] page cache disk read failed {} error={}", key, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeDisk(String cacheKey, byte[] serialized, long expiresAt) {
+        Path file = diskFile(cacheKey);
+        if (file == null) {
+            return;
+        }
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode();
+            envelope.put("key", cacheKey);
+            envelope.put("expiresAt", expiresAt);
+            envelope.set("value", objectMapper.readTree(serialized));
+            Files.createDirectories(file.getParent());
+            // Write beside the target and move it in, so a concurrent reader never sees half a file.
+            Path temp = Files.createTempFile(file.getParent(), "page-", ".tmp");
+            objectMapper.writeValue(temp.toFile(), envelope);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("[NEWS-SOURCE] page cache disk write failed file={} error={}", file, ex.getMessage());
+        }
+    }
+
+    private Path diskFile(String cacheKey) {
+        if (!diskEnabled) {
+            return null;
+        }
+        Path directory = StringUtils.hasText(diskDirectory)
+                ? Path.of(diskDirectory)
+                : Path.of(System.getProperty("java.io.tmpdir"), "macronews-page-cache");
+        return directory.resolve(sha256(cacheKey) + DISK_FILE_SUFFIX);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public record PageKey(String provider, String query, int pageStart, int pageSize, NewsFreshnessBucket bucket) {
+
+        String asString() {
+            return provider + '\u0000' + query + '\u0000' + pageStart + '\u0000' + pageSize + '\u0000' + bucket;
+        }
+
+        @Override
+        public String toString() {
+            return "provider=" + provider + " query='" + query + "' pageStart=" + pageStart
+                    + " pageSize=" + pageSize + " bucket=" + bucket;
+        }
+    }
+
+    private record CachedPage(Object value, long bytes, long expiresAt) {
+    }
+}
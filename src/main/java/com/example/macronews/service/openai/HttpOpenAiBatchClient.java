@@ -0,0 +1,172 @@
+package com.example.macronews.service.openai;
+
+import com.example.macronews.dto.request.ExternalApiRequest;
+import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.util.ExternalApiUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link OpenAiBatchClient} over the OpenAI Files and Batches endpoints.
+ *
+ * <p>The request file is uploaded with {@code purpose=batch}, then a batch is created against
+ * {@code /v1/chat/completions}. Expired and cancelled batches still report the output of the requests that
+ * finished, so they count as completed whenever they have an output file.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+final class HttpOpenAiBatchClient implements OpenAiBatchClient {
+
+    private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+
+    private final ExternalApiUtils externalApiUtils;
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.api-key:}")
+    private String openAiApiKey;
+
+    @Value("${openai.batch-api.files-url:https://api.openai.com/v1/files}")
+    private String filesUrl;
+
+    @Value("${openai.batch-api.batches-url:https://api.openai.com/v1/batches}")
+    private String batchesUrl;
+
+    @Value("${openai.batch-api.completion-window:24h}")
+    private String completionWindow = "24h";
+
+    @Override
+    public String submit(Path requestFile) {
+        validateConfig();
+        String inputFileId = upload(requestFile);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("input_file_id", inputFileId);
+        body.put("endpoint", CHAT_COMPLETIONS_ENDPOINT);
+        body.put("completion_window", completionWindow);
+        JsonNode batch = call(HttpMethod.POST, batchesUrl, jsonHeaders(), write(body), "create batch");
+        String batchId = batch.path("id").asText("");
+        if (!StringUtils.hasText(batchId)) {
+            throw new IllegalStateException("OpenAI batch response had no id");
+        }
+        log.info("[OPENAI-BATCH] submitted batchId={} inputFileId={}", batchId, inputFileId);
+        return batchId;
+    }
+
+    @Override
+    public OpenAiBatchStatus status(String batchId) {
+        validateConfig();
+        JsonNode batch = call(HttpMethod.GET, batchesUrl + "/" + batchId, authHeaders(), null, "batch status");
+        String status = batch.path("status").asText("");
+        String outputFileId = batch.path("output_file_id").asText(null);
+        boolean hasOutput = StringUtils.hasText(outputFileId);
+        OpenAiBatchStatus.State state = switch (status) {
+            case "completed" -> OpenAiBatchStatus.State.COMPLETED;
+            case "expired", "cancelled" -> hasOutput ? OpenAiBatchStatus.State.COMPLETED
+                    : OpenAiBatchStatus.State.FAILED;
+            case "failed" -> OpenAiBatchStatus.State.FAILED;
+            default -> OpenAiBatchStatus.State.RUNNING;
+        };
+        return new OpenAiBatchStatus(batchId, state, hasOutput ? outputFileId : null);
+    }
+
+    @Override
+    public List<String> outputLines(OpenAiBatchStatus status) {
+        if (status == null || !StringUtils.hasText(status.outputFileId())) {
+            return List.of();
+        }
+        validateConfig();
+        ExternalApiResult result = externalApiUtils.callAPI(new ExternalApiRequest(
+                HttpMethod.GET, authHeaders(), filesUrl + "/" + status.outputFileId() + "/content", null));
+        requireSuccess(result, "batch output");
+        return result.body().lines().filter(StringUtils::hasText).toList();
+    }
+
+    private String upload(Path requestFile) {
+        String boundary = "batch-" + UUID.randomUUID();
+        String content;
+        try {
+            content = Files.readString(requestFile, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read batch request file " + requestFile, ex);
+        }
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\n"
+                + "batch\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + requestFile.getFileName() + "\"\r\n"
+                + "Content-Type: application/jsonl\r\n\r\n"
+                + content + "\r\n"
+                + "--" + boundary + "--\r\n";
+        HttpHeaders headers = authHeaders();
+        headers.setContentType(new MediaType(MediaType.MULTIPART_FORM_DATA,
+                Map.of("boundary", boundary, "charset", StandardCharsets.UTF_8.name())));
+        String fileId = call(HttpMethod.POST, filesUrl, headers, body, "upload batch file").path("id").asText("");
+        if (!StringUtils.hasText(fileId)) {
+            throw new IllegalStateException("OpenAI file upload response had no id");
+        }
+        return fileId;
+    }
+
+    private JsonNode call(HttpMethod method, String url, HttpHeaders headers, String body, String action) {
+        ExternalApiResult result = externalApiUtils.callAPI(new ExternalApiRequest(method, headers, url, body));
+        requireSuccess(result, action);
+        try {
+            return objectMapper.readTree(result.body());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to parse OpenAI " + action + " response", ex);
+        }
+    }
+
+    private void requireSuccess(ExternalApiResult result, String action) {
+        if (result == null) {
+            throw new IllegalStateException("OpenAI " + action + " response was null");
+        }
+        if (result.statusCode() < 200 || result.statusCode() >= 300) {
+            throw new IllegalStateException("OpenAI " + action + " failed with status=" + result.statusCode());
+        }
+    }
+
+    private String write(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to write OpenAI batch request", ex);
+        }
+    }
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = authHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(openAiApiKey);
+        return headers;
+    }
+
+    private void validateConfig() {
+        if (!StringUtils.hasText(openAiApiKey)) {
+            throw new IllegalStateException("openai.api-key is not configured");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.macronews.service.openai;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Submits JSONL request files to an OpenAI Batch API style endpoint and reads back their output.
+ *
+ * <p>Each input line is {@code {"custom_id", "method", "url", "body"}}; each output line carries the same
+ * {@code custom_id} with either {@code response.body} or an {@code error}. Batches complete within the
+ * completion window rather than immediately, so callers poll {@link #status} until it is no longer running.
+ */
+public interface OpenAiBatchClient {
+
+    /**
+     * Uploads {@code requestFile} and starts a batch over it.
+     *
+     * @return the batch id to poll
+     */
+    String submit(Path requestFile);
+
+    OpenAiBatchStatus status(String batchId);
+
+    /**
+     * Returns the output lines of a finished batch, in no particular order.
+     */
+    List<String> outputLines(OpenAiBatchStatus status);
+}
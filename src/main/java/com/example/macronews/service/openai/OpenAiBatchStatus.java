@@ -0,0 +1,21 @@
+package com.example.macronews.service.openai;
+
+/**
+ * State of a submitted batch.
+ *
+ * @param batchId id returned when the batch was submitted
+ * @param state whether the batch is still running, finished with output, or failed without any
+ * @param outputFileId file holding the output lines, or {@code null} until the batch finished
+ */
+public record OpenAiBatchStatus(String batchId, State state, String outputFileId) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public boolean running() {
+        return state == State.RUNNING;
+    }
+}
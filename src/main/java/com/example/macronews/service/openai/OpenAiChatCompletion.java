@@ -0,0 +1,71 @@
+package com.example.macronews.service.openai;
+
+import com.example.macronews.util.external.ExternalJsonStreams;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * The parts of a Chat Completions response the app uses: the reported model, the first choice's
+ * message content and the token usage. {@link #read} pulls just these from a streamed body.
+ */
+public record OpenAiChatCompletion(String model, String content, OpenAiTokenUsage usage) {
+
+    public static OpenAiChatCompletion read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("OpenAI response body was not a JSON object");
+        }
+        String model = "";
+        String content = "";
+        OpenAiTokenUsage usage = null;
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            switch (field) {
+                case "model" -> model = ExternalJsonStreams.readText(parser);
+                case "usage" -> usage = OpenAiTokenUsage.read(
+                        parser, OpenAiTokenUsage.CHAT_INPUT_FIELD, OpenAiTokenUsage.CHAT_OUTPUT_FIELD);
+                case "choices" -> content = readFirstChoiceContent(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new OpenAiChatCompletion(model, content, usage);
+    }
+
+    private static String readFirstChoiceContent(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        String content = "";
+        boolean first = true;
+        while (ExternalJsonStreams.nextElement(parser)) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                content = readMessageContent(parser);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return content;
+    }
+
+    private static String readMessageContent(JsonParser parser) throws IOException {
+        String content = "";
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            if ("message".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                String messageField;
+                while ((messageField = ExternalJsonStreams.nextField(parser)) != null) {
+                    if ("content".equals(messageField)) {
+                        content = ExternalJsonStreams.readText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return content;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.macronews.service.openai;
+
+import com.example.macronews.util.external.ExternalJsonStreams;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * Token counts from an OpenAI {@code usage} object. Chat Completions report
+ * {@code prompt_tokens}/{@code completion_tokens}; the Responses API reports
+ * {@code input_tokens}/{@code output_tokens}. Both map onto input/output here.
+ */
+public record OpenAiTokenUsage(int inputTokens, int outputTokens, int totalTokens) {
+
+    static final String CHAT_INPUT_FIELD = "prompt_tokens";
+    static final String CHAT_OUTPUT_FIELD = "completion_tokens";
+    static final String RESPONSES_INPUT_FIELD = "input_tokens";
+    static final String RESPONSES_OUTPUT_FIELD = "output_tokens";
+
+    /**
+     * Reads the {@code usage} object the parser is positioned on. Returns {@code null} when the value is
+     * not an object. A missing {@code total_tokens} falls back to input plus output.
+     */
+    static OpenAiTokenUsage read(JsonParser parser, String inputField, String outputField) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        int input = 0;
+        int output = 0;
+        Integer total = null;
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            if (inputField.equals(field)) {
+                input = Math.max(ExternalJsonStreams.readInt(parser, 0), 0);
+            } else if (outputField.equals(field)) {
+                output = Math.max(ExternalJsonStreams.readInt(parser, 0), 0);
+            } else if ("total_tokens".equals(field)) {
+                total = ExternalJsonStreams.readInt(parser, Integer.MIN_VALUE);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        int resolvedTotal = total == null || total == Integer.MIN_VALUE ? input + output : Math.max(total, 0);
+        return new OpenAiTokenUsage(input, output, resolvedTotal);
+    }
+
+    boolean isEmpty() {
+        return inputTokens == 0 && outputTokens == 0 && totalTokens == 0;
+    }
+}
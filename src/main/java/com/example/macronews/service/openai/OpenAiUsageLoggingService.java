@@ -3,8 +3,11 @@ package com.example.macronews.service.openai;
 import com.example.macronews.domain.OpenAiUsageFeatureType;
 import com.example.macronews.domain.OpenAiUsageRecord;
 import com.example.macronews.repository.OpenAiUsageRecordRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.macronews.util.ExternalApiUtils;
+import com.example.macronews.util.external.ExternalJsonStreams;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,38 +20,31 @@ import org.springframework.util.StringUtils;
 public class OpenAiUsageLoggingService {
 
     private final OpenAiUsageRecordRepository openAiUsageRecordRepository;
-    private final ObjectMapper objectMapper;
 
     public void recordUsage(OpenAiUsageFeatureType featureType, String model, String responseBody) {
         if (featureType == null || !StringUtils.hasText(responseBody)) {
             return;
         }
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode usage = root.path("usage");
-            if (usage.isMissingNode() || usage.isNull()) {
-                return;
-            }
-
-            int promptTokens = Math.max(usage.path("prompt_tokens").asInt(0), 0);
-            int completionTokens = Math.max(usage.path("completion_tokens").asInt(0), 0);
-            int totalTokens = usage.has("total_tokens")
-                    ? Math.max(usage.path("total_tokens").asInt(promptTokens + completionTokens), 0)
-                    : promptTokens + completionTokens;
-
-            if (promptTokens == 0 && completionTokens == 0 && totalTokens == 0) {
-                return;
-            }
+            UsageEnvelope envelope = ExternalApiUtils.readJson(responseBody, parser -> readUsageEnvelope(
+                    parser, OpenAiTokenUsage.CHAT_INPUT_FIELD, OpenAiTokenUsage.CHAT_OUTPUT_FIELD));
+            save(featureType, envelope.model(), model, envelope.usage());
+        } catch (Exception ex) {
+            log.debug("[OPENAI-USAGE] usage capture skipped", ex);
+        }
+    }
 
-            openAiUsageRecordRepository.save(new OpenAiUsageRecord(
-                    null,
-                    Instant.now(),
-                    resolveRecordedModel(root, model),
-                    featureType,
-                    promptTokens,
-                    completionTokens,
-                    totalTokens
-            ));
+    /**
+     * Records usage already pulled from a streamed Chat Completions response, so the body never has to
+     * be kept around just for accounting.
+     */
+    public void recordCompletionUsage(OpenAiUsageFeatureType featureType, String model,
+            OpenAiChatCompletion completion) {
+        if (featureType == null || completion == null) {
+            return;
+        }
+        try {
+            save(featureType, completion.model(), model, completion.usage());
         } catch (Exception ex) {
             log.debug("[OPENAI-USAGE] usage capture skipped", ex);
         }
@@ -67,44 +63,62 @@ public class OpenAiUsageLoggingService {
             return;
         }
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode usage = root.path("usage");
-            if (usage.isMissingNode() || usage.isNull()) {
-                return;
-            }
+            UsageEnvelope envelope = ExternalApiUtils.readJson(responseBody, parser -> readUsageEnvelope(
+                    parser, OpenAiTokenUsage.RESPONSES_INPUT_FIELD, OpenAiTokenUsage.RESPONSES_OUTPUT_FIELD));
+            save(featureType, envelope.model(), model, envelope.usage());
+        } catch (Exception ex) {
+            log.debug("[OPENAI-USAGE] responses usage capture skipped", ex);
+        }
+    }
 
-            int inputTokens = Math.max(usage.path("input_tokens").asInt(0), 0);
-            int outputTokens = Math.max(usage.path("output_tokens").asInt(0), 0);
-            int totalTokens = usage.has("total_tokens")
-                    ? Math.max(usage.path("total_tokens").asInt(inputTokens + outputTokens), 0)
-                    : inputTokens + outputTokens;
+    private void save(OpenAiUsageFeatureType featureType, String responseModel, String configuredModel,
+            OpenAiTokenUsage usage) {
+        if (usage == null || usage.isEmpty()) {
+            return;
+        }
+        openAiUsageRecordRepository.save(new OpenAiUsageRecord(
+                null,
+                Instant.now(),
+                resolveRecordedModel(responseModel, configuredModel),
+                featureType,
+                usage.inputTokens(),
+                usage.outputTokens(),
+                usage.totalTokens()
+        ));
+    }
 
-            if (inputTokens == 0 && outputTokens == 0 && totalTokens == 0) {
-                return;
+    // Pulls only "model" and "usage" from the top level; output text and choices are skipped unread.
+    private UsageEnvelope readUsageEnvelope(JsonParser parser, String inputField, String outputField)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return new UsageEnvelope("", null);
+        }
+        String responseModel = "";
+        OpenAiTokenUsage usage = null;
+        String field;
+        while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+            if ("model".equals(field)) {
+                responseModel = ExternalJsonStreams.readText(parser);
+            } else if ("usage".equals(field)) {
+                usage = OpenAiTokenUsage.read(parser, inputField, outputField);
+            } else {
+                parser.skipChildren();
             }
-
-            openAiUsageRecordRepository.save(new OpenAiUsageRecord(
-                    null,
-                    Instant.now(),
-                    resolveRecordedModel(root, model),
-                    featureType,
-                    inputTokens,
-                    outputTokens,
-                    totalTokens
-            ));
-        } catch (Exception ex) {
-            log.debug("[OPENAI-USAGE] responses usage capture skipped", ex);
         }
+        return new UsageEnvelope(responseModel, usage);
     }
 
-    private String resolveRecordedModel(JsonNode root, String configuredModel) {
-        String responseModel = root.path("model").asText("").trim();
-        if (StringUtils.hasText(responseModel)) {
-            return responseModel;
+    private String resolveRecordedModel(String responseModel, String configuredModel) {
+        String trimmed = responseModel == null ? "" : responseModel.trim();
+        if (StringUtils.hasText(trimmed)) {
+            return trimmed;
         }
         if (StringUtils.hasText(configuredModel)) {
             return configuredModel.trim();
         }
         return "unknown";
     }
+
+    private record UsageEnvelope(String model, OpenAiTokenUsage usage) {
+    }
 }
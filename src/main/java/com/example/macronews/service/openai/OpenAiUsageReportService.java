@@ -2,11 +2,13 @@ package com.example.macronews.service.openai;
 
 import com.example.macronews.domain.OpenAiUsageFeatureType;
 import com.example.macronews.domain.OpenAiUsageRecord;
+import com.example.macronews.dto.InterpretationCacheStatsDto;
 import com.example.macronews.dto.OpenAiUsageAggregateDto;
 import com.example.macronews.dto.OpenAiUsageDashboardDto;
 import com.example.macronews.dto.OpenAiUsageRecordViewDto;
 import com.example.macronews.dto.market.FxSnapshotDto;
 import com.example.macronews.repository.OpenAiUsageRecordRepository;
+import com.example.macronews.service.macro.InterpretationResultCache;
 import com.example.macronews.service.market.MarketDataFacade;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -45,6 +47,7 @@ public class OpenAiUsageReportService {
     private final OpenAiUsageRecordRepository openAiUsageRecordRepository;
     private final MarketDataFacade marketDataFacade;
     private final OpenAiPricingSnapshotLoader pricingSnapshotLoader;
+    private final InterpretationResultCache interpretationResultCache;
     private Clock clock = Clock.system(BUSINESS_ZONE);
 
     @Value("${openai.cost.reporting-start-date:2026-04-01}")
@@ -99,7 +102,43 @@ public class OpenAiUsageReportService {
                 exchangeRate,
                 exchangeRateResolution.messageKey(),
                 exchangeRateResolution.fallback(),
-                hasUnpricedRecords
+                hasUnpricedRecords,
+                buildInterpretationCacheStats(exchangeRate)
+        );
+    }
+
+    // Saved cost prices the tokens cached hits did not spend, per model, like a macro interpretation record.
+    private InterpretationCacheStatsDto buildInterpretationCacheStats(BigDecimal exchangeRate) {
+        InterpretationResultCache.Stats stats = interpretationResultCache.stats();
+        if (stats == null || !stats.enabled()) {
+            return InterpretationCacheStatsDto.disabled();
+        }
+        long savedPromptTokens = 0L;
+        long savedCompletionTokens = 0L;
+        BigDecimal savedUsd = BigDecimal.ZERO;
+        for (Map.Entry<String, InterpretationResultCache.SavedTokens> entry : stats.savedByModel().entrySet()) {
+            long prompt = entry.getValue().promptTokens();
+            long completion = entry.getValue().completionTokens();
+            savedPromptTokens += prompt;
+            savedCompletionTokens += completion;
+            OpenAiUsageRecord saved = new OpenAiUsageRecord(null, null, entry.getKey(),
+                    OpenAiUsageFeatureType.MACRO_INTERPRETATION, clampTokens(prompt), clampTokens(completion),
+                    clampTokens(prompt + completion));
+            savedUsd = savedUsd.add(calculateUsdCost(saved, resolvePricing(saved)).orElse(BigDecimal.ZERO));
+        }
+        long lookups = stats.hits() + stats.misses();
+        BigDecimal hitRatePercent = lookups == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(stats.hits() * 100L).divide(BigDecimal.valueOf(lookups), 1, RoundingMode.HALF_UP);
+        return new InterpretationCacheStatsDto(
+                true,
+                stats.hits(),
+                stats.misses(),
+                hitRatePercent,
+                savedPromptTokens,
+                savedCompletionTokens,
+                scaleUsd(savedUsd),
+                scaleKrw(savedUsd.multiply(exchangeRate))
         );
     }
 
@@ -351,6 +390,10 @@ public class OpenAiUsageReportService {
         return normalized;
     }
 
+    private int clampTokens(long tokens) {
+        return (int) Math.min(Math.max(tokens, 0L), Integer.MAX_VALUE);
+    }
+
     private boolean isPositive(BigDecimal value) {
         return value != null && value.signum() > 0;
     }
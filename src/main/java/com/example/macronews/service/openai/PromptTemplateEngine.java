@@ -0,0 +1,380 @@
+package com.example.macronews.service.openai;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compiles OpenAI prompt files once and renders Chat Completions payloads from the compiled form.
+ *
+ * <p>A prompt file holds a {@code messages} array whose entries have a {@code role} and either a fixed
+ * {@code content} or a {@code template} with {@code {{name}}} placeholders. Compiling pre-escapes fixed
+ * content and splits each template into literal and placeholder segments, so a render neither re-reads nor
+ * re-parses the file and builds no intermediate {@code Map} graph: it streams straight into a
+ * {@link JsonGenerator} over a pooled character buffer. Both that buffer and Jackson's own are pooled
+ * across threads rather than per thread, since interpretations run on virtual threads that never reuse a
+ * thread-local. A file is checked for changes at most
+ * every {@code reload-check-interval} and recompiled when its last-modified time moves; a file that fails
+ * to recompile keeps serving its previous version.
+ */
+@Slf4j
+@Component
+public class PromptTemplateEngine {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([A-Za-z0-9_]+)}}");
+    private static final Duration DEFAULT_RELOAD_CHECK_INTERVAL = Duration.ofSeconds(5);
+    private static final int INITIAL_BUFFER_CHARS = 16 * 1_024;
+    private static final int MAX_POOLED_BUFFER_CHARS = 256 * 1_024;
+    private static final int POOLED_BUFFERS = 16;
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final Map<Resource, CompiledPrompt> compiled = new ConcurrentHashMap<>();
+    private final BlockingQueue<char[]> buffers = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+    @Value("${app.prompt-templates.reload-check-interval:5s}")
+    private String reloadCheckInterval = "5s";
+
+    private Clock clock = Clock.systemUTC();
+
+    public PromptTemplateEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory().rebuild()
+                .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+                .build();
+    }
+
+    /**
+     * Returns the compiled form of {@code promptFile}, compiling it on first use and again after it changed.
+     */
+    public CompiledPrompt compile(Resource promptFile) {
+        long now = clock.millis();
+        CompiledPrompt current = compiled.get(promptFile);
+        if (current != null && now < current.nextCheckAt) {
+            return current;
+        }
+        return compiled.compute(promptFile, (resource, existing) -> refresh(resource, existing, now));
+    }
+
+    /**
+     * Renders {@code {"model", "messages", "max_tokens", "temperature", "response_format": json_object}}
+     * with the messages written by {@code messages}.
+     */
+    public String renderPayload(String model, int maxTokens, double temperature, MessageWriter messages) {
+        char[] pooled = buffers.poll();
+        PayloadBuffer buffer = new PayloadBuffer(pooled == null ? new char[INITIAL_BUFFER_CHARS] : pooled);
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeStringField("model", model);
+            generator.writeArrayFieldStart("messages");
+            messages.write(new PromptMessages(generator));
+            generator.writeEndArray();
+            generator.writeNumberField("max_tokens", maxTokens);
+            generator.writeNumberField("temperature", temperature);
+            generator.writeObjectFieldStart("response_format");
+            generator.writeStringField("type", "json_object");
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to render prompt payload", ex);
+        }
+        String payload = buffer.toString();
+        if (buffer.chars.length <= MAX_POOLED_BUFFER_CHARS) {
+            buffers.offer(buffer.chars);
+        }
+        return payload;
+    }
+
+    private CompiledPrompt refresh(Resource resource, CompiledPrompt existing, long now) {
+        long nextCheckAt = now + resolveReloadCheckInterval().toMillis();
+        long lastModified = lastModified(resource);
+        if (existing != null && existing.lastModified == lastModified) {
+            existing.nextCheckAt = nextCheckAt;
+            return existing;
+        }
+        try {
+            CompiledPrompt loaded = load(resource, lastModified, nextCheckAt);
+            if (existing != null) {
+                log.info("[PROMPT] reloaded resource={} version={}", resource.getDescription(), loaded.version());
+            }
+            return loaded;
+        } catch (IOException | RuntimeException ex) {
+            if (existing == null) {
+                throw new IllegalStateException("Failed to compile prompt file " + resource.getDescription(), ex);
+            }
+            log.warn("[PROMPT] reload failed resource={} reason={}", resource.getDescription(), ex.getMessage());
+            existing.nextCheckAt = nextCheckAt;
+            return existing;
+        }
+    }
+
+    private CompiledPrompt load(Resource resource, long lastModified, long nextCheckAt) throws IOException {
+        byte[] bytes;
+        try (InputStream input = resource.getInputStream()) {
+            bytes = input.readAllBytes();
+        }
+        JsonNode messagesNode = objectMapper.readTree(bytes).path("messages");
+        if (!messagesNode.isArray()) {
+            throw new IllegalStateException("Prompt file must contain messages array");
+        }
+        List<Message> messages = new ArrayList<>();
+        for (JsonNode node : messagesNode) {
+            String role = node.path("role").asText("");
+            if (!StringUtils.hasText(role)) {
+                continue;
+            }
+            if (node.has("content")) {
+                String content = node.get("content").asText("");
+                if (StringUtils.hasText(content)) {
+                    messages.add(new Message(new SerializedString(role), new SerializedString(content), List.of(), 0));
+                }
+            } else {
+                String template = node.path("template").asText("");
+                messages.add(new Message(new SerializedString(role), null, segments(template), template.length()));
+            }
+        }
+        return new CompiledPrompt(sha256(bytes).substring(0, 16), List.copyOf(messages), lastModified, nextCheckAt);
+    }
+
+    private static List<Segment> segments(String template) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            if (matcher.start() > start) {
+                segments.add(new Segment(template.substring(start, matcher.start()), null));
+            }
+            segments.add(new Segment(matcher.group(), matcher.group(1)));
+            start = matcher.end();
+        }
+        if (start < template.length()) {
+            segments.add(new Segment(template.substring(start), null));
+        }
+        return List.copyOf(segments);
+    }
+
+    // Byte-array and other in-memory resources have no timestamp; they compile once.
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException ex) {
+            return 0L;
+        }
+    }
+
+    private Duration resolveReloadCheckInterval() {
+        if (!StringUtils.hasText(reloadCheckInterval)) {
+            return DEFAULT_RELOAD_CHECK_INTERVAL;
+        }
+        try {
+            Duration parsed = DurationStyle.detectAndParse(reloadCheckInterval);
+            return parsed == null || parsed.isNegative() ? DEFAULT_RELOAD_CHECK_INTERVAL : parsed;
+        } catch (Exception ex) {
+            return DEFAULT_RELOAD_CHECK_INTERVAL;
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface MessageWriter {
+
+        void write(PromptMessages messages) throws IOException;
+    }
+
+    /**
+     * Resolves a placeholder name to its value; {@code null} leaves the placeholder text as written.
+     */
+    @FunctionalInterface
+    public interface PlaceholderValues {
+
+        String valueOf(String name);
+    }
+
+    /**
+     * A compiled prompt file. {@link #version()} is a content hash, so results can be keyed to the prompt
+     * that produced them.
+     */
+    public static final class CompiledPrompt {
+
+        private final String version;
+        private final List<Message> messages;
+        private final long lastModified;
+        private volatile long nextCheckAt;
+
+        private CompiledPrompt(String version, List<Message> messages, long lastModified, long nextCheckAt) {
+            this.version = version;
+            this.messages = messages;
+            this.lastModified = lastModified;
+            this.nextCheckAt = nextCheckAt;
+        }
+
+        public String version() {
+            return version;
+        }
+
+        public List<Message> messages() {
+            return messages;
+        }
+    }
+
+    /**
+     * One compiled message: fixed content when {@link #isTemplate()} is false, otherwise template segments.
+     */
+    public record Message(SerializedString role, SerializedString fixedContent, List<Segment> segments,
+            int templateLength) {
+
+        public boolean isTemplate() {
+            return fixedContent == null;
+        }
+
+        public String render(PlaceholderValues values) {
+            if (!isTemplate()) {
+                return fixedContent.getValue();
+            }
+            StringBuilder content = new StringBuilder(templateLength + 256);
+            for (Segment segment : segments) {
+                String value = segment.placeholder() == null ? null : values.valueOf(segment.placeholder());
+                content.append(value == null ? segment.text() : value);
+            }
+            return content.toString();
+        }
+    }
+
+    /**
+     * Literal text, or a placeholder when {@code placeholder} is set; {@code text} then holds the raw
+     * {@code {{name}}} written in the template.
+     */
+    public record Segment(String text, String placeholder) {
+    }
+
+    /**
+     * Writes chat messages into the payload being rendered. Blank contents are skipped, as before the engine.
+     */
+    public static final class PromptMessages {
+
+        private final JsonGenerator generator;
+
+        private PromptMessages(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        public void addAll(CompiledPrompt prompt, PlaceholderValues values) throws IOException {
+            for (Message message : prompt.messages()) {
+                add(message, values);
+            }
+        }
+
+        /**
+         * Writes only the fixed-content messages of {@code prompt}, leaving its templates out.
+         */
+        public void addFixed(CompiledPrompt prompt) throws IOException {
+            for (Message message : prompt.messages()) {
+                if (!message.isTemplate()) {
+                    add(message, name -> null);
+                }
+            }
+        }
+
+        public void add(Message message, PlaceholderValues values) throws IOException {
+            if (!message.isTemplate()) {
+                generator.writeStartObject();
+                generator.writeFieldName("role");
+                generator.writeString(message.role());
+                generator.writeFieldName("content");
+                generator.writeString(message.fixedContent());
+                generator.writeEndObject();
+                return;
+            }
+            add(message.role(), message.render(values));
+        }
+
+        public void add(SerializedString role, String content) throws IOException {
+            if (!StringUtils.hasText(content)) {
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeFieldName("role");
+            generator.writeString(role);
+            generator.writeStringField("content", content);
+            generator.writeEndObject();
+        }
+    }
+
+    // Unsynchronized Writer over a reusable char[]; StringWriter would lock on every write and its
+    // StringBuilder re-inflates to UTF-16 on the first Hangul character of every payload.
+    private static final class PayloadBuffer extends Writer {
+
+        private char[] chars;
+        private int length;
+
+        private PayloadBuffer(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+            ensureCapacity(count);
+            System.arraycopy(buffer, offset, chars, length, count);
+            length += count;
+        }
+
+        @Override
+        public void write(String value, int offset, int count) {
+            ensureCapacity(count);
+            value.getChars(offset, offset + count, chars, length);
+            length += count;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+
+        private void ensureCapacity(int count) {
+            if (length + count > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+            }
+        }
+    }
+}
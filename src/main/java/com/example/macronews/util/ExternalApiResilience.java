@@ -0,0 +1,363 @@
+package com.example.macronews.util;
+
+import com.example.macronews.config.ExternalResilienceProperties;
+import com.example.macronews.config.ExternalResilienceProperties.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Per-host guard in front of {@link ExternalApiUtils}: an adaptive token bucket, a circuit breaker and a
+ * bulkhead, each driven by the host's {@link ExternalResilienceProperties.Policy}.
+ *
+ * <ul>
+ *   <li>The token bucket refills at {@code rate-per-second}. A call that finds the bucket empty reserves the
+ *   next token and waits for it when that is at most {@code max-wait} away; otherwise it is rejected. A 429 halves the current rate and pauses the
+ *   host until its {@code Retry-After} (or {@code rate-limit-backoff}); every other answer restores a tenth
+ *   of the configured rate.</li>
+ *   <li>The circuit opens after {@code failure-threshold} consecutive 5xx/timeout/connect failures, stays
+ *   open for {@code open-duration}, then lets {@code half-open-probes} calls through; one success closes it,
+ *   a failure reopens it. 4xx answers, 429 included, never count as failures.</li>
+ *   <li>The bulkhead caps in-flight calls at {@code max-concurrent}.</li>
+ * </ul>
+ *
+ * <p>A rejected call never reaches the network: it is answered locally with 429 (rate limited) or 503
+ * (circuit open, bulkhead full), marked as short-circuited so providers can tell it from an upstream answer.
+ * State is published per host as the {@code external.api.circuit.state}, {@code external.api.rate.current}
+ * and {@code external.api.calls.rejected} meters and through {@link #snapshot()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalApiResilience {
+
+    static final String CIRCUIT_STATE_METRIC = "external.api.circuit.state";
+    static final String CURRENT_RATE_METRIC = "external.api.rate.current";
+    static final String REJECTED_METRIC = "external.api.calls.rejected";
+
+    private static final double RATE_DECREASE_FACTOR = 0.5;
+    private static final double RATE_RECOVERY_FRACTION = 0.1;
+    private static final double MIN_RATE_FRACTION = 0.05;
+
+    private final ExternalResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostGuard> guards = new ConcurrentHashMap<>();
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Reserves a call to the host of {@code url}. A granted permit is settled by {@link Permit#complete},
+     * {@link Permit#fail} or {@link Permit#cancel}; only the first of those counts.
+     */
+    public Permit acquire(String url) {
+        String host = resolveHost(url);
+        Policy policy = properties.policy(host);
+        if (!policy.isEnabled()) {
+            return Permit.UNGUARDED;
+        }
+        HostGuard guard = guards.computeIfAbsent(host, key -> register(new HostGuard(key, policy)));
+        Permit permit = guard.tryAcquire(clock.millis());
+        if (permit.rejected()) {
+            meterRegistry.counter(REJECTED_METRIC, "host", host, "reason", permit.rejection.reason()).increment();
+            log.warn("[HTTP] external call short-circuited host={} reason={} circuit={}",
+                    host, permit.rejection.reason(), guard.state);
+        } else if (!permit.delay().isZero()) {
+            log.debug("[HTTP] external call paced host={} waitMs={}", host, permit.delay().toMillis());
+        }
+        return permit;
+    }
+
+    public List<HostState> snapshot() {
+        return guards.values().stream()
+                .map(HostGuard::snapshot)
+                .sorted(Comparator.comparing(HostState::host))
+                .toList();
+    }
+
+    private HostGuard register(HostGuard guard) {
+        Gauge.builder(CIRCUIT_STATE_METRIC, guard, current -> current.state.ordinal())
+                .description("Circuit state per upstream host: 0 closed, 1 half-open, 2 open")
+                .tag("host", guard.host)
+                .register(meterRegistry);
+        Gauge.builder(CURRENT_RATE_METRIC, guard, current -> current.currentRate)
+                .description("Adaptive request rate per upstream host, in calls per second")
+                .tag("host", guard.host)
+                .register(meterRegistry);
+        return guard;
+    }
+
+    private String resolveHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException ex) {
+            return "";
+        }
+    }
+
+    public enum CircuitState {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    public record HostState(
+            String host,
+            CircuitState circuit,
+            int consecutiveFailures,
+            int inFlight,
+            double currentRate,
+            Instant pausedUntil
+    ) {
+    }
+
+    record Rejection(String reason, int statusCode) {
+
+        static final Rejection CIRCUIT_OPEN = new Rejection("circuit-open", HttpStatus.SERVICE_UNAVAILABLE.value());
+        static final Rejection BULKHEAD_FULL = new Rejection("bulkhead-full", HttpStatus.SERVICE_UNAVAILABLE.value());
+        static final Rejection RATE_LIMITED = new Rejection("rate-limited", HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    public static final class Permit {
+
+        private static final Permit UNGUARDED = new Permit(null, null, Duration.ZERO);
+
+        private final HostGuard guard;
+        private final Rejection rejection;
+        private final Duration delay;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Permit(HostGuard guard, Rejection rejection, Duration delay) {
+            this.guard = guard;
+            this.rejection = rejection;
+            this.delay = delay;
+        }
+
+        private static Permit rejectedWith(Rejection rejection) {
+            return new Permit(null, rejection, Duration.ZERO);
+        }
+
+        public boolean rejected() {
+            return rejection != null;
+        }
+
+        /**
+         * How long the caller must wait before sending the call, for the token it reserved.
+         */
+        public Duration delay() {
+            return delay;
+        }
+
+        public int rejectionStatus() {
+            return rejection == null ? 0 : rejection.statusCode();
+        }
+
+        public String rejectionMessage() {
+            return rejection == null ? null : "External API call short-circuited: " + rejection.reason();
+        }
+
+        /**
+         * Records an upstream answer. {@code retryAfter} is the raw {@code Retry-After} header, if any.
+         */
+        public void complete(int statusCode, String retryAfter) {
+            if (guard != null && settled.compareAndSet(false, true)) {
+                guard.complete(statusCode, retryAfter);
+            }
+        }
+
+        /**
+         * Records a call that got no answer: a timeout or a connect/transport failure.
+         */
+        public void fail() {
+            if (guard != null && settled.compareAndSet(false, true)) {
+                guard.fail();
+            }
+        }
+
+        /**
+         * Frees the slot of a call abandoned by its caller, without recording an outcome.
+         */
+        public void cancel() {
+            if (guard != null && settled.compareAndSet(false, true)) {
+                guard.cancel();
+            }
+        }
+    }
+
+    private final class HostGuard {
+
+        private final String host;
+        private final Policy policy;
+        private final double configuredRate;
+        private final double capacity;
+
+        private volatile CircuitState state = CircuitState.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private int inFlight;
+        private int probesInFlight;
+        private volatile double currentRate;
+        private double tokens;
+        private long lastRefill;
+        private long pausedUntil;
+
+        private HostGuard(String host, Policy policy) {
+            this.host = host;
+            this.policy = policy;
+            this.configuredRate = Math.max(policy.getRatePerSecond(), 0);
+            this.capacity = policy.getBurst() > 0 ? policy.getBurst() : Math.max(configuredRate, 1);
+            this.currentRate = configuredRate;
+            this.tokens = capacity;
+            this.lastRefill = clock.millis();
+        }
+
+        private synchronized Permit tryAcquire(long now) {
+            if (state == CircuitState.OPEN) {
+                if (now - openedAt < policy.getOpenDuration().toMillis()) {
+                    return Permit.rejectedWith(Rejection.CIRCUIT_OPEN);
+                }
+                state = CircuitState.HALF_OPEN;
+                probesInFlight = 0;
+                log.info("[HTTP] circuit half-open host={}", host);
+            }
+            if (state == CircuitState.HALF_OPEN && probesInFlight >= Math.max(policy.getHalfOpenProbes(), 1)) {
+                return Permit.rejectedWith(Rejection.CIRCUIT_OPEN);
+            }
+            if (policy.getMaxConcurrent() > 0 && inFlight >= policy.getMaxConcurrent()) {
+                return Permit.rejectedWith(Rejection.BULKHEAD_FULL);
+            }
+            if (now < pausedUntil) {
+                return Permit.rejectedWith(Rejection.RATE_LIMITED);
+            }
+            long waitMillis = 0;
+            if (configuredRate > 0) {
+                refill(now);
+                if (tokens < 1) {
+                    // Tokens may go negative: each waiting caller reserves the next one, so callers are
+                    // paced one refill interval apart rather than all woken at once.
+                    waitMillis = (long) Math.ceil((1 - tokens) * 1000.0 / currentRate);
+                    if (waitMillis > policy.getMaxWait().toMillis()) {
+                        return Permit.rejectedWith(Rejection.RATE_LIMITED);
+                    }
+                }
+                tokens -= 1;
+            }
+            inFlight++;
+            if (state == CircuitState.HALF_OPEN) {
+                probesInFlight++;
+            }
+            return new Permit(this, null, Duration.ofMillis(waitMillis));
+        }
+
+        private synchronized void complete(int statusCode, String retryAfter) {
+            long now = clock.millis();
+            release();
+            if (statusCode >= 500) {
+                recordFailure(now);
+                return;
+            }
+            if (statusCode == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                Duration pause = resolveRetryAfter(retryAfter, now);
+                pausedUntil = Math.max(pausedUntil, now + pause.toMillis());
+                if (configuredRate > 0) {
+                    currentRate = Math.max(currentRate * RATE_DECREASE_FACTOR, configuredRate * MIN_RATE_FRACTION);
+                    tokens = 0;
+                    lastRefill = now;
+                }
+                log.warn("[HTTP] upstream rate limit host={} pauseMs={} currentRate={}",
+                        host, pause.toMillis(), currentRate);
+            } else if (configuredRate > 0 && currentRate < configuredRate) {
+                currentRate = Math.min(configuredRate, currentRate + configuredRate * RATE_RECOVERY_FRACTION);
+            }
+            recordSuccess();
+        }
+
+        private synchronized void fail() {
+            release();
+            recordFailure(clock.millis());
+        }
+
+        private synchronized void cancel() {
+            release();
+        }
+
+        private void release() {
+            inFlight = Math.max(inFlight - 1, 0);
+            if (state == CircuitState.HALF_OPEN) {
+                probesInFlight = Math.max(probesInFlight - 1, 0);
+            }
+        }
+
+        private void recordSuccess() {
+            consecutiveFailures = 0;
+            if (state != CircuitState.CLOSED) {
+                state = CircuitState.CLOSED;
+                log.info("[HTTP] circuit closed host={}", host);
+            }
+        }
+
+        private void recordFailure(long now) {
+            consecutiveFailures++;
+            if (state == CircuitState.HALF_OPEN
+                    || (state == CircuitState.CLOSED && consecutiveFailures >= Math.max(policy.getFailureThreshold(), 1))) {
+                state = CircuitState.OPEN;
+                openedAt = now;
+                log.warn("[HTTP] circuit opened host={} consecutiveFailures={} openFor={}",
+                        host, consecutiveFailures, policy.getOpenDuration());
+            }
+        }
+
+        private void refill(long now) {
+            long elapsed = Math.max(now - lastRefill, 0);
+            tokens = Math.min(capacity, tokens + elapsed * currentRate / 1000.0);
+            lastRefill = now;
+        }
+
+        private Duration resolveRetryAfter(String retryAfter, long now) {
+            Duration requested = parseRetryAfter(retryAfter, now);
+            Duration pause = requested == null ? policy.getRateLimitBackoff() : requested;
+            return pause.compareTo(policy.getMaxRetryAfter()) > 0 ? policy.getMaxRetryAfter() : pause;
+        }
+
+        private synchronized HostState snapshot() {
+            return new HostState(host, state, consecutiveFailures, inFlight, currentRate,
+                    pausedUntil > clock.millis() ? Instant.ofEpochMilli(pausedUntil) : null);
+        }
+    }
+
+    // Retry-After is either delta-seconds or an HTTP-date (RFC 9110 section 10.2.3).
+    static Duration parseRetryAfter(String value, long nowMillis) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(trimmed), 0));
+        } catch (NumberFormatException ignored) {
+            // fall through to the HTTP-date form
+        }
+        try {
+            long until = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Duration.ofMillis(Math.max(until - nowMillis, 0));
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
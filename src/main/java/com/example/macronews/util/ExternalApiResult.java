@@ -1,4 +1,16 @@
 package com.example.macronews.util;
 
-public record ExternalApiResult(int statusCode, String body) {
+/**
+ * Outcome of an external call. {@code shortCircuited} marks a status produced locally by
+ * {@link ExternalApiResilience} without reaching the upstream, so it is not the upstream's own answer.
+ */
+public record ExternalApiResult(int statusCode, String body, boolean shortCircuited) {
+
+    public ExternalApiResult(int statusCode, String body) {
+        this(statusCode, body, false);
+    }
+
+    public static ExternalApiResult shortCircuited(int statusCode, String body) {
+        return new ExternalApiResult(statusCode, body, true);
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.macronews.util;
+
+/**
+ * Outcome of a streamed external call: the value pulled from a 2xx body, or the raw error body of any
+ * other status. {@code shortCircuited} marks a status produced locally by {@link ExternalApiResilience}
+ * without reaching the upstream.
+ */
+public record ExternalApiStreamResult<T>(int statusCode, T value, String errorBody, boolean shortCircuited) {
+
+    public static <T> ExternalApiStreamResult<T> succeeded(int statusCode, T value) {
+        return new ExternalApiStreamResult<>(statusCode, value, null, false);
+    }
+
+    public static <T> ExternalApiStreamResult<T> failed(int statusCode, String errorBody) {
+        return new ExternalApiStreamResult<>(statusCode, null, errorBody, false);
+    }
+
+    public static <T> ExternalApiStreamResult<T> shortCircuited(int statusCode, String errorBody) {
+        return new ExternalApiStreamResult<>(statusCode, null, errorBody, true);
+    }
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
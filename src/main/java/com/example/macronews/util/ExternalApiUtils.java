@@ -1,25 +1,35 @@
 package com.example.macronews.util;
 
 import com.example.macronews.dto.request.ExternalApiRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
@@ -27,8 +37,12 @@ import reactor.core.publisher.Mono;
 public class ExternalApiUtils {
 
     private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int STREAM_PREFETCH_BUFFERS = 4;
 
-    private final WebClient.Builder webClientBuilder;
+    private final ExternalHttpClients externalHttpClients;
+    private final Scheduler blockingIoScheduler;
+    private final ExternalApiResilience externalApiResilience;
     @Value("${app.external-api.timeout:30s}")
     private String timeout = "30s";
 
@@ -37,6 +51,61 @@ public class ExternalApiUtils {
     }
 
     public Mono<ExternalApiResult> callAPIAsync(ExternalApiRequest request) {
+        return exchange(request, response -> {
+            int statusCode = response.statusCode().value();
+            return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> new ExternalApiResult(statusCode, body));
+        }, ExternalApiResult::new, ExternalApiResult::shortCircuited);
+    }
+
+    /**
+     * Calls the API and hands a 2xx body to {@code reader} as a streaming {@link JsonParser} while it
+     * arrives, so large payloads are never held as a whole string or tree. Other statuses, timeouts and
+     * connect failures map to the same codes as {@link #callAPI}; a body the reader cannot parse maps to
+     * {@code 502}.
+     */
+    public <T> ExternalApiStreamResult<T> callAPIStreaming(ExternalApiRequest request, ExternalJsonReader<T> reader) {
+        Assert.notNull(reader, "Response reader must not be null");
+        return exchange(request, response -> {
+            int statusCode = response.statusCode().value();
+            if (!response.statusCode().is2xxSuccessful()) {
+                return response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> ExternalApiStreamResult.<T>failed(statusCode, body));
+            }
+            Flux<DataBuffer> body = response.body(BodyExtractors.toDataBuffers());
+            // The parser blocks on the next buffer, so it must not run on the Netty event loop.
+            return Mono.fromCallable(() -> readStreamedBody(statusCode, body, reader, request))
+                    .subscribeOn(blockingIoScheduler);
+        }, ExternalApiStreamResult::<T>failed, ExternalApiStreamResult::<T>shortCircuited).block();
+    }
+
+    /**
+     * Applies {@code reader} to an already buffered body, for callers (and tests) that hold a string.
+     */
+    public static <T> T readJson(String body, ExternalJsonReader<T> reader) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body == null ? "" : body)) {
+            return reader.read(parser);
+        }
+    }
+
+    private <T> ExternalApiStreamResult<T> readStreamedBody(int statusCode, Flux<DataBuffer> body,
+            ExternalJsonReader<T> reader, ExternalApiRequest request) {
+        try (InputStream stream = DataBufferUtils.subscriberInputStream(body, STREAM_PREFETCH_BUFFERS);
+                JsonParser parser = JSON_FACTORY.createParser(stream)) {
+            return ExternalApiStreamResult.succeeded(statusCode, reader.read(parser));
+        } catch (IOException | RuntimeException ex) {
+            // A reader rejecting the payload is as unusable as a broken stream; neither may escape block().
+            log.warn("[HTTP] Failed to read streamed external API response: method={}, url={}, reason={}",
+                    request.method(), sanitizeUrl(request.url()), ex.getMessage());
+            return ExternalApiStreamResult.failed(HttpStatus.BAD_GATEWAY.value(),
+                    "Failed to read external API response: " + ex.getMessage());
+        }
+    }
+
+    private <R> Mono<R> exchange(ExternalApiRequest request, Function<ClientResponse, Mono<R>> responseHandler,
+            BiFunction<Integer, String, R> errorResult, BiFunction<Integer, String, R> shortCircuitResult) {
         Assert.notNull(request, "External API request must not be null");
         Assert.notNull(request.method(), "HTTP method must not be null");
         Assert.hasText(request.url(), "Request URL must not be blank");
@@ -46,38 +115,50 @@ public class ExternalApiUtils {
         log.info("[HTTP] Calling external API: method={}, url={}, headers={}", request.method(),
                 sanitizeUrl(request.url()), sanitizedHeaders);
 
-        return Mono.defer(() -> webClientBuilder
-                .build()
-                .method(request.method())
-                .uri(request.url())
-                .headers(httpHeaders -> httpHeaders.addAll(headers))
-                .bodyValue(request.body() != null ? request.body() : "")
-                .exchangeToMono(response -> {
-                    int statusCode = response.statusCode().value();
-                    return response.bodyToMono(String.class)
-                            .defaultIfEmpty("")
-                            .map(body -> new ExternalApiResult(statusCode, body));
-                })
-                .timeout(resolveTimeout())
-                .onErrorResume(TimeoutException.class, ex -> {
-                    Duration resolvedTimeout = resolveTimeout();
-                    log.warn("[HTTP] External API request timed out after {}: method={}, url={}",
-                            resolvedTimeout, request.method(), sanitizeUrl(request.url()));
-                    return Mono.just(new ExternalApiResult(
-                            HttpStatus.GATEWAY_TIMEOUT.value(),
-                            "External API request timed out after " + resolvedTimeout));
-                })
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    log.warn("[HTTP] External API responded with status={} bodyLength={}",
-                            ex.getStatusCode().value(),
-                            ex.getResponseBodyAsString() != null ? ex.getResponseBodyAsString().length()
-                                    : 0);
-                    return Mono.just(new ExternalApiResult(ex.getStatusCode().value(), ex.getResponseBodyAsString()));
-                })
-                .onErrorResume(WebClientRequestException.class, ex -> {
-                    log.warn("[HTTP] External API request failed: {}", ex.getMessage());
-                    return Mono.just(new ExternalApiResult(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
-                }));
+        return Mono.defer(() -> {
+            ExternalApiResilience.Permit permit = externalApiResilience.acquire(request.url());
+            if (permit.rejected()) {
+                return Mono.just(shortCircuitResult.apply(permit.rejectionStatus(), permit.rejectionMessage()));
+            }
+            Mono<R> call = externalHttpClients
+                    .forUrl(request.url())
+                    .method(request.method())
+                    .uri(request.url())
+                    .headers(httpHeaders -> httpHeaders.addAll(headers))
+                    .bodyValue(request.body() != null ? request.body() : "")
+                    .exchangeToMono(response -> {
+                        permit.complete(response.statusCode().value(),
+                                response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                        return responseHandler.apply(response);
+                    })
+                    .timeout(resolveTimeout())
+                    .onErrorResume(TimeoutException.class, ex -> {
+                        permit.fail();
+                        Duration resolvedTimeout = resolveTimeout();
+                        log.warn("[HTTP] External API request timed out after {}: method={}, url={}",
+                                resolvedTimeout, request.method(), sanitizeUrl(request.url()));
+                        return Mono.just(errorResult.apply(
+                                HttpStatus.GATEWAY_TIMEOUT.value(),
+                                "External API request timed out after " + resolvedTimeout));
+                    })
+                    .onErrorResume(WebClientResponseException.class, ex -> {
+                        permit.complete(ex.getStatusCode().value(),
+                                ex.getHeaders() == null ? null : ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                        log.warn("[HTTP] External API responded with status={} bodyLength={}",
+                                ex.getStatusCode().value(),
+                                ex.getResponseBodyAsString() != null ? ex.getResponseBodyAsString().length()
+                                        : 0);
+                        return Mono.just(errorResult.apply(ex.getStatusCode().value(), ex.getResponseBodyAsString()));
+                    })
+                    .onErrorResume(WebClientRequestException.class, ex -> {
+                        permit.fail();
+                        log.warn("[HTTP] External API request failed: {}", ex.getMessage());
+                        return Mono.just(errorResult.apply(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
+                    });
+            // A paced call waits for its reserved token before it is sent; the timeout covers only the call.
+            Mono<R> paced = permit.delay().isZero() ? call : Mono.delay(permit.delay()).then(call);
+            return paced.doFinally(signal -> permit.cancel());
+        });
     }
 
     private Duration resolveTimeout() {
@@ -96,7 +177,7 @@ public class ExternalApiUtils {
         try {
             return Optional.ofNullable(body)
                     .filter(StringUtils::hasText)
-                    .map(JsonParser::parseString)
+                    .map(com.google.gson.JsonParser::parseString)
                     .filter(JsonElement::isJsonObject)
                     .map(JsonElement::getAsJsonObject)
                     .filter(root -> root.has("error") && root.get("error").isJsonObject())
@@ -0,0 +1,91 @@
+package com.example.macronews.util;
+
+import com.example.macronews.config.ExternalHttpClientProperties;
+import com.example.macronews.config.ExternalHttpClientProperties.Profile;
+import io.netty.channel.ChannelOption;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * One {@link WebClient} per upstream profile, each on its own pooled connection provider.
+ *
+ * <p>Clients are built on first use and reused afterwards, so keep-alive connections (and their TLS
+ * sessions) survive across calls instead of being renegotiated per request. Every pool publishes the
+ * Reactor Netty connection provider gauges ({@code reactor.netty.connection.provider.active.connections},
+ * {@code ...pending.connections} and friends) tagged with the pool name {@code external-<profile>}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalHttpClients implements DisposableBean {
+
+    static final String POOL_NAME_PREFIX = "external-";
+
+    private final WebClient.Builder webClientBuilder;
+    private final ExternalHttpClientProperties properties;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    public WebClient forUrl(String url) {
+        return forProfile(properties.resolveProfileName(resolveHost(url)));
+    }
+
+    WebClient forProfile(String profileName) {
+        return clients.computeIfAbsent(profileName, this::build).webClient();
+    }
+
+    private PooledClient build(String profileName) {
+        Profile profile = properties.profile(profileName);
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(POOL_NAME_PREFIX + profileName)
+                .maxConnections(Math.max(profile.getMaxConnections(), 1))
+                .pendingAcquireMaxCount(profile.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(profile.getPendingAcquireTimeout())
+                .maxIdleTime(profile.getMaxIdleTime())
+                .maxLifeTime(profile.getMaxLifeTime())
+                .evictInBackground(profile.getEvictionInterval())
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) profile.getConnectTimeout().toMillis())
+                .responseTimeout(profile.getReadTimeout())
+                .compress(profile.isCompression())
+                .protocol(profile.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+        log.info("[HTTP] client profile built profile={} maxConnections={} connectTimeout={} readTimeout={} "
+                        + "compression={} http2={}",
+                profileName, profile.getMaxConnections(), profile.getConnectTimeout(), profile.getReadTimeout(),
+                profile.isCompression(), profile.isHttp2());
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new PooledClient(webClient, connectionProvider);
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> client.connectionProvider().dispose());
+        clients.clear();
+    }
+
+    private String resolveHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException ex) {
+            return "";
+        }
+    }
+
+    private record PooledClient(WebClient webClient, ConnectionProvider connectionProvider) {
+    }
+}
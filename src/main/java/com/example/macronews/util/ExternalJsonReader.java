@@ -0,0 +1,16 @@
+package com.example.macronews.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Pulls the fields a caller needs out of a streamed JSON response body.
+ *
+ * <p>The parser is positioned before the first token. Readers may stop early; the rest of the body is
+ * discarded when the parser is closed.
+ */
+@FunctionalInterface
+public interface ExternalJsonReader<T> {
+
+    T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,206 @@
+package com.example.macronews.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.util.StringUtils;
+
+/**
+ * Aho–Corasick automaton that finds every keyword of a fixed set in one linear pass over a text.
+ *
+ * <p>Matching follows {@link KeywordMatcher}: ASCII keywords must start and end on a word boundary, and
+ * Korean (and other non-ASCII) keywords match as case-insensitive substrings. Build one automaton per
+ * keyword snapshot and reuse it; instances are immutable and thread-safe.
+ */
+public final class KeywordAutomaton {
+
+    private static final KeywordAutomaton EMPTY = new KeywordAutomaton(List.of());
+
+    private final List<String> keywords;
+    private final int[] keywordLengths;
+    private final boolean[] asciiKeywords;
+    private final Node root;
+
+    private KeywordAutomaton(List<String> keywords) {
+        this.keywords = keywords;
+        this.keywordLengths = new int[keywords.size()];
+        this.asciiKeywords = new boolean[keywords.size()];
+        this.root = new Node();
+        for (int index = 0; index < keywords.size(); index++) {
+            String keyword = keywords.get(index).trim();
+            keywordLengths[index] = keyword.length();
+            asciiKeywords[index] = KeywordMatcher.isAsciiKeyword(keyword);
+            insert(keyword, index);
+        }
+        linkFailures();
+    }
+
+    public static KeywordAutomaton compile(KeywordSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("source must not be null");
+        }
+        return compile(source.keywords());
+    }
+
+    /**
+     * Compiles the given keywords. Blank keywords are ignored and duplicates are kept once.
+     */
+    public static KeywordAutomaton compile(Collection<String> keywords) {
+        if (keywords == null) {
+            throw new IllegalArgumentException("keywords must not be null");
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (StringUtils.hasText(keyword)) {
+                distinct.add(keyword);
+            }
+        }
+        return distinct.isEmpty() ? EMPTY : new KeywordAutomaton(List.copyOf(distinct));
+    }
+
+    /**
+     * Returns the keywords, as supplied, that occur in {@code text}.
+     */
+    public Set<String> findAll(String text) {
+        if (keywords.isEmpty() || !StringUtils.hasText(text)) {
+            return Set.of();
+        }
+        Set<String> hits = new HashSet<>();
+        scan(text, hits);
+        return Collections.unmodifiableSet(hits);
+    }
+
+    /**
+     * Returns whether any keyword occurs in {@code text}, stopping at the first hit.
+     */
+    public boolean matchesAny(String text) {
+        if (keywords.isEmpty() || !StringUtils.hasText(text)) {
+            return false;
+        }
+        return scan(text, null);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    private boolean scan(String text, Set<String> hits) {
+        Node state = root;
+        for (int position = 0; position < text.length(); position++) {
+            char current = fold(text.charAt(position));
+            Node next = state.next(current);
+            while (next == null && state != root) {
+                state = state.failure;
+                next = state.next(current);
+            }
+            state = next == null ? root : next;
+            for (int keywordIndex : state.outputs) {
+                int end = position + 1;
+                int start = end - keywordLengths[keywordIndex];
+                if (asciiKeywords[keywordIndex]
+                        && !(KeywordMatcher.isWordBoundary(text, start) && KeywordMatcher.isWordBoundary(text, end))) {
+                    continue;
+                }
+                if (hits == null) {
+                    return true;
+                }
+                hits.add(keywords.get(keywordIndex));
+            }
+        }
+        return hits != null && !hits.isEmpty();
+    }
+
+    private void insert(String keyword, int keywordIndex) {
+        Node node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.nextOrCreate(fold(keyword.charAt(i)));
+        }
+        node.addOutput(keywordIndex);
+    }
+
+    private void linkFailures() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.targets) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.labels.length; i++) {
+                char label = node.labels[i];
+                Node child = node.targets[i];
+                Node fallback = node.failure;
+                while (fallback != root && fallback.next(label) == null) {
+                    fallback = fallback.failure;
+                }
+                Node failure = fallback.next(label);
+                child.failure = failure == null || failure == child ? root : failure;
+                child.inheritOutputs(child.failure);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static char fold(char value) {
+        return Character.toLowerCase(value);
+    }
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] targets = new Node[0];
+        private int[] outputs = new int[0];
+        private Node failure;
+
+        private Node next(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : targets[index];
+        }
+
+        private Node nextOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return targets[index];
+            }
+            int insertAt = -index - 1;
+            Node created = new Node();
+            char[] grownLabels = new char[labels.length + 1];
+            Node[] grownTargets = new Node[targets.length + 1];
+            System.arraycopy(labels, 0, grownLabels, 0, insertAt);
+            System.arraycopy(targets, 0, grownTargets, 0, insertAt);
+            grownLabels[insertAt] = label;
+            grownTargets[insertAt] = created;
+            System.arraycopy(labels, insertAt, grownLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(targets, insertAt, grownTargets, insertAt + 1, targets.length - insertAt);
+            labels = grownLabels;
+            targets = grownTargets;
+            return created;
+        }
+
+        private void addOutput(int keywordIndex) {
+            outputs = Arrays.copyOf(outputs, outputs.length + 1);
+            outputs[outputs.length - 1] = keywordIndex;
+        }
+
+        private void inheritOutputs(Node from) {
+            if (from.outputs.length == 0) {
+                return;
+            }
+            List<Integer> merged = new ArrayList<>(outputs.length + from.outputs.length);
+            for (int output : outputs) {
+                merged.add(output);
+            }
+            for (int output : from.outputs) {
+                merged.add(output);
+            }
+            outputs = merged.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.macronews.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.springframework.util.StringUtils;
 
 /**
@@ -10,7 +8,11 @@ import org.springframework.util.StringUtils;
  * <p>Korean (and other non-ASCII) keywords use plain case-insensitive substring matching, because
  * languages such as Korean do not separate words with whitespace. ASCII/English keywords are matched
  * on word boundaries so that, for example, the keyword {@code "AI"} does not match inside
- * {@code "RAID"}.
+ * {@code "RAID"}. A word boundary sits between an ASCII word character ({@code [A-Za-z0-9_]}) and any
+ * other character, the same rule as the regex {@code \b}.
+ *
+ * <p>Checking many keywords against the same text should use a {@link KeywordAutomaton}, which applies
+ * these rules to every keyword in a single pass.
  */
 public final class KeywordMatcher {
 
@@ -31,7 +33,7 @@ public final class KeywordMatcher {
         return haystack.toLowerCase().contains(needle.toLowerCase());
     }
 
-    private static boolean isAsciiKeyword(String keyword) {
+    static boolean isAsciiKeyword(String keyword) {
         for (int i = 0; i < keyword.length(); i++) {
             if (keyword.charAt(i) > 0x7F) {
                 return false;
@@ -40,11 +42,28 @@ public final class KeywordMatcher {
         return true;
     }
 
+    static boolean isWordBoundary(CharSequence text, int index) {
+        boolean wordBefore = index > 0 && isWordChar(text.charAt(index - 1));
+        boolean wordAfter = index < text.length() && isWordChar(text.charAt(index));
+        return wordBefore != wordAfter;
+    }
+
+    private static boolean isWordChar(char value) {
+        return (value >= 'a' && value <= 'z')
+                || (value >= 'A' && value <= 'Z')
+                || (value >= '0' && value <= '9')
+                || value == '_';
+    }
+
     private static boolean matchesWordBoundary(String text, String keyword) {
-        Pattern pattern = Pattern.compile(
-                "\\b" + Pattern.quote(keyword) + "\\b",
-                Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(text);
-        return matcher.find();
+        int lastStart = text.length() - keyword.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (text.regionMatches(true, start, keyword, 0, keyword.length())
+                    && isWordBoundary(text, start)
+                    && isWordBoundary(text, start + keyword.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -19,6 +19,16 @@ public interface KeywordSource {
      */
     List<String> keywords();
 
+    /**
+     * Returns an automaton that matches the current keywords in a single pass.
+     *
+     * <p>The default compiles a new automaton on every call; sources whose keywords do not change
+     * between calls should compile once and return the same instance.
+     */
+    default KeywordAutomaton automaton() {
+        return KeywordAutomaton.compile(keywords());
+    }
+
     /**
      * Creates a read-only source backed by a fixed, immutable copy of the given keywords.
      *
@@ -27,13 +37,25 @@ public interface KeywordSource {
      *
      * @param keywords the keywords to expose; must not be {@code null} and must not contain
      *                 {@code null} elements
-     * @return a source that always returns the same immutable snapshot
+     * @return a source that always returns the same immutable snapshot and a matching automaton
+     *         compiled once
      */
     static KeywordSource fixed(Collection<String> keywords) {
         if (keywords == null) {
             throw new IllegalArgumentException("keywords must not be null");
         }
         List<String> snapshot = List.copyOf(keywords);
-        return () -> snapshot;
+        KeywordAutomaton automaton = KeywordAutomaton.compile(snapshot);
+        return new KeywordSource() {
+            @Override
+            public List<String> keywords() {
+                return snapshot;
+            }
+
+            @Override
+            public KeywordAutomaton automaton() {
+                return automaton;
+            }
+        };
     }
 }
@@ -0,0 +1,197 @@
+package com.example.macronews.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cached value regenerated through a {@link SingleFlight}, serving the stale value while it is refreshed.
+ *
+ * <p>A loaded value is fresh for {@link Policy#ttl()}, less a random share of up to {@link Policy#jitter()}
+ * of it so that instances started together do not refresh together. The first caller after that reloads it on
+ * its own thread while every other caller keeps the stale value, for at most {@link Policy#maxStale()} past
+ * the ttl. Past that, or before the first load, callers queue behind the one loading and share its result. A
+ * load that throws keeps the previous value and holds off the next attempt for {@link Policy#failureBackoff()};
+ * without a usable value, callers get empty meanwhile. Callers that must not wait on the loader at all read
+ * with {@link #peek()} and leave loading to a background {@link #refresh}. Stale reads are counted as
+ * {@code app.refresh.stale.served}.
+ *
+ * @param <T> the cached value, never {@code null}
+ */
+@Slf4j
+public final class RefreshingValue<T> {
+
+    static final String STALE_SERVED_METRIC = "app.refresh.stale.served";
+
+    private final String name;
+    private final Policy policy;
+    private final InstantSource clock;
+    private final SingleFlight flight;
+    private final Counter staleServed;
+    private volatile Entry<T> entry;
+    private volatile Instant retryNotBefore;
+
+    public RefreshingValue(String name, Policy policy, InstantSource clock, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.policy = policy;
+        this.clock = clock;
+        this.flight = new SingleFlight(name, meterRegistry);
+        this.staleServed = Counter.builder(STALE_SERVED_METRIC)
+                .tag("name", name)
+                .description("Reads answered with a stale value while another caller refreshed it")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current value, loading it with {@code loader} when it is due as described above.
+     */
+    public Optional<T> get(Supplier<? extends T> loader) {
+        Instant now = clock.instant();
+        Entry<T> current = entry;
+        if (current != null && now.isBefore(current.refreshAt())) {
+            return Optional.of(current.value());
+        }
+        if (current != null && now.isBefore(current.hardExpiresAt())) {
+            if (!backingOff(now)) {
+                loadQuietly(() -> flight.<Entry<T>>tryRun(() -> entry == current ? load(loader) : entry, null));
+            }
+            Entry<T> latest = entry;
+            if (latest == current) {
+                staleServed.increment();
+            }
+            return Optional.of(latest.value());
+        }
+        if (backingOff(now)) {
+            return Optional.empty();
+        }
+        return loadQuietly(() -> Optional.ofNullable(flight.run(() -> {
+            Entry<T> latest = entry;
+            if (latest != current && latest != null && clock.instant().isBefore(latest.hardExpiresAt())) {
+                return latest;
+            }
+            return backingOff(clock.instant()) ? null : load(loader);
+        }, null))).map(Entry::value);
+    }
+
+    /**
+     * Returns the current value without loading it, or empty before the first load and past the stale limit.
+     * For callers kept current by {@link #refresh}, so a read never waits on the loader.
+     */
+    public Optional<T> peek() {
+        Instant now = clock.instant();
+        Entry<T> current = entry;
+        if (current == null || !now.isBefore(current.hardExpiresAt())) {
+            return Optional.empty();
+        }
+        if (!now.isBefore(current.refreshAt())) {
+            staleServed.increment();
+        }
+        return Optional.of(current.value());
+    }
+
+    /**
+     * Returns whether the value is missing or past its ttl and no failed load is holding off the next one.
+     */
+    public boolean isDue() {
+        Instant now = clock.instant();
+        Entry<T> current = entry;
+        return (current == null || !now.isBefore(current.refreshAt())) && !backingOff(now);
+    }
+
+    /**
+     * Reloads the value now unless a load is already running, for background refreshes.
+     *
+     * @return whether this call loaded a new value
+     */
+    public boolean refresh(Supplier<? extends T> loader) {
+        return loadQuietly(() -> flight.<Entry<T>>tryRun(() -> load(loader), null)).isPresent();
+    }
+
+    public void invalidate() {
+        entry = null;
+        retryNotBefore = null;
+    }
+
+    /**
+     * Returns when the current value was loaded, or empty before the first load.
+     */
+    public Optional<Instant> loadedAt() {
+        Entry<T> current = entry;
+        return current == null ? Optional.empty() : Optional.of(current.loadedAt());
+    }
+
+    private Entry<T> load(Supplier<? extends T> loader) {
+        T value = loader.get();
+        if (value == null) {
+            throw new IllegalStateException("Loader returned null");
+        }
+        Instant loadedAt = clock.instant();
+        Entry<T> loaded = new Entry<>(value, loadedAt, loadedAt.plus(policy.jitteredTtl()),
+                loadedAt.plus(policy.ttl()).plus(policy.maxStale()));
+        entry = loaded;
+        retryNotBefore = null;
+        return loaded;
+    }
+
+    private Optional<Entry<T>> loadQuietly(Supplier<Optional<Entry<T>>> flightCall) {
+        try {
+            return flightCall.get();
+        } catch (RuntimeException ex) {
+            retryNotBefore = clock.instant().plus(policy.failureBackoff());
+            log.warn("[REFRESH] name={} load failed reason={}", name, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean backingOff(Instant now) {
+        Instant until = retryNotBefore;
+        return until != null && now.isBefore(until);
+    }
+
+    /**
+     * @param ttl            how long a loaded value is fresh
+     * @param maxStale       how long past {@code ttl} it may still be served while a refresh runs
+     * @param jitter         share of {@code ttl}, between 0 and 1, by which a refresh may start early
+     * @param failureBackoff how long a failed load holds off the next one
+     */
+    public record Policy(Duration ttl, Duration maxStale, double jitter, Duration failureBackoff) {
+
+        private static final double DEFAULT_JITTER = 0.1d;
+        private static final Duration MAX_DEFAULT_FAILURE_BACKOFF = Duration.ofMinutes(5);
+
+        public Policy {
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            maxStale = maxStale == null || maxStale.isNegative() ? Duration.ZERO : maxStale;
+            jitter = Math.max(0d, Math.min(1d, jitter));
+            failureBackoff = failureBackoff == null || failureBackoff.isNegative() ? Duration.ZERO : failureBackoff;
+        }
+
+        /**
+         * Policy with a 10% jitter and a failure backoff of the ttl, capped at five minutes.
+         */
+        public static Policy of(Duration ttl, Duration maxStale) {
+            Duration backoff = ttl == null || ttl.compareTo(MAX_DEFAULT_FAILURE_BACKOFF) > 0
+                    ? MAX_DEFAULT_FAILURE_BACKOFF : ttl;
+            return new Policy(ttl, maxStale, DEFAULT_JITTER, backoff);
+        }
+
+        private Duration jitteredTtl() {
+            if (jitter <= 0d) {
+                return ttl;
+            }
+            long earlyMillis = (long) (ttl.toMillis() * jitter * ThreadLocalRandom.current().nextDouble());
+            return ttl.minusMillis(earlyMillis);
+        }
+    }
+
+    private record Entry<T>(T value, Instant loadedAt, Instant refreshAt, Instant hardExpiresAt) {
+    }
+}
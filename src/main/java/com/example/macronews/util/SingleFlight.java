@@ -0,0 +1,84 @@
+package com.example.macronews.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lets one caller at a time run an expensive refresh (an OpenAI call, a remote seed fetch) so concurrent
+ * callers that all find their cached value expired do not each pay for it.
+ *
+ * <p>{@link #tryRun} is for callers that have something to fall back on: it skips the task when another
+ * caller is already running one. {@link #run} is for callers that do not: it waits for the run in progress,
+ * so the task should first re-check whether that run already produced what it needs. Every run is timed as
+ * {@code app.refresh.duration}, tagged with the flight's {@code name} and an {@code outcome} of
+ * {@code success} or {@code failure}; a task that throws, or whose result matches {@code failed}, is a failure.
+ */
+public final class SingleFlight {
+
+    static final String DURATION_METRIC = "app.refresh.duration";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MeterRegistry meterRegistry;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successTimer = timer(name, "success", meterRegistry);
+        this.failureTimer = timer(name, "failure", meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} unless another caller is running one, in which case it returns empty at once.
+     */
+    public <T> Optional<T> tryRun(Supplier<T> task, Predicate<? super T> failed) {
+        if (!lock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(timed(task, failed));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code task} once any run in progress has finished.
+     */
+    public <T> T run(Supplier<T> task, Predicate<? super T> failed) {
+        lock.lock();
+        try {
+            return timed(task, failed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isRunning() {
+        return lock.isLocked();
+    }
+
+    private <T> T timed(Supplier<T> task, Predicate<? super T> failed) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            T result = task.get();
+            success = failed == null || !failed.test(result);
+            return result;
+        } finally {
+            sample.stop(success ? successTimer : failureTimer);
+        }
+    }
+
+    private static Timer timer(String name, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(DURATION_METRIC)
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .description("Time spent regenerating a single-flight value")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.macronews.util.external;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * Small cursor helpers for reading upstream JSON with a streaming {@link JsonParser} instead of a tree.
+ */
+public final class ExternalJsonStreams {
+
+    private ExternalJsonStreams() {
+    }
+
+    /**
+     * Moves to the next field of the current object and onto its value. Returns {@code null} once the
+     * object ends.
+     */
+    public static String nextField(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        String name = parser.currentName();
+        parser.nextToken();
+        return name;
+    }
+
+    /**
+     * From the start of an object, skips sibling fields until {@code field} holds an array and leaves the
+     * parser on its {@code START_ARRAY}. Returns {@code false} when the field is missing or not an array.
+     */
+    public static boolean seekArrayField(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        String name;
+        while ((name = nextField(parser)) != null) {
+            if (field.equals(name)) {
+                if (parser.currentToken() == JsonToken.START_ARRAY) {
+                    return true;
+                }
+                parser.skipChildren();
+                return false;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Advances to the next element of the current array. Returns {@code false} at the end of the array.
+     */
+    public static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        return token != null && token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Reads the current value as text, the way {@code JsonNode.asText("")} would: scalars as their text,
+     * {@code null}, objects and arrays as {@code ""} (containers are skipped).
+     */
+    public static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return "";
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    /**
+     * Reads the current value as an int, the way {@code JsonNode.asInt(fallback)} would.
+     */
+    public static int readInt(JsonParser parser, int fallback) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || !token.isScalarValue()) {
+            parser.skipChildren();
+            return fallback;
+        }
+        return parser.getValueAsInt(fallback);
+    }
+}
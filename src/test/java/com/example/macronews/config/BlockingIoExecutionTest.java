@@ -0,0 +1,83 @@
+package com.example.macronews.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+class BlockingIoExecutionTest {
+
+    @Test
+    @DisplayName("Platform mode should keep the bounded ingestion pool and the boundedElastic scheduler")
+    void platformMode_keepsBoundedPools() {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        BlockingIoExecution execution = BlockingIoExecution.resolve("platform");
+
+        Executor executor = asyncConfig.ingestionExecutor(execution);
+
+        assertThat(execution.virtualThreads()).isFalse();
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        assertThat(asyncConfig.blockingIoScheduler(execution)).isSameAs(Schedulers.boundedElastic());
+        asyncConfig.disposeBlockingIoScheduler();
+        assertThat(Schedulers.boundedElastic().isDisposed()).isFalse();
+        ((ThreadPoolTaskExecutor) executor).shutdown();
+    }
+
+    @Test
+    @DisplayName("Virtual mode should run tasks on virtual threads, or fall back to platform threads on older JDKs")
+    void virtualMode_usesVirtualThreadsWhenSupported() throws Exception {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        BlockingIoExecution execution = BlockingIoExecution.resolve(" Virtual ");
+
+        assertThat(execution.virtualThreads()).isEqualTo(BlockingIoExecution.virtualThreadsSupported());
+        Executor executor = asyncConfig.ingestionExecutor(execution);
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        executor.execute(() -> threadName.complete(Thread.currentThread().getName()));
+        assertThat(threadName.get(5, TimeUnit.SECONDS))
+                .startsWith(execution.virtualThreads() ? "ingest-ai-vt-" : "ingest-ai-");
+
+        Scheduler scheduler = asyncConfig.blockingIoScheduler(execution);
+        if (executor instanceof ThreadPoolTaskExecutor platformPool) {
+            assertThat(scheduler).isSameAs(Schedulers.boundedElastic());
+            platformPool.shutdown();
+        }
+        asyncConfig.disposeBlockingIoScheduler();
+        assertThat(scheduler.isDisposed()).isEqualTo(execution.virtualThreads());
+    }
+
+    @Test
+    @DisplayName("Pinned-thread events should be published as a timer")
+    void pinnedEvents_recordedAsTimer() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinnedMonitor monitor = new VirtualThreadPinnedMonitor(
+                new BlockingIoExecution("platform", false), meterRegistry);
+
+        monitor.recordPinned(Duration.ofMillis(35));
+        monitor.recordPinned(Duration.ofMillis(15));
+
+        Timer timer = meterRegistry.get(VirtualThreadPinnedMonitor.PINNED_METRIC).timer();
+        assertThat(timer.count()).isEqualTo(2L);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("Pinned-thread monitor should not start a recording when blocking work uses platform threads")
+    void pinnedMonitor_skipsOnPlatformThreads() {
+        VirtualThreadPinnedMonitor monitor = new VirtualThreadPinnedMonitor(
+                new BlockingIoExecution("platform", false), new SimpleMeterRegistry());
+
+        monitor.start();
+
+        assertThat(ReflectionTestUtils.getField(monitor, "recording")).isNull();
+    }
+}
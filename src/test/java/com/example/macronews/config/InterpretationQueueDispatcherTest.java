@@ -0,0 +1,79 @@
+package com.example.macronews.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobOrigin;
+import com.example.macronews.service.news.InterpretationQueueService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InterpretationQueueDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T10:00:00Z");
+
+    @Test
+    @DisplayName("dispatchAvailable should start no more jobs than the concurrency limit")
+    void dispatchAvailable_respectsConcurrencyLimit() {
+        InterpretationQueueService queueService = mock(InterpretationQueueService.class);
+        List<Runnable> parked = new ArrayList<>();
+        Executor parkingExecutor = parked::add;
+        given(queueService.concurrency()).willReturn(2);
+        given(queueService.leaseNext(anyString())).willAnswer(invocation -> Optional.of(job("job-" + parked.size())));
+        InterpretationQueueDispatcher dispatcher = new InterpretationQueueDispatcher(queueService, parkingExecutor);
+
+        int started = dispatcher.dispatchAvailable();
+        int startedWhileBusy = dispatcher.dispatchAvailable();
+
+        assertThat(started).isEqualTo(2);
+        assertThat(startedWhileBusy).isZero();
+        verify(queueService, times(2)).leaseNext(anyString());
+    }
+
+    @Test
+    @DisplayName("dispatchAvailable should free a slot once a job finishes")
+    void dispatchAvailable_reusesSlotAfterCompletion() {
+        InterpretationQueueService queueService = mock(InterpretationQueueService.class);
+        List<Runnable> parked = new ArrayList<>();
+        Executor parkingExecutor = parked::add;
+        given(queueService.concurrency()).willReturn(1);
+        given(queueService.leaseNext(anyString()))
+                .willReturn(Optional.of(job("job-1")))
+                .willReturn(Optional.of(job("job-2")));
+        InterpretationQueueDispatcher dispatcher = new InterpretationQueueDispatcher(queueService, parkingExecutor);
+
+        dispatcher.dispatchAvailable();
+        parked.get(0).run();
+        int started = dispatcher.dispatchAvailable();
+
+        assertThat(started).isEqualTo(1);
+        verify(queueService).process(any(InterpretationJob.class), anyString());
+    }
+
+    @Test
+    @DisplayName("dispatchAvailable should stop when the queue has nothing leasable")
+    void dispatchAvailable_stopsWhenQueueEmpty() {
+        InterpretationQueueService queueService = mock(InterpretationQueueService.class);
+        given(queueService.concurrency()).willReturn(4);
+        given(queueService.leaseNext(anyString())).willReturn(Optional.empty());
+        InterpretationQueueDispatcher dispatcher = new InterpretationQueueDispatcher(queueService, Runnable::run);
+
+        assertThat(dispatcher.dispatchAvailable()).isZero();
+        verify(queueService, times(1)).leaseNext(anyString());
+    }
+
+    private InterpretationJob job(String id) {
+        return InterpretationJob.queued(id, 10_000, InterpretationJobOrigin.INGESTED, NOW);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.macronews.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.macronews.domain.InterpretationCacheEntry;
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.NewsEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @InjectMocks
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Test
+    @DisplayName("Declared news_events indexes should cover every repository lookup key")
+    void declaredIndexes_coverRepositoryLookupKeys() {
+        assertThat(MongoIndexInitializer.NEWS_EVENT_INDEXES)
+                .extracting(index -> index.getIndexKeys().keySet().iterator().next())
+                .containsExactly("externalId", "url", "status", "ingestedAt", "publishedAt", "priority.score",
+                        "clusterId", "sourceKey");
+        assertThat(MongoIndexInitializer.NEWS_EVENT_INDEXES.get(0).getIndexOptions().getBoolean("unique")).isTrue();
+        assertThat(MongoIndexInitializer.NEWS_EVENT_INDEXES.get(2).getIndexKeys())
+                .isEqualTo(new Document("status", 1).append("analysisResult.createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("Declared interpretation_jobs indexes should cover the lease order and the queue lag lookup")
+    void declaredIndexes_coverInterpretationQueueLookups() {
+        assertThat(MongoIndexInitializer.INTERPRETATION_JOB_INDEXES.get(0).getIndexKeys())
+                .isEqualTo(new Document("priority", -1).append("enqueuedAt", 1));
+        assertThat(MongoIndexInitializer.INTERPRETATION_JOB_INDEXES)
+                .extracting(index -> index.getIndexKeys().keySet().iterator().next())
+                .containsExactly("priority", "enqueuedAt", "status");
+    }
+
+    @Test
+    @DisplayName("Declared interpretation_cache index should expire entries at their own expiresAt")
+    void declaredIndexes_expireInterpretationCacheEntries() {
+        assertThat(MongoIndexInitializer.INTERPRETATION_CACHE_INDEXES).singleElement().satisfies(index -> {
+            assertThat(index.getIndexKeys()).isEqualTo(new Document("expiresAt", 1));
+            assertThat(index.getIndexOptions().getLong("expireAfterSeconds")).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("ensureIndexes should keep creating the remaining indexes when one fails")
+    void ensureIndexes_continuesAfterSingleFailure() {
+        int declared = MongoIndexInitializer.NEWS_EVENT_INDEXES.size()
+                + MongoIndexInitializer.INTERPRETATION_JOB_INDEXES.size()
+                + MongoIndexInitializer.INTERPRETATION_CACHE_INDEXES.size();
+        given(mongoTemplate.indexOps(NewsEvent.class)).willReturn(indexOperations);
+        given(mongoTemplate.indexOps(InterpretationJob.class)).willReturn(indexOperations);
+        given(mongoTemplate.indexOps(InterpretationCacheEntry.class)).willReturn(indexOperations);
+        given(indexOperations.createIndex(any(Index.class))).willReturn("created");
+        given(indexOperations.createIndex(argThat((Index index) -> index.getIndexKeys().containsKey("externalId"))))
+                .willThrow(new IllegalStateException("E11000 duplicate key"));
+
+        int ensured = mongoIndexInitializer.ensureIndexes();
+
+        assertThat(ensured).isEqualTo(declared - 1);
+        verify(indexOperations, times(declared)).createIndex(any(Index.class));
+    }
+
+    @Test
+    @DisplayName("ensureIndexesInBackground should do nothing when index management is disabled")
+    void ensureIndexesInBackground_skipsWhenDisabled() {
+        ReflectionTestUtils.setField(mongoIndexInitializer, "enabled", false);
+
+        mongoIndexInitializer.ensureIndexesInBackground();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.macronews.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobOrigin;
+import com.example.macronews.domain.InterpretationJobStatus;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.PriorityScore;
+import com.example.macronews.repository.InterpretationJobRepository;
+import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.repository.NewsListCursor;
+import com.example.macronews.repository.NewsListWindow;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Calls every {@code NewsEventRepository} and {@code InterpretationJobRepository} query through the real
+ * repositories against a real MongoDB, records the commands the driver sends, and fails when the winning
+ * plan of any of them falls back to a collection scan. Skipped when Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringJUnitConfig(NewsEventIndexUsageIntegrationTest.RepositoryConfig.class)
+class NewsEventIndexUsageIntegrationTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "count", "update", "delete",
+            "findAndModify");
+    // Fields the driver adds to every command that explain rejects or does not need.
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "writeConcern", "readConcern");
+    private static final List<BsonDocument> SENT_COMMANDS = new CopyOnWriteArrayList<>();
+
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+    private static final Instant SINCE = Instant.parse("2026-03-12T00:00:00Z");
+    private static final String FIRST_ID = "65f0a0000000000000000001";
+    private static final String SECOND_ID = "65f0a0000000000000000002";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private NewsEventRepository newsEventRepository;
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection("news_events");
+        mongoTemplate.dropCollection("interpretation_jobs");
+        mongoTemplate.getCollection("news_events").insertMany(List.of(
+                new Document("_id", new org.bson.types.ObjectId(FIRST_ID)).append("externalId", "ext-1")
+                        .append("url", "https://example.com/1").append("source", "NAVER").append("sourceKey", "naver")
+                        .append("status", "ANALYZED").append("clusterId", FIRST_ID)
+                        .append("publishedAt", Instant.parse("2026-03-13T00:00:00Z"))
+                        .append("ingestedAt", Instant.parse("2026-03-13T00:01:00Z"))
+                        .append("analysisResult", new Document("createdAt", Instant.parse("2026-03-13T00:02:00Z"))),
+                new Document("_id", new org.bson.types.ObjectId(SECOND_ID)).append("externalId", "ext-2")
+                        .append("url", "https://example.com/2").append("source", "Reuters")
+                        .append("status", "FAILED").append("publishedAt", Instant.parse("2026-03-13T01:00:00Z"))
+                        .append("ingestedAt", Instant.parse("2026-03-13T01:01:00Z"))));
+        mongoTemplate.getCollection("interpretation_jobs").insertMany(List.of(
+                new Document("_id", "job-1").append("priority", 10_090).append("status", "QUEUED")
+                        .append("enqueuedAt", Instant.parse("2026-03-13T00:00:00Z")).append("attempts", 0),
+                new Document("_id", "job-2").append("priority", 40).append("status", "LEASED")
+                        .append("leaseOwner", "worker-1").append("enqueuedAt", Instant.parse("2026-03-13T00:01:00Z"))
+                        .append("attempts", 1).append("leaseExpiresAt", Instant.parse("2026-03-13T00:06:00Z"))));
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+    }
+
+    @Test
+    @DisplayName("Every news_events repository query should be served by an index")
+    void newsEventQueries_doNotCollectionScan() {
+        NewsListWindow analyzedWindow = new NewsListWindow(NewsStatus.ANALYZED, SINCE, SINCE, null);
+        NewsListWindow anyStatusWindow = new NewsListWindow(null, SINCE, SINCE, NOW);
+        Sort publishedDesc = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("ingestedAt"));
+        Sort priority = Sort.by(Sort.Order.desc("priority.score"), Sort.Order.desc("publishedAt"));
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByStatus", () -> newsEventRepository.findByStatus(NewsStatus.ANALYZED));
+        queries.put("findByExternalId", () -> newsEventRepository.findByExternalId("ext-1"));
+        queries.put("findByUrl", () -> newsEventRepository.findByUrl("https://example.com/1"));
+        queries.put("findByIngestedAtBefore", () -> newsEventRepository.findByIngestedAtBefore(NOW));
+        queries.put("findTop20ByOrderByIngestedAtDesc", newsEventRepository::findTop20ByOrderByIngestedAtDesc);
+        queries.put("findTop20ByOrderByPublishedAtDesc", newsEventRepository::findTop20ByOrderByPublishedAtDesc);
+        queries.put("findByExternalIdInOrUrlIn", () -> newsEventRepository.findByExternalIdInOrUrlIn(
+                List.of("ext-1", "ext-3"), List.of("https://example.com/2")));
+        queries.put("findByClusterId", () -> newsEventRepository.findByClusterId(FIRST_ID));
+        queries.put("findByClusterIdIn", () -> newsEventRepository.findByClusterIdIn(List.of(FIRST_ID, SECOND_ID)));
+        queries.put("findByStatusAndIngestedAtBefore",
+                () -> newsEventRepository.findByStatusAndIngestedAtBefore(NewsStatus.INGESTED, NOW));
+        queries.put("findListWindow", () -> newsEventRepository.findListWindow(analyzedWindow, publishedDesc, 20, 20));
+        queries.put("findListWindow (any status)",
+                () -> newsEventRepository.findListWindow(anyStatusWindow, publishedDesc, 0, 20));
+        queries.put("findListWindow (priority)",
+                () -> newsEventRepository.findListWindow(analyzedWindow, priority, 0, 20));
+        queries.put("findListWindowAfter", () -> newsEventRepository.findListWindowAfter(analyzedWindow,
+                new NewsListCursor(Instant.parse("2026-03-13T01:00:00Z"), SECOND_ID), 21));
+        queries.put("findListWindowAfter (undated cursor)", () -> newsEventRepository.findListWindowAfter(
+                analyzedWindow, new NewsListCursor(null, SECOND_ID), 21));
+        queries.put("countListWindow", () -> newsEventRepository.countListWindow(analyzedWindow));
+        queries.put("findPriorityStale", () -> newsEventRepository.findPriorityStale(2, null, 100));
+        queries.put("findPriorityStale (resumed)", () -> newsEventRepository.findPriorityStale(2, FIRST_ID, 100));
+        queries.put("updatePriorities", () -> newsEventRepository.updatePriorities(
+                Map.of(FIRST_ID, new PriorityScore(10, 2, Map.of(), NOW))));
+        queries.put("backfillSourceKeys", newsEventRepository::backfillSourceKeys);
+        queries.put("findClusterCandidates", () -> newsEventRepository.findClusterCandidates(SINCE));
+        queries.put("findSignalCandidates", () -> newsEventRepository.findSignalCandidates(SINCE));
+        queries.put("streamDedupKeys", () -> {
+            try (Stream<NewsEvent> events = newsEventRepository.streamDedupKeys()) {
+                assertThat(events).extracting(NewsEvent::externalId).containsExactly("ext-1", "ext-2");
+            }
+        });
+
+        assertServedByIndexes(queries);
+    }
+
+    @Test
+    @DisplayName("Every interpretation_jobs repository query should be served by an index")
+    void interpretationJobQueries_doNotCollectionScan() {
+        Instant leaseCheckedAt = Instant.parse("2026-03-13T00:10:00Z");
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("leaseNext", () -> interpretationJobRepository.leaseNext("worker-2", leaseCheckedAt,
+                Duration.ofMinutes(5)));
+        queries.put("findFirstByOrderByEnqueuedAtAsc", interpretationJobRepository::findFirstByOrderByEnqueuedAtAsc);
+        queries.put("countByStatusAndLeaseExpiresAtAfter", () -> interpretationJobRepository
+                .countByStatusAndLeaseExpiresAtAfter(InterpretationJobStatus.LEASED, leaseCheckedAt));
+        queries.put("findJobIds", () -> interpretationJobRepository.findJobIds(List.of("job-1", "job-3")));
+        queries.put("renewLeases", () -> interpretationJobRepository.renewLeases(List.of("job-2"), "worker-1",
+                leaseCheckedAt.plusSeconds(300)));
+        queries.put("enqueueAllIfAbsent", () -> interpretationJobRepository.enqueueAllIfAbsent(List.of(
+                InterpretationJob.queued("job-3", 10_000, InterpretationJobOrigin.INGESTED, leaseCheckedAt))));
+        queries.put("complete", () -> interpretationJobRepository.complete("job-2", "worker-1"));
+
+        assertServedByIndexes(queries);
+    }
+
+    private void assertServedByIndexes(Map<String, Runnable> queries) {
+        queries.forEach((name, query) -> {
+            SENT_COMMANDS.clear();
+            query.run();
+            List<BsonDocument> commands = List.copyOf(SENT_COMMANDS);
+            assertThat(commands).as("commands sent by %s", name).isNotEmpty();
+            for (BsonDocument command : commands) {
+                List<String> stages = winningPlanStages(explain(command));
+                assertThat(stages).as("winning plan stages for %s: %s", name, command.toJson())
+                        .isNotEmpty()
+                        .doesNotContain("COLLSCAN");
+            }
+        });
+    }
+
+    private Document explain(BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        command.forEach((field, value) -> {
+            if (!field.startsWith("$") && !SESSION_FIELDS.contains(field)) {
+                explained.append(field, value);
+            }
+        });
+        return mongoTemplate.getDb().runCommand(new BsonDocument("explain", explained)
+                .append("verbosity", new BsonString("queryPlanner")));
+    }
+
+    // Aggregations nest their plan under a $cursor stage and the slot-based engine under queryPlan, so
+    // every winningPlan in the explain output is searched.
+    private List<String> winningPlanStages(Object node) {
+        List<String> stages = new ArrayList<>();
+        if (node instanceof Document document) {
+            document.forEach((field, value) -> {
+                if ("winningPlan".equals(field)) {
+                    collectStages(value, stages);
+                } else {
+                    stages.addAll(winningPlanStages(value));
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> stages.addAll(winningPlanStages(value)));
+        }
+        return stages;
+    }
+
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableMongoRepositories(basePackageClasses = NewsEventRepository.class)
+    static class RepositoryConfig {
+
+        @Bean
+        MongoClient mongoClient() {
+            return MongoClients.create(MongoClientSettings.builder()
+                    .applyConnectionString(new ConnectionString(MONGO.getConnectionString()))
+                    .addCommandListener(new CommandListener() {
+                        @Override
+                        public void commandStarted(CommandStartedEvent event) {
+                            // The event's document is only valid inside the callback, so it is copied.
+                            if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                                SENT_COMMANDS.add(BsonDocument.parse(event.getCommand().toJson()));
+                            }
+                        }
+                    })
+                    .build());
+        }
+
+        @Bean
+        MongoTemplate mongoTemplate(MongoClient mongoClient) {
+            return new MongoTemplate(mongoClient, "macro_news_index_test");
+        }
+    }
+}
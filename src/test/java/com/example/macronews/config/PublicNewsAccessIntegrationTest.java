@@ -3,6 +3,9 @@ package com.example.macronews.config;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
@@ -27,6 +30,8 @@ import com.example.macronews.repository.UserRepository;
 import com.example.macronews.service.forecast.MarketForecastQueryService;
 import com.example.macronews.service.market.MarketDataFacade;
 import com.example.macronews.service.news.AiMarketSummaryService;
+import com.example.macronews.service.news.HomepageNewsSection;
+import com.example.macronews.service.news.HomepageViewService;
 import com.example.macronews.service.news.NewsListSort;
 import com.example.macronews.service.news.NewsQueryService;
 import com.example.macronews.service.news.MarketSummarySnapshotService;
@@ -34,6 +39,7 @@ import com.example.macronews.service.news.RecentMarketSummaryService;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +60,9 @@ class PublicNewsAccessIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private HomepageViewService homepageViewService;
+
     @MockitoBean
     private UserRepository userRepository;
 
@@ -89,12 +98,14 @@ class PublicNewsAccessIntegrationTest {
         given(marketDataFacade.getDxy()).willReturn(Optional.empty());
         given(marketDataFacade.getUs10y()).willReturn(Optional.empty());
         given(marketDataFacade.getOil()).willReturn(Optional.empty());
+        homepageViewService.refresh();
     }
 
     @Test
     void givenRecentNewsFailure_whenRequestNewsList_thenReturnOkAndFallbackModel() throws Exception {
-        willThrow(new RuntimeException("recent news unavailable"))
-                .given(newsQueryService).getRecentNews(null, NewsListSort.PUBLISHED_DESC);
+        willThrow(new RuntimeException("news sections unavailable"))
+                .given(newsQueryService).getHomepageSections(null);
+        homepageViewService.refresh();
 
         mockMvc.perform(get("/news"))
                 .andExpect(status().isOk())
@@ -134,8 +145,11 @@ class PublicNewsAccessIntegrationTest {
 
     @Test
     void givenAnonymousUser_whenRequestNewsListWithTodayOnlyItems_thenRenderTodayItems() throws Exception {
-        given(newsQueryService.getRecentNewsForToday(null, NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(todayNewsItem()));
+        Map<NewsListSort, HomepageNewsSection> sections = new EnumMap<>(NewsListSort.class);
+        sections.put(NewsListSort.PUBLISHED_DESC,
+                new HomepageNewsSection(List.of(todayNewsItem()), new MarketSignalOverviewDto(List.of())));
+        given(newsQueryService.getHomepageSections(null)).willReturn(sections);
+        homepageViewService.refresh();
 
         mockMvc.perform(get("/news"))
                 .andExpect(status().isOk())
@@ -169,6 +183,20 @@ class PublicNewsAccessIntegrationTest {
                 .andExpect(redirectedUrl("/login"));
     }
 
+    @Test
+    void givenAnonymousUser_whenRequestActuatorMetrics_thenRedirectToLogin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+    }
+
+    @Test
+    void givenNonAdminUser_whenClearCaches_thenAccessDenied() throws Exception {
+        mockMvc.perform(delete("/actuator/caches").with(user("reader").roles("USER")).with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/access-denied"));
+    }
+
     @Test
     void givenAnonymousUser_whenRequestMarketSummaryCurrent_thenReturnOk() throws Exception {
         String newsId = "news-1";
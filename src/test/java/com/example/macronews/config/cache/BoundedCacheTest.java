@@ -0,0 +1,211 @@
+package com.example.macronews.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.macronews.config.CachePolicyProperties;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+class BoundedCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-17T00:00:00Z"));
+
+    @Test
+    @DisplayName("a crawl through many keys should stay within the maximum size")
+    void givenCrawlOverManyKeys_whenPut_thenSizeStaysBounded() {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ofMinutes(30), clock);
+
+        for (int i = 0; i < 10_000; i++) {
+            if (cache.get("news-" + i) == null) {
+                cache.put("news-" + i, Optional.of("detail-" + i));
+            }
+        }
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(100L);
+        assertThat(cache.missCount()).isEqualTo(10_000L);
+        assertThat(cache.evictionCount()).isEqualTo(9_900L);
+    }
+
+    @Test
+    @DisplayName("frequently read entries should survive a scan of one-off keys")
+    void givenPopularEntries_whenScanned_thenPopularEntriesAreKept() {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ofMinutes(30), clock);
+        for (int i = 0; i < 50; i++) {
+            cache.put("popular-" + i, "detail");
+        }
+
+        // Readers keep coming back to the popular pages while a crawler walks through every article once.
+        for (int i = 0; i < 5_000; i++) {
+            if (i % 100 == 0) {
+                for (int popular = 0; popular < 50; popular++) {
+                    cache.get("popular-" + popular);
+                }
+            }
+            if (cache.get("crawl-" + i) == null) {
+                cache.put("crawl-" + i, "detail");
+            }
+        }
+
+        long kept = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("popular-" + i) != null) {
+                kept++;
+            }
+        }
+        assertThat(kept).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("entries should expire after write and count as evictions")
+    void givenExpiredEntry_whenGet_thenMissAndEviction() {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ofMinutes(30), clock);
+        cache.put("news-1", "detail");
+
+        clock.advance(Duration.ofMinutes(29));
+        assertThat(cache.get("news-1").get()).isEqualTo("detail");
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(cache.get("news-1")).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+        assertThat(cache.evictionCount()).isEqualTo(1L);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("evict should only remove the given key")
+    void givenSeveralEntries_whenEvict_thenOnlyThatKeyIsRemoved() {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ZERO, clock);
+        cache.put("news-1", "detail-1");
+        cache.put("news-2", "detail-2");
+
+        cache.evict("news-1");
+
+        assertThat(cache.get("news-1")).isNull();
+        assertThat(cache.get("news-2").get()).isEqualTo("detail-2");
+        assertThat(cache.evictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("concurrent misses on one key should run the loader once")
+    void givenConcurrentMisses_whenGetWithLoader_thenLoaderRunsOnce() throws Exception {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ofMinutes(30), clock);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("news-1", () -> {
+                    loads.incrementAndGet();
+                    loaderEntered.countDown();
+                    releaseLoader.await(5, TimeUnit.SECONDS);
+                    return "detail";
+                })));
+            }
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give the other callers time to miss and queue up behind the running load.
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("detail");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.putCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("a failed load should let the next caller load again")
+    void givenFailingLoader_whenGetWithLoader_thenNextCallerLoads() {
+        BoundedCache cache = new BoundedCache("newsDetail", 100, Duration.ofMinutes(30), clock);
+
+        assertThatThrownBy(() -> cache.get("news-1", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(cache.get("news-1", () -> "detail")).isEqualTo("detail");
+        assertThat(cache.get("news-1").get()).isEqualTo("detail");
+    }
+
+    @Test
+    @DisplayName("manager should apply the configured policy and publish cache meters")
+    void givenConfiguredCache_whenBound_thenMetersReflectCounters() {
+        CachePolicyProperties properties = new CachePolicyProperties();
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setMaximumSize(2);
+        policy.setExpireAfterWrite(Duration.ofMinutes(5));
+        properties.getCaches().put("newsDetail", policy);
+        BoundedCacheManager cacheManager = new BoundedCacheManager(properties, clock);
+        cacheManager.initializeCaches();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        Cache cache = cacheManager.getCache("newsDetail");
+        new BoundedCacheMeterBinder((BoundedCache) cache, Tags.of("cache.manager", "cacheManager")).bindTo(registry);
+        cache.put("news-1", "detail");
+        cache.get("news-1");
+        cache.get("news-2");
+
+        assertThat(cacheManager.getCacheNames()).containsExactly("newsDetail");
+        assertThat(((BoundedCache) cacheManager.getCache("other")).maximumSize()).isEqualTo(1_000L);
+        assertThat(registry.get("cache.gets").tags("cache", "newsDetail", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0d);
+        assertThat(registry.get("cache.gets").tags("cache", "newsDetail", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0d);
+        assertThat(registry.get("cache.puts").tags("cache", "newsDetail").functionCounter().count()).isEqualTo(1.0d);
+        assertThat(registry.get("cache.size").tags("cache", "newsDetail").gauge().value()).isEqualTo(1.0d);
+        assertThat(registry.get("cache.max.size").tags("cache", "newsDetail").gauge().value()).isEqualTo(2.0d);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
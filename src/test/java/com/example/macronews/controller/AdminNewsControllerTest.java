@@ -9,10 +9,12 @@ import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.dto.AutoIngestionControlStatusDto;
 import com.example.macronews.dto.AutoIngestionBatchStatusDto;
 import com.example.macronews.dto.AutoIngestionRunOutcome;
+import com.example.macronews.dto.InterpretationQueueStatusDto;
 import com.example.macronews.dto.request.AdminIngestionRequest;
 import com.example.macronews.service.macro.MacroAiService;
 import com.example.macronews.service.news.AutoIngestionControlService;
 import com.example.macronews.service.news.AutoIngestionRunCommandResult;
+import com.example.macronews.service.news.InterpretationQueueService;
 import com.example.macronews.service.news.NewsIngestionService;
 import com.example.macronews.service.news.NewsIngestionSummary;
 import com.example.macronews.service.news.NewsQueryService;
@@ -46,6 +48,7 @@ class AdminNewsControllerTest {
                 new OpsFeatureToggleService(false, false),
                 mock(RenderKeepAliveService.class),
                 mock(AutoIngestionEmailNotificationService.class),
+                mock(InterpretationQueueService.class),
                 messageSource());
         RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
         AdminIngestionRequest request = new AdminIngestionRequest(null, null, null, null, null, null, 3);
@@ -75,6 +78,7 @@ class AdminNewsControllerTest {
                 new OpsFeatureToggleService(false, false),
                 mock(RenderKeepAliveService.class),
                 mock(AutoIngestionEmailNotificationService.class),
+                mock(InterpretationQueueService.class),
                 messageSource());
         RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
         List<NewsEvent> ingested = List.of(sampleNewsEvent("event-1"));
@@ -109,6 +113,7 @@ class AdminNewsControllerTest {
                 new OpsFeatureToggleService(false, false),
                 mock(RenderKeepAliveService.class),
                 mock(AutoIngestionEmailNotificationService.class),
+                mock(InterpretationQueueService.class),
                 messageSource());
         RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
         List<NewsEvent> ingested = List.of(sampleNewsEvent("event-1"));
@@ -150,6 +155,7 @@ class AdminNewsControllerTest {
                 new OpsFeatureToggleService(false, false),
                 mock(RenderKeepAliveService.class),
                 mock(AutoIngestionEmailNotificationService.class),
+                mock(InterpretationQueueService.class),
                 messageSource());
         RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
         List<NewsEvent> ingested = List.of(sampleNewsEvent("event-1"));
@@ -250,8 +256,11 @@ class AdminNewsControllerTest {
         NewsQueryService newsQueryService = mock(NewsQueryService.class);
         AutoIngestionControlService autoIngestionControlService = mock(AutoIngestionControlService.class);
         NewsSourceProviderSelector newsSourceProviderSelector = mock(NewsSourceProviderSelector.class);
+        InterpretationQueueService interpretationQueueService = mock(InterpretationQueueService.class);
+        InterpretationQueueStatusDto queueStatus = new InterpretationQueueStatusDto(true, 200L, 4L, 95L, 1000, 4, 0L);
 
         when(newsQueryService.getRecentNews(null)).thenReturn(List.of());
+        when(interpretationQueueService.getStatus()).thenReturn(queueStatus);
         when(autoIngestionControlService.getStatus()).thenReturn(new AutoIngestionControlStatusDto(
                 false, false, AutoIngestionRunOutcome.IDLE, null, null, null, null, null, null, null));
         when(newsSourceProviderSelector.isConfigured()).thenReturn(true);
@@ -274,6 +283,7 @@ class AdminNewsControllerTest {
                 opsFeatureToggleService,
                 renderKeepAliveService,
                 emailService,
+                interpretationQueueService,
                 messageSource());
         ExtendedModelMap model = new ExtendedModelMap();
 
@@ -283,6 +293,7 @@ class AdminNewsControllerTest {
         assertThat(model.getAttribute("keepAliveStatus")).isNotNull();
         assertThat(model.getAttribute("emailNotificationStatus")).isNotNull();
         assertThat(model.getAttribute("autoIngestionControlStatus")).isNotNull();
+        assertThat(model.getAttribute("interpretationQueueStatus")).isEqualTo(queueStatus);
     }
 
     @Test
@@ -297,6 +308,8 @@ class AdminNewsControllerTest {
         assertThat(bundle.getString("admin.news.auto.keepAlive.configHint.disabled")).isNotBlank();
         assertThat(bundle.getString("admin.news.auto.email.heading")).isNotBlank();
         assertThat(bundle.getString("admin.news.auto.email.configHint.disabled")).isNotBlank();
+        assertThat(bundle.getString("admin.news.auto.queue.depth")).isNotBlank();
+        assertThat(bundle.getString("admin.news.auto.queue.lag")).isNotBlank();
     }
 
     private AdminNewsController controller(
@@ -312,6 +325,7 @@ class AdminNewsControllerTest {
                 opsFeatureToggleService,
                 renderKeepAliveService,
                 emailService,
+                mock(InterpretationQueueService.class),
                 messageSource());
     }
 
@@ -3,6 +3,7 @@ package com.example.macronews.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.example.macronews.dto.InterpretationCacheStatsDto;
 import com.example.macronews.dto.OpenAiUsageDashboardDto;
 import com.example.macronews.service.openai.OpenAiUsageReportService;
 import java.math.BigDecimal;
@@ -41,7 +42,8 @@ class AdminOpenAiUsageControllerTest {
                 BigDecimal.valueOf(1350d),
                 "admin.openai.exchange.fallback",
                 true,
-                false
+                false,
+                InterpretationCacheStatsDto.disabled()
         );
         given(openAiUsageReportService.getDashboard(1)).willReturn(dashboard);
 
@@ -69,7 +71,8 @@ class AdminOpenAiUsageControllerTest {
                 BigDecimal.valueOf(1350d),
                 "admin.openai.exchange.fallback",
                 true,
-                false
+                false,
+                InterpretationCacheStatsDto.disabled()
         );
         given(openAiUsageReportService.getDashboard(2)).willReturn(dashboard);
 
@@ -97,7 +100,8 @@ class AdminOpenAiUsageControllerTest {
                 BigDecimal.valueOf(1350d),
                 "admin.openai.exchange.fallback",
                 true,
-                false
+                false,
+                InterpretationCacheStatsDto.disabled()
         );
         given(openAiUsageReportService.getDashboard(1)).willReturn(dashboard);
 
@@ -1,11 +1,10 @@
 package com.example.macronews.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
 
 import com.example.macronews.domain.AnalysisResult;
 import com.example.macronews.domain.ImpactDirection;
@@ -21,23 +20,29 @@ import com.example.macronews.dto.forecast.MarketForecastSnapshotDto;
 import com.example.macronews.service.auth.AnonymousDetailViewGateService;
 import com.example.macronews.service.forecast.MarketForecastQueryService;
 import com.example.macronews.service.news.AiMarketSummaryService;
+import com.example.macronews.service.news.HomepageNewsSection;
+import com.example.macronews.service.news.HomepageViewService;
 import com.example.macronews.service.news.MarketSummarySnapshotService;
+import com.example.macronews.service.news.NewsListSort;
 import com.example.macronews.service.news.NewsQueryService;
 import com.example.macronews.service.news.RecentMarketSummaryService;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.ui.ConcurrentModel;
 import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class NewsControllerTest {
@@ -60,9 +65,20 @@ class NewsControllerTest {
     @Mock
     private AnonymousDetailViewGateService anonymousDetailViewGateService;
 
-    @InjectMocks
     private NewsController newsController;
 
+    @BeforeEach
+    void setUp() {
+        HomepageViewService homepageViewService = new HomepageViewService(
+                newsQueryService,
+                marketForecastQueryService,
+                marketSummarySnapshotService,
+                aiMarketSummaryService,
+                recentMarketSummaryService);
+        ReflectionTestUtils.setField(homepageViewService, "rebuildScheduler", Schedulers.immediate());
+        newsController = new NewsController(newsQueryService, homepageViewService, anonymousDetailViewGateService);
+    }
+
     @Test
     @DisplayName("detail should expose original article summary when it is distinct from the title")
     void detail_exposesDistinctOriginalArticleSummary() {
@@ -212,82 +228,6 @@ class NewsControllerTest {
         assertThat(redirectAttributes.getFlashAttributes()).containsKey("errorMessage");
     }
 
-    @Test
-    @DisplayName("list should fall back to recent news when today's list is empty")
-    void list_fallsBackToRecentNewsWhenTodayListIsEmpty() {
-        NewsListItemDto recentNews = new NewsListItemDto(
-                "news-older",
-                "Older market headline",
-                "Older market headline",
-                "Reuters",
-                Instant.parse("2026-03-16T02:30:00Z"),
-                Instant.parse("2026-03-16T02:35:00Z"),
-                NewsStatus.ANALYZED,
-                true,
-                true,
-                ImpactDirection.UP,
-                SignalSentiment.POSITIVE,
-                "Headline",
-                "Interpretation",
-                10
-        );
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getRecentNews(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(recentNews));
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
-        given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
-        given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
-        given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-        given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-
-        ConcurrentModel model = new ConcurrentModel();
-        String viewName = newsController.list(null, null, null, model);
-
-        assertThat(viewName).isEqualTo("news/list");
-        assertThat(model.getAttribute("newsItems")).isEqualTo(List.of(recentNews));
-        assertThat(model.getAttribute("featuredNews")).isEqualTo(recentNews);
-        verify(newsQueryService).getRecentNews(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC);
-    }
-
-    @Test
-    @DisplayName("list should prefer today's news and not call recent fallback when today's list has items")
-    void list_prefersTodayNewsAndDoesNotCallRecentFallbackWhenTodayListHasItems() {
-        NewsListItemDto todayNews = new NewsListItemDto(
-                "news-today",
-                "Today market headline",
-                "Today market headline",
-                "Reuters",
-                Instant.parse("2026-03-17T02:30:00Z"),
-                Instant.parse("2026-03-17T02:35:00Z"),
-                NewsStatus.ANALYZED,
-                true,
-                true,
-                ImpactDirection.UP,
-                SignalSentiment.POSITIVE,
-                "Headline",
-                "Interpretation",
-                10
-        );
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(todayNews));
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
-        given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
-        given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
-        given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-        given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-
-        ConcurrentModel model = new ConcurrentModel();
-        String viewName = newsController.list(null, null, null, model);
-
-        assertThat(viewName).isEqualTo("news/list");
-        assertThat(model.getAttribute("newsItems")).isEqualTo(List.of(todayNews));
-        assertThat(model.getAttribute("featuredNews")).isEqualTo(todayNews);
-        verify(newsQueryService, never()).getRecentNews(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC);
-    }
-
     @Test
     @DisplayName("list should expose aggregated market forecast snapshot when present")
     void list_addsAggregatedSnapshotToModel() {
@@ -304,10 +244,7 @@ class NewsControllerTest {
                 Instant.parse("2026-03-13T00:00:00Z").toString(),
                 2
         );
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
         given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
@@ -343,10 +280,7 @@ class NewsControllerTest {
                 null
         );
 
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
         given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.of(summary));
@@ -385,10 +319,7 @@ class NewsControllerTest {
                 null
         );
 
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.of(aiSummary));
         given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
@@ -426,10 +357,7 @@ class NewsControllerTest {
                 "snapshot-1"
         );
 
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.of(storedSummary));
         given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
 
@@ -462,10 +390,7 @@ class NewsControllerTest {
                 10
         );
 
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(featuredNews));
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of(featuredNews));
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
         given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
@@ -500,10 +425,7 @@ class NewsControllerTest {
                 10
         );
 
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(featuredNews));
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of(featuredNews));
         given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
         willThrow(new RuntimeException("snapshot store unavailable"))
                 .given(marketSummarySnapshotService).getLatestValidSummary();
@@ -521,16 +443,14 @@ class NewsControllerTest {
     }
 
     @Test
-    @DisplayName("list should fail open when recent news lookup throws")
-    void givenRecentNewsFailure_whenList_thenRenderNewsPageWithEmptyItems() {
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+    @DisplayName("list should fail open when the news section lookup throws")
+    void givenNewsSectionFailure_whenList_thenRenderNewsPageWithEmptyItems() {
         given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
         given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-        willThrow(new RuntimeException("recent news unavailable"))
-                .given(newsQueryService).getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC);
+        willThrow(new RuntimeException("news sections unavailable"))
+                .given(newsQueryService).getHomepageSections(any());
 
         ConcurrentModel model = new ConcurrentModel();
         String viewName = newsController.list(null, null, null, model);
@@ -540,54 +460,13 @@ class NewsControllerTest {
         assertThat(model.getAttribute("featuredNews")).isNull();
         assertThat(model.getAttribute("featuredPrimaryMode")).isEqualTo("article");
         assertThat(model.getAttribute("featuredSummaryMode")).isEqualTo(false);
-        verify(newsQueryService, never()).getRecentNews(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC);
-    }
-
-    @Test
-    @DisplayName("list should fail open when market signal overview lookup throws")
-    void givenMarketSignalOverviewFailure_whenList_thenRenderNewsPageWithEmptyOverview() {
-        NewsListItemDto newsItem = new NewsListItemDto(
-                "news-4",
-                "Market headline",
-                "Market headline",
-                "Reuters",
-                Instant.parse("2026-03-17T02:30:00Z"),
-                Instant.parse("2026-03-17T02:35:00Z"),
-                NewsStatus.ANALYZED,
-                true,
-                true,
-                ImpactDirection.UP,
-                SignalSentiment.POSITIVE,
-                "Headline",
-                "Interpretation",
-                10
-        );
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of(newsItem));
-        given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
-        given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
-        given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-        given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
-        willThrow(new RuntimeException("market signal unavailable"))
-                .given(newsQueryService).getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC);
-
-        ConcurrentModel model = new ConcurrentModel();
-        String viewName = newsController.list(null, null, null, model);
-
-        assertThat(viewName).isEqualTo("news/list");
-        assertThat(model.getAttribute("newsItems")).isEqualTo(List.of(newsItem));
         assertThat(model.getAttribute("marketSignalOverview")).isEqualTo(new MarketSignalOverviewDto(List.of()));
-        assertThat(model.getAttribute("featuredPrimaryMode")).isEqualTo("article");
-        assertThat(model.getAttribute("featuredSummaryMode")).isEqualTo(false);
     }
 
     @Test
     @DisplayName("list should fail open when market forecast lookup throws")
     void list_failsOpenWhenMarketForecastLookupThrows() {
-        given(newsQueryService.getRecentNewsForToday(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(List.of());
-        given(newsQueryService.getMarketSignalOverview(null, com.example.macronews.service.news.NewsListSort.PUBLISHED_DESC))
-                .willReturn(new MarketSignalOverviewDto(List.of()));
+        givenNewsItems(List.of());
         given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
         given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
         given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
@@ -602,6 +481,14 @@ class NewsControllerTest {
         assertThat(model.getAttribute("featuredPrimaryMode")).isEqualTo("article");
     }
 
+    private void givenNewsItems(List<NewsListItemDto> newsItems) {
+        Map<NewsListSort, HomepageNewsSection> sections = new EnumMap<>(NewsListSort.class);
+        for (NewsListSort sort : NewsListSort.values()) {
+            sections.put(sort, new HomepageNewsSection(newsItems, new MarketSignalOverviewDto(List.of())));
+        }
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections);
+    }
+
     private Authentication authenticatedUser() {
         Authentication authentication = mock(Authentication.class);
         given(authentication.isAuthenticated()).willReturn(true);
@@ -0,0 +1,87 @@
+package com.example.macronews.controller;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.dto.NewsCursorPageDto;
+import com.example.macronews.dto.NewsListItemDto;
+import com.example.macronews.security.ContinueAwareAuthenticationSuccessHandler;
+import com.example.macronews.security.CustomUserDetailsService;
+import com.example.macronews.security.LoggingAuthenticationFailureHandler;
+import com.example.macronews.service.news.NewsQueryService;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.cache.type=none")
+@AutoConfigureMockMvc
+class NewsListApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NewsQueryService newsQueryService;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @MockitoBean
+    private LoggingAuthenticationFailureHandler loggingAuthenticationFailureHandler;
+
+    @MockitoBean
+    private ContinueAwareAuthenticationSuccessHandler continueAwareAuthenticationSuccessHandler;
+
+    @Test
+    @DisplayName("Archive cursor endpoint should be accessible without authentication")
+    void archive_accessibleWithoutAuth() throws Exception {
+        given(newsQueryService.getArchiveNewsAfter("next-token", 10))
+                .willReturn(new NewsCursorPageDto(List.of(item("archive-1")), "after-archive-1", true));
+
+        mockMvc.perform(get("/api/news/archive").param("cursor", "next-token").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("archive-1"))
+                .andExpect(jsonPath("$.nextCursor").value("after-archive-1"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Today cursor endpoint should pass the status filter and default page size")
+    void today_passesStatusAndDefaultSize() throws Exception {
+        given(newsQueryService.getRecentNewsForTodayAfter(NewsStatus.ANALYZED, null, 20))
+                .willReturn(NewsCursorPageDto.empty());
+
+        mockMvc.perform(get("/api/news/today").param("status", "analyzed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Malformed cursor should return bad request with an empty page")
+    void archive_malformedCursor() throws Exception {
+        given(newsQueryService.getArchiveNewsAfter("broken", 20))
+                .willThrow(new IllegalArgumentException("Malformed news list cursor"));
+
+        mockMvc.perform(get("/api/news/archive").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    private NewsListItemDto item(String id) {
+        return new NewsListItemDto(id, "Headline", "Headline", "Reuters",
+                Instant.parse("2026-03-10T08:00:00Z"), Instant.parse("2026-03-10T08:05:00Z"),
+                NewsStatus.ANALYZED, true, true, null, null, null, null, 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.macronews.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobStatus;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+@ExtendWith(MockitoExtension.class)
+class InterpretationJobRepositoryImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T10:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private InterpretationJobRepositoryImpl repository;
+
+    @Test
+    @DisplayName("leaseNext should atomically lease the highest-priority queued or expired job")
+    void leaseNext_leasesHighestPriorityLeasableJob() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> updateCaptor = ArgumentCaptor.forClass(UpdateDefinition.class);
+        given(mongoTemplate.findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(InterpretationJob.class))).willReturn(null);
+
+        Optional<InterpretationJob> leased = repository.leaseNext("worker-1", NOW, Duration.ofMinutes(5));
+
+        assertThat(leased).isEmpty();
+        Query query = queryCaptor.getValue();
+        assertThat(query.getSortObject()).isEqualTo(new Document("priority", -1).append("enqueuedAt", 1));
+        assertThat(query.getQueryObject().getList("$or", Document.class)).containsExactly(
+                new Document("status", InterpretationJobStatus.QUEUED),
+                new Document("leaseExpiresAt", new Document("$lte", NOW)));
+        Document update = updateCaptor.getValue().getUpdateObject();
+        assertThat(update.get("$set", Document.class))
+                .containsEntry("status", InterpretationJobStatus.LEASED)
+                .containsEntry("leaseOwner", "worker-1")
+                .containsEntry("leaseExpiresAt", NOW.plus(Duration.ofMinutes(5)));
+        assertThat(update.get("$inc", Document.class)).containsEntry("attempts", 1);
+    }
+
+    @Test
+    @DisplayName("findJobIds should return only the ids that already have a job")
+    void findJobIds_returnsIdsWithJobs() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(InterpretationJob.class))).willReturn(List.of(
+                new InterpretationJob("event-1", 0, null, InterpretationJobStatus.QUEUED, NOW, null, null, 0)));
+
+        Set<String> jobIds = repository.findJobIds(List.of("event-1", "event-2"));
+
+        assertThat(jobIds).containsExactly("event-1");
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .containsEntry("_id", new Document("$in", List.of("event-1", "event-2")));
+        assertThat(queryCaptor.getValue().getFieldsObject()).containsEntry("_id", 1);
+    }
+
+    @Test
+    @DisplayName("renewLeases should only extend the leases the owner still holds")
+    void renewLeases_extendsOwnedLeases() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> updateCaptor = ArgumentCaptor.forClass(UpdateDefinition.class);
+        given(mongoTemplate.updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(InterpretationJob.class)))
+                .willReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        long renewed = repository.renewLeases(List.of("event-1", "event-2"), "worker-1", NOW.plusSeconds(300));
+
+        assertThat(renewed).isEqualTo(2L);
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .containsEntry("_id", new Document("$in", List.of("event-1", "event-2")))
+                .containsEntry("status", InterpretationJobStatus.LEASED)
+                .containsEntry("leaseOwner", "worker-1");
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("leaseExpiresAt", NOW.plusSeconds(300));
+    }
+
+    @Test
+    @DisplayName("enqueueAllIfAbsent should skip the write when there is nothing to queue")
+    void enqueueAllIfAbsent_skipsEmptyInput() {
+        assertThat(repository.enqueueAllIfAbsent(List.of())).isZero();
+    }
+}
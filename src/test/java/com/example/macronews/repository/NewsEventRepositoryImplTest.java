@@ -0,0 +1,290 @@
+package com.example.macronews.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class NewsEventRepositoryImplTest {
+
+    private static final Instant NAVER_NOT_BEFORE = Instant.parse("2026-03-10T00:00:00Z");
+    private static final Instant GLOBAL_NOT_BEFORE = Instant.parse("2026-03-09T15:00:00Z");
+    private static final Instant NOT_AFTER = Instant.parse("2026-03-10T15:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private NewsEventRepositoryImpl repository;
+
+    @Test
+    @DisplayName("findListWindow should push status, per-source window, sort and paging into one query")
+    void findListWindow_pushesWindowSortAndPagingIntoQuery() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(List.of());
+
+        repository.findListWindow(
+                new NewsListWindow(NewsStatus.ANALYZED, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, NOT_AFTER),
+                Sort.by(Sort.Order.desc("publishedAt")),
+                40L,
+                20);
+
+        Query query = queryCaptor.getValue();
+        assertThat(query.getSkip()).isEqualTo(40L);
+        assertThat(query.getLimit()).isEqualTo(20);
+        assertThat(query.getSortObject()).isEqualTo(new Document("publishedAt", -1).append("_id", -1));
+        assertThat(query.getFieldsObject())
+                .containsEntry("analysisResult.marketImpacts", 0)
+                .containsEntry("analysisRetryCount", 0)
+                .containsEntry("analysisLastAttemptAt", 0);
+        List<Document> filter = query.getQueryObject().getList("$and", Document.class);
+        assertThat(filter.get(0)).isEqualTo(new Document("status", NewsStatus.ANALYZED));
+        List<Document> sourceWindows = filter.get(1).getList("$or", Document.class);
+        assertThat(sourceWindows).hasSize(2);
+        assertThat(sourceWindows.get(0).getList("$and", Document.class).get(0))
+                .isEqualTo(new Document("sourceKey", "naver"));
+        assertThat(sourceWindows.get(1).getList("$and", Document.class).get(0))
+                .isEqualTo(new Document("sourceKey", new Document("$ne", "naver")));
+    }
+
+    @Test
+    @DisplayName("Window criteria should fall back to publishedAt only when ingestedAt is missing")
+    void buildWindowCriteria_fallsBackToPublishedAtWhenIngestedAtIsMissing() {
+        Document criteria = repository.buildWindowCriteria(
+                new NewsListWindow(null, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, NOT_AFTER)).getCriteriaObject();
+
+        @SuppressWarnings("unchecked")
+        List<Document> sourceWindows = (List<Document>) criteria.get("$or");
+        assertThat(sourceWindows).hasSize(2);
+        assertThat(criteria).doesNotContainKey("status");
+
+        Document globalBasis = basisOf(sourceWindows.get(1));
+        assertThat(globalBasis.getList("$or", Document.class)).containsExactly(
+                new Document("ingestedAt", new Document("$gte", GLOBAL_NOT_BEFORE).append("$lt", NOT_AFTER)),
+                new Document("ingestedAt", null)
+                        .append("publishedAt", new Document("$gte", GLOBAL_NOT_BEFORE).append("$lt", NOT_AFTER)));
+    }
+
+    @Test
+    @DisplayName("Window criteria should stay open-ended when no upper bound is given")
+    void buildWindowCriteria_isOpenEndedWithoutUpperBound() {
+        Document criteria = repository.buildWindowCriteria(
+                new NewsListWindow(null, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, null)).getCriteriaObject();
+
+        @SuppressWarnings("unchecked")
+        List<Document> sourceWindows = (List<Document>) criteria.get("$or");
+        Document naverBasis = basisOf(sourceWindows.get(0));
+
+        assertThat(naverBasis.getList("$or", Document.class).get(0))
+                .isEqualTo(new Document("ingestedAt", new Document("$gte", NAVER_NOT_BEFORE)));
+    }
+
+    @Test
+    @DisplayName("countListWindow should count with the same window criteria")
+    void countListWindow_countsWindow() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.count(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(7L);
+
+        long count = repository.countListWindow(
+                new NewsListWindow(NewsStatus.ANALYZED, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, null));
+
+        assertThat(count).isEqualTo(7L);
+        assertThat(queryCaptor.getValue().getQueryObject().getList("$and", Document.class).get(0))
+                .isEqualTo(new Document("status", NewsStatus.ANALYZED));
+        verify(mongoTemplate).count(queryCaptor.getValue(), NewsEvent.class);
+    }
+
+    @Test
+    @DisplayName("backfillSourceKeys should derive the key from source only where it is missing")
+    void backfillSourceKeys_setsLowerCasedTrimmedSourceWhereMissing() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        given(mongoTemplate.updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(NewsEvent.class)))
+                .willReturn(UpdateResult.acknowledged(3L, 3L, null));
+
+        long updated = repository.backfillSourceKeys();
+
+        assertThat(updated).isEqualTo(3L);
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .isEqualTo(new Document("sourceKey", new Document("$exists", false))
+                        .append("source", new Document("$ne", null)));
+        assertThat(updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT)).containsExactly(
+                new Document("$set", new Document("sourceKey",
+                        new Document("$toLower", List.of(new Document("$trim", new Document("input", "$source")))))));
+    }
+
+    @Test
+    @DisplayName("findListWindowAfter should bound the window by the cursor and order by publishedAt then id")
+    void findListWindowAfter_appliesKeysetRangeAndOrder() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(List.of());
+        Instant cursorPublishedAt = Instant.parse("2026-03-10T08:00:00Z");
+
+        repository.findListWindowAfter(
+                new NewsListWindow(NewsStatus.ANALYZED, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, null),
+                new NewsListCursor(cursorPublishedAt, "65f000000000000000000010"),
+                21);
+
+        Query query = queryCaptor.getValue();
+        assertThat(query.getSkip()).isZero();
+        assertThat(query.getLimit()).isEqualTo(21);
+        assertThat(query.getSortObject()).isEqualTo(new Document("publishedAt", -1).append("_id", -1));
+        List<Document> filter = query.getQueryObject().getList("$and", Document.class);
+        assertThat(filter).hasSize(2);
+        assertThat(filter.get(1).getList("$or", Document.class)).containsExactly(
+                new Document("publishedAt", new Document("$lt", cursorPublishedAt)),
+                new Document("publishedAt", cursorPublishedAt)
+                        .append("_id", new Document("$lt", "65f000000000000000000010")),
+                new Document("publishedAt", null));
+    }
+
+    @Test
+    @DisplayName("findListWindowAfter without a cursor should start at the newest event of the window")
+    void findListWindowAfter_startsAtNewestWithoutCursor() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(List.of());
+
+        repository.findListWindowAfter(
+                new NewsListWindow(NewsStatus.ANALYZED, NAVER_NOT_BEFORE, GLOBAL_NOT_BEFORE, null), null, 5);
+
+        List<Document> filter = queryCaptor.getValue().getQueryObject().getList("$and", Document.class);
+        assertThat(filter.get(0)).isEqualTo(new Document("status", NewsStatus.ANALYZED));
+        assertThat(filter.get(1)).containsOnlyKeys("$or");
+        assertThat(queryCaptor.getValue().getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Keyset criteria for an undated cursor should continue through undated events by id only")
+    void buildKeysetCriteria_continuesUndatedTailById() {
+        Document criteria = repository.buildKeysetCriteria(
+                new NewsListCursor(null, "65f000000000000000000010")).getCriteriaObject();
+
+        assertThat(criteria).isEqualTo(new Document("publishedAt", null)
+                .append("_id", new Document("$lt", "65f000000000000000000010")));
+    }
+
+    @Test
+    @DisplayName("Cursor tokens should round-trip and reject malformed input")
+    void newsListCursor_roundTripsAndRejectsMalformedTokens() {
+        NewsListCursor dated = new NewsListCursor(Instant.parse("2026-03-10T08:00:00Z"), "65f000000000000000000010");
+        NewsListCursor undated = new NewsListCursor(null, "65f000000000000000000011");
+
+        assertThat(NewsListCursor.decode(dated.encode())).contains(dated);
+        assertThat(NewsListCursor.decode(undated.encode())).contains(undated);
+        assertThat(NewsListCursor.decode("not base64!")).isEmpty();
+        assertThat(NewsListCursor.decode("bm8tc2VwYXJhdG9y")).isEmpty();
+        assertThat(NewsListCursor.decode(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findPriorityStale should page stale scores by id and load only scoring inputs")
+    void findPriorityStale_pagesByIdWithScoringProjection() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(List.of());
+
+        repository.findPriorityStale(3, "65f000000000000000000010", 200);
+
+        Query query = queryCaptor.getValue();
+        assertThat(query.getQueryObject()).isEqualTo(new Document("priority.rulesVersion", new Document("$ne", 3))
+                .append("_id", new Document("$gt", "65f000000000000000000010")));
+        assertThat(query.getSortObject()).isEqualTo(new Document("_id", 1));
+        assertThat(query.getLimit()).isEqualTo(200);
+        assertThat(query.getFieldsObject()).containsOnlyKeys("title", "summary", "source", "url", "publishedAt");
+    }
+
+    @Test
+    @DisplayName("findSignalCandidates should bound the signal basis and load only the signal inputs")
+    void findSignalCandidates_boundsBasisWithSignalProjection() {
+        Instant since = Instant.parse("2026-03-09T00:00:00Z");
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.find(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(List.of());
+
+        repository.findSignalCandidates(since);
+
+        Document queryObject = queryCaptor.getValue().getQueryObject();
+        assertThat(queryObject).containsEntry("status", NewsStatus.ANALYZED);
+        assertThat(queryObject.getList("$or", Document.class)).containsExactly(
+                new Document("analysisResult.createdAt", new Document("$gte", since)),
+                new Document("analysisResult.createdAt", null).append("ingestedAt", new Document("$gte", since)),
+                new Document("analysisResult.createdAt", null).append("ingestedAt", null)
+                        .append("publishedAt", new Document("$gte", since)));
+        assertThat(queryCaptor.getValue().getFieldsObject()).containsOnlyKeys("status", "source", "clusterId",
+                "ingestedAt", "publishedAt", "analysisResult.createdAt", "analysisResult.macroImpacts");
+    }
+
+    @Test
+    @DisplayName("streamDedupKeys should read only the external id index, in its order")
+    void streamDedupKeys_readsCoveredExternalIdScan() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        given(mongoTemplate.stream(queryCaptor.capture(), eq(NewsEvent.class))).willReturn(Stream.empty());
+
+        repository.streamDedupKeys().close();
+
+        assertThat(queryCaptor.getValue().getQueryObject()).isEmpty();
+        assertThat(queryCaptor.getValue().getSortObject()).isEqualTo(new Document("externalId", 1));
+        assertThat(queryCaptor.getValue().getFieldsObject())
+                .isEqualTo(new Document("externalId", 1).append("_id", 0));
+    }
+
+    @Test
+    @DisplayName("insertAllUnordered should leave out every rejected row and keep the rows that were written")
+    void insertAllUnordered_leavesOutDuplicateAndFailedRows() {
+        List<NewsEvent> events = List.of(event("id-1"), event("id-2"), event("id-3"));
+        given(mongoTemplate.bulkOps(BulkMode.UNORDERED, NewsEvent.class)).willReturn(bulkOperations);
+        willThrow(new BulkOperationException("bulk insert failed", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 0),
+                        new BulkWriteError(121, "Document failed validation", new BsonDocument(), 2)),
+                null, new ServerAddress(), Set.of())))
+                .given(bulkOperations).execute();
+
+        List<NewsEvent> inserted = repository.insertAllUnordered(events);
+
+        verify(bulkOperations).insert(anyList());
+        assertThat(inserted).extracting(NewsEvent::id).containsExactly("id-2");
+    }
+
+    private Document basisOf(Document sourceWindow) {
+        return sourceWindow.getList("$and", Document.class).get(1);
+    }
+
+    private NewsEvent event(String id) {
+        return new NewsEvent(id, "external-" + id, "Title " + id, "Summary", "Reuters",
+                "https://example.com/" + id, NOT_AFTER, NOT_AFTER, NewsStatus.INGESTED, null, null, null);
+    }
+}
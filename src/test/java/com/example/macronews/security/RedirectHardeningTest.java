@@ -8,6 +8,7 @@ import com.example.macronews.controller.LoginController;
 import com.example.macronews.service.macro.MacroAiService;
 import com.example.macronews.service.notification.AutoIngestionEmailNotificationService;
 import com.example.macronews.service.news.AutoIngestionControlService;
+import com.example.macronews.service.news.InterpretationQueueService;
 import com.example.macronews.service.news.NewsIngestionService;
 import com.example.macronews.service.news.NewsQueryService;
 import com.example.macronews.service.ops.OpsFeatureToggleService;
@@ -40,6 +41,7 @@ class RedirectHardeningTest {
             mock(OpsFeatureToggleService.class),
             mock(RenderKeepAliveService.class),
             mock(AutoIngestionEmailNotificationService.class),
+            mock(InterpretationQueueService.class),
             mock(MessageSource.class));
 
     @Test
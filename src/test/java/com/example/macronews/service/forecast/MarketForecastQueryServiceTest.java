@@ -27,7 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class MarketForecastQueryServiceTest {
@@ -41,6 +44,9 @@ class MarketForecastQueryServiceTest {
     @Mock
     private MarketDataFacade marketDataFacade;
 
+    @Spy
+    private Scheduler blockingIoScheduler = Schedulers.immediate();
+
     @InjectMocks
     private MarketForecastQueryService marketForecastQueryService;
 
@@ -27,10 +27,12 @@ import com.example.macronews.repository.NewsEventRepository;
 import com.example.macronews.service.market.MarketDataFacade;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
 import com.example.macronews.dto.request.ExternalApiRequest;
+import com.example.macronews.service.openai.PromptTemplateEngine;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
@@ -44,6 +46,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class NewsAggregationServiceTest {
@@ -74,9 +77,12 @@ class NewsAggregationServiceTest {
                 newsEventRepository,
                 externalApiUtils,
                 new ObjectMapper(),
+                new PromptTemplateEngine(new ObjectMapper()),
                 openAiUsageLoggingService,
                 marketDataFacade,
-                policyProperties
+                policyProperties,
+                Schedulers.boundedElastic(),
+                new SimpleMeterRegistry()
         );
         ReflectionTestUtils.setField(newsAggregationService, "openAiApiKey", "test-key");
         ReflectionTestUtils.setField(newsAggregationService, "openAiUrl", "https://api.openai.com/v1/chat/completions");
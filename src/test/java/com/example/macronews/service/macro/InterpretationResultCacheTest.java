@@ -0,0 +1,161 @@
+package com.example.macronews.service.macro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.InterpretationCacheEntry;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.repository.InterpretationCacheRepository;
+import com.example.macronews.service.openai.OpenAiTokenUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class InterpretationResultCacheTest {
+
+    @Mock
+    private InterpretationCacheRepository interpretationCacheRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-20T00:00:00Z"));
+    private InterpretationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    @Test
+    @DisplayName("lookup should hit for the same story under another url and whitespace, and restamp the result")
+    void lookup_hitsNormalizedCopyAndRestamps() {
+        cache.store("gpt-test", "v1", event("news-1", "KOSPI  rises on chip demand", "https://a.example.com/1"),
+                result(), new OpenAiTokenUsage(3000, 600, 3600), 3);
+        clock.advance(Duration.ofHours(1));
+
+        Optional<AnalysisResult> hit = cache.lookup("gpt-test", "v1",
+                event("news-2", "kospi rises on chip demand ", "https://b.example.com/2"));
+
+        assertThat(hit).get().satisfies(result -> {
+            assertThat(result.headlineEn()).isEqualTo("Chip rally");
+            assertThat(result.createdAt()).isEqualTo(clock.instant());
+        });
+        var stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1L);
+        assertThat(stats.savedByModel().get("gpt-test"))
+                .isEqualTo(new InterpretationResultCache.SavedTokens(1000L, 200L));
+        assertThat(meterRegistry.counter(InterpretationResultCache.REQUESTS_METRIC, "result", "hit", "tier", "memory")
+                .count()).isEqualTo(1.0d);
+        verify(interpretationCacheRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("lookup should miss when the prompt version or model changes")
+    void lookup_missesOnOtherPromptVersion() {
+        given(interpretationCacheRepository.findById(anyString())).willReturn(Optional.empty());
+        cache.store("gpt-test", "v1", event("news-1", "KOSPI rises on chip demand", "https://a.example.com/1"),
+                result(), null, 1);
+
+        assertThat(cache.lookup("gpt-test", "v2", event("news-1", "KOSPI rises on chip demand", null))).isEmpty();
+        assertThat(cache.lookup("gpt-other", "v1", event("news-1", "KOSPI rises on chip demand", null))).isEmpty();
+        assertThat(cache.stats().misses()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("lookup should fall back to the Mongo tier after a restart and ignore expired entries")
+    void lookup_readsMongoTierUntilExpiry() {
+        ArgumentCaptor<InterpretationCacheEntry> stored = ArgumentCaptor.forClass(InterpretationCacheEntry.class);
+        NewsEvent event = event("news-1", "KOSPI rises on chip demand", "https://a.example.com/1");
+        cache.store("gpt-test", "v1", event, result(), null, 1);
+        verify(interpretationCacheRepository).save(stored.capture());
+        assertThat(stored.getValue().expiresAt()).isEqualTo(clock.instant().plus(Duration.ofDays(7)));
+        given(interpretationCacheRepository.findById(stored.getValue().id())).willReturn(Optional.of(stored.getValue()));
+
+        InterpretationResultCache restarted = newCache();
+
+        assertThat(restarted.lookup("gpt-test", "v1", event)).isPresent();
+        assertThat(restarted.memorySize()).isEqualTo(1);
+
+        InterpretationResultCache later = newCache();
+        clock.advance(Duration.ofDays(8));
+
+        assertThat(later.lookup("gpt-test", "v1", event)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Cache should be a pass-through when disabled")
+    void disabledCache_neverStoresOrHits() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        NewsEvent event = event("news-1", "KOSPI rises on chip demand", null);
+
+        cache.store("gpt-test", "v1", event, result(), null, 1);
+
+        assertThat(cache.lookup("gpt-test", "v1", event)).isEmpty();
+        verify(interpretationCacheRepository, never()).save(any());
+    }
+
+    private InterpretationResultCache newCache() {
+        InterpretationResultCache created = new InterpretationResultCache(interpretationCacheRepository, meterRegistry);
+        ReflectionTestUtils.setField(created, "enabled", true);
+        ReflectionTestUtils.setField(created, "clock", clock);
+        return created;
+    }
+
+    private NewsEvent event(String id, String title, String url) {
+        return new NewsEvent(id, null, title, "Samsung shares gained on export optimism.", "Yonhap", url,
+                Instant.parse("2026-03-19T09:00:00Z"), Instant.parse("2026-03-19T09:05:00Z"),
+                NewsStatus.INGESTED, null, null, null);
+    }
+
+    private AnalysisResult result() {
+        return new AnalysisResult("gpt-test", Instant.parse("2026-03-19T10:00:00Z"), null, "Chip rally", null,
+                "Chip exporters lead", List.of(), List.of());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.macronews.service.macro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.service.openai.PromptTemplateEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Per-call allocation and latency of building one interpretation payload, comparing the read-and-parse path
+ * the prompt engine replaced with {@link MacroAiPromptBuilder}. Opt-in because timings are noisy on shared CI
+ * runners: {@code PROMPT_BENCHMARK=true ./gradlew test --tests '*MacroAiPromptBuilderBenchmarkTest'}.
+ */
+@EnabledIfEnvironmentVariable(named = "PROMPT_BENCHMARK", matches = "true")
+class MacroAiPromptBuilderBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int ITERATIONS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Resource promptFile = new ClassPathResource("ai/prompts/macro_interpretation_prompt.json");
+    private final NewsEvent event = new NewsEvent(
+            "news-1",
+            null,
+            "KOSPI rises on chip demand as Samsung and SK hynix lead exporters",
+            "Samsung shares gained on export optimism while the won firmed against the dollar. 코스피 반등.",
+            "Yonhap",
+            "https://example.com/news-1",
+            Instant.parse("2026-03-10T09:00:00Z"),
+            Instant.parse("2026-03-10T09:05:00Z"),
+            NewsStatus.INGESTED,
+            null,
+            null,
+            null
+    );
+
+    @Test
+    @DisplayName("Compiled prompt should render the same payload as the legacy path and report both costs")
+    void compareAllocation() throws IOException {
+        MacroAiPromptBuilder builder = new MacroAiPromptBuilder(objectMapper, new PromptTemplateEngine(objectMapper));
+        assertThat(objectMapper.readTree(builder.buildPayload(event, "gpt-4o-mini", 800, 0.2d, promptFile)))
+                .isEqualTo(objectMapper.readTree(legacyPayload()));
+
+        Cost legacy = measure(this::legacyPayload);
+        Cost compiled = measure(() -> builder.buildPayload(event, "gpt-4o-mini", 800, 0.2d, promptFile));
+
+        System.out.printf("[PROMPT-BENCH] legacyBytesPerCall=%d compiledBytesPerCall=%d legacyNsPerCall=%d "
+                        + "compiledNsPerCall=%d allocationReduction=%.1fx%n",
+                legacy.bytes(), compiled.bytes(), legacy.nanos(), compiled.nanos(),
+                (double) legacy.bytes() / Math.max(compiled.bytes(), 1L));
+    }
+
+    private static Cost measure(Supplier<String> call) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                call.get();
+            }
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bestBytes = Long.MAX_VALUE;
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long startBytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                call.get();
+            }
+            bestNanos = Math.min(bestNanos, (System.nanoTime() - start) / ITERATIONS);
+            bestBytes = Math.min(bestBytes, (threads.getCurrentThreadAllocatedBytes() - startBytes) / ITERATIONS);
+        }
+        return new Cost(bestBytes, bestNanos);
+    }
+
+    // The builder as it was before the engine: read and parse the file, fill by String.replace, write a Map.
+    private String legacyPayload() {
+        try (Reader reader = new InputStreamReader(promptFile.getInputStream(), StandardCharsets.UTF_8)) {
+            List<Map<String, Object>> messages = new ArrayList<>();
+            for (JsonNode node : objectMapper.readTree(reader).get("messages")) {
+                String content = node.has("content")
+                        ? node.get("content").asText("")
+                        : node.path("template").asText("")
+                                .replace("{{source}}", event.source())
+                                .replace("{{title}}", event.title())
+                                .replace("{{summary}}", event.summary())
+                                .replace("{{url}}", event.url())
+                                .replace("{{publishedAt}}", String.valueOf(event.publishedAt()));
+                if (!content.isBlank()) {
+                    messages.add(Map.of("role", node.path("role").asText(""), "content", content));
+                }
+            }
+            Map<String, Object> root = new LinkedHashMap<>();
+            root.put("model", "gpt-4o-mini");
+            root.put("messages", messages);
+            root.put("max_tokens", 800);
+            root.put("temperature", 0.2d);
+            root.put("response_format", Map.of("type", "json_object"));
+            return objectMapper.writeValueAsString(root);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private record Cost(long bytes, long nanos) {
+    }
+}
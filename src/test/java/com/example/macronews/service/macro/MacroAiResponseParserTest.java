@@ -0,0 +1,60 @@
+package com.example.macronews.service.macro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.macronews.domain.ImpactDirection;
+import com.example.macronews.domain.MacroVariable;
+import com.example.macronews.service.openai.OpenAiChatCompletion;
+import com.example.macronews.util.ExternalApiUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MacroAiResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MacroAiResponseParser parser = new MacroAiResponseParser(objectMapper);
+
+    @Test
+    @DisplayName("parseBatchAnalysisResults should map valid results to their ids and leave out invalid or unknown ones")
+    void givenBatchResponse_whenParse_thenMapsValidResultsById() {
+        String content = "{\"results\":["
+                + "{\"id\":\"news-1\",\"headlineEn\":\"Oil up\",\"macroImpacts\":[{\"variable\":\"OIL\",\"direction\":\"UP\",\"confidence\":0.6}],\"marketImpacts\":[]},"
+                + "{\"id\":\"news-2\",\"headlineEn\":\"Missing arrays\"},"
+                + "{\"id\":\"news-9\",\"macroImpacts\":[],\"marketImpacts\":[]},"
+                + "{\"headlineEn\":\"No id\",\"macroImpacts\":[],\"marketImpacts\":[]}"
+                + "]}";
+
+        var results = parser.parseBatchAnalysisResults(completion(content), "gpt-test", List.of("news-1", "news-2"));
+
+        assertThat(results).containsOnlyKeys("news-1");
+        assertThat(results.get("news-1").headlineEn()).isEqualTo("Oil up");
+        assertThat(results.get("news-1").macroImpacts()).singleElement().satisfies(impact -> {
+            assertThat(impact.variable()).isEqualTo(MacroVariable.OIL);
+            assertThat(impact.direction()).isEqualTo(ImpactDirection.UP);
+        });
+    }
+
+    @Test
+    @DisplayName("parseBatchAnalysisResults should reject a response without a results array")
+    void givenResponseWithoutResults_whenParse_thenThrows() {
+        assertThatThrownBy(() -> parser.parseBatchAnalysisResults(
+                completion("{\"macroImpacts\":[],\"marketImpacts\":[]}"), "gpt-test", List.of("news-1")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OpenAiChatCompletion completion(String content) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "choices", List.of(Map.of("message", Map.of("content", content)))));
+            return ExternalApiUtils.readJson(body, OpenAiChatCompletion::read);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -5,22 +5,37 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.service.news.NewsClusterService;
+import com.example.macronews.service.news.NewsPriorityScorer;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
-import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.service.openai.OpenAiChatCompletion;
+import com.example.macronews.util.ExternalApiStreamResult;
+import com.example.macronews.util.ExternalApiUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -42,6 +57,18 @@ class MacroAiServiceImplTest {
     @Mock
     private OpenAiUsageLoggingService openAiUsageLoggingService;
 
+    @Mock
+    private NewsPriorityScorer newsPriorityScorer;
+
+    @Mock
+    private NewsClusterService newsClusterService;
+
+    @Mock
+    private InterpretationResultCache interpretationResultCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private MacroAiServiceImpl macroAiService;
 
     @BeforeEach
@@ -51,8 +78,15 @@ class MacroAiServiceImplTest {
                 macroAiClient,
                 macroAiResponseParser,
                 newsEventRepository,
-                openAiUsageLoggingService
+                openAiUsageLoggingService,
+                newsPriorityScorer,
+                newsClusterService,
+                new ConcurrentMapCacheManager(),
+                interpretationResultCache,
+                eventPublisher
         );
+        lenient().when(newsPriorityScorer.applyScore(any(NewsEvent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
         ReflectionTestUtils.setField(macroAiService, "openAiApiKey", "test-key");
         ReflectionTestUtils.setField(macroAiService, "openAiUrl", "https://example.com/openai");
         ReflectionTestUtils.setField(macroAiService, "interpretationModel", "gpt-test");
@@ -68,7 +102,7 @@ class MacroAiServiceImplTest {
     void givenLocalizedSummaries_whenInterpret_thenParsesLocalizedSummaries() {
         String response = "{\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":80,\"total_tokens\":200},\"choices\":[{\"message\":{\"content\":\"{\\\"headlineKo\\\":\\\"Korean headline\\\",\\\"headlineEn\\\":\\\"English headline\\\",\\\"summaryKo\\\":\\\"Korean summary\\\",\\\"summaryEn\\\":\\\"English summary\\\",\\\"macroImpacts\\\":[],\\\"marketImpacts\\\":[]}\"}}]}";
         given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
-        given(macroAiClient.call(any(), any(), any())).willReturn(new ExternalApiResult(200, response));
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(response));
         given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(new com.example.macronews.domain.AnalysisResult(
                 "gpt-test",
                 Instant.parse("2026-03-10T10:00:00Z"),
@@ -88,14 +122,15 @@ class MacroAiServiceImplTest {
         assertThat(result.summaryEn()).isEqualTo("English summary");
         assertThat(result.macroImpacts()).isEmpty();
         assertThat(result.marketImpacts()).isEmpty();
-        verify(openAiUsageLoggingService).recordUsage(any(), any(), any());
+        verify(openAiUsageLoggingService).recordCompletionUsage(any(), any(), argThat(completion ->
+                completion.usage() != null && completion.usage().totalTokens() == 200));
     }
 
     @Test
     @DisplayName("interpret should allow one localized headline or summary to be missing")
     void givenMissingLocalizedFields_whenInterpret_thenAllowsMissingLocalizedSummary() {
         given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
-        given(macroAiClient.call(any(), any(), any())).willReturn(new ExternalApiResult(200,
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
                 "{\"choices\":[{\"message\":{\"content\":\"{\\\"headlineEn\\\":\\\"English only headline\\\",\\\"summaryEn\\\":\\\"English only summary\\\",\\\"macroImpacts\\\":[],\\\"marketImpacts\\\":[]}\"}}]}"));
         given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(new com.example.macronews.domain.AnalysisResult(
                 "gpt-test",
@@ -137,14 +172,214 @@ class MacroAiServiceImplTest {
                         && news.analysisLastAttemptAt() != null));
     }
 
+    @Test
+    @DisplayName("interpretAndSave should keep the cluster id and share the result with cluster members")
+    void givenClusterRepresentative_whenInterpretAndSave_thenLinksClusterMembers() {
+        NewsEvent event = sampleEvent().withClusterId("news-1");
+        given(newsEventRepository.findById("news-1")).willReturn(java.util.Optional.of(event));
+        given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
+                "{\"choices\":[{\"message\":{\"content\":\"{}\"}}]}"));
+        given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(new com.example.macronews.domain.AnalysisResult(
+                "gpt-test",
+                Instant.parse("2026-03-10T10:00:00Z"),
+                null,
+                "English headline",
+                null,
+                "English summary",
+                java.util.List.of(),
+                java.util.List.of()
+        ));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        NewsEvent saved = macroAiService.interpretAndSave("news-1");
+
+        assertThat(saved.status()).isEqualTo(NewsStatus.ANALYZED);
+        assertThat(saved.clusterId()).isEqualTo("news-1");
+        verify(newsClusterService).linkMembers(saved);
+    }
+
+    @Test
+    @DisplayName("interpretAndSave should reuse a cached interpretation without calling OpenAI")
+    void givenCachedInterpretation_whenInterpretAndSave_thenSkipsClient() {
+        NewsEvent event = sampleEvent();
+        given(newsEventRepository.findById("news-1")).willReturn(java.util.Optional.of(event));
+        given(macroAiPromptBuilder.promptVersion(any())).willReturn("prompt-v1");
+        given(interpretationResultCache.lookup("gpt-test", "prompt-v1", event))
+                .willReturn(java.util.Optional.of(analysisResult()));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        NewsEvent saved = macroAiService.interpretAndSave("news-1");
+
+        assertThat(saved.status()).isEqualTo(NewsStatus.ANALYZED);
+        assertThat(saved.analysisResult().headlineEn()).isEqualTo("English headline");
+        verify(macroAiClient, never()).call(any(), any(), any());
+        verify(interpretationResultCache, never()).store(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("interpretAndSave should store a fresh interpretation under the current prompt version")
+    void givenCacheMiss_whenInterpretAndSave_thenStoresResult() {
+        NewsEvent event = sampleEvent();
+        given(newsEventRepository.findById("news-1")).willReturn(java.util.Optional.of(event));
+        given(macroAiPromptBuilder.promptVersion(any())).willReturn("prompt-v1");
+        given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
+                "{\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":80,\"total_tokens\":200},\"choices\":[{\"message\":{\"content\":\"{}\"}}]}"));
+        given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(analysisResult());
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        macroAiService.interpretAndSave("news-1");
+
+        verify(interpretationResultCache).store(eq("gpt-test"), eq("prompt-v1"), eq(event), eq(analysisResult()),
+                argThat(usage -> usage != null && usage.inputTokens() == 120), eq(1));
+    }
+
+    @Test
+    @DisplayName("interpretAndSaveAll should send one batched request and retry an unanswered article on its own")
+    void givenBatchMissingOneResult_whenInterpretAndSaveAll_thenRetriesItIndividually() {
+        ReflectionTestUtils.setField(macroAiService, "batchEnabled", true);
+        NewsEvent first = sampleEvent();
+        NewsEvent second = sampleEvent("news-2");
+        NewsEvent third = sampleEvent("news-3");
+        given(newsEventRepository.findAllById(List.of("news-1", "news-2", "news-3")))
+                .willReturn(List.of(first, second, third));
+        given(macroAiPromptBuilder.buildBatchPayload(any(), any(), anyInt(), anyDouble(), any(), any()))
+                .willReturn("batch-payload");
+        given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
+                "{\"choices\":[{\"message\":{\"content\":\"{}\"}}]}"));
+        given(macroAiResponseParser.parseBatchAnalysisResults(any(), any(), any()))
+                .willReturn(Map.of("news-1", analysisResult(), "news-3", analysisResult()));
+        given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(analysisResult());
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        AtomicInteger requests = new AtomicInteger();
+
+        List<NewsEvent> saved = macroAiService.interpretAndSaveAll(List.of("news-1", "news-2", "news-3"),
+                requests::incrementAndGet);
+
+        assertThat(requests).hasValue(2);
+        assertThat(saved).extracting(NewsEvent::id).containsExactly("news-1", "news-2", "news-3");
+        assertThat(saved).allMatch(news -> news.status() == NewsStatus.ANALYZED);
+        verify(macroAiPromptBuilder).buildBatchPayload(argThat(events -> events.size() == 3), eq("gpt-test"),
+                eq(2400), anyDouble(), any(), any());
+        verify(macroAiPromptBuilder).buildPayload(eq(second), any(), anyInt(), anyDouble(), any());
+        verify(macroAiClient, times(2)).call(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("interpretAndSaveAll should cache batched results under the single and batch prompt versions")
+    void givenBatchedResults_whenInterpretAndSaveAll_thenCachesUnderBatchPromptVersion() {
+        ReflectionTestUtils.setField(macroAiService, "batchEnabled", true);
+        ByteArrayResource batchPromptFile = new ByteArrayResource("{\"messages\":[]}".getBytes(StandardCharsets.UTF_8));
+        ReflectionTestUtils.setField(macroAiService, "macroBatchPromptFile", batchPromptFile);
+        NewsEvent first = sampleEvent();
+        NewsEvent second = sampleEvent("news-2");
+        given(newsEventRepository.findAllById(List.of("news-1", "news-2"))).willReturn(List.of(first, second));
+        given(macroAiPromptBuilder.promptVersion(any())).willReturn("prompt-v1");
+        given(macroAiPromptBuilder.promptVersion(batchPromptFile)).willReturn("batch-v2");
+        given(interpretationResultCache.lookup(eq("gpt-test"), any(), any())).willReturn(java.util.Optional.empty());
+        given(macroAiPromptBuilder.buildBatchPayload(any(), any(), anyInt(), anyDouble(), any(), any()))
+                .willReturn("batch-payload");
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
+                "{\"choices\":[{\"message\":{\"content\":\"{}\"}}]}"));
+        given(macroAiResponseParser.parseBatchAnalysisResults(any(), any(), any()))
+                .willReturn(Map.of("news-1", analysisResult(), "news-2", analysisResult()));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        macroAiService.interpretAndSaveAll(List.of("news-1", "news-2"));
+
+        verify(interpretationResultCache).lookup("gpt-test", "prompt-v1", first);
+        verify(interpretationResultCache).lookup("gpt-test", "prompt-v1+batch:batch-v2", first);
+        verify(interpretationResultCache).store(eq("gpt-test"), eq("prompt-v1+batch:batch-v2"), eq(first),
+                eq(analysisResult()), any(), eq(2));
+        verify(interpretationResultCache, never()).store(eq("gpt-test"), eq("prompt-v1"), any(), any(), any(),
+                anyInt());
+    }
+
+    @Test
+    @DisplayName("interpretAndSaveAll should split requests at the configured batch size and prompt token budget")
+    void givenBatchLimits_whenInterpretAndSaveAll_thenSplitsRequests() {
+        ReflectionTestUtils.setField(macroAiService, "batchEnabled", true);
+        ReflectionTestUtils.setField(macroAiService, "batchSize", 2);
+        NewsEvent first = sampleEvent();
+        NewsEvent second = sampleEvent("news-2");
+        NewsEvent third = sampleEvent("news-3");
+        given(newsEventRepository.findAllById(List.of("news-1", "news-2", "news-3")))
+                .willReturn(List.of(first, second, third));
+        given(macroAiPromptBuilder.buildBatchPayload(any(), any(), anyInt(), anyDouble(), any(), any()))
+                .willReturn("batch-payload");
+        given(macroAiPromptBuilder.buildPayload(any(), any(), anyInt(), anyDouble(), any())).willReturn("payload");
+        given(macroAiClient.call(any(), any(), any())).willReturn(completion(
+                "{\"choices\":[{\"message\":{\"content\":\"{}\"}}]}"));
+        given(macroAiResponseParser.parseBatchAnalysisResults(any(), any(), any()))
+                .willReturn(Map.of("news-1", analysisResult(), "news-2", analysisResult()));
+        given(macroAiResponseParser.parseAnalysisResult(any(), any())).willReturn(analysisResult());
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        macroAiService.interpretAndSaveAll(List.of("news-1", "news-2", "news-3"));
+
+        verify(macroAiPromptBuilder).buildBatchPayload(eq(List.of(first, second)), any(), anyInt(), anyDouble(),
+                any(), any());
+        verify(macroAiPromptBuilder).buildPayload(eq(third), any(), anyInt(), anyDouble(), any());
+
+        ReflectionTestUtils.setField(macroAiService, "batchSize", 6);
+        ReflectionTestUtils.setField(macroAiService, "batchMaxPromptTokens",
+                MacroAiPromptBuilder.estimateArticleTokens(first) + 1);
+
+        macroAiService.interpretAndSaveAll(List.of("news-1", "news-2", "news-3"));
+
+        verify(macroAiPromptBuilder, times(1)).buildBatchPayload(any(), any(), anyInt(), anyDouble(), any(), any());
+        verify(macroAiPromptBuilder, times(4)).buildPayload(any(), any(), anyInt(), anyDouble(), any());
+    }
+
+    @Test
+    @DisplayName("applyInterpretations should save results and failures in one bulk write")
+    void givenOfflineResults_whenApplyInterpretations_thenSavesInBulk() {
+        NewsEvent answered = sampleEvent();
+        NewsEvent unanswered = sampleEvent("news-2");
+        NewsEvent alreadyAnalyzed = new NewsEvent("news-3", null, "Title", "Summary", "Yonhap",
+                "https://example.com/news-3", Instant.parse("2026-03-10T09:00:00Z"),
+                Instant.parse("2026-03-10T09:05:00Z"), NewsStatus.ANALYZED, analysisResult(), null, null);
+        given(newsEventRepository.findAllById(any())).willReturn(List.of(answered, unanswered, alreadyAnalyzed));
+        given(newsEventRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        List<NewsEvent> saved = macroAiService.applyInterpretations(
+                Map.of("news-1", analysisResult()), List.of("news-2", "news-3"));
+
+        assertThat(saved).extracting(NewsEvent::id, NewsEvent::status).containsExactly(
+                org.assertj.core.groups.Tuple.tuple("news-1", NewsStatus.ANALYZED),
+                org.assertj.core.groups.Tuple.tuple("news-2", NewsStatus.FAILED));
+        verify(newsEventRepository, never()).save(any(NewsEvent.class));
+        verify(newsClusterService).linkMembers(argThat(event -> event.id().equals("news-1")));
+    }
+
+    private com.example.macronews.domain.AnalysisResult analysisResult() {
+        return new com.example.macronews.domain.AnalysisResult(
+                "gpt-test",
+                Instant.parse("2026-03-10T10:00:00Z"),
+                null,
+                "English headline",
+                null,
+                "English summary",
+                List.of(),
+                List.of()
+        );
+    }
+
     private NewsEvent sampleEvent() {
+        return sampleEvent("news-1");
+    }
+
+    private NewsEvent sampleEvent(String id) {
         return new NewsEvent(
-                "news-1",
+                id,
                 null,
                 "KOSPI rises on chip demand",
                 "Samsung shares gained on export optimism.",
                 "Yonhap",
-                "https://example.com/news-1",
+                "https://example.com/" + id,
                 Instant.parse("2026-03-10T09:00:00Z"),
                 Instant.parse("2026-03-10T09:05:00Z"),
                 NewsStatus.INGESTED,
@@ -153,4 +388,12 @@ class MacroAiServiceImplTest {
                 null
         );
     }
+
+    private ExternalApiStreamResult<OpenAiChatCompletion> completion(String body) {
+        try {
+            return ExternalApiStreamResult.succeeded(200, ExternalApiUtils.readJson(body, OpenAiChatCompletion::read));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
@@ -0,0 +1,218 @@
+package com.example.macronews.service.macro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.OfflineInterpretationBatch;
+import com.example.macronews.domain.OfflineInterpretationBatchStatus;
+import com.example.macronews.domain.OpenAiUsageFeatureType;
+import com.example.macronews.repository.OfflineInterpretationBatchRepository;
+import com.example.macronews.service.openai.LocalFileOpenAiBatchClient;
+import com.example.macronews.service.openai.OpenAiUsageLoggingService;
+import com.example.macronews.service.openai.PromptTemplateEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OfflineInterpretationServiceTest {
+
+    private static final String PROMPT = """
+            {
+              "messages": [
+                {"role": "system", "content": "Return JSON."},
+                {"role": "user", "template": "Title: {{title}}"}
+              ]
+            }
+            """;
+    private static final String VALID_CONTENT = "{\"headlineEn\":\"Chips lift KOSPI\",\"macroImpacts\":[],\"marketImpacts\":[]}";
+
+    @Mock
+    private MacroAiService macroAiService;
+
+    @Mock
+    private OfflineInterpretationBatchRepository offlineInterpretationBatchRepository;
+
+    @Mock
+    private OpenAiUsageLoggingService openAiUsageLoggingService;
+
+    @Mock
+    private InterpretationResultCache interpretationResultCache;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LocalFileOpenAiBatchClient batchClient;
+    private OfflineInterpretationService offlineInterpretationService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path batchDir = Files.createDirectories(tempDir.resolve("batches"));
+        // news-2 fails inside the batch, news-3 answers with content the parser rejects.
+        batchClient = new LocalFileOpenAiBatchClient(batchDir, (customId, body) -> switch (customId) {
+            case "news-2" -> null;
+            case "news-3" -> "{\"headlineEn\":\"No arrays\"}";
+            default -> VALID_CONTENT;
+        });
+        offlineInterpretationService = new OfflineInterpretationService(
+                new MacroAiPromptBuilder(objectMapper, new PromptTemplateEngine(objectMapper)),
+                new MacroAiResponseParser(objectMapper),
+                macroAiService,
+                batchClient,
+                offlineInterpretationBatchRepository,
+                openAiUsageLoggingService,
+                interpretationResultCache,
+                objectMapper);
+        ReflectionTestUtils.setField(offlineInterpretationService, "enabled", true);
+        ReflectionTestUtils.setField(offlineInterpretationService, "workDir", tempDir.resolve("work").toString());
+        ReflectionTestUtils.setField(offlineInterpretationService, "interpretationModel", "gpt-4o-mini");
+        ReflectionTestUtils.setField(offlineInterpretationService, "openAiMaxTokens", 800);
+        ReflectionTestUtils.setField(offlineInterpretationService, "openAiTemperature", 0.2d);
+        ReflectionTestUtils.setField(offlineInterpretationService, "macroPromptFile",
+                new ByteArrayResource(PROMPT.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("submit should write one chat completion request per event and track the batch")
+    void givenEvents_whenSubmit_thenWritesJsonlBatchAndRecordsIt() throws Exception {
+        given(interpretationResultCache.lookup(any(), any(), any())).willReturn(Optional.empty());
+
+        int submitted = offlineInterpretationService.submit(List.of(event("news-1"), event("news-2")));
+
+        assertThat(submitted).isEqualTo(2);
+        List<JsonNode> requests = batchClient.requests("batch_local_1");
+        assertThat(requests).extracting(request -> request.path("custom_id").asText())
+                .containsExactly("news-1", "news-2");
+        assertThat(requests.get(0).path("url").asText()).isEqualTo("/v1/chat/completions");
+        assertThat(requests.get(0).path("body").path("model").asText()).isEqualTo("gpt-4o-mini");
+        assertThat(requests.get(0).path("body").path("messages").path(1).path("content").asText())
+                .isEqualTo("Title: Headline news-1");
+        verify(offlineInterpretationBatchRepository).save(argThat(batch -> batch.id().equals("batch_local_1")
+                && batch.status() == OfflineInterpretationBatchStatus.SUBMITTED
+                && batch.newsEventIds().equals(List.of("news-1", "news-2"))));
+        try (var files = Files.list(tempDir.resolve("work"))) {
+            assertThat(files).isEmpty();
+        }
+        verify(macroAiService, never()).applyInterpretations(anyMap(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("submit should apply cached interpretations directly instead of submitting them")
+    void givenCachedEvent_whenSubmit_thenAppliesItWithoutBatch() {
+        AnalysisResult cached = new AnalysisResult("gpt-4o-mini", Instant.now(), null, "Cached", null, null,
+                List.of(), List.of());
+        given(interpretationResultCache.lookup(any(), any(), any())).willReturn(Optional.of(cached));
+
+        int submitted = offlineInterpretationService.submit(List.of(event("news-1")));
+
+        assertThat(submitted).isEqualTo(1);
+        verify(macroAiService).applyInterpretations(Map.of("news-1", cached), List.of());
+        verify(offlineInterpretationBatchRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("pollSubmitted should apply finished results in bulk and mark unanswered events failed")
+    void givenCompletedBatch_whenPoll_thenAppliesResultsInBulk() {
+        given(interpretationResultCache.lookup(any(), any(), any())).willReturn(Optional.empty());
+        offlineInterpretationService.submit(List.of(event("news-1"), event("news-2"), event("news-3")));
+        ArgumentCaptor<OfflineInterpretationBatch> submittedBatch =
+                ArgumentCaptor.forClass(OfflineInterpretationBatch.class);
+        verify(offlineInterpretationBatchRepository).save(submittedBatch.capture());
+        given(offlineInterpretationBatchRepository.findByStatusOrderBySubmittedAtAsc(
+                OfflineInterpretationBatchStatus.SUBMITTED)).willReturn(List.of(submittedBatch.getValue()));
+
+        assertThat(offlineInterpretationService.pollSubmitted()).isZero();
+
+        batchClient.completeAll();
+        given(macroAiService.applyInterpretations(anyMap(), anyCollection())).willAnswer(invocation -> {
+            Map<String, AnalysisResult> results = invocation.getArgument(0);
+            return results.keySet().stream().map(id -> analyzed(id, results.get(id))).toList();
+        });
+
+        assertThat(offlineInterpretationService.pollSubmitted()).isEqualTo(1);
+
+        verify(macroAiService).applyInterpretations(
+                argThat(results -> results.keySet().equals(java.util.Set.of("news-1"))
+                        && "Chips lift KOSPI".equals(results.get("news-1").headlineEn())),
+                eq(List.of("news-2", "news-3")));
+        verify(openAiUsageLoggingService, org.mockito.Mockito.times(2)).recordCompletionUsage(
+                eq(OpenAiUsageFeatureType.MACRO_INTERPRETATION_BATCH), eq("gpt-4o-mini"), any());
+        verify(interpretationResultCache).store(eq("gpt-4o-mini"), eq(submittedBatch.getValue().promptVersion()),
+                argThat(event -> event.id().equals("news-1")), any(),
+                argThat(usage -> usage.inputTokens() == 900), eq(1));
+        verify(offlineInterpretationBatchRepository).save(argThat(batch ->
+                batch.status() == OfflineInterpretationBatchStatus.COMPLETED
+                        && batch.analyzed() == 1 && batch.failed() == 2));
+    }
+
+    @Test
+    @DisplayName("pollSubmitted should close a failed batch and leave its events for the retry pass")
+    void givenFailedBatch_whenPoll_thenMarksBatchFailed() {
+        OfflineInterpretationBatch batch = OfflineInterpretationBatch.submitted("batch_local_1", "gpt-4o-mini",
+                "v1", List.of("news-1"), Instant.parse("2026-03-10T09:00:00Z"));
+        given(interpretationResultCache.lookup(any(), any(), any())).willReturn(Optional.empty());
+        offlineInterpretationService.submit(List.of(event("news-1")));
+        batchClient.fail("batch_local_1");
+        given(offlineInterpretationBatchRepository.findByStatusOrderBySubmittedAtAsc(
+                OfflineInterpretationBatchStatus.SUBMITTED)).willReturn(List.of(batch));
+
+        assertThat(offlineInterpretationService.pollSubmitted()).isEqualTo(1);
+
+        verify(macroAiService).applyInterpretations(Map.of(), List.of("news-1"));
+        verify(offlineInterpretationBatchRepository).save(argThat(saved ->
+                saved.status() == OfflineInterpretationBatchStatus.FAILED && saved.failed() == 1));
+    }
+
+    @Test
+    @DisplayName("pendingEventIds should list the events of batches that are still running")
+    void givenSubmittedBatches_whenPendingEventIds_thenReturnsTheirEvents() {
+        given(offlineInterpretationBatchRepository.findByStatusOrderBySubmittedAtAsc(
+                OfflineInterpretationBatchStatus.SUBMITTED)).willReturn(List.of(
+                OfflineInterpretationBatch.submitted("batch_1", "gpt-4o-mini", "v1", List.of("news-1", "news-2"),
+                        Instant.parse("2026-03-10T09:00:00Z")),
+                OfflineInterpretationBatch.submitted("batch_2", "gpt-4o-mini", "v1", List.of("news-3"),
+                        Instant.parse("2026-03-10T10:00:00Z"))));
+
+        assertThat(offlineInterpretationService.pendingEventIds())
+                .containsExactlyInAnyOrder("news-1", "news-2", "news-3");
+    }
+
+    private NewsEvent event(String id) {
+        return new NewsEvent(id, null, "Headline " + id, "Summary " + id, "Yonhap", "https://example.com/" + id,
+                Instant.parse("2026-03-10T09:00:00Z"), Instant.parse("2026-03-10T09:05:00Z"),
+                NewsStatus.FAILED, null, 1, Instant.parse("2026-03-10T09:05:00Z"));
+    }
+
+    private NewsEvent analyzed(String id, AnalysisResult result) {
+        return new NewsEvent(id, null, "Headline " + id, "Summary " + id, "Yonhap", "https://example.com/" + id,
+                Instant.parse("2026-03-10T09:00:00Z"), Instant.parse("2026-03-10T09:05:00Z"),
+                NewsStatus.ANALYZED, result, 1, Instant.parse("2026-03-10T09:05:00Z"));
+    }
+}
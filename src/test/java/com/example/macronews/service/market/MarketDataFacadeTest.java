@@ -2,13 +2,20 @@ package com.example.macronews.service.market;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.example.macronews.config.MarketQuoteCacheProperties;
 import com.example.macronews.dto.market.DxySnapshotDto;
 import com.example.macronews.dto.market.FxSnapshotDto;
 import com.example.macronews.dto.market.GoldSnapshotDto;
 import com.example.macronews.dto.market.IndexSnapshotDto;
 import com.example.macronews.dto.market.OilSnapshotDto;
 import com.example.macronews.dto.market.Us10ySnapshotDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class MarketDataFacadeTest {
@@ -50,8 +58,17 @@ class MarketDataFacadeTest {
                 oilPriceProvider,
                 indexQuoteProvider,
                 us10yProvider,
-                dxyProvider
+                dxyProvider,
+                Schedulers.boundedElastic(),
+                new MarketQuoteCacheProperties(),
+                new SimpleMeterRegistry()
         );
+        lenient().when(exchangeRateProvider.isConfigured()).thenReturn(true);
+        lenient().when(goldPriceProvider.isConfigured()).thenReturn(true);
+        lenient().when(oilPriceProvider.isConfigured()).thenReturn(true);
+        lenient().when(indexQuoteProvider.isConfigured()).thenReturn(true);
+        lenient().when(us10yProvider.isConfigured()).thenReturn(true);
+        lenient().when(dxyProvider.isConfigured()).thenReturn(true);
     }
 
     @Test
@@ -97,4 +114,51 @@ class MarketDataFacadeTest {
         assertThat(snapshot.usdKrw()).isPresent();
         assertThat(snapshot.gold()).isEmpty();
     }
+
+    @Test
+    @DisplayName("a cached quote should be served without calling the provider until its ttl passes")
+    void givenCachedQuote_whenReadAndRefreshed_thenProviderIsCalledOnce() {
+        given(us10yProvider.getUs10y())
+                .willReturn(Optional.of(new Us10ySnapshotDto(4.21d, LocalDate.parse("2026-03-16"), "FRED", "DGS10")));
+
+        marketDataFacade.getUs10y();
+        marketDataFacade.refreshDueQuotes();
+
+        assertThat(marketDataFacade.getUs10y()).isPresent();
+        verify(us10yProvider, times(1)).getUs10y();
+    }
+
+    @Test
+    @DisplayName("a failed refresh should keep serving the last good quote with its capture time")
+    void givenFailedRefresh_whenRead_thenLastGoodQuoteIsServed() {
+        MarketQuoteCacheProperties cacheProperties = new MarketQuoteCacheProperties();
+        cacheProperties.setOilTtl(Duration.ofNanos(1));
+        marketDataFacade = new MarketDataFacade(exchangeRateProvider, goldPriceProvider, oilPriceProvider,
+                indexQuoteProvider, us10yProvider, dxyProvider, Schedulers.boundedElastic(), cacheProperties,
+                new SimpleMeterRegistry());
+        Instant capturedAt = Instant.parse("2026-03-17T00:00:00Z");
+        given(oilPriceProvider.getOil())
+                .willReturn(Optional.of(new OilSnapshotDto(78.3d, 82.1d, capturedAt)))
+                .willReturn(Optional.empty());
+
+        marketDataFacade.getOil();
+        marketDataFacade.refreshDueQuotes();
+
+        assertThat(marketDataFacade.getOil()).hasValueSatisfying(oil -> {
+            assertThat(oil.wtiUsd()).isEqualTo(78.3d);
+            assertThat(oil.capturedAt()).isEqualTo(capturedAt);
+        });
+        verify(oilPriceProvider, times(2)).getOil();
+    }
+
+    @Test
+    @DisplayName("unconfigured providers should never be called")
+    void givenUnconfiguredProvider_whenReadAndRefreshed_thenProviderIsSkipped() {
+        given(goldPriceProvider.isConfigured()).willReturn(false);
+
+        assertThat(marketDataFacade.getGold()).isEmpty();
+        marketDataFacade.refreshDueQuotes();
+
+        verify(goldPriceProvider, never()).getGold();
+    }
 }
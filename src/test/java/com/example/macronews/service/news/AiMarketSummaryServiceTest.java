@@ -19,9 +19,11 @@ import com.example.macronews.domain.SignalSentiment;
 import com.example.macronews.config.policy.FeaturedMarketSummaryPolicyProperties;
 import com.example.macronews.service.forecast.MarketForecastQueryService;
 import com.example.macronews.service.openai.OpenAiUsageLoggingService;
+import com.example.macronews.service.openai.PromptTemplateEngine;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
@@ -36,6 +38,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class AiMarketSummaryServiceTest {
@@ -69,8 +72,11 @@ class AiMarketSummaryServiceTest {
                 marketForecastQueryService,
                 externalApiUtils,
                 new ObjectMapper(),
+                new PromptTemplateEngine(new ObjectMapper()),
                 openAiUsageLoggingService,
-                policyProperties
+                policyProperties,
+                Schedulers.boundedElastic(),
+                new SimpleMeterRegistry()
         );
         ReflectionTestUtils.setField(aiMarketSummaryService, "clock",
                 Clock.fixed(Instant.parse("2026-03-17T03:00:00Z"), ZoneId.of("Asia/Seoul")));
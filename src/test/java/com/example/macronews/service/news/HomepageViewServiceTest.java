@@ -0,0 +1,237 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.SignalSentiment;
+import com.example.macronews.dto.FeaturedMarketSummaryDto;
+import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.dto.NewsListItemDto;
+import com.example.macronews.service.forecast.MarketForecastQueryService;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@ExtendWith(MockitoExtension.class)
+class HomepageViewServiceTest {
+
+    @Mock
+    private NewsQueryService newsQueryService;
+
+    @Mock
+    private MarketForecastQueryService marketForecastQueryService;
+
+    @Mock
+    private MarketSummarySnapshotService marketSummarySnapshotService;
+
+    @Mock
+    private AiMarketSummaryService aiMarketSummaryService;
+
+    @Mock
+    private RecentMarketSummaryService recentMarketSummaryService;
+
+    @Test
+    @DisplayName("getView should build every view once and serve later requests from memory")
+    void givenBuiltViews_whenGetView_thenNoFurtherQueries() {
+        HomepageViewService homepageViewService = service(Schedulers.immediate());
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-1")));
+
+        HomepageView first = homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        HomepageView second = homepageViewService.getView(NewsStatus.ANALYZED, NewsListSort.PRIORITY);
+        HomepageView third = homepageViewService.getView(null, null);
+
+        assertThat(first.version()).isEqualTo(1L);
+        assertThat(first.featuredNews().id()).isEqualTo("news-1");
+        assertThat(first.featuredSummary().primaryMode()).isEqualTo("article");
+        assertThat(second.status()).isEqualTo(NewsStatus.ANALYZED);
+        assertThat(second.sort()).isEqualTo(NewsListSort.PRIORITY);
+        assertThat(third).isSameAs(first);
+        assertThat(homepageViewService.version()).isEqualTo(1L);
+        verify(newsQueryService, times(NewsStatus.values().length + 1)).getHomepageSections(any());
+        verify(marketForecastQueryService).getCurrentSnapshot();
+        verifyNoMoreInteractions(newsQueryService, marketForecastQueryService);
+    }
+
+    @Test
+    @DisplayName("a summary snapshot change should rebuild only the featured summary")
+    void givenSummarySnapshotChange_whenRebuilt_thenNewsSectionsAreReused() {
+        HomepageViewService homepageViewService = service(Schedulers.immediate());
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-1")));
+        HomepageView before = homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        FeaturedMarketSummaryDto stored = summary("snapshot-1");
+        given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.of(stored));
+
+        homepageViewService.onNewsContentChanged(
+                new NewsContentChangedEvent(NewsContentChangedEvent.Change.SUMMARY_SNAPSHOT));
+
+        HomepageView after = homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        assertThat(after.version()).isEqualTo(2L);
+        assertThat(after.featuredSummary().storedSummary()).isEqualTo(stored);
+        assertThat(after.featuredSummary().primaryMode()).isEqualTo("stored-summary");
+        assertThat(after.newsItems()).isSameAs(before.newsItems());
+        verify(newsQueryService, times(NewsStatus.values().length + 1)).getHomepageSections(any());
+    }
+
+    @Test
+    @DisplayName("an ingestion change should rebuild only the unfiltered and INGESTED sections")
+    void givenIngestionChange_whenRebuilt_thenOnlyAffectedFiltersAreQueried() {
+        HomepageViewService homepageViewService = service(Schedulers.immediate());
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-1")));
+        homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-2")));
+
+        homepageViewService.onNewsContentChanged(
+                new NewsContentChangedEvent(NewsContentChangedEvent.Change.INGESTION));
+
+        assertThat(homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC).featuredNews().id())
+                .isEqualTo("news-2");
+        assertThat(homepageViewService.getView(NewsStatus.INGESTED, NewsListSort.PUBLISHED_DESC).featuredNews().id())
+                .isEqualTo("news-2");
+        assertThat(homepageViewService.getView(NewsStatus.ANALYZED, NewsListSort.PUBLISHED_DESC).featuredNews().id())
+                .isEqualTo("news-1");
+        verify(newsQueryService, times(2)).getHomepageSections(isNull());
+        verify(newsQueryService, times(2)).getHomepageSections(NewsStatus.INGESTED);
+        verify(newsQueryService, times(1)).getHomepageSections(NewsStatus.ANALYZED);
+        verify(marketForecastQueryService).getCurrentSnapshot();
+    }
+
+    @Test
+    @DisplayName("a failed section rebuild should keep the previous content")
+    void givenSectionFailure_whenRebuilt_thenPreviousContentIsKept() {
+        HomepageViewService homepageViewService = service(Schedulers.immediate());
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-1")));
+        homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        given(newsQueryService.getHomepageSections(any())).willThrow(new RuntimeException("mongo unavailable"));
+
+        homepageViewService.refresh();
+
+        HomepageView view = homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+        assertThat(view.version()).isEqualTo(2L);
+        assertThat(view.featuredNews().id()).isEqualTo("news-1");
+    }
+
+    @Test
+    @DisplayName("a failed first section build should still serve the view with no news items")
+    void givenSectionFailureOnFirstBuild_whenGetView_thenViewHasEmptyNewsItems() {
+        HomepageViewService homepageViewService = service(Schedulers.immediate());
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willThrow(new RuntimeException("recent news unavailable"));
+
+        HomepageView view = homepageViewService.getView(null, NewsListSort.PUBLISHED_DESC);
+
+        assertThat(view.newsItems()).isEmpty();
+        assertThat(view.featuredNews()).isNull();
+        assertThat(view.featuredSummary().primaryMode()).isEqualTo("article");
+    }
+
+    @Test
+    @DisplayName("changes arriving before a scheduled rebuild runs should be folded into one rebuild")
+    void givenChangesBeforeRebuildRuns_whenRebuilt_thenOneRebuildCoversThem() {
+        Scheduler scheduler = mock(Scheduler.class);
+        HomepageViewService homepageViewService = service(scheduler);
+        givenNoSummaries();
+        given(newsQueryService.getHomepageSections(any())).willReturn(sections(item("news-1")));
+
+        homepageViewService.onNewsContentChanged(
+                new NewsContentChangedEvent(NewsContentChangedEvent.Change.INGESTION));
+        homepageViewService.onNewsContentChanged(
+                new NewsContentChangedEvent(NewsContentChangedEvent.Change.DELETION));
+        ArgumentCaptor<Runnable> drain = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(drain.capture());
+        assertThat(homepageViewService.version()).isZero();
+
+        drain.getValue().run();
+
+        assertThat(homepageViewService.version()).isEqualTo(1L);
+        verify(newsQueryService, times(NewsStatus.values().length + 1)).getHomepageSections(any());
+    }
+
+    private HomepageViewService service(Scheduler scheduler) {
+        HomepageViewService homepageViewService = new HomepageViewService(
+                newsQueryService,
+                marketForecastQueryService,
+                marketSummarySnapshotService,
+                aiMarketSummaryService,
+                recentMarketSummaryService);
+        ReflectionTestUtils.setField(homepageViewService, "rebuildScheduler", scheduler);
+        return homepageViewService;
+    }
+
+    private void givenNoSummaries() {
+        given(marketForecastQueryService.getCurrentSnapshot()).willReturn(Optional.empty());
+        given(marketSummarySnapshotService.getLatestValidSummary()).willReturn(Optional.empty());
+        given(aiMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
+        given(recentMarketSummaryService.getCurrentSummary()).willReturn(Optional.empty());
+    }
+
+    private Map<NewsListSort, HomepageNewsSection> sections(NewsListItemDto... items) {
+        Map<NewsListSort, HomepageNewsSection> sections = new EnumMap<>(NewsListSort.class);
+        for (NewsListSort sort : NewsListSort.values()) {
+            sections.put(sort, new HomepageNewsSection(List.of(items), new MarketSignalOverviewDto(List.of())));
+        }
+        return sections;
+    }
+
+    private NewsListItemDto item(String id) {
+        return new NewsListItemDto(
+                id,
+                "Market headline " + id,
+                "Market headline " + id,
+                "Reuters",
+                Instant.parse("2026-03-17T02:30:00Z"),
+                Instant.parse("2026-03-17T02:35:00Z"),
+                NewsStatus.ANALYZED,
+                true,
+                true,
+                null,
+                SignalSentiment.POSITIVE,
+                "Headline",
+                "Interpretation",
+                10
+        );
+    }
+
+    private FeaturedMarketSummaryDto summary(String snapshotId) {
+        return new FeaturedMarketSummaryDto(
+                "AI market snapshot ko",
+                "AI market snapshot",
+                "Stored summary ko",
+                "Stored summary en",
+                Instant.parse("2026-03-17T03:00:00Z"),
+                4,
+                3,
+                Instant.parse("2026-03-17T00:30:00Z"),
+                Instant.parse("2026-03-17T02:30:00Z"),
+                SignalSentiment.NEGATIVE,
+                List.of("USD"),
+                List.of("news-1"),
+                null,
+                null,
+                0.7d,
+                true,
+                snapshotId
+        );
+    }
+}
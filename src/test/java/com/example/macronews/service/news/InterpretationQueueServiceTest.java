@@ -0,0 +1,240 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.InterpretationJob;
+import com.example.macronews.domain.InterpretationJobOrigin;
+import com.example.macronews.domain.InterpretationJobStatus;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.PriorityScore;
+import com.example.macronews.dto.InterpretationQueueStatusDto;
+import com.example.macronews.repository.InterpretationJobRepository;
+import com.example.macronews.service.macro.MacroAiService;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class InterpretationQueueServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T10:00:00Z");
+
+    @Mock
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Mock
+    private MacroAiService macroAiService;
+
+    @InjectMocks
+    private InterpretationQueueService interpretationQueueService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interpretationQueueService, "clock", Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(interpretationQueueService, "maxDepth", 1000);
+        ReflectionTestUtils.setField(interpretationQueueService, "retryAdmissionDepth", 100);
+        ReflectionTestUtils.setField(interpretationQueueService, "concurrency", 4);
+        ReflectionTestUtils.setField(interpretationQueueService, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(interpretationQueueService, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("enqueue should admit a burst of 200 fresh headlines without dropping any")
+    void enqueue_absorbsBurstOfFreshHeadlines() {
+        List<NewsEvent> burst = IntStream.range(0, 200)
+                .mapToObj(index -> event("burst-" + index, NOW.minusSeconds(index * 60L), index))
+                .toList();
+        ArgumentCaptor<Collection<InterpretationJob>> jobsCaptor = jobsCaptor();
+        given(interpretationJobRepository.count()).willReturn(0L);
+        given(interpretationJobRepository.enqueueAllIfAbsent(jobsCaptor.capture())).willReturn(200);
+
+        int queued = interpretationQueueService.enqueue(burst, InterpretationJobOrigin.INGESTED);
+
+        assertThat(queued).isEqualTo(200);
+        assertThat(jobsCaptor.getValue()).hasSize(200)
+                .allSatisfy(job -> assertThat(job.status()).isEqualTo(InterpretationJobStatus.QUEUED));
+        assertThat(interpretationQueueService.getStatus().rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("enqueue should not let events that already have a job take admission slots")
+    void enqueue_skipsAlreadyQueuedEventsBeforeAdmission() {
+        ArgumentCaptor<Collection<InterpretationJob>> jobsCaptor = jobsCaptor();
+        given(interpretationJobRepository.findJobIds(List.of("queued-1", "queued-2", "retry-1")))
+                .willReturn(Set.of("queued-1", "queued-2"));
+        given(interpretationJobRepository.count()).willReturn(99L);
+        given(interpretationJobRepository.enqueueAllIfAbsent(jobsCaptor.capture())).willReturn(1);
+
+        int queued = interpretationQueueService.enqueue(
+                List.of(event("queued-1", NOW, 0), event("queued-2", NOW, 0), event("retry-1", NOW, 0)),
+                InterpretationJobOrigin.RETRY);
+
+        assertThat(queued).isEqualTo(1);
+        assertThat(jobsCaptor.getValue()).extracting(InterpretationJob::id).containsExactly("retry-1");
+        assertThat(interpretationQueueService.getStatus().rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("enqueue should reject retries beyond the retry admission depth")
+    void enqueue_rejectsRetriesBeyondAdmissionDepth() {
+        ArgumentCaptor<Collection<InterpretationJob>> jobsCaptor = jobsCaptor();
+        given(interpretationJobRepository.count()).willReturn(99L);
+        given(interpretationJobRepository.enqueueAllIfAbsent(jobsCaptor.capture())).willReturn(1);
+
+        int queued = interpretationQueueService.enqueue(
+                List.of(event("retry-1", NOW, 0), event("retry-2", NOW, 0)), InterpretationJobOrigin.RETRY);
+
+        assertThat(queued).isEqualTo(1);
+        assertThat(jobsCaptor.getValue()).extracting(InterpretationJob::id).containsExactly("retry-1");
+        assertThat(interpretationQueueService.getStatus().rejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("priorityOf should rank fresh events above retries, then newer and higher-scored events first")
+    void priorityOf_ranksOriginThenFreshnessThenScore() {
+        int freshRecent = interpretationQueueService.priorityOf(
+                event("a", NOW.minusSeconds(3600), 10), InterpretationJobOrigin.INGESTED, NOW);
+        int freshOld = interpretationQueueService.priorityOf(
+                event("b", NOW.minusSeconds(72 * 3600), 10), InterpretationJobOrigin.INGESTED, NOW);
+        int freshRecentHighScore = interpretationQueueService.priorityOf(
+                event("c", NOW.minusSeconds(3600), 40), InterpretationJobOrigin.INGESTED, NOW);
+        int retryRecentHighScore = interpretationQueueService.priorityOf(
+                event("d", NOW, 90), InterpretationJobOrigin.RETRY, NOW);
+
+        assertThat(freshRecentHighScore).isGreaterThan(freshRecent);
+        assertThat(freshRecent).isGreaterThan(freshOld);
+        assertThat(freshOld).isGreaterThan(retryRecentHighScore);
+    }
+
+    @Test
+    @DisplayName("process should interpret the event and remove the job")
+    void process_interpretsAndCompletes() {
+        InterpretationJob job = leased("event-1", 1);
+
+        interpretationQueueService.process(job, "worker-1");
+
+        verify(macroAiService).interpretAndSave("event-1");
+        verify(interpretationJobRepository).complete("event-1", "worker-1");
+    }
+
+    @Test
+    @DisplayName("process should drop a job that exceeded the attempt limit without interpreting it")
+    void process_dropsJobBeyondMaxAttempts() {
+        InterpretationJob job = leased("event-1", 4);
+
+        interpretationQueueService.process(job, "worker-1");
+
+        verify(macroAiService, never()).interpretAndSave("event-1");
+        verify(macroAiService).applyInterpretations(Map.of(), Set.of("event-1"));
+        verify(interpretationJobRepository).complete("event-1", "worker-1");
+    }
+
+    @Test
+    @DisplayName("process should save the events as FAILED before removing the jobs when interpretation throws")
+    void process_marksEventsFailedWhenProcessingThrows() {
+        InterpretationJob job = leased("event-1", 1);
+        given(macroAiService.interpretAndSave("event-1")).willThrow(new IllegalStateException("database down"));
+
+        interpretationQueueService.process(job, "worker-1");
+
+        verify(macroAiService).applyInterpretations(Map.of(), Set.of("event-1"));
+        verify(interpretationJobRepository).complete("event-1", "worker-1");
+    }
+
+    @Test
+    @DisplayName("process should keep the job for another lease when the failure cannot be recorded")
+    void process_keepsJobWhenFailureCannotBeRecorded() {
+        InterpretationJob job = leased("event-1", 4);
+        given(macroAiService.applyInterpretations(Map.of(), Set.of("event-1")))
+                .willThrow(new IllegalStateException("database down"));
+
+        interpretationQueueService.process(job, "worker-1");
+
+        verify(interpretationJobRepository, never()).complete("event-1", "worker-1");
+    }
+
+    @Test
+    @DisplayName("process should lease companion jobs up to the batch size and interpret them in one call")
+    void process_leasesCompanionsForBatch() {
+        InterpretationJob job = leased("event-1", 1);
+        given(macroAiService.maxBatchSize()).willReturn(3);
+        given(interpretationJobRepository.leaseNext(eq("worker-1"), any(), any()))
+                .willReturn(Optional.of(leased("event-2", 1)))
+                .willReturn(Optional.of(leased("event-3", 4)));
+
+        interpretationQueueService.process(job, "worker-1");
+
+        ArgumentCaptor<Runnable> beforeEachRequest = ArgumentCaptor.forClass(Runnable.class);
+        verify(macroAiService).interpretAndSaveAll(eq(List.of("event-1", "event-2")), beforeEachRequest.capture());
+        verify(macroAiService).applyInterpretations(Map.of(), Set.of("event-3"));
+        beforeEachRequest.getValue().run();
+        verify(interpretationJobRepository).renewLeases(List.of("event-1", "event-2"), "worker-1",
+                NOW.plusSeconds(300));
+        verify(interpretationJobRepository).complete("event-1", "worker-1");
+        verify(interpretationJobRepository).complete("event-2", "worker-1");
+        verify(interpretationJobRepository).complete("event-3", "worker-1");
+    }
+
+    @Test
+    @DisplayName("getStatus should report depth, leased jobs and the lag of the oldest job")
+    void getStatus_reportsDepthAndLag() {
+        given(interpretationJobRepository.count()).willReturn(12L);
+        given(interpretationJobRepository.countByStatusAndLeaseExpiresAtAfter(InterpretationJobStatus.LEASED, NOW))
+                .willReturn(4L);
+        given(interpretationJobRepository.findFirstByOrderByEnqueuedAtAsc())
+                .willReturn(Optional.of(InterpretationJob.queued("oldest", 10, InterpretationJobOrigin.INGESTED,
+                        NOW.minusSeconds(95))));
+
+        InterpretationQueueStatusDto status = interpretationQueueService.getStatus();
+
+        assertThat(status).isEqualTo(new InterpretationQueueStatusDto(true, 12L, 4L, 95L, 1000, 4, 0L));
+    }
+
+    @Test
+    @DisplayName("getStatus should report the queue as unavailable when the database cannot be read")
+    void getStatus_unavailableWhenDatabaseFails() {
+        given(interpretationJobRepository.count()).willThrow(new IllegalStateException("timeout"));
+
+        InterpretationQueueStatusDto status = interpretationQueueService.getStatus();
+
+        assertThat(status.available()).isFalse();
+        assertThat(status.lagSeconds()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<InterpretationJob>> jobsCaptor() {
+        return ArgumentCaptor.forClass((Class<Collection<InterpretationJob>>) (Class<?>) Collection.class);
+    }
+
+    private InterpretationJob leased(String id, int attempts) {
+        return new InterpretationJob(id, 100, InterpretationJobOrigin.INGESTED, InterpretationJobStatus.LEASED,
+                NOW.minusSeconds(30), "worker-1", NOW.plusSeconds(300), attempts);
+    }
+
+    private NewsEvent event(String id, Instant publishedAt, int score) {
+        return new NewsEvent(id, "ext-" + id, "Headline " + id, "Summary", "Reuters",
+                "https://example.com/" + id, publishedAt, NOW, NewsStatus.INGESTED, null, 0, null,
+                new PriorityScore(score, 1, Map.of(), NOW));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.ImpactDirection;
+import com.example.macronews.domain.MacroImpact;
+import com.example.macronews.domain.MacroVariable;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.dto.MarketSignalItemDto;
+import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.repository.NewsEventRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MarketSignalAggregatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-17T00:00:00Z");
+
+    @Mock
+    private NewsEventRepository newsEventRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final NewsScoringPolicy scoringPolicy = new NewsScoringPolicy();
+    private MarketSignalAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new MarketSignalAggregator(newsEventRepository, new NewsEligibilityEvaluator(), scoringPolicy);
+        ReflectionTestUtils.setField(aggregator, "globalMaxAgeHours", 24L);
+        aggregator.setClock(clock);
+    }
+
+    @Test
+    @DisplayName("the overview should match scoring the same events in one pass")
+    void givenRecordedEvents_whenOverview_thenMatchesBatchAggregation() {
+        NewsEvent first = analyzed("news-1", NOW.minus(Duration.ofHours(1)),
+                new MacroImpact(MacroVariable.OIL, ImpactDirection.UP, 0.9d),
+                new MacroImpact(MacroVariable.USD, ImpactDirection.DOWN, 0.7d));
+        NewsEvent second = analyzed("news-2", NOW.minus(Duration.ofHours(2)),
+                new MacroImpact(MacroVariable.OIL, ImpactDirection.UP, 0.6d),
+                new MacroImpact(MacroVariable.VOLATILITY, ImpactDirection.NEUTRAL, 0.5d));
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of(first));
+
+        aggregator.overview();
+        aggregator.onNewsContentChanged(NewsContentChangedEvent.interpreted(List.of(second)));
+        MarketSignalOverviewDto overview = aggregator.overview();
+
+        List<MarketSignalItemDto> expected = java.util.Arrays.stream(MacroVariable.values())
+                .map(variable -> scoringPolicy.aggregateSignal(variable, List.of(first, second)))
+                .toList();
+        assertThat(overview.items()).isEqualTo(expected);
+        verify(newsEventRepository, times(1)).findSignalCandidates(NOW.minus(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("a re-interpreted event should replace its previous contribution")
+    void givenReinterpretedEvent_whenRecorded_thenReplacesContribution() {
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of(
+                analyzed("news-1", NOW, new MacroImpact(MacroVariable.USD, ImpactDirection.UP, 0.9d))));
+        aggregator.overview();
+
+        aggregator.onNewsContentChanged(NewsContentChangedEvent.interpreted(List.of(
+                analyzed("news-1", NOW, new MacroImpact(MacroVariable.USD, ImpactDirection.DOWN, 0.9d)))));
+
+        assertThat(signalOf(MacroVariable.USD)).satisfies(item -> {
+            assertThat(item.sampleCount()).isEqualTo(1);
+            assertThat(item.direction()).isEqualTo(ImpactDirection.DOWN);
+        });
+    }
+
+    @Test
+    @DisplayName("deleted and failed events should leave the overview")
+    void givenDeletedOrFailedEvent_whenChanged_thenContributionIsWithdrawn() {
+        NewsEvent deleted = analyzed("news-1", NOW, new MacroImpact(MacroVariable.OIL, ImpactDirection.UP, 0.9d));
+        NewsEvent failed = analyzed("news-2", NOW, new MacroImpact(MacroVariable.OIL, ImpactDirection.UP, 0.8d));
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of(deleted, failed));
+        assertThat(signalOf(MacroVariable.OIL).sampleCount()).isEqualTo(2);
+
+        aggregator.onNewsContentChanged(NewsContentChangedEvent.deleted(List.of("news-1")));
+        aggregator.onNewsContentChanged(NewsContentChangedEvent.interpreted(List.of(new NewsEvent(
+                "news-2", null, "title", "summary", "Reuters", null, NOW, NOW, NewsStatus.FAILED, null, 1, NOW))));
+
+        assertThat(signalOf(MacroVariable.OIL)).satisfies(item -> {
+            assertThat(item.sampleCount()).isZero();
+            assertThat(item.direction()).isEqualTo(ImpactDirection.NEUTRAL);
+            assertThat(item.confidence()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("events should drop out once their signal window closes")
+    void givenWindowPassed_whenOverview_thenExpiredEventsAreEvicted() {
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of(
+                analyzed("older", NOW.minus(Duration.ofHours(20)),
+                        new MacroImpact(MacroVariable.GOLD, ImpactDirection.UP, 0.9d)),
+                analyzed("newer", NOW.minus(Duration.ofHours(2)),
+                        new MacroImpact(MacroVariable.GOLD, ImpactDirection.DOWN, 0.9d))));
+        assertThat(signalOf(MacroVariable.GOLD).sampleCount()).isEqualTo(2);
+
+        clock.advance(Duration.ofHours(5));
+
+        assertThat(signalOf(MacroVariable.GOLD)).satisfies(item -> {
+            assertThat(item.sampleCount()).isEqualTo(1);
+            assertThat(item.direction()).isEqualTo(ImpactDirection.DOWN);
+        });
+    }
+
+    @Test
+    @DisplayName("cluster members should not count their representative's analysis again")
+    void givenClusterMember_whenRecorded_thenOnlyRepresentativeCounts() {
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of());
+        aggregator.overview();
+
+        aggregator.onNewsContentChanged(NewsContentChangedEvent.interpreted(List.of(
+                analyzed("rep", NOW, new MacroImpact(MacroVariable.KOSPI, ImpactDirection.UP, 0.9d))
+                        .withClusterId("rep"),
+                analyzed("member", NOW, new MacroImpact(MacroVariable.KOSPI, ImpactDirection.UP, 0.9d))
+                        .withClusterId("rep"))));
+
+        assertThat(signalOf(MacroVariable.KOSPI).sampleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a rebuild should keep changes recorded while it loaded the analyzed news")
+    void givenChangeDuringRebuild_whenRebuilt_thenChangeIsReplayed() {
+        NewsEvent loaded = analyzed("news-1", NOW, new MacroImpact(MacroVariable.USD, ImpactDirection.UP, 0.9d));
+        NewsEvent recordedMeanwhile = analyzed("news-2", NOW,
+                new MacroImpact(MacroVariable.USD, ImpactDirection.UP, 0.8d));
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willAnswer(invocation -> {
+            aggregator.onNewsContentChanged(NewsContentChangedEvent.interpreted(List.of(recordedMeanwhile)));
+            aggregator.onNewsContentChanged(NewsContentChangedEvent.deleted(List.of("news-1")));
+            return List.of(loaded);
+        });
+
+        aggregator.rebuild();
+
+        assertThat(signalOf(MacroVariable.USD).sampleCount()).isEqualTo(1);
+    }
+
+    private MarketSignalItemDto signalOf(MacroVariable variable) {
+        return aggregator.overview().items().stream()
+                .filter(item -> item.variable() == variable)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private NewsEvent analyzed(String id, Instant analyzedAt, MacroImpact... impacts) {
+        return new NewsEvent(id, null, "title", "summary", "Reuters", "https://example.com/" + id,
+                analyzedAt.minus(Duration.ofHours(1)), analyzedAt.minus(Duration.ofMinutes(30)), NewsStatus.ANALYZED,
+                new AnalysisResult("test-model", analyzedAt, null, null, null, null, List.of(impacts), List.of()),
+                0, analyzedAt);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
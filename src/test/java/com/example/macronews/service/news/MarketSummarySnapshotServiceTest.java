@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +47,9 @@ class MarketSummarySnapshotServiceTest {
     @Mock
     private NewsQueryService newsQueryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MarketSummarySnapshotService marketSummarySnapshotService;
 
@@ -72,6 +76,8 @@ class MarketSummarySnapshotServiceTest {
         assertThat(result).isPresent();
         assertThat(result.get().headlineEn()).isEqualTo("AI market snapshot");
         verify(marketSummarySnapshotRepository).save(org.mockito.ArgumentMatchers.any(MarketSummarySnapshot.class));
+        verify(eventPublisher).publishEvent(
+                new NewsContentChangedEvent(NewsContentChangedEvent.Change.SUMMARY_SNAPSHOT));
     }
 
     @Test
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.example.macronews.dto.request.ExternalApiRequest;
+import com.example.macronews.service.news.source.ProviderPageCache;
 import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -224,6 +225,7 @@ class NewsApiServiceImplTest {
 
     private void setUpDefaults() {
         ReflectionTestUtils.setField(newsApiService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(newsApiService, "providerPageCache", new ProviderPageCache(new ObjectMapper()));
         ReflectionTestUtils.setField(newsApiService, "apiKey", "test-key");
         ReflectionTestUtils.setField(newsApiService, "defaultLimit", 10);
         ReflectionTestUtils.setField(newsApiService, "recencyHours", 48L);
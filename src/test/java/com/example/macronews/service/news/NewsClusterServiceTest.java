@@ -0,0 +1,114 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.AnalysisResult;
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.repository.NewsEventRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class NewsClusterServiceTest {
+
+    private static final AnalysisResult RESULT = new AnalysisResult("gpt-test", Instant.parse("2026-03-13T01:00:00Z"),
+            "헤드라인", "Headline", "요약", "Summary", List.of(), List.of());
+
+    @Mock
+    private NewsEventRepository newsEventRepository;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("newsDetail");
+    private NewsClusterService newsClusterService;
+
+    @BeforeEach
+    void setUp() {
+        newsClusterService = new NewsClusterService(newsEventRepository,
+                new NewsPriorityScorer(new NewsScoringPolicy()), cacheManager);
+    }
+
+    @Test
+    @DisplayName("linkMembers should copy the representative's analysis onto waiting members and evict their details")
+    void linkMembers_copiesAnalysisToWaitingMembers() {
+        NewsEvent representative = event("rep", "rep", NewsStatus.ANALYZED, RESULT);
+        NewsEvent waiting = event("member-1", "rep", NewsStatus.INGESTED, null);
+        NewsEvent alreadyLinked = event("member-2", "rep", NewsStatus.ANALYZED, RESULT);
+        given(newsEventRepository.findByClusterId("rep")).willReturn(List.of(representative, waiting, alreadyLinked));
+        cacheManager.getCache("newsDetail").put("member-1", "stale");
+
+        int linked = newsClusterService.linkMembers(representative);
+
+        assertThat(linked).isEqualTo(1);
+        verify(newsEventRepository).saveAll(argThat((List<NewsEvent> members) -> members.size() == 1
+                && members.get(0).id().equals("member-1")
+                && members.get(0).status() == NewsStatus.ANALYZED
+                && members.get(0).analysisResult() == RESULT
+                && members.get(0).clusterId().equals("rep")
+                && members.get(0).priority() != null));
+        assertThat(cacheManager.getCache("newsDetail").get("member-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("linkMembers should do nothing until the representative is analyzed")
+    void linkMembers_waitsForAnalyzedRepresentative() {
+        int linked = newsClusterService.linkMembers(event("rep", "rep", NewsStatus.FAILED, null));
+
+        assertThat(linked).isZero();
+        verify(newsEventRepository, never()).findByClusterId("rep");
+        verify(newsEventRepository, never()).saveAll(anyList());
+        assertThat(NewsClusterService.isRepresentative(event("legacy", null, NewsStatus.ANALYZED, RESULT))).isTrue();
+        assertThat(NewsClusterService.isRepresentative(event("member", "rep", NewsStatus.INGESTED, null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("promoteWaitingMembers should hand an abandoned cluster to its earliest waiting member")
+    void promoteWaitingMembers_promotesEarliestWaitingMember() {
+        NewsEvent abandoned = event("rep", "rep", NewsStatus.FAILED, null);
+        NewsEvent later = event("member-2", "rep", NewsStatus.INGESTED, null, Instant.parse("2026-03-13T00:05:00Z"));
+        NewsEvent earliest = event("member-1", "rep", NewsStatus.INGESTED, null, Instant.parse("2026-03-13T00:02:00Z"));
+        given(newsEventRepository.findByClusterIdIn(argThat(ids -> List.copyOf(ids).equals(List.of("rep")))))
+                .willReturn(List.of(abandoned, later, earliest));
+
+        List<NewsEvent> promoted = newsClusterService.promoteWaitingMembers(List.of(abandoned));
+
+        assertThat(promoted).singleElement().satisfies(representative -> {
+            assertThat(representative.id()).isEqualTo("member-1");
+            assertThat(NewsClusterService.isRepresentative(representative)).isTrue();
+        });
+        verify(newsEventRepository).saveAll(argThat((List<NewsEvent> events) -> events.size() == 3
+                && events.stream().allMatch(event -> "member-1".equals(event.clusterId()))));
+    }
+
+    @Test
+    @DisplayName("promoteWaitingMembers should leave a cluster without waiting members untouched")
+    void promoteWaitingMembers_ignoresClusterWithoutWaitingMembers() {
+        NewsEvent abandoned = event("rep", "rep", NewsStatus.FAILED, null);
+        given(newsEventRepository.findByClusterIdIn(anyCollection())).willReturn(List.of(abandoned));
+
+        assertThat(newsClusterService.promoteWaitingMembers(List.of(abandoned))).isEmpty();
+        verify(newsEventRepository, never()).saveAll(anyList());
+    }
+
+    private NewsEvent event(String id, String clusterId, NewsStatus status, AnalysisResult result) {
+        return event(id, clusterId, status, result, Instant.parse("2026-03-13T00:01:00Z"));
+    }
+
+    private NewsEvent event(String id, String clusterId, NewsStatus status, AnalysisResult result, Instant ingestedAt) {
+        return new NewsEvent(id, "ext-" + id, "한국은행, 기준금리 동결", "기준금리를 연 3.50%로 동결했다.", "Yonhap",
+                "https://example.com/" + id, Instant.parse("2026-03-13T00:00:00Z"),
+                ingestedAt, status, result, null, null, null, clusterId);
+    }
+}
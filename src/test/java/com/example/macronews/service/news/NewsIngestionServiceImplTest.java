@@ -2,29 +2,38 @@ package com.example.macronews.service.news;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.example.macronews.domain.InterpretationJobOrigin;
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
 import com.example.macronews.dto.external.ExternalNewsItem;
 import com.example.macronews.repository.NewsEventRepository;
-import com.example.macronews.service.macro.MacroAiService;
+import com.example.macronews.service.macro.OfflineInterpretationService;
 import com.example.macronews.service.news.source.NewsSourceProviderSelector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,10 +46,25 @@ class NewsIngestionServiceImplTest {
     private NewsSourceProviderSelector newsSourceProviderSelector;
 
     @Mock
-    private MacroAiService macroAiService;
+    private InterpretationQueueService interpretationQueueService;
+
+    @Spy
+    private NewsPriorityScorer newsPriorityScorer = new NewsPriorityScorer(new NewsScoringPolicy());
+
+    @Mock
+    private NewsClusterService newsClusterService;
+
+    @Mock
+    private OfflineInterpretationService offlineInterpretationService;
 
     @Mock
-    private Executor ingestionExecutor;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SeenArticleFilter seenArticleFilter = new SeenArticleFilter(new SimpleMeterRegistry());
+
+    @Spy
+    private ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("newsDetail");
 
     @InjectMocks
     private NewsIngestionServiceImpl newsIngestionService;
@@ -63,7 +87,32 @@ class NewsIngestionServiceImplTest {
         NewsEvent saved = newsIngestionService.ingestExternalItem(item);
 
         assertThat(saved.summary()).isEqualTo("Officials signaled a cautious stance while watching inflation data.");
-        verifyNoInteractions(macroAiService, newsSourceProviderSelector, ingestionExecutor);
+        verifyNoInteractions(interpretationQueueService, newsSourceProviderSelector);
+    }
+
+    @Test
+    @DisplayName("ingestExternalItem should store the priority score of the current rules")
+    void ingestExternalItem_storesCurrentPriorityScore() {
+        ExternalNewsItem item = new ExternalNewsItem(
+                "external-priority",
+                "Reuters",
+                "Fed rate decision lifts Treasury yields",
+                "FOMC officials signaled a tighter policy path as inflation stayed elevated.",
+                "https://www.reuters.com/markets/priority",
+                Instant.parse("2026-03-13T00:00:00Z")
+        );
+        given(newsEventRepository.findByExternalId("external-priority")).willReturn(Optional.empty());
+        given(newsEventRepository.findByUrl("https://www.reuters.com/markets/priority")).willReturn(Optional.empty());
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        NewsEvent saved = newsIngestionService.ingestExternalItem(item);
+
+        assertThat(saved.priority()).isNotNull();
+        assertThat(saved.priority().rulesVersion()).isEqualTo(NewsScoringPolicy.PRIORITY_RULES_VERSION);
+        assertThat(saved.priority().score())
+                .isEqualTo(new NewsScoringPolicy().calculatePriorityScore(saved))
+                .isPositive();
+        assertThat(saved.priority().breakdown()).containsKeys("macro-policy", "central-bank-data", "source-reliability");
     }
 
     @Test
@@ -115,6 +164,24 @@ class NewsIngestionServiceImplTest {
 
         assertThat(deleted).isTrue();
         verify(newsEventRepository).deleteById("news-1");
+        verify(eventPublisher).publishEvent(NewsContentChangedEvent.deleted(List.of("news-1")));
+    }
+
+    @Test
+    @DisplayName("deleteByIds should evict only the deleted ids from the detail cache")
+    void deleteByIds_evictsOnlyDeletedDetails() {
+        Cache newsDetail = cacheManager.getCache("newsDetail");
+        newsDetail.put("news-1", "detail-1");
+        newsDetail.put("news-2", "detail-2");
+        given(newsEventRepository.findAllById(List.of("news-1", "missing-news")))
+                .willReturn(List.of(existingEvent("news-1", "news-1")));
+
+        int deleted = newsIngestionService.deleteByIds(List.of("news-1", " missing-news "));
+
+        assertThat(deleted).isEqualTo(1);
+        verify(newsEventRepository).deleteAllById(List.of("news-1"));
+        assertThat(newsDetail.get("news-1")).isNull();
+        assertThat(newsDetail.get("news-2").get()).isEqualTo("detail-2");
     }
 
     @Test
@@ -164,7 +231,7 @@ class NewsIngestionServiceImplTest {
                 .contains("keptSourceSummary={}")
                 .contains("finalCause=freshness-gate-removed-all");
         verify(newsSourceProviderSelector).fetchTopHeadlines(3);
-        verifyNoInteractions(newsEventRepository, macroAiService, ingestionExecutor);
+        verifyNoInteractions(newsEventRepository, interpretationQueueService);
     }
 
     @Test
@@ -181,16 +248,16 @@ class NewsIngestionServiceImplTest {
                 "https://example.com/recovered",
                 publishedAt);
         given(newsSourceProviderSelector.fetchTopHeadlines(3)).willReturn(List.of(recoveredItem));
-        given(newsEventRepository.findByExternalId("external-recovered")).willReturn(Optional.empty());
-        given(newsEventRepository.findByUrl("https://example.com/recovered")).willReturn(Optional.empty());
-        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection())).willReturn(List.of());
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
 
         List<NewsEvent> ingested = newsIngestionService.ingestTopHeadlines(3).events();
 
         assertThat(ingested).hasSize(1);
         assertThat(ingested.get(0).source()).isEqualTo("NAVER");
         verify(newsSourceProviderSelector).fetchTopHeadlines(3);
-        verify(newsEventRepository).save(any(NewsEvent.class));
+        verify(newsEventRepository).insertAllUnordered(anyCollection());
     }
 
     @Test
@@ -205,19 +272,134 @@ class NewsIngestionServiceImplTest {
         NewsEvent exhausted = failedEvent("exhausted", 2, now.minusSeconds(7200));
         given(newsEventRepository.findByStatus(NewsStatus.FAILED)).willReturn(List.of(eligible, recentFailure, exhausted));
         given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
-        willAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(0);
-            runnable.run();
-            return null;
-        }).given(ingestionExecutor).execute(any(Runnable.class));
+        given(interpretationQueueService.remainingCapacity(InterpretationJobOrigin.RETRY)).willReturn(100);
 
         int submitted = newsIngestionService.retryFailedAnalyses();
 
         assertThat(submitted).isEqualTo(1);
         verify(newsEventRepository).save(any(NewsEvent.class));
-        verify(macroAiService).interpretAndSave("eligible");
-        verify(macroAiService, never()).interpretAndSave("recent");
-        verify(macroAiService, never()).interpretAndSave("exhausted");
+        verify(interpretationQueueService).enqueue(
+                argThat(events -> events.stream().map(NewsEvent::id).toList().equals(List.of("eligible"))),
+                eq(InterpretationJobOrigin.RETRY));
+    }
+
+    @Test
+    @DisplayName("retryFailedAnalyses should reserve only as many retries as the queue admits")
+    void retryFailedAnalyses_defersRetriesUnderQueueBackpressure() {
+        Instant now = Instant.parse("2026-03-24T10:00:00Z");
+        ReflectionTestUtils.setField(newsIngestionService, "clock", java.time.Clock.fixed(now, java.time.ZoneOffset.UTC));
+        ReflectionTestUtils.setField(newsIngestionService, "maxAnalysisRetries", 2);
+        ReflectionTestUtils.setField(newsIngestionService, "analysisRetryMinDelayMinutes", 60L);
+        given(newsEventRepository.findByStatus(NewsStatus.FAILED)).willReturn(List.of(
+                failedEvent("first", 0, now.minusSeconds(7200)),
+                failedEvent("second", 0, now.minusSeconds(7200))));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(interpretationQueueService.remainingCapacity(InterpretationJobOrigin.RETRY)).willReturn(1);
+
+        int submitted = newsIngestionService.retryFailedAnalyses();
+
+        assertThat(submitted).isEqualTo(1);
+        verify(newsEventRepository).save(argThat(event -> event.id().equals("first")));
+        verify(interpretationQueueService).enqueue(
+                argThat(events -> events.stream().map(NewsEvent::id).toList().equals(List.of("first"))),
+                eq(InterpretationJobOrigin.RETRY));
+    }
+
+    @Test
+    @DisplayName("retryFailedAnalyses should submit every eligible retry offline when offline interpretation is on")
+    void retryFailedAnalyses_submitsOfflineWhenEnabled() {
+        Instant now = Instant.parse("2026-03-24T10:00:00Z");
+        ReflectionTestUtils.setField(newsIngestionService, "clock", java.time.Clock.fixed(now, java.time.ZoneOffset.UTC));
+        ReflectionTestUtils.setField(newsIngestionService, "maxAnalysisRetries", 2);
+        ReflectionTestUtils.setField(newsIngestionService, "analysisRetryMinDelayMinutes", 60L);
+        given(newsEventRepository.findByStatus(NewsStatus.FAILED)).willReturn(List.of(
+                failedEvent("first", 0, now.minusSeconds(7200)),
+                failedEvent("second", 1, now.minusSeconds(7200))));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(offlineInterpretationService.isEnabled()).willReturn(true);
+
+        int submitted = newsIngestionService.retryFailedAnalyses();
+
+        assertThat(submitted).isEqualTo(2);
+        verify(offlineInterpretationService).submit(argThat(events ->
+                events.stream().map(NewsEvent::id).toList().equals(List.of("first", "second"))
+                        && events.stream().allMatch(event -> event.analysisRetryCount() >= 1)));
+        verifyNoInteractions(interpretationQueueService);
+    }
+
+    @Test
+    @DisplayName("retryFailedAnalyses should not resubmit events whose offline batch is still running")
+    void retryFailedAnalyses_skipsEventsPendingInOfflineBatch() {
+        Instant now = Instant.parse("2026-03-24T10:00:00Z");
+        ReflectionTestUtils.setField(newsIngestionService, "clock", java.time.Clock.fixed(now, java.time.ZoneOffset.UTC));
+        ReflectionTestUtils.setField(newsIngestionService, "maxAnalysisRetries", 2);
+        ReflectionTestUtils.setField(newsIngestionService, "analysisRetryMinDelayMinutes", 60L);
+        given(newsEventRepository.findByStatus(NewsStatus.FAILED)).willReturn(List.of(
+                failedEvent("pending", 1, now.minusSeconds(7200)),
+                failedEvent("due", 0, now.minusSeconds(7200))));
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(offlineInterpretationService.isEnabled()).willReturn(true);
+        given(offlineInterpretationService.pendingEventIds()).willReturn(java.util.Set.of("pending"));
+
+        int submitted = newsIngestionService.retryFailedAnalyses();
+
+        assertThat(submitted).isEqualTo(1);
+        verify(offlineInterpretationService).submit(argThat(events ->
+                events.stream().map(NewsEvent::id).toList().equals(List.of("due"))));
+    }
+
+    @Test
+    @DisplayName("retryFailedAnalyses should promote a member of an exhausted representative and requeue stalled ones")
+    void retryFailedAnalyses_recoversStalledClusters() {
+        Instant now = Instant.parse("2026-03-24T10:00:00Z");
+        ReflectionTestUtils.setField(newsIngestionService, "clock", java.time.Clock.fixed(now, java.time.ZoneOffset.UTC));
+        ReflectionTestUtils.setField(newsIngestionService, "maxAnalysisRetries", 2);
+        ReflectionTestUtils.setField(newsIngestionService, "analysisRetryMinDelayMinutes", 60L);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringWindowHours", 24L);
+        NewsEvent exhausted = failedEvent("exhausted", 2, now.minusSeconds(7200)).withClusterId("exhausted");
+        NewsEvent legacyExhausted = failedEvent("legacy", 2, now.minusSeconds(7200));
+        NewsEvent promoted = ingestedEvent("promoted", "promoted");
+        NewsEvent stalled = ingestedEvent("stalled", "stalled");
+        NewsEvent waitingMember = ingestedEvent("member", "stalled");
+        given(newsEventRepository.findByStatus(NewsStatus.FAILED)).willReturn(List.of(exhausted, legacyExhausted));
+        given(newsClusterService.promoteWaitingMembers(List.of(exhausted))).willReturn(List.of(promoted));
+        given(newsEventRepository.findByStatusAndIngestedAtBefore(NewsStatus.INGESTED, now.minusSeconds(3600)))
+                .willReturn(List.of(promoted, stalled, waitingMember));
+
+        int submitted = newsIngestionService.retryFailedAnalyses();
+
+        assertThat(submitted).isZero();
+        verify(interpretationQueueService).enqueue(
+                argThat(events -> events.stream().map(NewsEvent::id).toList().equals(List.of("promoted", "stalled"))),
+                eq(InterpretationJobOrigin.RETRY));
+        verify(newsEventRepository, never()).save(any(NewsEvent.class));
+    }
+
+    @Test
+    @DisplayName("retryFailedAnalyses should requeue events the full queue rejected when clustering is off")
+    void retryFailedAnalyses_requeuesRejectedEventsWithoutClustering() {
+        ReflectionTestUtils.setField(newsIngestionService, "analysisRetryMinDelayMinutes", 60L);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringEnabled", false);
+        ExternalNewsItem item = new ExternalNewsItem("rejected-1", "Reuters", "Fresh headline", "Fresh summary",
+                "https://example.com/rejected-1", Instant.now());
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(item));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection())).willReturn(List.of());
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
+        // The queue is full, so admission control leaves the new event INGESTED without a job.
+        given(interpretationQueueService.enqueue(anyCollection(), eq(InterpretationJobOrigin.INGESTED))).willReturn(0);
+        NewsEvent rejected = newsIngestionService.ingestTopHeadlines(5).events().get(0);
+        assertThat(rejected.clusterId()).isNull();
+        Instant now = rejected.ingestedAt().plus(Duration.ofHours(2));
+        ReflectionTestUtils.setField(newsIngestionService, "clock", java.time.Clock.fixed(now, java.time.ZoneOffset.UTC));
+        given(newsEventRepository.findByStatusAndIngestedAtBefore(NewsStatus.INGESTED, now.minusSeconds(3600)))
+                .willReturn(List.of(rejected));
+
+        newsIngestionService.retryFailedAnalyses();
+
+        verify(interpretationQueueService).enqueue(
+                argThat(events -> events.stream().map(NewsEvent::id).toList().equals(List.of(rejected.id()))),
+                eq(InterpretationJobOrigin.RETRY));
     }
 
     @Test
@@ -234,7 +416,7 @@ class NewsIngestionServiceImplTest {
 
         assertThat(submitted).isZero();
         verify(newsEventRepository, never()).save(any(NewsEvent.class));
-        verify(macroAiService, never()).interpretAndSave(any());
+        verifyNoInteractions(interpretationQueueService);
     }
 
     @Test
@@ -246,10 +428,8 @@ class NewsIngestionServiceImplTest {
         ExternalNewsItem item2 = new ExternalNewsItem("dup-2", "Reuters", "Title 2", "Summary 2",
                 "https://example.com/dup-2", now);
         given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(item1, item2));
-        given(newsEventRepository.findByExternalId("dup-1"))
-                .willReturn(Optional.of(existingEvent("existing-1", "dup-1")));
-        given(newsEventRepository.findByExternalId("dup-2"))
-                .willReturn(Optional.of(existingEvent("existing-2", "dup-2")));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection()))
+                .willReturn(List.of(existingEvent("existing-1", "dup-1"), existingEvent("existing-2", "dup-2")));
 
         NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
 
@@ -258,9 +438,10 @@ class NewsIngestionServiceImplTest {
         assertThat(summary.newlyPersisted()).isZero();
         assertThat(summary.duplicates()).isEqualTo(2);
         assertThat(summary.submittedForAnalysis()).isZero();
+        assertThat(summary.events()).extracting(NewsEvent::id).containsExactly("existing-1", "existing-2");
         verify(newsEventRepository, never()).save(any(NewsEvent.class));
-        verifyNoInteractions(ingestionExecutor);
-        verify(macroAiService, never()).interpretAndSave(any());
+        verify(newsEventRepository, never()).insertAllUnordered(anyCollection());
+        verifyNoInteractions(interpretationQueueService);
     }
 
     @Test
@@ -270,15 +451,9 @@ class NewsIngestionServiceImplTest {
         ExternalNewsItem newItem = new ExternalNewsItem("new-1", "Reuters", "Fresh headline", "Fresh summary",
                 "https://example.com/new-1", now);
         given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(newItem));
-        given(newsEventRepository.findByExternalId("new-1")).willReturn(Optional.empty());
-        given(newsEventRepository.findByUrl("https://example.com/new-1")).willReturn(Optional.empty());
-        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> {
-            NewsEvent e = invocation.getArgument(0);
-            // Return a persisted event with a non-null id so it qualifies as an async analysis target.
-            return new NewsEvent("saved-1", e.externalId(), e.title(), e.summary(), e.source(), e.url(),
-                    e.publishedAt(), e.ingestedAt(), e.status(), e.analysisResult(),
-                    e.analysisRetryCount(), e.analysisLastAttemptAt());
-        });
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection())).willReturn(List.of());
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
 
         NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
 
@@ -287,8 +462,81 @@ class NewsIngestionServiceImplTest {
         assertThat(summary.newlyPersisted()).isEqualTo(1);
         assertThat(summary.duplicates()).isZero();
         assertThat(summary.submittedForAnalysis()).isEqualTo(1);
-        verify(newsEventRepository).save(any(NewsEvent.class));
-        verify(ingestionExecutor).execute(any(Runnable.class));
+        // New events carry a pre-assigned id so they qualify as async analysis targets without a read-back.
+        assertThat(summary.events().get(0).id()).isNotBlank();
+        verify(newsEventRepository, never()).save(any(NewsEvent.class));
+        verify(interpretationQueueService).enqueue(argThat(events -> events.size() == 1),
+                eq(InterpretationJobOrigin.INGESTED));
+    }
+
+    @Test
+    @DisplayName("ingestTopHeadlines should resolve duplicates with one lookup and count in-feed repeats as duplicates")
+    void ingestTopHeadlines_resolvesDuplicatesWithSingleLookup() {
+        Instant now = Instant.now();
+        ExternalNewsItem stored = new ExternalNewsItem("stored-1", "Reuters", "Stored headline", "Summary",
+                "https://example.com/stored-1", now);
+        ExternalNewsItem fresh = new ExternalNewsItem("fresh-1", "Reuters", "Fresh headline", "Summary",
+                "https://example.com/fresh-1", now);
+        ExternalNewsItem freshRepeat = new ExternalNewsItem("fresh-1-copy", "Yonhap", "Fresh headline copy", "Summary",
+                "https://example.com/fresh-1", now);
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(stored, fresh, freshRepeat));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection()))
+                .willReturn(List.of(existingEvent("existing-1", "stored-1")));
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        assertThat(summary.selected()).isEqualTo(3);
+        assertThat(summary.returned()).isEqualTo(3);
+        assertThat(summary.newlyPersisted()).isEqualTo(1);
+        assertThat(summary.duplicates()).isEqualTo(2);
+        assertThat(summary.submittedForAnalysis()).isEqualTo(1);
+        assertThat(summary.events().get(2)).isSameAs(summary.events().get(1));
+        verify(newsEventRepository).findByExternalIdInOrUrlIn(anyCollection(), anyCollection());
+        verify(newsEventRepository, never()).findByExternalId(any());
+        verify(newsEventRepository, never()).findByUrl(any());
+        verify(newsEventRepository).insertAllUnordered(anyCollection());
+    }
+
+    @Test
+    @DisplayName("ingestTopHeadlines should treat rows rejected by the bulk insert as duplicates")
+    void ingestTopHeadlines_treatsRejectedBulkRowsAsDuplicates() {
+        Instant now = Instant.now();
+        ExternalNewsItem raced = new ExternalNewsItem("raced-1", "Reuters", "Raced headline", "Summary",
+                "https://example.com/raced-1", now);
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(raced));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection()))
+                .willReturn(List.of())
+                .willReturn(List.of(existingEvent("concurrent-1", "raced-1")));
+        given(newsEventRepository.insertAllUnordered(anyCollection())).willReturn(List.of());
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        assertThat(summary.newlyPersisted()).isZero();
+        assertThat(summary.duplicates()).isEqualTo(1);
+        assertThat(summary.submittedForAnalysis()).isZero();
+        assertThat(summary.events()).extracting(NewsEvent::id).containsExactly("concurrent-1");
+        verifyNoInteractions(interpretationQueueService);
+    }
+
+    @Test
+    @DisplayName("ingestTopHeadlines should report rows the bulk insert failed without a stored copy as failed, not duplicates")
+    void ingestTopHeadlines_dropsFailedBulkRowsWithoutCountingDuplicates() {
+        Instant now = Instant.now();
+        ExternalNewsItem failed = new ExternalNewsItem("failed-1", "Reuters", "Failed headline", "Summary",
+                "https://example.com/failed-1", now);
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(failed));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection()))
+                .willReturn(List.of());
+        given(newsEventRepository.insertAllUnordered(anyCollection())).willReturn(List.of());
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        assertThat(summary.newlyPersisted()).isZero();
+        assertThat(summary.duplicates()).isZero();
+        assertThat(summary.events()).isEmpty();
+        verifyNoInteractions(interpretationQueueService);
     }
 
     @Test
@@ -305,6 +553,128 @@ class NewsIngestionServiceImplTest {
                 .contains("submittedForAnalysis=0");
     }
 
+    @Test
+    @DisplayName("External ids the warmed seen filter rules out should skip only the external id lookup")
+    void seenFilter_skipsExternalIdLookupForUnseenItems() {
+        ReflectionTestUtils.setField(seenArticleFilter, "enabled", true);
+        seenArticleFilter.rebuild(Stream.of(existingEvent("existing-1", "dup-1")));
+        Instant now = Instant.now();
+        ExternalNewsItem known = new ExternalNewsItem("dup-1", "Reuters", "Title 1", "Summary 1",
+                "https://example.com/dup-1", now);
+        ExternalNewsItem unseen = new ExternalNewsItem("new-1", "Reuters", "Fresh headline", "Fresh summary",
+                "https://example.com/new-1", now);
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(known, unseen));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection()))
+                .willReturn(List.of(existingEvent("existing-1", "dup-1")));
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        assertThat(summary.duplicates()).isEqualTo(1);
+        assertThat(summary.newlyPersisted()).isEqualTo(1);
+        verify(newsEventRepository).findByExternalIdInOrUrlIn(
+                argThat(ids -> List.copyOf(ids).equals(List.of("dup-1"))),
+                argThat(urls -> List.copyOf(urls).equals(
+                        List.of("https://example.com/dup-1", "https://example.com/new-1"))));
+        assertThat(seenArticleFilter.mightContainExternalId("new-1")).isTrue();
+
+        ExternalNewsItem single = new ExternalNewsItem("single-1", "Reuters", "Single headline", "Single summary",
+                "https://example.com/single-1", now);
+        given(newsEventRepository.findByUrl("https://example.com/single-1")).willReturn(Optional.empty());
+        given(newsEventRepository.save(any(NewsEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        newsIngestionService.ingestExternalItem(single);
+
+        // The url has no unique index and another instance may have stored it, so it is still checked.
+        verify(newsEventRepository, never()).findByExternalId(any());
+        verify(newsEventRepository).findByUrl("https://example.com/single-1");
+    }
+
+    @Test
+    @DisplayName("deleteExpiredBefore should rebuild the seen filter without the deleted events")
+    void deleteExpiredBefore_rebuildsSeenFilter() {
+        ReflectionTestUtils.setField(seenArticleFilter, "enabled", true);
+        NewsEvent expired = existingEvent("expired-1", "old-1");
+        seenArticleFilter.rebuild(Stream.of(expired, existingEvent("kept-1", "kept-1")));
+        Instant cutoff = Instant.parse("2026-03-14T00:00:00Z");
+        given(newsEventRepository.findByIngestedAtBefore(cutoff)).willReturn(List.of(expired));
+        given(newsEventRepository.findAllById(List.of("expired-1"))).willReturn(List.of(expired));
+        given(newsEventRepository.streamDedupKeys()).willReturn(Stream.of(existingEvent("kept-1", "kept-1")));
+
+        int deleted = newsIngestionService.deleteExpiredBefore(cutoff);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(seenArticleFilter.mightContainExternalId("old-1")).isFalse();
+        assertThat(seenArticleFilter.mightContainExternalId("kept-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("ingestTopHeadlines should cluster syndicated copies and only submit cluster representatives")
+    void ingestTopHeadlines_clustersSyndicatedCopies() {
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringEnabled", true);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringWindowHours", 24L);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringMaxDistance", 6);
+        String rateSummary = "한국은행 금융통화위원회는 기준금리를 연 3.50%로 동결했다. 가계부채와 환율 변동성을 고려한 결정이다.";
+        String chipSummary = "삼성전자와 SK하이닉스가 반도체 수출 호조에 힘입어 나란히 강세를 보이며 코스피 상승을 이끌었다.";
+        NewsEvent storedWire = new NewsEvent("stored-rep", "stored-ext", "한국은행, 기준금리 연 3.50% 동결", rateSummary,
+                "Yonhap", "https://example.com/stored", Instant.now(), Instant.now(), NewsStatus.ANALYZED,
+                null, null, null, null, "stored-rep");
+        Instant now = Instant.now();
+        ExternalNewsItem rateCopy = new ExternalNewsItem("rate-copy", "NAVER", "[속보] 한국은행, 기준금리 연 3.50% 동결",
+                rateSummary, "https://example.com/rate-copy", now);
+        ExternalNewsItem chipWire = new ExternalNewsItem("chip-wire", "NAVER", "반도체 수출 호조에 코스피 상승",
+                chipSummary, "https://example.com/chip-wire", now);
+        ExternalNewsItem chipCopy = new ExternalNewsItem("chip-copy", "NAVER", "반도체 수출 호조에 코스피 상승 (종합)",
+                chipSummary, "https://example.com/chip-copy", now);
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(rateCopy, chipWire, chipCopy));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection())).willReturn(List.of());
+        given(newsEventRepository.findClusterCandidates(any(Instant.class))).willReturn(List.of(storedWire));
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        assertThat(summary.newlyPersisted()).isEqualTo(3);
+        assertThat(summary.submittedForAnalysis()).isEqualTo(1);
+        NewsEvent chipRepresentative = summary.events().get(1);
+        assertThat(summary.events()).extracting(NewsEvent::clusterId)
+                .containsExactly("stored-rep", chipRepresentative.id(), chipRepresentative.id());
+        verify(interpretationQueueService).enqueue(
+                argThat(events -> events.stream().map(NewsEvent::id).toList().equals(List.of(chipRepresentative.id()))),
+                eq(InterpretationJobOrigin.INGESTED));
+        verify(newsClusterService).linkAnalyzedRepresentatives(argThat(ids -> List.copyOf(ids).equals(List.of("stored-rep"))));
+    }
+
+    @Test
+    @DisplayName("ingestTopHeadlines should not cluster new copies with a representative whose retries are exhausted")
+    void ingestTopHeadlines_startsNewClusterInsteadOfJoiningExhaustedRepresentative() {
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringEnabled", true);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringWindowHours", 24L);
+        ReflectionTestUtils.setField(newsIngestionService, "clusteringMaxDistance", 6);
+        ReflectionTestUtils.setField(newsIngestionService, "maxAnalysisRetries", 2);
+        String rateSummary = "한국은행 금융통화위원회는 기준금리를 연 3.50%로 동결했다. 가계부채와 환율 변동성을 고려한 결정이다.";
+        NewsEvent exhaustedWire = new NewsEvent("stored-rep", "stored-ext", "한국은행, 기준금리 연 3.50% 동결", rateSummary,
+                "Yonhap", "https://example.com/stored", Instant.now(), Instant.now(), NewsStatus.FAILED,
+                null, 2, null, null, "stored-rep");
+        NewsEvent exhaustedMember = new NewsEvent("stored-member", "stored-member-ext", "한국은행, 기준금리 연 3.50% 동결 (종합)",
+                rateSummary, "Yonhap", "https://example.com/stored-member", Instant.now(), Instant.now(),
+                NewsStatus.INGESTED, null, null, null, null, "stored-rep");
+        ExternalNewsItem rateCopy = new ExternalNewsItem("rate-copy", "NAVER", "[속보] 한국은행, 기준금리 연 3.50% 동결",
+                rateSummary, "https://example.com/rate-copy", Instant.now());
+        given(newsSourceProviderSelector.fetchTopHeadlines(5)).willReturn(List.of(rateCopy));
+        given(newsEventRepository.findByExternalIdInOrUrlIn(anyCollection(), anyCollection())).willReturn(List.of());
+        given(newsEventRepository.findClusterCandidates(any(Instant.class))).willReturn(List.of(exhaustedWire, exhaustedMember));
+        given(newsEventRepository.insertAllUnordered(anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<Collection<NewsEvent>>getArgument(0)));
+
+        NewsIngestionSummary summary = newsIngestionService.ingestTopHeadlines(5);
+
+        NewsEvent copy = summary.events().get(0);
+        assertThat(copy.clusterId()).isEqualTo(copy.id());
+        assertThat(summary.submittedForAnalysis()).isEqualTo(1);
+    }
+
     private NewsEvent existingEvent(String id, String externalId) {
         return new NewsEvent(
                 id,
@@ -322,6 +692,12 @@ class NewsIngestionServiceImplTest {
         );
     }
 
+    private NewsEvent ingestedEvent(String id, String clusterId) {
+        return new NewsEvent(id, "external-" + id, "Title " + id, "Summary", "Reuters", "https://example.com/" + id,
+                Instant.parse("2026-03-24T07:00:00Z"), Instant.parse("2026-03-24T07:00:00Z"), NewsStatus.INGESTED,
+                null, null, null, null, clusterId);
+    }
+
     private NewsEvent failedEvent(String id, Integer retryCount, Instant lastAttemptAt) {
         return new NewsEvent(
                 id,
@@ -0,0 +1,75 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.PriorityScore;
+import com.example.macronews.repository.NewsEventRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NewsPriorityBackfillServiceTest {
+
+    @Mock
+    private NewsEventRepository newsEventRepository;
+
+    private NewsPriorityBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new NewsPriorityBackfillService(
+                newsEventRepository, new NewsPriorityScorer(new NewsScoringPolicy()));
+    }
+
+    @Test
+    @DisplayName("Backfill should rescore stale events batch by batch, resuming after the last id")
+    void backfillStaleScores_walksBatchesInIdOrder() {
+        int version = NewsScoringPolicy.PRIORITY_RULES_VERSION;
+        given(newsEventRepository.findPriorityStale(version, null, 2))
+                .willReturn(List.of(event("id-1", "Fed rate decision lifts yields"), event("id-2", "Oil prices rise")));
+        given(newsEventRepository.findPriorityStale(version, "id-2", 2))
+                .willReturn(List.of(event("id-3", "Weekend festival guide")));
+
+        int rescored = backfillService.backfillStaleScores(2);
+
+        assertThat(rescored).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, PriorityScore>> updates = ArgumentCaptor.forClass(Map.class);
+        verify(newsEventRepository, times(2)).updatePriorities(updates.capture());
+        assertThat(updates.getAllValues().get(0)).containsOnlyKeys("id-1", "id-2");
+        assertThat(updates.getAllValues().get(1)).containsOnlyKeys("id-3");
+        assertThat(updates.getAllValues().get(0).get("id-1").rulesVersion()).isEqualTo(version);
+        assertThat(updates.getAllValues().get(0).get("id-1").score()).isPositive();
+        assertThat(updates.getAllValues().get(1).get("id-3").breakdown()).containsKey("noise-demotion");
+    }
+
+    @Test
+    @DisplayName("Backfill should do nothing when every stored score is current")
+    void backfillStaleScores_noStaleEvents() {
+        given(newsEventRepository.findPriorityStale(NewsScoringPolicy.PRIORITY_RULES_VERSION, null, 200))
+                .willReturn(List.of());
+
+        assertThat(backfillService.backfillStaleScores(200)).isZero();
+        verify(newsEventRepository, never()).updatePriorities(anyMap());
+    }
+
+    private NewsEvent event(String id, String title) {
+        return new NewsEvent(id, null, title, "", "Reuters", "https://www.reuters.com/" + id,
+                Instant.parse("2026-03-10T09:00:00Z"), null, NewsStatus.INGESTED, null, null, null);
+    }
+}
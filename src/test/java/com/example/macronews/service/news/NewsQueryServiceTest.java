@@ -1,8 +1,13 @@
 package com.example.macronews.service.news;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.example.macronews.domain.AnalysisResult;
 import com.example.macronews.domain.ImpactDirection;
@@ -10,30 +15,38 @@ import com.example.macronews.domain.MacroImpact;
 import com.example.macronews.domain.MacroVariable;
 import com.example.macronews.domain.NewsEvent;
 import com.example.macronews.domain.NewsStatus;
+import com.example.macronews.domain.PriorityScore;
 import com.example.macronews.domain.SignalSentiment;
 import com.example.macronews.dto.MarketSignalOverviewDto;
+import com.example.macronews.dto.NewsCursorPageDto;
 import com.example.macronews.dto.NewsListItemDto;
 import com.example.macronews.repository.NewsEventRepository;
+import com.example.macronews.repository.NewsListCursor;
+import com.example.macronews.repository.NewsListWindow;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class NewsQueryServiceTest {
 
     private static final Instant FIXED_NOW = Instant.parse("2026-03-10T12:00:00Z");
+    private static final Sort PUBLISHED_DESC_SORT = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("ingestedAt"));
 
     @Mock
     private NewsEventRepository newsEventRepository;
@@ -46,11 +59,15 @@ class NewsQueryServiceTest {
         NewsScoringPolicy scoringPolicy = new NewsScoringPolicy();
         NewsTranslationSelector translationSelector = new NewsTranslationSelector();
         NewsDtoMapper newsDtoMapper = new NewsDtoMapper(scoringPolicy, translationSelector);
+        MarketSignalAggregator marketSignalAggregator =
+                new MarketSignalAggregator(newsEventRepository, eligibilityEvaluator, scoringPolicy);
+        marketSignalAggregator.setClock(Clock.fixed(FIXED_NOW, ZoneOffset.UTC));
         newsQueryService = new NewsQueryService(
                 newsEventRepository,
                 eligibilityEvaluator,
                 scoringPolicy,
-                newsDtoMapper
+                newsDtoMapper,
+                marketSignalAggregator
         );
         newsQueryService.setClock(Clock.fixed(FIXED_NOW, ZoneOffset.UTC));
     }
@@ -540,8 +557,9 @@ class NewsQueryServiceTest {
                 NewsStatus.ANALYZED,
                 analyzedResult());
 
-        given(newsEventRepository.findByStatus(NewsStatus.ANALYZED))
-                .willReturn(List.of(middle, oldest, newest));
+        given(newsEventRepository.countListWindow(any(NewsListWindow.class))).willReturn(3L);
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(2)))
+                .willReturn(List.of(newest, middle));
 
         var archivePage = newsQueryService.getArchiveNews(1, 2);
 
@@ -586,8 +604,9 @@ class NewsQueryServiceTest {
                 NewsStatus.ANALYZED,
                 analyzedResult());
 
-        given(newsEventRepository.findByStatus(NewsStatus.ANALYZED))
-                .willReturn(List.of(middle, oldest, newest));
+        given(newsEventRepository.countListWindow(any(NewsListWindow.class))).willReturn(3L);
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(2)))
+                .willReturn(List.of(newest, middle));
 
         var archivePage = newsQueryService.getArchiveNews(-3, 2);
 
@@ -632,8 +651,9 @@ class NewsQueryServiceTest {
                 NewsStatus.ANALYZED,
                 analyzedResult());
 
-        given(newsEventRepository.findByStatus(NewsStatus.ANALYZED))
-                .willReturn(List.of(middle, oldest, newest));
+        given(newsEventRepository.countListWindow(any(NewsListWindow.class))).willReturn(3L);
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(2L), eq(2)))
+                .willReturn(List.of(oldest));
 
         var archivePage = newsQueryService.getArchiveNews(9, 2);
 
@@ -684,7 +704,7 @@ class NewsQueryServiceTest {
                         ),
                         List.of()));
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(analyzedOne, analyzedTwo));
 
         var overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -774,7 +794,7 @@ class NewsQueryServiceTest {
                         List.of(new MacroImpact(MacroVariable.OIL, ImpactDirection.NEUTRAL, 0.35d)),
                         List.of()));
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(strongNegativeOne, strongNegativeTwo, neutralNoise));
 
         var overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -845,7 +865,7 @@ class NewsQueryServiceTest {
                         List.of(new MacroImpact(MacroVariable.OIL, ImpactDirection.NEUTRAL, 1.0d)),
                         List.of()));
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(negativeOne, negativeTwo, neutralOne, neutralTwo));
 
         var overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -890,7 +910,7 @@ class NewsQueryServiceTest {
                         List.of(new MacroImpact(MacroVariable.OIL, ImpactDirection.UP, 0.9d)),
                         List.of()));
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(negativeOne, negativeTwo));
 
         var overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -936,7 +956,7 @@ class NewsQueryServiceTest {
                         List.of(new MacroImpact(MacroVariable.USD, ImpactDirection.DOWN, 0.58d)),
                         List.of()));
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(upSignal, downSignal));
 
         var overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -979,8 +999,86 @@ class NewsQueryServiceTest {
     }
 
     @Test
-    @DisplayName("Today-only news list should keep same-day ingested items and exclude previous-day items")
-    void getRecentNewsForToday_filtersToSameBusinessDay() {
+    @DisplayName("Archive cursor page should fetch one extra row and issue a cursor for the last returned item")
+    void getArchiveNewsAfter_returnsNextCursorWhenMoreItemsExist() {
+        List<NewsEvent> events = java.util.stream.IntStream.rangeClosed(1, 3)
+                .mapToObj(index -> newsEvent(
+                        "archive-" + index,
+                        "Archive headline " + index,
+                        "Archive summary " + index,
+                        "Reuters",
+                        "https://example.com/archive-" + index,
+                        String.format("2026-03-10T0%d:00:00Z", 9 - index),
+                        String.format("2026-03-10T0%d:05:00Z", 9 - index),
+                        NewsStatus.ANALYZED,
+                        analyzedResult()))
+                .toList();
+        ArgumentCaptor<NewsListWindow> windowCaptor = ArgumentCaptor.forClass(NewsListWindow.class);
+        given(newsEventRepository.findListWindowAfter(windowCaptor.capture(), isNull(), eq(3)))
+                .willReturn(events);
+
+        NewsCursorPageDto page = newsQueryService.getArchiveNewsAfter(null, 2);
+
+        assertThat(page.items()).extracting(NewsListItemDto::id).containsExactly("archive-1", "archive-2");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(NewsListCursor.decode(page.nextCursor()))
+                .contains(new NewsListCursor(Instant.parse("2026-03-10T07:00:00Z"), "archive-2"));
+        assertThat(windowCaptor.getValue().status()).isEqualTo(NewsStatus.ANALYZED);
+        assertThat(windowCaptor.getValue().notAfter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Archive cursor page should continue after the decoded cursor and stop on the last slice")
+    void getArchiveNewsAfter_continuesAfterCursorUntilLastSlice() {
+        NewsListCursor cursor = new NewsListCursor(Instant.parse("2026-03-10T07:00:00Z"), "archive-2");
+        NewsEvent last = newsEvent(
+                "archive-3",
+                "Archive headline 3",
+                "Archive summary 3",
+                "Reuters",
+                "https://example.com/archive-3",
+                "2026-03-10T06:00:00Z",
+                "2026-03-10T06:05:00Z",
+                NewsStatus.ANALYZED,
+                analyzedResult());
+        given(newsEventRepository.findListWindowAfter(any(NewsListWindow.class), eq(cursor), eq(3)))
+                .willReturn(List.of(last));
+
+        NewsCursorPageDto page = newsQueryService.getArchiveNewsAfter(cursor.encode(), 2);
+
+        assertThat(page.items()).extracting(NewsListItemDto::id).containsExactly("archive-3");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Cursor pages should reject malformed cursors before querying")
+    void getArchiveNewsAfter_rejectsMalformedCursor() {
+        assertThatThrownBy(() -> newsQueryService.getArchiveNewsAfter("%%%", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(newsEventRepository);
+    }
+
+    @Test
+    @DisplayName("Today cursor page should use the business day window and cap the page size")
+    void getRecentNewsForTodayAfter_usesBusinessDayWindowAndCapsPageSize() {
+        ArgumentCaptor<NewsListWindow> windowCaptor = ArgumentCaptor.forClass(NewsListWindow.class);
+        given(newsEventRepository.findListWindowAfter(windowCaptor.capture(), isNull(), eq(51)))
+                .willReturn(List.of());
+
+        NewsCursorPageDto page = newsQueryService.getRecentNewsForTodayAfter(NewsStatus.ANALYZED, null, 500);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        NewsListWindow window = windowCaptor.getValue();
+        assertThat(window.status()).isEqualTo(NewsStatus.ANALYZED);
+        assertThat(window.globalNotBefore()).isEqualTo(Instant.parse("2026-03-09T15:00:00Z"));
+        assertThat(window.notAfter()).isEqualTo(Instant.parse("2026-03-10T15:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Today-only news list should query the same business day inside the display window")
+    void getRecentNewsForToday_queriesSameBusinessDayWindow() {
         NewsEvent todayIngested = newsEvent(
                 "today-ingested",
                 "Today headline",
@@ -991,63 +1089,61 @@ class NewsQueryServiceTest {
                 "2026-03-10T01:00:00Z",
                 NewsStatus.INGESTED,
                 null);
-        NewsEvent yesterdayIngested = newsEvent(
-                "yesterday-ingested",
-                "Yesterday headline",
-                "Yesterday summary",
-                "Reuters",
-                "https://example.com/yesterday-ingested",
-                "2026-03-09T12:00:00Z",
-                "2026-03-09T14:00:00Z",
-                NewsStatus.INGESTED,
-                null);
+        ArgumentCaptor<NewsListWindow> windowCaptor = ArgumentCaptor.forClass(NewsListWindow.class);
 
-        given(newsEventRepository.findAll())
-                .willReturn(List.of(todayIngested, yesterdayIngested));
+        given(newsEventRepository.findListWindow(windowCaptor.capture(), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
+                .willReturn(List.of(todayIngested));
 
         List<NewsListItemDto> items = newsQueryService.getRecentNewsForToday(null, NewsListSort.PUBLISHED_DESC);
 
         assertThat(items).extracting(NewsListItemDto::id).containsExactly("today-ingested");
+        NewsListWindow window = windowCaptor.getValue();
+        assertThat(window.status()).isNull();
+        // Business day 2026-03-10 (Asia/Seoul) starts at 2026-03-09T15:00Z, inside the 24h global window.
+        assertThat(window.globalNotBefore()).isEqualTo(Instant.parse("2026-03-09T15:00:00Z"));
+        // The 12h NAVER default window is narrower than the business day, so it wins.
+        assertThat(window.naverNotBefore()).isEqualTo(Instant.parse("2026-03-10T00:00:00Z"));
+        assertThat(window.notAfter()).isEqualTo(Instant.parse("2026-03-10T15:00:00Z"));
     }
 
     @Test
-    @DisplayName("Today-only news list should fall back to publishedAt when ingestedAt is missing")
-    void getRecentNewsForToday_fallsBackToPublishedAtWhenIngestedAtIsMissing() {
-        NewsEvent publishedToday = new NewsEvent(
-                "published-today",
-                null,
-                "Published today but not ingested yet",
-                "Summary",
-                "Reuters",
-                "https://example.com/published-today",
-                Instant.parse("2026-03-10T00:30:00Z"),
-                null,
+    @DisplayName("Today-only news list should sort priority on the stored score in Mongo")
+    void getRecentNewsForToday_sortsPriorityOnStoredScore() {
+        NewsEvent storedHigh = newsEvent(
+                "stored-high",
+                "Local festival opening this weekend",
+                "A guide to the best discount events.",
+                "Local Daily",
+                "https://example.com/stored-high",
+                "2026-03-10T09:00:00Z",
+                "2026-03-10T09:05:00Z",
                 NewsStatus.INGESTED,
-                null,
-                null,
-                null
-        );
-        NewsEvent publishedYesterday = new NewsEvent(
-                "published-yesterday",
-                null,
-                "Published yesterday",
-                "Summary",
+                null).withPriority(new PriorityScore(
+                        42, NewsScoringPolicy.PRIORITY_RULES_VERSION, Map.of("macro-policy", 42), FIXED_NOW));
+        NewsEvent staleVersion = newsEvent(
+                "stale-version",
+                "Fed signals rate decision as inflation stays sticky",
+                "Treasury yields and the dollar moved after the CPI release.",
                 "Reuters",
-                "https://example.com/published-yesterday",
-                Instant.parse("2026-03-09T14:30:00Z"),
-                null,
+                "https://www.reuters.com/markets/stale-version",
+                "2026-03-10T08:00:00Z",
+                "2026-03-10T08:05:00Z",
                 NewsStatus.INGESTED,
-                null,
-                null,
-                null
-        );
+                null).withPriority(new PriorityScore(
+                        1, NewsScoringPolicy.PRIORITY_RULES_VERSION - 1, Map.of(), FIXED_NOW));
+        Sort prioritySort = Sort.by(Sort.Order.desc("priority.score"), Sort.Order.desc("publishedAt"));
 
-        given(newsEventRepository.findAll())
-                .willReturn(List.of(publishedToday, publishedYesterday));
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(prioritySort), eq(0L), eq(0)))
+                .willReturn(List.of(storedHigh, staleVersion));
 
-        List<NewsListItemDto> items = newsQueryService.getRecentNewsForToday(null, NewsListSort.PUBLISHED_DESC);
+        List<NewsListItemDto> items = newsQueryService.getRecentNewsForToday(null, NewsListSort.PRIORITY);
 
-        assertThat(items).extracting(NewsListItemDto::id).containsExactly("published-today");
+        assertThat(items).extracting(NewsListItemDto::id).containsExactly("stored-high", "stale-version");
+        assertThat(items.get(0).priorityScore()).isEqualTo(42);
+        // A score from an older rules version is recomputed until the backfill rewrites it.
+        assertThat(items.get(1).priorityScore())
+                .isEqualTo(new NewsScoringPolicy().calculatePriorityScore(staleVersion))
+                .isGreaterThan(1);
     }
 
     @Test
@@ -1066,7 +1162,7 @@ class NewsQueryServiceTest {
                         null))
                 .toList();
 
-        given(newsEventRepository.findAll())
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
                 .willReturn(sameDayEvents);
 
         List<NewsListItemDto> items = newsQueryService.getRecentNewsForToday(null, NewsListSort.PUBLISHED_DESC);
@@ -1155,7 +1251,7 @@ class NewsQueryServiceTest {
                 null
         );
 
-        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc())
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
                 .willReturn(List.of(recentlyAnalyzed));
 
         MarketSignalOverviewDto overview = newsQueryService.getMarketSignalOverview(null, NewsListSort.PUBLISHED_DESC);
@@ -1171,6 +1267,155 @@ class NewsQueryServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("Homepage sections should order one load of today's news for every sort")
+    void getHomepageSections_ordersTodayNewsInMemoryForEverySort() {
+        NewsEvent earlier = newsEvent(
+                "earlier",
+                "Treasury yields climb after CPI",
+                "Summary",
+                "Reuters",
+                "https://example.com/earlier",
+                "2026-03-10T09:00:00Z",
+                "2026-03-10T11:30:00Z",
+                NewsStatus.ANALYZED,
+                analyzedResult());
+        NewsEvent later = newsEvent(
+                "later",
+                "Oil extends gains",
+                "Summary",
+                "Reuters",
+                "https://example.com/later",
+                "2026-03-10T11:00:00Z",
+                "2026-03-10T11:05:00Z",
+                NewsStatus.ANALYZED,
+                analyzedResult());
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
+                .willReturn(List.of(later, earlier));
+        given(newsEventRepository.findSignalCandidates(any(Instant.class))).willReturn(List.of(earlier, later));
+
+        Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(null);
+
+        assertThat(sections).containsOnlyKeys(NewsListSort.values());
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("later", "earlier");
+        assertThat(sections.get(NewsListSort.PUBLISHED_ASC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("earlier", "later");
+        assertThat(sections.get(NewsListSort.INGESTED_DESC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("earlier", "later");
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).marketSignalOverview().items()).hasSize(8);
+        assertThat(sections.get(NewsListSort.PRIORITY).marketSignalOverview())
+                .isSameAs(sections.get(NewsListSort.PUBLISHED_DESC).marketSignalOverview());
+        org.mockito.Mockito.verify(newsEventRepository).findListWindow(
+                any(NewsListWindow.class), any(Sort.class), eq(0L), eq(0));
+        org.mockito.Mockito.verify(newsEventRepository).findSignalCandidates(any(Instant.class));
+        org.mockito.Mockito.verify(newsEventRepository, org.mockito.Mockito.never()).findTop20ByOrderByIngestedAtDesc();
+    }
+
+    @Test
+    @DisplayName("Homepage sections should fall back to recent news when nothing was published today")
+    void getHomepageSections_fallsBackToRecentNewsWhenTodayIsEmpty() {
+        NewsEvent yesterday = newsEvent(
+                "yesterday",
+                "Fed holds rates",
+                "Summary",
+                "Reuters",
+                "https://example.com/yesterday",
+                "2026-03-09T12:00:00Z",
+                "2026-03-09T12:05:00Z",
+                NewsStatus.ANALYZED,
+                analyzedResult());
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
+                .willReturn(List.of());
+        given(newsEventRepository.findTop20ByOrderByIngestedAtDesc()).willReturn(List.of(yesterday));
+
+        Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(null);
+
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("yesterday");
+        assertThat(sections.get(NewsListSort.PRIORITY).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("yesterday");
+    }
+
+    @Test
+    @DisplayName("Homepage sections should keep the news items with an empty overview when the signal overview fails")
+    void givenMarketSignalOverviewFailure_whenGetHomepageSections_thenNewsItemsKeepEmptyOverview() {
+        NewsEvent today = newsEvent(
+                "today",
+                "Oil extends gains",
+                "Summary",
+                "Reuters",
+                "https://example.com/today",
+                "2026-03-10T11:00:00Z",
+                "2026-03-10T11:05:00Z",
+                NewsStatus.ANALYZED,
+                analyzedResult());
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
+                .willReturn(List.of(today));
+        given(newsEventRepository.findSignalCandidates(any(Instant.class)))
+                .willThrow(new IllegalStateException("market signal unavailable"));
+
+        Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(null);
+
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("today");
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).marketSignalOverview().items())
+                .hasSize(8)
+                .allSatisfy(item -> assertThat(item.sampleCount()).isZero());
+    }
+
+    @Test
+    @DisplayName("Homepage sections under a status filter should prefer today's news and skip the recent fallback")
+    void givenTodayNewsUnderStatusFilter_whenGetHomepageSections_thenRecentFallbackIsNotQueried() {
+        NewsEvent today = newsEvent(
+                "today",
+                "Oil extends gains",
+                "Summary",
+                "Reuters",
+                "https://example.com/today",
+                "2026-03-10T11:00:00Z",
+                "2026-03-10T11:05:00Z",
+                NewsStatus.INGESTED,
+                null);
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), eq(PUBLISHED_DESC_SORT), eq(0L), eq(0)))
+                .willReturn(List.of(today));
+
+        Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(NewsStatus.INGESTED);
+
+        assertThat(sections.get(NewsListSort.PRIORITY).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("today");
+        org.mockito.Mockito.verify(newsEventRepository).findListWindow(
+                any(NewsListWindow.class), any(Sort.class), eq(0L), org.mockito.ArgumentMatchers.anyInt());
+        org.mockito.Mockito.verify(newsEventRepository, org.mockito.Mockito.never()).findTop20ByOrderByIngestedAtDesc();
+    }
+
+    @Test
+    @DisplayName("Homepage sections under a status filter should fall back to recent news per sort when nothing was published today")
+    void givenNoTodayNewsUnderStatusFilter_whenGetHomepageSections_thenRecentNewsIsLoadedPerSort() {
+        NewsEvent yesterday = newsEvent(
+                "yesterday",
+                "Fed holds rates",
+                "Summary",
+                "Reuters",
+                "https://example.com/yesterday",
+                "2026-03-09T12:00:00Z",
+                "2026-03-09T12:05:00Z",
+                NewsStatus.INGESTED,
+                null);
+        given(newsEventRepository.findListWindow(any(NewsListWindow.class), any(Sort.class), eq(0L),
+                org.mockito.ArgumentMatchers.anyInt()))
+                .willAnswer(invocation -> invocation.<Integer>getArgument(3) == 0 ? List.of() : List.of(yesterday));
+
+        Map<NewsListSort, HomepageNewsSection> sections = newsQueryService.getHomepageSections(NewsStatus.INGESTED);
+
+        assertThat(sections.get(NewsListSort.PUBLISHED_DESC).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("yesterday");
+        assertThat(sections.get(NewsListSort.PRIORITY).newsItems()).extracting(NewsListItemDto::id)
+                .containsExactly("yesterday");
+        org.mockito.Mockito.verify(newsEventRepository, org.mockito.Mockito.times(NewsListSort.values().length))
+                .findListWindow(any(NewsListWindow.class), any(Sort.class), eq(0L), eq(20));
+    }
+
     private NewsEvent newsEvent(String id, String title, String summary, String source, String url,
             String publishedAt, String ingestedAt, NewsStatus status, AnalysisResult analysisResult) {
         return new NewsEvent(
@@ -0,0 +1,56 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NewsSimilarityIndexTest {
+
+    private static final String WIRE_SUMMARY = "한국은행 금융통화위원회는 13일 통화정책방향 회의를 열고 기준금리를 연 3.50%로 동결했다. "
+            + "물가 상승세가 둔화되고 있지만 가계부채 증가세와 환율 변동성을 고려한 결정으로 풀이된다.";
+
+    private final NewsSimilarityIndex index = new NewsSimilarityIndex(6);
+
+    @Test
+    @DisplayName("Syndicated copies of one wire story should share the original's cluster")
+    void syndicatedCopies_joinOriginalCluster() {
+        index.add(event("yonhap-1", null, "한국은행, 기준금리 연 3.50% 동결", WIRE_SUMMARY));
+
+        NewsEvent copy = event("outlet-1", null, "[속보] 한국은행, 기준금리 연 3.50% 동결", WIRE_SUMMARY);
+
+        assertThat(index.findCluster(copy)).contains("yonhap-1");
+    }
+
+    @Test
+    @DisplayName("Members should resolve to the cluster id they were stored with, not their own id")
+    void storedMember_resolvesToRepresentative() {
+        index.add(event("outlet-1", "yonhap-1", "한국은행, 기준금리 연 3.50% 동결", WIRE_SUMMARY));
+
+        assertThat(index.findCluster(event("outlet-2", null, "한국은행 기준금리 연 3.50% 동결", WIRE_SUMMARY)))
+                .contains("yonhap-1");
+    }
+
+    @Test
+    @DisplayName("Different stories and too-short texts should not cluster")
+    void differentStoriesAndShortTexts_doNotCluster() {
+        index.add(event("yonhap-1", null, "한국은행, 기준금리 연 3.50% 동결", WIRE_SUMMARY));
+        index.add(event("short-1", null, "속보", ""));
+
+        assertThat(index.findCluster(event("reuters-1", null, "Fed holds rates steady as inflation cools",
+                "The Federal Reserve kept its benchmark rate unchanged and signaled patience on cuts."))).isEmpty();
+        assertThat(index.findCluster(event("kospi-1", null, "코스피, 외국인 매수에 2,700선 회복",
+                "코스피가 13일 외국인과 기관의 동반 매수에 힘입어 2,700선을 회복하며 장을 마쳤다."))).isEmpty();
+        assertThat(index.findCluster(event("short-2", null, "속보", ""))).isEmpty();
+        assertThat(NewsSimilarityIndex.fingerprint(event("short-3", null, "속보", ""))).isEmpty();
+    }
+
+    private NewsEvent event(String id, String clusterId, String title, String summary) {
+        return new NewsEvent(id, "ext-" + id, title, summary, "Yonhap", "https://example.com/" + id,
+                Instant.parse("2026-03-13T00:00:00Z"), Instant.parse("2026-03-13T00:01:00Z"),
+                NewsStatus.INGESTED, null, null, null, null, clusterId);
+    }
+}
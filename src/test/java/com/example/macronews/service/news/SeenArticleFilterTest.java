@@ -0,0 +1,99 @@
+package com.example.macronews.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.domain.NewsEvent;
+import com.example.macronews.domain.NewsStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SeenArticleFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SeenArticleFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SeenArticleFilter(meterRegistry);
+        filter.registerGauges();
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "expectedEvents", 1_000);
+    }
+
+    @Test
+    @DisplayName("Filter should answer maybe-seen for every key until it has been warmed")
+    void unwarmedFilter_fallsThroughToExactCheck() {
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContainExternalId("never-stored")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Warmed filter should never miss a stored external id")
+    void warmedFilter_hasNoFalseNegatives() {
+        List<NewsEvent> stored = IntStream.range(0, 500).mapToObj(i -> event("ext-" + i)).toList();
+
+        assertThat(filter.rebuild(stored.stream())).isEqualTo(500);
+        filter.record(event("late"));
+
+        assertThat(stored).allSatisfy(event -> assertThat(filter.mightContainExternalId(event.externalId())).isTrue());
+        assertThat(filter.mightContainExternalId("late")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Filter should publish its size, expected false-positive rate and check outcomes")
+    void filter_publishesSizeAndFalsePositiveRate() {
+        filter.rebuild(IntStream.range(0, 1_000).mapToObj(i -> event("ext-" + i)));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContainExternalId("unseen-" + i))
+                .count();
+        filter.recordFalsePositive();
+
+        SeenArticleFilter.FilterSnapshot snapshot = filter.snapshot();
+        assertThat(snapshot.entries()).isGreaterThan(950);
+        assertThat(snapshot.expectedFalsePositiveRate()).isBetween(0.0, 0.05);
+        assertThat((double) falsePositives / 10_000).isLessThan(0.05);
+        assertThat(meterRegistry.get(SeenArticleFilter.FPP_METRIC).gauge().value())
+                .isEqualTo(snapshot.expectedFalsePositiveRate());
+        assertThat(meterRegistry.get(SeenArticleFilter.CHECKS_METRIC).tag("result", "absent").counter().count())
+                .isEqualTo(10_000 - falsePositives);
+        assertThat(meterRegistry.get(SeenArticleFilter.FALSE_POSITIVES_METRIC).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Keys recorded during a rebuild should survive the swap")
+    void rebuild_keepsKeysRecordedWhileLoading() {
+        filter.rebuild(Stream.of(event("old")));
+        Stream<NewsEvent> loading = Stream.of(event("stored")).peek(event -> filter.record(event("concurrent")));
+
+        filter.rebuild(loading);
+
+        assertThat(filter.mightContainExternalId("concurrent")).isTrue();
+        assertThat(filter.mightContainExternalId("stored")).isTrue();
+        assertThat(filter.mightContainExternalId("old")).isFalse();
+    }
+
+    private NewsEvent event(String externalId) {
+        return new NewsEvent(
+                "id-" + externalId,
+                externalId,
+                "Title " + externalId,
+                "Summary",
+                "Reuters",
+                "https://example.com/article/" + externalId + "?id=" + externalId,
+                Instant.parse("2026-03-13T00:00:00Z"),
+                Instant.parse("2026-03-13T00:01:00Z"),
+                NewsStatus.INGESTED,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.macronews.service.news.query;
 
+import static com.example.macronews.util.ExternalApiStubs.streamed;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -7,14 +8,15 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.example.macronews.util.ExternalApiResult;
+import com.example.macronews.util.ExternalApiStreamResult;
 import com.example.macronews.util.ExternalApiUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,7 +40,7 @@ class GdeltHotIssueSeedProviderTest {
 
     @BeforeEach
     void setUp() {
-        provider = new GdeltHotIssueSeedProvider(externalApiUtils, new ObjectMapper());
+        provider = new GdeltHotIssueSeedProvider(externalApiUtils, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(provider, "enabled", true);
         ReflectionTestUtils.setField(provider, "baseUrl",
                 "https://api.gdeltproject.org/api/v2/doc/doc");
@@ -50,7 +52,7 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Parses GDELT article titles into bounded remote seeds on success")
     void resolveHotIssueSeeds_parsesRemoteResponse() {
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "title": "Fed signals patience on rate cuts" },
@@ -71,8 +73,8 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Falls back to deterministic local seeds when the upstream times out")
     void resolveHotIssueSeeds_fallsBackOnTimeout() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(504, "External API request timed out after PT30S"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(504, "External API request timed out after PT30S"));
 
         List<String> seeds = provider.resolveHotIssueSeeds(5);
 
@@ -83,8 +85,8 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Falls back to deterministic local seeds when the upstream is unavailable")
     void resolveHotIssueSeeds_fallsBackOnFailureStatus() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(503, "service unavailable"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(503, "service unavailable"));
 
         List<String> seeds = provider.resolveHotIssueSeeds(4);
 
@@ -95,8 +97,8 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Falls back to deterministic local seeds when the response body is malformed")
     void resolveHotIssueSeeds_fallsBackOnMalformedBody() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, "{ this is not valid json"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, "{ this is not valid json"));
 
         List<String> seeds = provider.resolveHotIssueSeeds(2);
 
@@ -106,8 +108,8 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Falls back to deterministic local seeds when the article list is empty")
     void resolveHotIssueSeeds_fallsBackOnEmptyArticles() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, "{ \"articles\": [] }"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, "{ \"articles\": [] }"));
 
         List<String> seeds = provider.resolveHotIssueSeeds(3);
 
@@ -118,9 +120,9 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Timeout and failure paths produce identical deterministic fallback seeds")
     void resolveHotIssueSeeds_fallbackIsDeterministicAcrossFailureModes() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(504, "timed out"))
-                .willReturn(new ExternalApiResult(503, "unavailable"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(504, "timed out"))
+                .willAnswer(streamed(503, "unavailable"));
 
         List<String> timeoutSeeds = provider.resolveHotIssueSeeds(6);
         List<String> failureSeeds = provider.resolveHotIssueSeeds(6);
@@ -140,7 +142,7 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(seeds).isNotEmpty();
         assertThat(seeds).hasSize(5);
         assertThat(seeds).startsWith(FIRST_FALLBACK_SEED, SECOND_FALLBACK_SEED);
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -155,7 +157,7 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(seeds).isNotEmpty();
         assertThat(seeds).hasSize(3);
         assertThat(seeds).startsWith(FIRST_FALLBACK_SEED);
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -164,7 +166,7 @@ class GdeltHotIssueSeedProviderTest {
         // Realistic GDELT DOC 2.0 mode=artlist&format=json payload, including the full field set
         // (url, url_mobile, seendate, socialimage, domain, language, sourcecountry) so this test would
         // catch any drift in the expected `articles`/`title` extraction keys.
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     {
@@ -201,7 +203,7 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Falls back when articles are present but every title is blank")
     void resolveHotIssueSeeds_fallsBackWhenArticlesHaveBlankTitles() {
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "url": "https://www.example.com/a", "title": "" },
@@ -221,7 +223,7 @@ class GdeltHotIssueSeedProviderTest {
     void resolveHotIssueSeeds_fallsBackWhenBodyIsNonJsonTextError() {
         // GDELT commonly answers a rejected/too-broad query with HTTP 200 and a plain-text error
         // instead of JSON; this must degrade to fallback seeds rather than surface zero seeds.
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200,
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200,
                 "Your query was too short or too broad. Please refine and try again."));
 
         List<String> seeds = provider.resolveHotIssueSeeds(6);
@@ -236,7 +238,7 @@ class GdeltHotIssueSeedProviderTest {
         // The success cache must short-circuit a closely spaced second resolve so the same ingestion
         // flow does not re-query GDELT for an answer it already has.
         ReflectionTestUtils.setField(provider, "successTtl", "30m");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "title": "Fed signals patience on rate cuts" },
@@ -253,7 +255,7 @@ class GdeltHotIssueSeedProviderTest {
                 "Oil climbs on supply worries");
         assertThat(second).isEqualTo(first);
         // Exactly one remote call: the second resolve was served from the success cache.
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -262,8 +264,8 @@ class GdeltHotIssueSeedProviderTest {
         // GDELT rate-limits its DOC API with HTTP 429; the first 429 must classify distinctly and arm
         // a cooldown so the next resolve in the same window returns fallback without another call.
         ReflectionTestUtils.setField(provider, "rateLimitCooldown", "60m");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(429, "rate limit exceeded"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(429, "rate limit exceeded"));
 
         List<String> first = provider.resolveHotIssueSeeds(5);
         List<String> second = provider.resolveHotIssueSeeds(5);
@@ -272,19 +274,37 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(first).startsWith(FIRST_FALLBACK_SEED, SECOND_FALLBACK_SEED);
         assertThat(second).isEqualTo(first);
         // Only the first resolve hit the upstream; the cooldown skipped the remote call on the second.
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("A locally short-circuited 429 arms no cooldown, so the next resolve calls the upstream again")
+    void shortCircuitedRateLimitDoesNotArmCooldown() {
+        // The local limiter answers 429 without reaching GDELT; treating it as GDELT's own 429 would
+        // arm the 60m cooldown for a call that was never sent.
+        ReflectionTestUtils.setField(provider, "rateLimitCooldown", "60m");
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willReturn(ExternalApiStreamResult.shortCircuited(429,
+                        "External API call short-circuited: rate-limited"));
+
+        List<String> first = provider.resolveHotIssueSeeds(5);
+        List<String> second = provider.resolveHotIssueSeeds(5);
+
+        assertThat(first).startsWith(FIRST_FALLBACK_SEED);
+        assertThat(second).isEqualTo(first);
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("Uses the default rate-limit cooldown because Retry-After headers are not exposed")
     void usesDefaultRateLimitCooldownWhenRetryAfterUnavailable() {
-        // The shared ExternalApiResult abstraction exposes only status + body, never response headers,
+        // The shared external API result exposes only status + body, never response headers,
         // so Retry-After cannot be honoured; the configured default cooldown is the back-off instead.
         // Here a zero-length cooldown proves the window is driven purely by the configured duration:
         // with no cooldown armed, the second resolve issues a fresh remote call.
         ReflectionTestUtils.setField(provider, "rateLimitCooldown", "0s");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(429, "rate limit exceeded"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(429, "rate limit exceeded"));
 
         List<String> first = provider.resolveHotIssueSeeds(4);
         List<String> second = provider.resolveHotIssueSeeds(4);
@@ -292,7 +312,7 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(first).startsWith(FIRST_FALLBACK_SEED);
         assertThat(second).startsWith(FIRST_FALLBACK_SEED);
         // A zero cooldown arms no window, so the second resolve calls the upstream again.
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -301,9 +321,9 @@ class GdeltHotIssueSeedProviderTest {
         ReflectionTestUtils.setField(provider, "rateLimitCooldown", "60m");
         Instant start = Instant.parse("2026-06-24T00:00:00Z");
         ReflectionTestUtils.setField(provider, "clock", Clock.fixed(start, ZoneOffset.UTC));
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(429, "rate limit exceeded"))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(429, "rate limit exceeded"))
+                .willAnswer(streamed(200, """
                         {
                           "articles": [
                             { "title": "Fed resumes signalling after cooldown" }
@@ -320,7 +340,7 @@ class GdeltHotIssueSeedProviderTest {
         List<String> afterExpiry = provider.resolveHotIssueSeeds(3);
 
         assertThat(afterExpiry).containsExactly("Fed resumes signalling after cooldown");
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -329,8 +349,8 @@ class GdeltHotIssueSeedProviderTest {
         // A short fallback-ttl window is armed after the first malformed body, so the second resolve in
         // the same cycle returns fallback without re-entering the remote call.
         ReflectionTestUtils.setField(provider, "fallbackTtl", "10m");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, "Your query was too short or too broad."));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, "Your query was too short or too broad."));
 
         List<String> first = provider.resolveHotIssueSeeds(6);
         List<String> second = provider.resolveHotIssueSeeds(6);
@@ -338,13 +358,13 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(first).hasSize(6);
         assertThat(first).startsWith(FIRST_FALLBACK_SEED, SECOND_FALLBACK_SEED);
         assertThat(second).isEqualTo(first);
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("Remote success yields a dynamic REMOTE seed result")
     void resolveHotIssueSeedResult_remoteSuccessIsDynamicRemote() {
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "title": "Fed signals patience on rate cuts" }
@@ -366,7 +386,7 @@ class GdeltHotIssueSeedProviderTest {
     @DisplayName("Success cache hit yields a dynamic CACHED_REMOTE seed result")
     void resolveHotIssueSeedResult_cacheHitIsCachedRemote() {
         ReflectionTestUtils.setField(provider, "successTtl", "30m");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "title": "Oil climbs on supply worries" }
@@ -382,15 +402,15 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(cached.usedFallback()).isFalse();
         assertThat(cached.reason()).isEqualTo("cached-remote");
         assertThat(cached.seeds()).containsExactly("Oil climbs on supply worries");
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("Rate-limit cooldown without prior remote cache yields a non-dynamic RATE_LIMIT_COOLDOWN result")
     void resolveHotIssueSeedResult_rateLimitCooldownWithoutCacheIsNotDynamic() {
         ReflectionTestUtils.setField(provider, "rateLimitCooldown", "60m");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(429, "rate limit exceeded"));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(429, "rate limit exceeded"));
 
         // First resolve arms the cooldown (live 429 classification), second resolve is the skipped one.
         provider.resolveHotIssueSeedResult(5);
@@ -401,7 +421,7 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(cooled.usedFallback()).isTrue();
         assertThat(cooled.reason()).isEqualTo("rate-limit-cooldown");
         assertThat(cooled.seeds()).startsWith(FIRST_FALLBACK_SEED, SECOND_FALLBACK_SEED);
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -413,15 +433,15 @@ class GdeltHotIssueSeedProviderTest {
         ReflectionTestUtils.setField(provider, "rateLimitCooldown", "60m");
         Instant start = Instant.parse("2026-06-24T00:00:00Z");
         ReflectionTestUtils.setField(provider, "clock", Clock.fixed(start, ZoneOffset.UTC));
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "articles": [
                             { "title": "Fed holds rates amid inflation" }
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(429, "rate limit exceeded"));
+                .willAnswer(streamed(429, "rate limit exceeded"));
 
         // 1) remote success caches seeds; 2) advance 31m so the success TTL expired -> a live 429 arms
         // the 60m cooldown; 3) advance to 45m (cooldown still active, TTL still expired) -> cached-remote.
@@ -441,7 +461,48 @@ class GdeltHotIssueSeedProviderTest {
         // generatedAt is the original remote fetch time (start), so callers can derive a positive age.
         assertThat(cooled.generatedAt()).isEqualTo(start);
         // The third resolve served from cache during the cooldown made no third upstream call.
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("Callers holding earlier remote seeds get them while another caller is fetching")
+    void resolveHotIssueSeedResult_whileFetchInFlight_servesEarlierRemoteSeeds() throws Exception {
+        Instant start = Instant.parse("2026-06-24T00:00:00Z");
+        ReflectionTestUtils.setField(provider, "clock", Clock.fixed(start, ZoneOffset.UTC));
+        AtomicReference<HotIssueSeedResult> concurrent = new AtomicReference<>();
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
+                        {
+                          "articles": [
+                            { "title": "Fed holds rates amid inflation" }
+                          ]
+                        }
+                        """))
+                .willAnswer(invocation -> {
+                    // A second ingestion flow resolves while this fetch is still in flight.
+                    Thread other = new Thread(() -> concurrent.set(provider.resolveHotIssueSeedResult(3)));
+                    other.start();
+                    other.join(5_000);
+                    return streamed(200, """
+                            {
+                              "articles": [
+                                { "title": "Oil jumps on supply cuts" }
+                              ]
+                            }
+                            """).answer(invocation);
+                });
+
+        provider.resolveHotIssueSeedResult(3);
+        ReflectionTestUtils.setField(provider, "clock",
+                Clock.fixed(start.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+        HotIssueSeedResult refreshed = provider.resolveHotIssueSeedResult(3);
+
+        assertThat(refreshed.origin()).isEqualTo(HotIssueSeedOrigin.REMOTE);
+        assertThat(refreshed.seeds()).containsExactly("Oil jumps on supply cuts");
+        assertThat(concurrent.get().origin()).isEqualTo(HotIssueSeedOrigin.CACHED_REMOTE);
+        assertThat(concurrent.get().reason()).isEqualTo("refreshing-cached-remote");
+        assertThat(concurrent.get().seeds()).containsExactly("Fed holds rates amid inflation");
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -455,14 +516,14 @@ class GdeltHotIssueSeedProviderTest {
         assertThat(result.isDynamic()).isFalse();
         assertThat(result.usedFallback()).isTrue();
         assertThat(result.seeds()).startsWith(FIRST_FALLBACK_SEED);
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("Malformed body yields a non-dynamic FALLBACK result")
     void resolveHotIssueSeedResult_malformedBodyIsFallback() {
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, "Your query was too short or too broad."));
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, "Your query was too short or too broad."));
 
         HotIssueSeedResult result = provider.resolveHotIssueSeedResult(4);
 
@@ -476,7 +537,7 @@ class GdeltHotIssueSeedProviderTest {
     @Test
     @DisplayName("Backward-compatible resolveHotIssueSeeds still returns the seed list")
     void resolveHotIssueSeeds_backwardCompatibleSeedList() {
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "articles": [
                     { "title": "Chip stocks rally after earnings" }
@@ -18,6 +18,7 @@ import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -53,7 +54,7 @@ class OpenAiMarketIssueSeedProviderTest {
     @BeforeEach
     void setUp() {
         provider = new OpenAiMarketIssueSeedProvider(
-                externalApiUtils, new ObjectMapper(), openAiUsageLoggingService);
+                externalApiUtils, new ObjectMapper(), openAiUsageLoggingService, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(provider, "enabled", true);
         ReflectionTestUtils.setField(provider, "apiKey", "openai-key");
         ReflectionTestUtils.setField(provider, "responsesUrl", "https://api.openai.com/v1/responses");
@@ -38,7 +38,8 @@ class GNewsSourceProviderTest {
 
     @BeforeEach
     void setUp() {
-        provider = new GNewsSourceProvider(externalApiUtils, new ObjectMapper());
+        provider = new GNewsSourceProvider(externalApiUtils, new ObjectMapper(),
+                new ProviderPageCache(new ObjectMapper()));
         ReflectionTestUtils.setField(provider, "enabled", true);
         ReflectionTestUtils.setField(provider, "baseUrl", "https://gnews.io/api/v4/search");
         ReflectionTestUtils.setField(provider, "apiKey", "gnews-key");
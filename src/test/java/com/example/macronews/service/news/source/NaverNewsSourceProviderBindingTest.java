@@ -5,13 +5,14 @@ import static org.mockito.Mockito.mock;
 
 import com.example.macronews.service.news.query.MarketIssueSeedService;
 import com.example.macronews.util.ExternalApiUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.SystemEnvironmentPropertySource;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 class NaverNewsSourceProviderBindingTest {
 
@@ -28,8 +29,9 @@ class NaverNewsSourceProviderBindingTest {
                     "systemEnvironment", Map.of("APP_NEWS_NAVER_ENABLED", "true")));
 
             context.registerBean(ExternalApiUtils.class, () -> mock(ExternalApiUtils.class));
-            context.registerBean(ObjectMapper.class, () -> new ObjectMapper());
             context.registerBean(MarketIssueSeedService.class, () -> mock(MarketIssueSeedService.class));
+            context.registerBean(Scheduler.class, Schedulers::immediate);
+            context.registerBean(ProviderPageCache.class, () -> mock(ProviderPageCache.class));
             context.registerBean(NaverNewsSourceProvider.class);
             context.refresh();
 
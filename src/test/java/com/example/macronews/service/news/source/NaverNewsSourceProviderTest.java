@@ -1,5 +1,6 @@
 package com.example.macronews.service.news.source;
 
+import static com.example.macronews.util.ExternalApiStubs.streamed;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -14,23 +15,31 @@ import com.example.macronews.dto.request.ExternalApiRequest;
 import com.example.macronews.service.news.query.MarketIssueSeedService;
 import com.example.macronews.service.news.query.NaverCuratedFallbackQueries;
 import com.example.macronews.service.news.query.ResolvedMarketIssueQueries;
-import com.example.macronews.util.ExternalApiResult;
 import com.example.macronews.util.ExternalApiUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class NaverNewsSourceProviderTest {
@@ -46,7 +55,8 @@ class NaverNewsSourceProviderTest {
     @BeforeEach
     void setUp() {
         provider = new NaverNewsSourceProvider(
-                externalApiUtils, new ObjectMapper(), marketIssueSeedService);
+                externalApiUtils, marketIssueSeedService, Schedulers.boundedElastic(),
+                new ProviderPageCache(JsonMapper.builder().findAndAddModules().build()));
         ReflectionTestUtils.setField(provider, "enabled", true);
         ReflectionTestUtils.setField(provider, "baseUrl", "https://openapi.naver.com");
         ReflectionTestUtils.setField(provider, "clientId", "client-id");
@@ -70,7 +80,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should strip bold tags and prefer original links")
     void fetchTopHeadlines_stripsBoldTagsAndPrefersOriginalLink() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -97,7 +107,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should parse alternate pubDate formats safely")
     void fetchTopHeadlines_parsesAlternatePubDateFormat() {
         ReflectionTestUtils.setField(provider, "rawQueries", "kospi");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -121,7 +131,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should use link when original link is missing")
     void fetchTopHeadlines_usesLinkWhenOriginalLinkMissing() {
         ReflectionTestUtils.setField(provider, "rawQueries", "usd");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -146,7 +156,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should decode percent-encoded descriptions safely")
     void fetchTopHeadlines_decodesPercentEncodedDescription() {
         ReflectionTestUtils.setField(provider, "rawQueries", "bond");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -170,7 +180,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should keep normal descriptions unchanged")
     void fetchTopHeadlines_keepsNormalDescriptionUnchanged() {
         ReflectionTestUtils.setField(provider, "rawQueries", "kosdaq");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -194,7 +204,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should filter out fresh but irrelevant items")
     void fetchTopHeadlines_filtersFreshIrrelevantItems() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -225,7 +235,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should exclude ASCII keyword substring matches while keeping word-boundary matches")
     void fetchTopHeadlines_excludesAsciiKeywordSubstringMatchesButKeepsWordBoundaryMatches() {
         ReflectionTestUtils.setField(provider, "rawQueries", "kospi");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -256,7 +266,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should not use links as summary text")
     void fetchTopHeadlines_doesNotUseLinkAsSummary() {
         ReflectionTestUtils.setField(provider, "rawQueries", "semiconductor");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -280,7 +290,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should skip items when pubDate is unparseable")
     void fetchTopHeadlines_skipsItemsWhenPubDateIsUnparseable() {
         ReflectionTestUtils.setField(provider, "rawQueries", "oil");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -303,7 +313,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should skip stale items beyond configured max age")
     void fetchTopHeadlines_skipsStaleItems() {
         ReflectionTestUtils.setField(provider, "rawQueries", "fx");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -328,7 +338,7 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "rawQueries", "fx");
         ReflectionTestUtils.setField(provider, "maxAgeHours", 168L);
         ReflectionTestUtils.setField(provider, "fallbackMaxAgeHours", 336L);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -355,8 +365,8 @@ class NaverNewsSourceProviderTest {
         // maxPages=1 removes page-level paging, so any recovery here must come from the pass-level
         // FRESH second pass rather than fetching a later page within the same query.
         ReflectionTestUtils.setField(provider, "maxPages", 1);
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -369,7 +379,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -388,7 +398,7 @@ class NaverNewsSourceProviderTest {
         assertThat(results)
                 .extracting(ExternalNewsItem::url)
                 .containsExactly("https://news.example.com/fresh-recovery");
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -400,8 +410,8 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "maxPages", 1);
         ReflectionTestUtils.setField(provider, "maxAgeHours", 12L);
         ReflectionTestUtils.setField(provider, "fallbackMaxAgeHours", 24L);
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -414,7 +424,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -433,7 +443,7 @@ class NaverNewsSourceProviderTest {
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5);
 
         assertThat(results).isEmpty();
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -441,8 +451,8 @@ class NaverNewsSourceProviderTest {
     void fetchTopHeadlines_fetchesLaterPageWhenFirstPageIsStale() {
         ReflectionTestUtils.setField(provider, "rawQueries", "코스피");
         ReflectionTestUtils.setField(provider, "display", 5);
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -455,7 +465,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -484,8 +494,8 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "rawQueries", "KOSPI");
         ReflectionTestUtils.setField(provider, "display", 5);
         ReflectionTestUtils.setField(provider, "maxPages", 0);
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -498,7 +508,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -511,7 +521,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -540,7 +550,7 @@ class NaverNewsSourceProviderTest {
     void fetchTopHeadlines_stopsPagingWhenEnoughFreshItemsAreFound() {
         ReflectionTestUtils.setField(provider, "rawQueries", "코스피");
         ReflectionTestUtils.setField(provider, "display", 5);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -564,15 +574,15 @@ class NaverNewsSourceProviderTest {
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(2);
 
         assertThat(results).hasSize(2);
-        verify(externalApiUtils).callAPI(any());
+        verify(externalApiUtils).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("NAVER provider should merge multi-query results and deduplicate by link newest first")
     void fetchTopHeadlines_mergesQueriesAndDeduplicatesNewestFirst() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C,\uD658\uC728");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -585,7 +595,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -618,7 +628,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should collapse breaking markers when deduplicating title-only items")
     void fetchTopHeadlines_deduplicatesBreakingTitleVariants() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -651,7 +661,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should deduplicate fallback link variants by normalized title when original links are missing")
     void fetchTopHeadlines_deduplicatesFallbackLinkVariantsByNormalizedTitle() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -683,7 +693,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should use configured queries as-is when present")
     void fetchTopHeadlines_usesConfiguredQueriesWhenPresent() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C,\uD658\uC728");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -692,7 +702,7 @@ class NaverNewsSourceProviderTest {
         provider.fetchTopHeadlines(5);
 
         ArgumentCaptor<ExternalApiRequest> requestCaptor = ArgumentCaptor.forClass(ExternalApiRequest.class);
-        verify(externalApiUtils, atLeastOnce()).callAPI(requestCaptor.capture());
+        verify(externalApiUtils, atLeastOnce()).callAPIStreaming(requestCaptor.capture(), any());
         assertThat(requestCaptor.getAllValues())
                 .extracting(ExternalApiRequest::url)
                 .hasSize(2)
@@ -711,7 +721,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should use built-in default queries when configured queries are blank")
     void fetchTopHeadlines_usesDefaultQueriesWhenConfiguredQueriesBlank() {
         ReflectionTestUtils.setField(provider, "rawQueries", "");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -749,7 +759,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should use built-in default queries when configured queries are whitespace only")
     void fetchTopHeadlines_usesDefaultQueriesWhenConfiguredQueriesWhitespaceOnly() {
         ReflectionTestUtils.setField(provider, "rawQueries", " ,  , ");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -779,7 +789,7 @@ class NaverNewsSourceProviderTest {
     void fetchTopHeadlines_capsDisplayAtOneHundred() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
         ReflectionTestUtils.setField(provider, "display", 150);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -796,7 +806,7 @@ class NaverNewsSourceProviderTest {
     void fetchTopHeadlines_capsConfiguredStartAtOneThousand() {
         ReflectionTestUtils.setField(provider, "rawQueries", "\uCF54\uC2A4\uD53C");
         ReflectionTestUtils.setField(provider, "start", 2005);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -815,7 +825,7 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "display", 100);
         ReflectionTestUtils.setField(provider, "start", 950);
         ReflectionTestUtils.setField(provider, "maxPages", 5);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -838,7 +848,7 @@ class NaverNewsSourceProviderTest {
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5);
 
         assertThat(results).isEmpty();
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -851,7 +861,7 @@ class NaverNewsSourceProviderTest {
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5);
 
         assertThat(results).isEmpty();
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -864,7 +874,7 @@ class NaverNewsSourceProviderTest {
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5);
 
         assertThat(results).isEmpty();
-        verify(externalApiUtils, never()).callAPI(any());
+        verify(externalApiUtils, never()).callAPIStreaming(any(), any());
     }
 
     @Test
@@ -874,8 +884,8 @@ class NaverNewsSourceProviderTest {
         // maxPages=1 keeps one request per configured query so the captured URLs map 1:1 to the
         // resolved query list rather than fanning out into later pages of the sequential stub.
         ReflectionTestUtils.setField(provider, "maxPages", 1);
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -888,7 +898,7 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, """
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -922,7 +932,7 @@ class NaverNewsSourceProviderTest {
     @DisplayName("NAVER provider should fall back to built-in default queries without consulting the seed service when dynamic is disabled")
     void fetchTopHeadlines_resolvesDefaultQueriesWithoutGeneratedQuerySource() {
         ReflectionTestUtils.setField(provider, "rawQueries", "");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": []
                 }
@@ -946,7 +956,7 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "maxPages", 1);
         given(marketIssueSeedService.resolve()).willReturn(resolved(
                 List.of("연준 금리", "코스피 상승", "원달러"), "gdelt-dynamic", "GDELT_REMOTE", "ok", 3, 0, 0));
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 { "items": [] }
                 """));
 
@@ -968,7 +978,7 @@ class NaverNewsSourceProviderTest {
         ReflectionTestUtils.setField(provider, "maxPages", 1);
         given(marketIssueSeedService.resolve()).willReturn(resolved(
                 List.of("삼성전자 HBM", "SK하이닉스 실적"), "openai-web-search-dynamic", "OPENAI_WEB_SEARCH", "ok", 2, 0, 1));
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 { "items": [] }
                 """));
 
@@ -1000,7 +1010,7 @@ class NaverNewsSourceProviderTest {
                 NaverCuratedFallbackQueries.QUERIES, "naver-curated-fallback", "CURATED_FALLBACK", "disabled",
                 0, NaverCuratedFallbackQueries.QUERIES.size(), 0, 0L,
                 Instant.parse("2026-03-13T03:30:00Z")));
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 { "items": [] }
                 """));
 
@@ -1090,7 +1100,7 @@ class NaverNewsSourceProviderTest {
     void fetchTopHeadlines_diagnosticsDoNotChangeReturnedItems() {
         ReflectionTestUtils.setField(provider, "rawQueries", "코스피");
         ReflectionTestUtils.setField(provider, "maxPages", 1);
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, """
                 {
                   "items": [
                     {
@@ -1256,21 +1266,21 @@ class NaverNewsSourceProviderTest {
     void staleWeakMatchFirstPageSkipsSecondPage() {
         ReflectionTestUtils.setField(provider, "rawQueries", "삼성전자 주가");
         // SEMI_FRESH avoids the FRESH-only recovery pass, isolating the page-level short-circuit.
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, staleWeakPageJson()));
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, staleWeakPageJson()));
 
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5, NewsFreshnessBucket.SEMI_FRESH);
 
         assertThat(results).isEmpty();
         // Without the short-circuit, maxPages=3 would fetch start=1, start=6, start=11.
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("A first page with any fresh candidate is not short-circuited")
     void firstPageWithAnyFreshCandidateDoesNotShortCircuit() {
         ReflectionTestUtils.setField(provider, "rawQueries", "삼성전자 주가");
-        given(externalApiUtils.callAPI(any()))
-                .willReturn(new ExternalApiResult(200, """
+        given(externalApiUtils.callAPIStreaming(any(), any()))
+                .willAnswer(streamed(200, """
                         {
                           "items": [
                             {
@@ -1290,25 +1300,129 @@ class NaverNewsSourceProviderTest {
                           ]
                         }
                         """))
-                .willReturn(new ExternalApiResult(200, "{ \"items\": [] }"));
+                .willAnswer(streamed(200, "{ \"items\": [] }"));
 
         provider.fetchTopHeadlines(5, NewsFreshnessBucket.SEMI_FRESH);
 
         // A fresh-but-irrelevant candidate on page one means staleItems != rawItems, so the short-circuit
         // does not apply and the next page is still fetched.
-        verify(externalApiUtils, times(2)).callAPI(any());
+        verify(externalApiUtils, times(2)).callAPIStreaming(any(), any());
     }
 
     @Test
     @DisplayName("A first page with zero raw items does not short-circuit or fetch the next page")
     void rawItemsZeroDoesNotShortCircuit() {
         ReflectionTestUtils.setField(provider, "rawQueries", "삼성전자 주가");
-        given(externalApiUtils.callAPI(any())).willReturn(new ExternalApiResult(200, "{ \"items\": [] }"));
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, "{ \"items\": [] }"));
 
         List<ExternalNewsItem> results = provider.fetchTopHeadlines(5, NewsFreshnessBucket.SEMI_FRESH);
 
         assertThat(results).isEmpty();
-        verify(externalApiUtils, times(1)).callAPI(any());
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("Fan-out should stop at the limit and interrupt queries still in flight")
+    void fanOut_cancelsInFlightQueriesOnceLimitReached() throws InterruptedException {
+        ReflectionTestUtils.setField(provider, "rawQueries", "alpha, beta, gamma");
+        ReflectionTestUtils.setField(provider, "fanOutParallelism", 3);
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        AtomicInteger blockedCalls = new AtomicInteger();
+        AtomicInteger interruptedCalls = new AtomicInteger();
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(invocation -> {
+            ExternalApiRequest request = invocation.getArgument(0);
+            if (request.url().contains("query=alpha")) {
+                return streamed(200, singleItemJson("KOSPI rebounds", "https://news.example.com/alpha",
+                        "Fri, 13 Mar 2026 09:15:00 +0900")).answer(invocation);
+            }
+            blockedCalls.incrementAndGet();
+            try {
+                neverReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                interruptedCalls.incrementAndGet();
+                throw new IllegalStateException("interrupted", ex);
+            }
+            return streamed(200, "{ \"items\": [] }").answer(invocation);
+        });
+
+        long startedAt = System.nanoTime();
+        List<ExternalNewsItem> results = provider.fetchTopHeadlines(1);
+
+        assertThat(results).extracting(ExternalNewsItem::url).containsExactly("https://news.example.com/alpha");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(4));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (interruptedCalls.get() != blockedCalls.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(interruptedCalls.get()).isEqualTo(blockedCalls.get());
+    }
+
+    @Test
+    @DisplayName("Fan-out should keep the FRESH stale-recovery second pass and its counters")
+    void fanOut_keepsStaleRecoverySecondPass() {
+        ReflectionTestUtils.setField(provider, "rawQueries", "kospi, kosdaq");
+        ReflectionTestUtils.setField(provider, "maxPages", 1);
+        ReflectionTestUtils.setField(provider, "fanOutParallelism", 2);
+        Map<String, AtomicInteger> callsPerQuery = new ConcurrentHashMap<>();
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(invocation -> {
+            ExternalApiRequest request = invocation.getArgument(0);
+            String query = request.url().contains("query=kospi") ? "kospi" : "kosdaq";
+            int call = callsPerQuery.computeIfAbsent(query, key -> new AtomicInteger()).incrementAndGet();
+            String body = "kospi".equals(query) && call == 2
+                    ? singleItemJson("Fresh KOSPI recovery move", "https://news.example.com/fresh-recovery",
+                            "Fri, 13 Mar 2026 11:00:00 +0900")
+                    : singleItemJson("Old " + query + " wrap", "https://news.example.com/stale-" + query + "-" + call,
+                            "Thu, 12 Mar 2026 00:00:00 +0900");
+            return streamed(200, body).answer(invocation);
+        });
+
+        List<ExternalNewsItem> results = provider.fetchTopHeadlines(5);
+
+        assertThat(results)
+                .extracting(ExternalNewsItem::url)
+                .containsExactly("https://news.example.com/fresh-recovery");
+        verify(externalApiUtils, times(4)).callAPIStreaming(any(), any());
+    }
+
+    @Test
+    @DisplayName("Page cache should serve repeated runs and a restarted provider without calling NAVER again")
+    void pageCache_servesRepeatedRunsFromMemoryAndDisk(@TempDir Path cacheDirectory) {
+        ReflectionTestUtils.setField(provider, "rawQueries", "kospi");
+        ReflectionTestUtils.setField(provider, "maxPages", 1);
+        ReflectionTestUtils.setField(provider, "providerPageCache", diskBackedPageCache(cacheDirectory));
+        given(externalApiUtils.callAPIStreaming(any(), any())).willAnswer(streamed(200, singleItemJson(
+                "KOSPI climbs on chip rally", "https://news.example.com/kospi-cache",
+                "Fri, 13 Mar 2026 11:00:00 +0900")));
+
+        List<ExternalNewsItem> first = provider.fetchTopHeadlines(5);
+        List<ExternalNewsItem> second = provider.fetchTopHeadlines(5);
+        ReflectionTestUtils.setField(provider, "providerPageCache", diskBackedPageCache(cacheDirectory));
+        List<ExternalNewsItem> afterRestart = provider.fetchTopHeadlines(5);
+
+        assertThat(first).extracting(ExternalNewsItem::url).containsExactly("https://news.example.com/kospi-cache");
+        assertThat(second).isEqualTo(first);
+        assertThat(afterRestart).isEqualTo(first);
+        verify(externalApiUtils, times(1)).callAPIStreaming(any(), any());
+    }
+
+    private ProviderPageCache diskBackedPageCache(Path directory) {
+        ProviderPageCache cache = new ProviderPageCache(JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "diskEnabled", true);
+        ReflectionTestUtils.setField(cache, "diskDirectory", directory.toString());
+        ReflectionTestUtils.setField(cache, "clock",
+                Clock.fixed(Instant.parse("2026-03-13T03:30:00Z"), ZoneId.of("Asia/Seoul")));
+        return cache;
+    }
+
+    private static String singleItemJson(String title, String url, String pubDate) {
+        return """
+                {
+                  "items": [
+                    { "title": "%s", "description": "market", "originallink": "%s", "link": "%s", "pubDate": "%s" }
+                  ]
+                }
+                """.formatted(title, url, url, pubDate);
     }
 
     private static String staleWeakPageJson() {
@@ -1329,7 +1443,7 @@ class NaverNewsSourceProviderTest {
 
     private List<String> capturedRequestUrls() {
         ArgumentCaptor<ExternalApiRequest> requestCaptor = ArgumentCaptor.forClass(ExternalApiRequest.class);
-        verify(externalApiUtils, atLeastOnce()).callAPI(requestCaptor.capture());
+        verify(externalApiUtils, atLeastOnce()).callAPIStreaming(requestCaptor.capture(), any());
         return requestCaptor.getAllValues().stream()
                 .map(ExternalApiRequest::url)
                 .toList();
@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.macronews.dto.external.ExternalNewsItem;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
 
 class NewsSourceProviderSelectorTest {
 
@@ -151,8 +154,122 @@ class NewsSourceProviderSelectorTest {
                 .containsExactly("domestic-1", "global-1");
     }
 
+    @Test
+    @DisplayName("Hedged selection should start fallback providers while a slow preferred provider is still loading")
+    void fetchTopHeadlines_hedgesSlowPreferredProvider() {
+        StubProvider naver = provider("naver", NewsFeedPriority.DOMESTIC, true,
+                List.of(item("domestic-1", "NAVER", "KOSPI opens higher", "Summary",
+                        "https://domestic.example.com/1", "2026-03-13T02:50:00Z")),
+                List.of());
+        naver.latency = Duration.ofMillis(600);
+        StubProvider newsApi = provider("newsapi-global", NewsFeedPriority.FOREIGN, true,
+                List.of(item("global-1", "NEWSAPI", "Fed watch update", "Summary",
+                        "https://global.example.com/1", "2026-03-13T02:55:00Z")),
+                List.of());
+        newsApi.latency = Duration.ofMillis(400);
+        NewsSourceProviderSelector selector = hedgingSelector(Duration.ofMillis(50), naver, newsApi);
+
+        long startedAt = System.nanoTime();
+        List<ExternalNewsItem> ranked = selector.fetchTopHeadlines(2);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertThat(ranked).extracting(ExternalNewsItem::externalId)
+                .containsExactly("domestic-1", "global-1");
+        assertThat(newsApi.startedAt).isLessThan(naver.finishedAt);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("Hedged selection should cancel an in-flight fallback once the preferred provider fills the limit")
+    void fetchTopHeadlines_cancelsFallbackWhenPreferredFillsLimit() {
+        StubProvider naver = provider("naver", NewsFeedPriority.DOMESTIC, true,
+                List.of(item("domestic-1", "NAVER", "KOSPI opens higher", "Summary",
+                        "https://domestic.example.com/1", "2026-03-13T02:50:00Z")),
+                List.of());
+        naver.latency = Duration.ofMillis(200);
+        StubProvider newsApi = provider("newsapi-global", NewsFeedPriority.FOREIGN, true,
+                List.of(item("global-1", "NEWSAPI", "Fed watch update", "Summary",
+                        "https://global.example.com/1", "2026-03-13T02:55:00Z")),
+                List.of());
+        newsApi.latency = Duration.ofSeconds(5);
+        NewsSourceProviderSelector selector = hedgingSelector(Duration.ofMillis(20), naver, newsApi);
+
+        long startedAt = System.nanoTime();
+        List<ExternalNewsItem> ranked = selector.fetchTopHeadlines(1);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertThat(ranked).extracting(ExternalNewsItem::externalId).containsExactly("domestic-1");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        awaitInterrupted(newsApi);
+        assertThat(newsApi.interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Hedged selection should end once the fallback fills the limit while the preferred provider hangs")
+    void fetchTopHeadlines_cancelsHangingPreferredWhenFallbackFillsLimit() {
+        StubProvider naver = provider("naver", NewsFeedPriority.DOMESTIC, true,
+                List.of(item("domestic-1", "NAVER", "KOSPI opens higher", "Summary",
+                        "https://domestic.example.com/1", "2026-03-13T02:50:00Z")),
+                List.of());
+        naver.latency = Duration.ofSeconds(30);
+        StubProvider newsApi = provider("newsapi-global", NewsFeedPriority.FOREIGN, true,
+                List.of(item("global-1", "NEWSAPI", "Fed watch update", "Summary",
+                        "https://global.example.com/1", "2026-03-13T02:55:00Z")),
+                List.of());
+        NewsSourceProviderSelector selector = hedgingSelector(Duration.ofMillis(20), naver, newsApi);
+
+        long startedAt = System.nanoTime();
+        List<ExternalNewsItem> ranked = selector.fetchTopHeadlines(1);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertThat(ranked).extracting(ExternalNewsItem::externalId).containsExactly("global-1");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        awaitInterrupted(naver);
+        assertThat(naver.interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Hedged selection should not call fallback providers when the preferred provider fills the limit first")
+    void fetchTopHeadlines_skipsFallbackWhenPreferredFillsLimitBeforeHedgeDelay() {
+        StubProvider naver = provider("naver", NewsFeedPriority.DOMESTIC, true,
+                List.of(item("domestic-1", "NAVER", "KOSPI opens higher", "Summary",
+                        "https://domestic.example.com/1", "2026-03-13T02:50:00Z")),
+                List.of());
+        StubProvider newsApi = provider("newsapi-global", NewsFeedPriority.FOREIGN, true,
+                List.of(item("global-1", "NEWSAPI", "Fed watch update", "Summary",
+                        "https://global.example.com/1", "2026-03-13T02:55:00Z")),
+                List.of());
+        NewsSourceProviderSelector selector = hedgingSelector(Duration.ofSeconds(5), naver, newsApi);
+
+        List<ExternalNewsItem> ranked = selector.fetchTopHeadlines(1);
+
+        assertThat(ranked).extracting(ExternalNewsItem::externalId).containsExactly("domestic-1");
+        assertThat(newsApi.calls).isEmpty();
+    }
+
+    private NewsSourceProviderSelector hedgingSelector(Duration hedgeDelay, StubProvider... providers) {
+        NewsSourceProviderSelector selector = selectorWithProviders(providers);
+        ReflectionTestUtils.setField(selector, "providerHedgingEnabled", true);
+        ReflectionTestUtils.setField(selector, "hedgeDelay", hedgeDelay);
+        ReflectionTestUtils.setField(selector, "clock",
+                Clock.fixed(Instant.parse("2026-03-13T03:00:00Z"), ZoneId.of("Asia/Seoul")));
+        return selector;
+    }
+
+    private void awaitInterrupted(StubProvider provider) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!provider.interrupted && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
     private NewsSourceProviderSelector selectorWithProviders(StubProvider... providers) {
-        NewsSourceProviderSelector selector = new NewsSourceProviderSelector(List.of(providers));
+        NewsSourceProviderSelector selector = new NewsSourceProviderSelector(List.of(providers), Schedulers.boundedElastic());
         ReflectionTestUtils.setField(selector, "businessTimezone", "Asia/Seoul");
         ReflectionTestUtils.setField(selector, "domesticStartHour", 5);
         ReflectionTestUtils.setField(selector, "domesticEndHour", 22);
@@ -189,7 +306,11 @@ class NewsSourceProviderSelectorTest {
         private final boolean configured;
         private final List<ExternalNewsItem> freshItems;
         private final List<ExternalNewsItem> semiFreshItems;
-        private final List<NewsFreshnessBucket> calls = new ArrayList<>();
+        private final List<NewsFreshnessBucket> calls = Collections.synchronizedList(new ArrayList<>());
+        private Duration latency = Duration.ZERO;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile boolean interrupted;
 
         private StubProvider(String sourceCode, NewsFeedPriority priority, boolean configured,
                 List<ExternalNewsItem> freshItems, List<ExternalNewsItem> semiFreshItems) {
@@ -218,6 +339,17 @@ class NewsSourceProviderSelectorTest {
         @Override
         public List<ExternalNewsItem> fetchTopHeadlines(int limit, NewsFreshnessBucket bucket) {
             calls.add(bucket);
+            startedAt = System.nanoTime();
+            if (!latency.isZero()) {
+                try {
+                    Thread.sleep(latency.toMillis());
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted", ex);
+                }
+            }
+            finishedAt = System.nanoTime();
             List<ExternalNewsItem> items = bucket == NewsFreshnessBucket.FRESH ? freshItems : semiFreshItems;
             return items.stream().limit(limit).toList();
         }
@@ -0,0 +1,145 @@
+package com.example.macronews.service.news.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.dto.external.ExternalNewsItem;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ProviderPageCacheTest {
+
+    private static final TypeReference<List<ExternalNewsItem>> ITEMS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-13T00:00:00Z"));
+    private ProviderPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    @Test
+    @DisplayName("Page cache should be a pass-through when disabled")
+    void disabledCache_neverStores() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        cache.put(key("kospi", NewsFreshnessBucket.FRESH), List.of(item("1")));
+
+        assertThat(cache.get(key("kospi", NewsFreshnessBucket.FRESH), ITEMS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("FRESH pages should expire before SEMI_FRESH pages")
+    void entries_expirePerBucketTtl() {
+        cache.put(key("kospi", NewsFreshnessBucket.FRESH), List.of(item("fresh")));
+        cache.put(key("kospi", NewsFreshnessBucket.SEMI_FRESH), List.of(item("semi")));
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(cache.get(key("kospi", NewsFreshnessBucket.FRESH), ITEMS)).isEmpty();
+        assertThat(cache.get(key("kospi", NewsFreshnessBucket.SEMI_FRESH), ITEMS)).get()
+                .satisfies(items -> assertThat(items).extracting(ExternalNewsItem::externalId).containsExactly("semi"));
+    }
+
+    @Test
+    @DisplayName("Memory tier should evict least recently used pages to stay within its size budget")
+    void memoryTier_evictsLeastRecentlyUsedBySize() {
+        cache.put(key("a", NewsFreshnessBucket.FRESH), List.of(item("a")));
+        long pageBytes = cache.memoryBytes();
+        ReflectionTestUtils.setField(cache, "maxSize", (pageBytes * 2) + "B");
+
+        cache.put(key("b", NewsFreshnessBucket.FRESH), List.of(item("b")));
+        cache.get(key("a", NewsFreshnessBucket.FRESH), ITEMS);
+        cache.put(key("c", NewsFreshnessBucket.FRESH), List.of(item("c")));
+
+        assertThat(cache.get(key("a", NewsFreshnessBucket.FRESH), ITEMS)).isPresent();
+        assertThat(cache.get(key("b", NewsFreshnessBucket.FRESH), ITEMS)).isEmpty();
+        assertThat(cache.get(key("c", NewsFreshnessBucket.FRESH), ITEMS)).isPresent();
+        assertThat(cache.memoryBytes()).isLessThanOrEqualTo(pageBytes * 2);
+    }
+
+    @Test
+    @DisplayName("Disk tier should survive a restart and drop expired pages")
+    void diskTier_survivesRestartUntilExpiry(@TempDir Path directory) throws Exception {
+        ReflectionTestUtils.setField(cache, "diskEnabled", true);
+        ReflectionTestUtils.setField(cache, "diskDirectory", directory.toString());
+        cache.put(key("kospi", NewsFreshnessBucket.FRESH), List.of(item("persisted")));
+
+        ProviderPageCache restarted = newCache();
+        ReflectionTestUtils.setField(restarted, "diskEnabled", true);
+        ReflectionTestUtils.setField(restarted, "diskDirectory", directory.toString());
+
+        assertThat(restarted.get(key("kospi", NewsFreshnessBucket.FRESH), ITEMS)).get()
+                .satisfies(items -> assertThat(items).containsExactly(item("persisted")));
+
+        ProviderPageCache later = newCache();
+        ReflectionTestUtils.setField(later, "diskEnabled", true);
+        ReflectionTestUtils.setField(later, "diskDirectory", directory.toString());
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(later.get(key("kospi", NewsFreshnessBucket.FRESH), ITEMS)).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private ProviderPageCache newCache() {
+        ProviderPageCache created = new ProviderPageCache(objectMapper);
+        ReflectionTestUtils.setField(created, "enabled", true);
+        ReflectionTestUtils.setField(created, "clock", clock);
+        return created;
+    }
+
+    private ProviderPageCache.PageKey key(String query, NewsFreshnessBucket bucket) {
+        return new ProviderPageCache.PageKey("naver", query, 1, 10, bucket);
+    }
+
+    private ExternalNewsItem item(String id) {
+        return new ExternalNewsItem(id, "NAVER", "Title " + id, "Summary", "https://news.example.com/" + id,
+                Instant.parse("2026-03-12T23:00:00Z"));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
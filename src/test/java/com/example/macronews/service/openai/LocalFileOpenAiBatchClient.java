@@ -0,0 +1,128 @@
+package com.example.macronews.service.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * File-based stand-in for the OpenAI Batch API.
+ *
+ * <p>Submitted request files are copied into {@code directory} and stay running until {@link #completeAll}
+ * answers every request with {@code responder}, which maps a {@code custom_id} and request body to the
+ * assistant message content, or to {@code null} for a request that failed. Output lines follow the Batch API
+ * shape, so the code reading them is exercised as it runs against OpenAI.
+ */
+public final class LocalFileOpenAiBatchClient implements OpenAiBatchClient {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path directory;
+    private final BiFunction<String, JsonNode, String> responder;
+    private final Map<String, OpenAiBatchStatus> batches = new LinkedHashMap<>();
+
+    public LocalFileOpenAiBatchClient(Path directory, BiFunction<String, JsonNode, String> responder) {
+        this.directory = directory;
+        this.responder = responder;
+    }
+
+    @Override
+    public synchronized String submit(Path requestFile) {
+        String batchId = "batch_local_" + (batches.size() + 1);
+        try {
+            Files.copy(requestFile, inputFile(batchId));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        batches.put(batchId, new OpenAiBatchStatus(batchId, OpenAiBatchStatus.State.RUNNING, null));
+        return batchId;
+    }
+
+    @Override
+    public synchronized OpenAiBatchStatus status(String batchId) {
+        OpenAiBatchStatus status = batches.get(batchId);
+        if (status == null) {
+            throw new IllegalStateException("Unknown batch " + batchId);
+        }
+        return status;
+    }
+
+    @Override
+    public List<String> outputLines(OpenAiBatchStatus status) {
+        try {
+            return Files.readAllLines(Path.of(status.outputFileId()), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public List<JsonNode> requests(String batchId) {
+        try {
+            List<JsonNode> requests = new ArrayList<>();
+            for (String line : Files.readAllLines(inputFile(batchId), StandardCharsets.UTF_8)) {
+                requests.add(objectMapper.readTree(line));
+            }
+            return requests;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public synchronized void completeAll() {
+        for (String batchId : List.copyOf(batches.keySet())) {
+            if (!batches.get(batchId).running()) {
+                continue;
+            }
+            Path outputFile = directory.resolve(batchId + "-output.jsonl");
+            List<String> lines = new ArrayList<>();
+            for (JsonNode request : requests(batchId)) {
+                lines.add(outputLine(request));
+            }
+            try {
+                Files.write(outputFile, lines, StandardCharsets.UTF_8);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            batches.put(batchId, new OpenAiBatchStatus(batchId, OpenAiBatchStatus.State.COMPLETED,
+                    outputFile.toString()));
+        }
+    }
+
+    public synchronized void fail(String batchId) {
+        batches.put(batchId, new OpenAiBatchStatus(batchId, OpenAiBatchStatus.State.FAILED, null));
+    }
+
+    private String outputLine(JsonNode request) {
+        String customId = request.path("custom_id").asText();
+        String content = responder.apply(customId, request.path("body"));
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", "batch_req_" + customId);
+        line.put("custom_id", customId);
+        if (content == null) {
+            line.put("response", Map.of("status_code", 500, "body", Map.of()));
+            line.put("error", Map.of("message", "local stand-in failure"));
+        } else {
+            line.put("response", Map.of("status_code", 200, "body", Map.of(
+                    "model", request.path("body").path("model").asText(),
+                    "choices", List.of(Map.of("message", Map.of("role", "assistant", "content", content))),
+                    "usage", Map.of("prompt_tokens", 900, "completion_tokens", 150, "total_tokens", 1050))));
+            line.put("error", null);
+        }
+        try {
+            return objectMapper.writeValueAsString(line);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Path inputFile(String batchId) {
+        return directory.resolve(batchId + "-input.jsonl");
+    }
+}
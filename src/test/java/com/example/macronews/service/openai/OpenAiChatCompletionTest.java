@@ -0,0 +1,56 @@
+package com.example.macronews.service.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.macronews.util.ExternalApiUtils;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenAiChatCompletionTest {
+
+    @Test
+    @DisplayName("read should pull model, first choice content and usage while skipping other fields")
+    void read_pullsOnlyUsedFields() throws IOException {
+        String body = """
+                {
+                  "id": "chatcmpl-1",
+                  "object": "chat.completion",
+                  "model": "gpt-4o-mini-2026-03-01",
+                  "choices": [
+                    {"index": 0, "message": {"role": "assistant", "content": "{\\"macroImpacts\\":[]}"},
+                     "logprobs": {"content": [{"token": "x"}]}, "finish_reason": "stop"},
+                    {"index": 1, "message": {"role": "assistant", "content": "ignored"}}
+                  ],
+                  "usage": {"prompt_tokens": 120, "completion_tokens": 80, "total_tokens": 200,
+                            "prompt_tokens_details": {"cached_tokens": 0}},
+                  "system_fingerprint": "fp"
+                }
+                """;
+
+        OpenAiChatCompletion completion = ExternalApiUtils.readJson(body, OpenAiChatCompletion::read);
+
+        assertThat(completion.model()).isEqualTo("gpt-4o-mini-2026-03-01");
+        assertThat(completion.content()).isEqualTo("{\"macroImpacts\":[]}");
+        assertThat(completion.usage()).isEqualTo(new OpenAiTokenUsage(120, 80, 200));
+    }
+
+    @Test
+    @DisplayName("read should derive total tokens when the usage object omits it")
+    void read_derivesMissingTotal() throws IOException {
+        OpenAiChatCompletion completion = ExternalApiUtils.readJson(
+                "{\"usage\":{\"prompt_tokens\":5,\"completion_tokens\":7},\"choices\":[]}",
+                OpenAiChatCompletion::read);
+
+        assertThat(completion.content()).isEmpty();
+        assertThat(completion.usage().totalTokens()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("read should reject a body that is not a JSON object")
+    void read_rejectsNonObjectBody() {
+        assertThatThrownBy(() -> ExternalApiUtils.readJson("[1, 2]", OpenAiChatCompletion::read))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -7,7 +7,6 @@ import static org.mockito.Mockito.verify;
 import com.example.macronews.domain.OpenAiUsageFeatureType;
 import com.example.macronews.domain.OpenAiUsageRecord;
 import com.example.macronews.repository.OpenAiUsageRecordRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,7 +26,7 @@ class OpenAiUsageLoggingServiceTest {
 
     @BeforeEach
     void setUp() {
-        openAiUsageLoggingService = new OpenAiUsageLoggingService(openAiUsageRecordRepository, new ObjectMapper());
+        openAiUsageLoggingService = new OpenAiUsageLoggingService(openAiUsageRecordRepository);
     }
 
     @Test
@@ -113,4 +112,20 @@ class OpenAiUsageLoggingServiceTest {
 
         verify(openAiUsageRecordRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("recordCompletionUsage should persist usage already pulled from a streamed completion")
+    void recordCompletionUsage_savesStreamedUsage() {
+        openAiUsageLoggingService.recordCompletionUsage(
+                OpenAiUsageFeatureType.MACRO_INTERPRETATION,
+                "gpt-4o-mini",
+                new OpenAiChatCompletion("", "{}", new OpenAiTokenUsage(70, 30, 100))
+        );
+
+        ArgumentCaptor<OpenAiUsageRecord> captor = ArgumentCaptor.forClass(OpenAiUsageRecord.class);
+        verify(openAiUsageRecordRepository).save(captor.capture());
+        Assertions.assertThat(captor.getValue().model()).isEqualTo("gpt-4o-mini");
+        Assertions.assertThat(captor.getValue().promptTokens()).isEqualTo(70);
+        Assertions.assertThat(captor.getValue().totalTokens()).isEqualTo(100);
+    }
 }
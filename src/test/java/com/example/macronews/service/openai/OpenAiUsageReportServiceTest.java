@@ -7,6 +7,7 @@ import com.example.macronews.domain.OpenAiUsageFeatureType;
 import com.example.macronews.domain.OpenAiUsageRecord;
 import com.example.macronews.dto.market.FxSnapshotDto;
 import com.example.macronews.repository.OpenAiUsageRecordRepository;
+import com.example.macronews.service.macro.InterpretationResultCache;
 import com.example.macronews.service.market.MarketDataFacade;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
@@ -16,6 +17,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +41,9 @@ class OpenAiUsageReportServiceTest {
     @Mock
     private MarketDataFacade marketDataFacade;
 
+    @Mock
+    private InterpretationResultCache interpretationResultCache;
+
     private OpenAiPricingSnapshotLoader pricingSnapshotLoader;
     private OpenAiUsageReportService openAiUsageReportService;
 
@@ -51,7 +56,8 @@ class OpenAiUsageReportServiceTest {
         openAiUsageReportService = new OpenAiUsageReportService(
                 openAiUsageRecordRepository,
                 marketDataFacade,
-                pricingSnapshotLoader
+                pricingSnapshotLoader,
+                interpretationResultCache
         );
         ReflectionTestUtils.setField(openAiUsageReportService, "clock", Clock.fixed(FIXED_NOW, BUSINESS_ZONE));
         ReflectionTestUtils.setField(openAiUsageReportService, "reportingStartDate", LocalDate.of(2026, 4, 1));
@@ -60,6 +66,24 @@ class OpenAiUsageReportServiceTest {
         ReflectionTestUtils.setField(openAiUsageReportService, "monthlyMonths", 6);
     }
 
+    @Test
+    @DisplayName("dashboard should report interpretation cache hit rate and the cost the hits saved")
+    void getDashboard_reportsInterpretationCacheSavings() {
+        given(openAiUsageRecordRepository.findByTimestampGreaterThanEqualOrderByTimestampDesc(org.mockito.ArgumentMatchers.any()))
+                .willReturn(List.of());
+        given(marketDataFacade.getUsdKrw()).willReturn(Optional.of(new FxSnapshotDto("USD", "KRW", 1400d, FIXED_NOW)));
+        given(interpretationResultCache.stats()).willReturn(new InterpretationResultCache.Stats(true, 3L, 1L,
+                Map.of("gpt-4o-mini", new InterpretationResultCache.SavedTokens(1_000_000L, 0L))));
+
+        var cache = openAiUsageReportService.getDashboard().interpretationCache();
+
+        assertThat(cache.enabled()).isTrue();
+        assertThat(cache.hitRatePercent()).isEqualByComparingTo("75.0");
+        assertThat(cache.savedPromptTokens()).isEqualTo(1_000_000L);
+        assertThat(cache.savedUsd()).isEqualByComparingTo("0.1500");
+        assertThat(cache.savedKrw()).isEqualByComparingTo("210");
+    }
+
     @Test
     @DisplayName("dashboard should exclude records before the reporting cutoff")
     void getDashboard_excludesRecordsBeforeReportingCutoff() {
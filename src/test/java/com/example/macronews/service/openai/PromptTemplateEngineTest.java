@@ -0,0 +1,157 @@
+package com.example.macronews.service.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.service.openai.PromptTemplateEngine.CompiledPrompt;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PromptTemplateEngineTest {
+
+    private static final String PROMPT = """
+            {
+              "messages": [
+                {"role": "system", "content": "Return \\"JSON\\" only."},
+                {"role": "user", "template": "Title: {{title}}\\nUnknown: {{other}}"},
+                {"role": "user", "template": "{{empty}}"}
+              ]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-10T09:00:00Z"));
+    private PromptTemplateEngine engine;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PromptTemplateEngine(objectMapper);
+        ReflectionTestUtils.setField(engine, "clock", clock);
+        ReflectionTestUtils.setField(engine, "reloadCheckInterval", "5s");
+    }
+
+    @Test
+    @DisplayName("renderPayload should fill placeholders, escape values and skip blank messages")
+    void givenTemplate_whenRenderPayload_thenWritesEscapedChatPayload() throws IOException {
+        CompiledPrompt prompt = engine.compile(new ByteArrayResource(PROMPT.getBytes(StandardCharsets.UTF_8)));
+
+        String payload = engine.renderPayload("gpt-4o-mini", 800, 0.2d, messages -> messages.addAll(prompt,
+                name -> switch (name) {
+                    case "title" -> "KOSPI \"rallies\" 코스피";
+                    case "empty" -> " ";
+                    default -> null;
+                }));
+
+        JsonNode root = objectMapper.readTree(payload);
+        assertThat(root.path("model").asText()).isEqualTo("gpt-4o-mini");
+        assertThat(root.path("max_tokens").asInt()).isEqualTo(800);
+        assertThat(root.path("temperature").asDouble()).isEqualTo(0.2d);
+        assertThat(root.path("response_format").path("type").asText()).isEqualTo("json_object");
+        assertThat(root.path("messages")).hasSize(2);
+        assertThat(root.path("messages").path(0).path("content").asText()).isEqualTo("Return \"JSON\" only.");
+        assertThat(root.path("messages").path(1).path("role").asText()).isEqualTo("user");
+        assertThat(root.path("messages").path(1).path("content").asText())
+                .isEqualTo("Title: KOSPI \"rallies\" 코스피\nUnknown: {{other}}");
+    }
+
+    @Test
+    @DisplayName("compile should reuse the compiled prompt until the file changes")
+    void givenFileResource_whenModified_thenRecompilesAfterCheckInterval() throws IOException {
+        Path file = tempDir.resolve("prompt.json");
+        Files.writeString(file, PROMPT);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-03-10T08:00:00Z")));
+        Resource resource = new FileSystemResource(file);
+
+        CompiledPrompt first = engine.compile(resource);
+        assertThat(engine.compile(resource)).isSameAs(first);
+
+        Files.writeString(file, PROMPT.replace("JSON", "strict JSON"));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-03-10T08:30:00Z")));
+        assertThat(engine.compile(resource)).isSameAs(first);
+
+        clock.advance(Duration.ofSeconds(6));
+        CompiledPrompt reloaded = engine.compile(resource);
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.version()).isNotEqualTo(first.version());
+        assertThat(reloaded.messages().get(0).render(name -> null)).isEqualTo("Return \"strict JSON\" only.");
+    }
+
+    @Test
+    @DisplayName("compile should keep the previous prompt when a changed file fails to parse")
+    void givenBrokenEdit_whenCompile_thenKeepsPreviousVersion() throws IOException {
+        Path file = tempDir.resolve("prompt.json");
+        Files.writeString(file, PROMPT);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-03-10T08:00:00Z")));
+        Resource resource = new FileSystemResource(file);
+        CompiledPrompt first = engine.compile(resource);
+
+        Files.writeString(file, "{\"messages\": [");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-03-10T08:30:00Z")));
+        clock.advance(Duration.ofSeconds(6));
+
+        assertThat(engine.compile(resource)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("version should be a stable content hash of the prompt file")
+    void givenSameContent_whenCompile_thenVersionMatches() {
+        PromptTemplateEngine other = new PromptTemplateEngine(objectMapper);
+
+        String version = engine.compile(new ByteArrayResource(PROMPT.getBytes(StandardCharsets.UTF_8))).version();
+
+        assertThat(version).hasSize(16);
+        assertThat(other.compile(new ByteArrayResource(PROMPT.getBytes(StandardCharsets.UTF_8))).version())
+                .isEqualTo(version);
+        assertThat(other.compile(new ByteArrayResource((PROMPT + " ").getBytes(StandardCharsets.UTF_8))).version())
+                .isNotEqualTo(version);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
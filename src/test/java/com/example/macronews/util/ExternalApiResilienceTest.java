@@ -0,0 +1,160 @@
+package com.example.macronews.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.config.ExternalResilienceProperties;
+import com.example.macronews.util.ExternalApiResilience.CircuitState;
+import com.example.macronews.util.ExternalApiResilience.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ExternalApiResilienceTest {
+
+    private static final String URL = "https://api.example.com/v1/items";
+
+    private final ExternalResilienceProperties properties = new ExternalResilienceProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-13T00:00:00Z"));
+    private ExternalApiResilience resilience;
+    private ExternalResilienceProperties.Policy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ExternalResilienceProperties.Policy();
+        policy.setEnabled(true);
+        properties.getHosts().put("api.example.com", policy);
+        resilience = new ExternalApiResilience(properties, meterRegistry);
+        ReflectionTestUtils.setField(resilience, "clock", clock);
+    }
+
+    @Test
+    @DisplayName("Circuit should open after consecutive failures, half-open after the open duration and close on success")
+    void circuit_opensHalfOpensAndCloses() {
+        policy.setFailureThreshold(2);
+        policy.setOpenDuration(Duration.ofSeconds(30));
+
+        resilience.acquire(URL).complete(500, null);
+        resilience.acquire(URL).fail();
+
+        assertThat(resilience.acquire(URL).rejectionStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get(ExternalApiResilience.CIRCUIT_STATE_METRIC).tag("host", "api.example.com")
+                .gauge().value()).isEqualTo(CircuitState.OPEN.ordinal());
+
+        clock.advance(Duration.ofSeconds(31));
+        Permit probe = resilience.acquire(URL);
+        assertThat(probe.rejected()).isFalse();
+        assertThat(resilience.acquire(URL).rejected()).isTrue();
+
+        probe.complete(200, null);
+
+        assertThat(resilience.snapshot()).singleElement()
+                .extracting(ExternalApiResilience.HostState::circuit)
+                .isEqualTo(CircuitState.CLOSED);
+        assertThat(resilience.acquire(URL).rejected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A 429 should pause the host until Retry-After and halve the adaptive rate")
+    void rateLimit_honoursRetryAfter() {
+        policy.setRatePerSecond(10);
+
+        resilience.acquire(URL).complete(429, "20");
+
+        Permit paused = resilience.acquire(URL);
+        assertThat(paused.rejectionStatus()).isEqualTo(429);
+        assertThat(resilience.snapshot().get(0).currentRate()).isEqualTo(5.0);
+        assertThat(resilience.snapshot().get(0).circuit()).isEqualTo(CircuitState.CLOSED);
+
+        clock.advance(Duration.ofSeconds(21));
+        assertThat(resilience.acquire(URL).rejected()).isFalse();
+        assertThat(meterRegistry.get(ExternalApiResilience.REJECTED_METRIC)
+                .tags("host", "api.example.com", "reason", "rate-limited").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Token bucket and bulkhead should reject calls beyond the burst and the concurrency cap")
+    void tokenBucketAndBulkhead_rejectExcessCalls() {
+        policy.setRatePerSecond(1);
+        policy.setBurst(2);
+        policy.setMaxConcurrent(1);
+
+        Permit first = resilience.acquire(URL);
+        assertThat(resilience.acquire(URL).rejectionMessage()).contains("bulkhead-full");
+        first.complete(200, null);
+
+        resilience.acquire(URL).cancel();
+        assertThat(resilience.acquire(URL).rejectionMessage()).contains("rate-limited");
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(resilience.acquire(URL).rejected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("An empty bucket should pace calls within max-wait and reject only beyond it")
+    void tokenBucket_pacesCallsWithinMaxWait() {
+        policy.setRatePerSecond(0.2);
+        policy.setBurst(1);
+        policy.setMaxWait(Duration.ofSeconds(6));
+
+        Permit first = resilience.acquire(URL);
+        Permit paced = resilience.acquire(URL);
+        Permit beyondWait = resilience.acquire(URL);
+
+        assertThat(first.delay()).isZero();
+        assertThat(paced.rejected()).isFalse();
+        assertThat(paced.delay()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(beyondWait.rejectionMessage()).contains("rate-limited");
+
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(resilience.acquire(URL).delay()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Hosts without a declared policy should pass through unguarded")
+    void undeclaredHost_isUnguarded() {
+        policy.setFailureThreshold(1);
+
+        resilience.acquire("https://other.example.com/feed").fail();
+
+        assertThat(resilience.acquire("https://other.example.com/feed").rejected()).isFalse();
+        assertThat(resilience.snapshot()).isEmpty();
+        assertThat(ExternalApiResilience.parseRetryAfter("Fri, 13 Mar 2026 00:01:00 GMT",
+                Instant.parse("2026-03-13T00:00:00Z").toEpochMilli())).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
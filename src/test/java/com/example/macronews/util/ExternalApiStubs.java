@@ -0,0 +1,28 @@
+package com.example.macronews.util;
+
+import java.io.IOException;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Mockito answers for {@link ExternalApiUtils#callAPIStreaming}: feeds a canned body through the caller's
+ * reader the way the real streaming path does.
+ */
+public final class ExternalApiStubs {
+
+    private ExternalApiStubs() {
+    }
+
+    public static Answer<ExternalApiStreamResult<Object>> streamed(int statusCode, String body) {
+        return invocation -> {
+            if (statusCode < 200 || statusCode >= 300) {
+                return ExternalApiStreamResult.failed(statusCode, body);
+            }
+            ExternalJsonReader<Object> reader = invocation.getArgument(1);
+            try {
+                return ExternalApiStreamResult.succeeded(statusCode, ExternalApiUtils.readJson(body, reader));
+            } catch (IOException ex) {
+                return ExternalApiStreamResult.failed(502, "Failed to read external API response: " + ex.getMessage());
+            }
+        };
+    }
+}
@@ -2,7 +2,15 @@ package com.example.macronews.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.macronews.config.ExternalHttpClientProperties;
+import com.example.macronews.config.ExternalResilienceProperties;
 import com.example.macronews.dto.request.ExternalApiRequest;
+import com.example.macronews.util.external.ExternalJsonStreams;
+import com.fasterxml.jackson.core.JsonParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.lang.reflect.Method;
 import java.io.IOException;
 import okhttp3.mockwebserver.MockResponse;
@@ -15,6 +23,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class ExternalApiUtilsTest {
@@ -26,7 +35,9 @@ class ExternalApiUtilsTest {
     void setUp() throws IOException {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
-        externalApiUtils = new ExternalApiUtils(WebClient.builder());
+        externalApiUtils = new ExternalApiUtils(
+                new ExternalHttpClients(WebClient.builder(), new ExternalHttpClientProperties()),
+                Schedulers.boundedElastic(), unguarded());
     }
 
     @AfterAll
@@ -70,11 +81,68 @@ class ExternalApiUtilsTest {
         assertThat(response.body()).isEqualTo("ok");
     }
 
+    @Test
+    void givenSuccessfulJsonResponse_whenCallApiStreaming_thenReaderPullsFields() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("""
+                {"total": 2, "items": [{"title": "first", "extra": {"nested": [1, 2]}}, {"title": "second"}]}
+                """));
+
+        ExternalApiStreamResult<List<String>> response = externalApiUtils.callAPIStreaming(
+                new ExternalApiRequest(HttpMethod.GET, null, mockWebServer.url("/stream").toString(), null),
+                ExternalApiUtilsTest::readTitles);
+
+        assertThat(response.isSuccessful()).isTrue();
+        assertThat(response.value()).containsExactly("first", "second");
+    }
+
+    @Test
+    void givenErrorStatus_whenCallApiStreaming_thenReturnErrorBodyWithoutReading() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).setBody("rate limited"));
+
+        ExternalApiStreamResult<List<String>> response = externalApiUtils.callAPIStreaming(
+                new ExternalApiRequest(HttpMethod.GET, null, mockWebServer.url("/limited").toString(), null),
+                parser -> {
+                    throw new AssertionError("reader must not run for error statuses");
+                });
+
+        assertThat(response.statusCode()).isEqualTo(429);
+        assertThat(response.value()).isNull();
+        assertThat(response.errorBody()).isEqualTo("rate limited");
+    }
+
+    @Test
+    void givenMalformedJson_whenCallApiStreaming_thenReturnBadGateway() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"items\": [{\"title\": "));
+
+        ExternalApiStreamResult<List<String>> response = externalApiUtils.callAPIStreaming(
+                new ExternalApiRequest(HttpMethod.GET, null, mockWebServer.url("/broken").toString(), null),
+                ExternalApiUtilsTest::readTitles);
+
+        assertThat(response.statusCode()).isEqualTo(502);
+        assertThat(response.errorBody()).contains("Failed to read external API response");
+    }
+
+    @Test
+    void givenReaderThrowingRuntimeException_whenCallApiStreaming_thenReturnBadGateway() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("{\"items\": []}"));
+
+        ExternalApiStreamResult<List<String>> response = externalApiUtils.callAPIStreaming(
+                new ExternalApiRequest(HttpMethod.GET, null, mockWebServer.url("/unexpected").toString(), null),
+                parser -> {
+                    throw new IllegalStateException("unexpected payload shape");
+                });
+
+        assertThat(response.statusCode()).isEqualTo(502);
+        assertThat(response.value()).isNull();
+        assertThat(response.errorBody()).contains("unexpected payload shape");
+    }
+
     @Test
     void givenNeverRespondingExternalApi_whenCallApi_thenReturnGatewayTimeout() {
-        externalApiUtils = new ExternalApiUtils(
-                WebClient.builder().exchangeFunction(request -> Mono.never()));
-        ReflectionTestUtils.setField(externalApiUtils, "timeout", "50ms");
+        ExternalApiUtils neverRespondingApiUtils = new ExternalApiUtils(new ExternalHttpClients(
+                WebClient.builder().exchangeFunction(request -> Mono.never()), new ExternalHttpClientProperties()),
+                Schedulers.boundedElastic(), unguarded());
+        ReflectionTestUtils.setField(neverRespondingApiUtils, "timeout", "50ms");
 
         ExternalApiRequest request = new ExternalApiRequest(
                 HttpMethod.GET,
@@ -82,7 +150,7 @@ class ExternalApiUtilsTest {
                 "https://example.com/timeout",
                 null);
 
-        ExternalApiResult response = externalApiUtils.callAPI(request);
+        ExternalApiResult response = neverRespondingApiUtils.callAPI(request);
 
         assertThat(response).isNotNull();
         assertThat(response.statusCode()).isEqualTo(504);
@@ -101,4 +169,81 @@ class ExternalApiUtilsTest {
         assertThat(sanitized).contains("serviceKey=****(masked)");
         assertThat(sanitized).doesNotContain("secret-value");
     }
+
+    private static List<String> readTitles(JsonParser parser) throws IOException {
+        List<String> titles = new ArrayList<>();
+        parser.nextToken();
+        if (!ExternalJsonStreams.seekArrayField(parser, "items")) {
+            return titles;
+        }
+        while (ExternalJsonStreams.nextElement(parser)) {
+            String field;
+            while ((field = ExternalJsonStreams.nextField(parser)) != null) {
+                if ("title".equals(field)) {
+                    titles.add(ExternalJsonStreams.readText(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return titles;
+    }
+
+    @Test
+    void givenOpenCircuit_whenCallApi_thenShortCircuitWithoutCallingUpstream() {
+        ExternalResilienceProperties properties = new ExternalResilienceProperties();
+        ExternalResilienceProperties.Policy policy = new ExternalResilienceProperties.Policy();
+        policy.setEnabled(true);
+        policy.setFailureThreshold(1);
+        properties.getHosts().put(mockWebServer.getHostName(), policy);
+        ExternalApiUtils guardedApiUtils = new ExternalApiUtils(
+                new ExternalHttpClients(WebClient.builder(), new ExternalHttpClientProperties()),
+                Schedulers.boundedElastic(), new ExternalApiResilience(properties, new SimpleMeterRegistry()));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503).setBody("down"));
+        ExternalApiRequest request = new ExternalApiRequest(
+                HttpMethod.GET, null, mockWebServer.url("/down").toString(), null);
+
+        ExternalApiResult first = guardedApiUtils.callAPI(request);
+        int requestsAfterFirst = mockWebServer.getRequestCount();
+        ExternalApiResult second = guardedApiUtils.callAPI(request);
+
+        assertThat(first.statusCode()).isEqualTo(503);
+        assertThat(first.body()).isEqualTo("down");
+        assertThat(first.shortCircuited()).isFalse();
+        assertThat(second.statusCode()).isEqualTo(503);
+        assertThat(second.body()).contains("circuit-open");
+        assertThat(second.shortCircuited()).isTrue();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(requestsAfterFirst);
+    }
+
+    @Test
+    void givenEmptyTokenBucket_whenCallApiWithinMaxWait_thenCallIsPacedInsteadOfRejected() {
+        ExternalResilienceProperties properties = new ExternalResilienceProperties();
+        ExternalResilienceProperties.Policy policy = new ExternalResilienceProperties.Policy();
+        policy.setEnabled(true);
+        policy.setRatePerSecond(10);
+        policy.setBurst(1);
+        policy.setMaxWait(Duration.ofSeconds(1));
+        properties.getHosts().put(mockWebServer.getHostName(), policy);
+        ExternalApiUtils guardedApiUtils = new ExternalApiUtils(
+                new ExternalHttpClients(WebClient.builder(), new ExternalHttpClientProperties()),
+                Schedulers.boundedElastic(), new ExternalApiResilience(properties, new SimpleMeterRegistry()));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("one"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("two"));
+        ExternalApiRequest request = new ExternalApiRequest(
+                HttpMethod.GET, null, mockWebServer.url("/paced").toString(), null);
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        ExternalApiResult first = guardedApiUtils.callAPI(request);
+        ExternalApiResult second = guardedApiUtils.callAPI(request);
+
+        assertThat(first.body()).isEqualTo("one");
+        assertThat(second.statusCode()).isEqualTo(200);
+        assertThat(second.body()).isEqualTo("two");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(requestsBefore + 2);
+    }
+
+    private static ExternalApiResilience unguarded() {
+        return new ExternalApiResilience(new ExternalResilienceProperties(), new SimpleMeterRegistry());
+    }
 }
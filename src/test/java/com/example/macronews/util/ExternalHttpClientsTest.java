@@ -0,0 +1,53 @@
+package com.example.macronews.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.macronews.config.ExternalHttpClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class ExternalHttpClientsTest {
+
+    private final ExternalHttpClientProperties properties = new ExternalHttpClientProperties();
+    private final ExternalHttpClients externalHttpClients = new ExternalHttpClients(WebClient.builder(), properties);
+
+    @AfterEach
+    void tearDown() {
+        externalHttpClients.destroy();
+    }
+
+    @Test
+    @DisplayName("Clients should be built once per profile and reused across calls")
+    void forUrl_reusesClientPerProfile() {
+        properties.getHosts().put("api.openai.com", openAiProfile());
+
+        WebClient openAi = externalHttpClients.forUrl("https://api.openai.com/v1/chat/completions");
+        WebClient openAiAgain = externalHttpClients.forUrl("https://API.OPENAI.COM/v1/models");
+        WebClient naver = externalHttpClients.forUrl("https://openapi.naver.com/v1/search/news.json");
+        WebClient gnews = externalHttpClients.forUrl("https://gnews.io/api/v4/search");
+
+        assertThat(openAiAgain).isSameAs(openAi);
+        assertThat(naver).isNotSameAs(openAi);
+        assertThat(gnews).isSameAs(naver);
+    }
+
+    @Test
+    @DisplayName("Hosts without a profile and malformed URLs should share the default profile")
+    void resolveProfileName_fallsBackToDefault() {
+        properties.getHosts().put("api.openai.com", openAiProfile());
+
+        assertThat(properties.resolveProfileName("api.openai.com")).isEqualTo("api.openai.com");
+        assertThat(properties.resolveProfileName("example.com")).isEqualTo("default");
+        assertThat(properties.profile("default")).isSameAs(properties.getDefaults());
+        assertThat(externalHttpClients.forUrl("not a url")).isSameAs(externalHttpClients.forProfile("default"));
+    }
+
+    private ExternalHttpClientProperties.Profile openAiProfile() {
+        ExternalHttpClientProperties.Profile profile = new ExternalHttpClientProperties.Profile();
+        profile.setMaxConnections(20);
+        profile.setHttp2(true);
+        return profile;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.macronews.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Throughput comparison between the per-call regex matcher the automaton replaced and
+ * {@link KeywordAutomaton}. Opt-in because timings are noisy on shared CI runners:
+ * {@code KEYWORD_BENCHMARK=true ./gradlew test --tests '*KeywordAutomatonBenchmarkTest'}.
+ */
+@EnabledIfEnvironmentVariable(named = "KEYWORD_BENCHMARK", matches = "true")
+class KeywordAutomatonBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final List<String> KEYWORDS = List.of(
+            "south korea", "korea", "kospi", "krw", "won", "semiconductor", "chip", "memory", "samsung",
+            "sk hynix", "battery", "ev", "auto", "shipbuilding", "ai", "fed", "fomc", "ecb", "boj", "bok",
+            "central bank", "rate decision", "interest rate", "cpi", "inflation", "ppi", "employment", "jobs",
+            "payroll", "gdp", "recession", "slowdown", "fx", "foreign exchange", "exchange rate", "usd", "dollar",
+            "yen", "treasury", "treasury yield", "bond yield", "oil", "crude", "brent", "wti", "commodity",
+            "tariff", "trade", "export", "china", "sanctions", "u.s.", "united states", "금리", "물가", "환율",
+            "유가", "코스피", "코스닥", "증시");
+    private static final List<String> TEXTS = List.of(
+            "fed signals rate decision as inflation stays sticky and treasury yields climb",
+            "local festival opening this weekend with discount events and a celebrity guest",
+            "samsung and sk hynix lift kospi as memory chip exports to china rebound",
+            "oil prices jump after opec supply cut while the dollar firms against the yen",
+            "코스피 지수 반등, 환율 하락과 금리 동결 기대에 증시 강세");
+
+    @Test
+    @DisplayName("Automaton should find the same hits as the regex matcher and report both timings")
+    void compareThroughput() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(KEYWORDS);
+        for (String text : TEXTS) {
+            assertThat(automaton.findAll(text)).containsExactlyInAnyOrderElementsOf(regexHits(text));
+        }
+
+        long regexNanos = measure(() -> TEXTS.forEach(KeywordAutomatonBenchmarkTest::regexHits));
+        long automatonNanos = measure(() -> TEXTS.forEach(automaton::findAll));
+
+        System.out.printf("[KEYWORD-BENCH] texts=%d keywords=%d regexNsPerText=%d automatonNsPerText=%d speedup=%.1fx%n",
+                TEXTS.size(), KEYWORDS.size(), regexNanos / TEXTS.size(), automatonNanos / TEXTS.size(),
+                (double) regexNanos / Math.max(automatonNanos, 1L));
+    }
+
+    private static long measure(Runnable pass) {
+        int iterations = 2_000;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < iterations; i++) {
+                pass.run();
+            }
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                pass.run();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / iterations);
+        }
+        return best;
+    }
+
+    // The matcher as it was before the automaton: one Pattern compiled per keyword per call.
+    private static List<String> regexHits(String text) {
+        List<String> hits = new ArrayList<>();
+        for (String keyword : KEYWORDS) {
+            boolean ascii = keyword.chars().allMatch(value -> value <= 0x7F);
+            boolean matched = ascii
+                    ? Pattern.compile("\\b" + Pattern.quote(keyword) + "\\b", Pattern.CASE_INSENSITIVE)
+                            .matcher(text).find()
+                    : text.toLowerCase().contains(keyword.toLowerCase());
+            if (matched) {
+                hits.add(keyword);
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.macronews.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+    private static final List<String> KEYWORDS = List.of(
+            "fed", "fomc", "rate", "rate decision", "interest rate", "ai", "u.s.", "sk hynix", "won",
+            "금리", "환율", "코스피", "코스피 지수");
+
+    private static final List<String> TEXTS = List.of(
+            "Fed holds interest rate steady after FOMC rate decision",
+            "federal budget talks stall",
+            "The RAID array failed; AI chips rally",
+            "u.s. stocks slip while u.s.tariffs rise",
+            "SK Hynix and Samsung lift KOSPI as the won firms",
+            "Korean won weakens",
+            "wonder stocks and generated content",
+            "금리 인상 소식에 환율 급등",
+            "코스피 지수 반등, AI반도체 강세",
+            "Rate_cut chatter",
+            "",
+            "   ");
+
+    @Test
+    @DisplayName("findAll agrees with KeywordMatcher for every keyword and text")
+    void findAll_matchesKeywordMatcherSemantics() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(KEYWORDS);
+
+        for (String text : TEXTS) {
+            List<String> expected = KEYWORDS.stream()
+                    .filter(keyword -> KeywordMatcher.matches(text, keyword))
+                    .toList();
+            assertThat(automaton.findAll(text))
+                    .as("hits for '%s'", text)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(automaton.matchesAny(text)).as("matchesAny for '%s'", text).isEqualTo(!expected.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("findAll reports overlapping and nested keywords from a single pass")
+    void findAll_reportsOverlappingKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(KEYWORDS);
+
+        assertThat(automaton.findAll("FOMC rate decision"))
+                .containsExactlyInAnyOrder("fomc", "rate", "rate decision");
+        assertThat(automaton.findAll("코스피 지수 상승")).containsExactlyInAnyOrder("코스피", "코스피 지수");
+    }
+
+    @Test
+    @DisplayName("ASCII keywords require word boundaries and Korean keywords match inside words")
+    void findAll_appliesBoundaryRulesPerKeywordScript() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("AI", "금리"));
+
+        assertThat(automaton.findAll("RAID 기준금리")).containsExactly("금리");
+        assertThat(automaton.findAll("AI-driven rally")).containsExactly("AI");
+        assertThat(automaton.findAll("AI반도체")).containsExactly("AI");
+    }
+
+    @Test
+    @DisplayName("compile ignores blank keywords and rejects null input")
+    void compile_ignoresBlankKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of(" ", "", "oil", "oil"));
+
+        assertThat(automaton.keywords()).containsExactly("oil");
+        assertThat(KeywordAutomaton.compile(List.of()).matchesAny("oil")).isFalse();
+        assertThatThrownBy(() -> KeywordAutomaton.compile((List<String>) null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
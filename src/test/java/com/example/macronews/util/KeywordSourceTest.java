@@ -65,4 +65,13 @@ class KeywordSourceTest {
         assertThatThrownBy(() -> KeywordSource.fixed(withNull))
                 .isInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    @DisplayName("fixed compiles its automaton once and reuses it")
+    void fixed_reusesCompiledAutomaton() {
+        KeywordSource source = KeywordSource.fixed(List.of("금리", "AI"));
+
+        assertThat(source.automaton()).isSameAs(source.automaton());
+        assertThat(source.automaton().findAll("AI 반도체와 금리")).containsExactlyInAnyOrder("AI", "금리");
+    }
 }
@@ -0,0 +1,183 @@
+package com.example.macronews.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RefreshingValueTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-17T00:00:00Z");
+    private static final RefreshingValue.Policy POLICY = new RefreshingValue.Policy(
+            Duration.ofMinutes(10), Duration.ofMinutes(30), 0d, Duration.ofMinutes(1));
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshingValue<String> value = new RefreshingValue<>("test", POLICY, now::get, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("a fresh value should be served without loading it again")
+    void givenFreshValue_whenGet_thenLoaderIsNotCalledAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        value.get(() -> "v" + loads.incrementAndGet());
+        now.set(NOW.plus(Duration.ofMinutes(9)));
+
+        assertThat(value.get(() -> "v" + loads.incrementAndGet())).contains("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(value.loadedAt()).contains(NOW);
+    }
+
+    @Test
+    @DisplayName("callers should get the stale value at once while another caller refreshes it")
+    void givenRefreshInProgress_whenGet_thenStaleValueIsServed() throws Exception {
+        value.get(() -> "v1");
+        now.set(NOW.plus(Duration.ofMinutes(11)));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Optional<String>> refreshing = executor.submit(() -> value.get(blockingLoader("v2", loading, release)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(value.get(() -> "unexpected")).contains("v1");
+        release.countDown();
+        assertThat(refreshing.get(5, TimeUnit.SECONDS)).contains("v2");
+        assertThat(value.get(() -> "unexpected")).contains("v2");
+        assertThat(meterRegistry.get(RefreshingValue.STALE_SERVED_METRIC).counter().count()).isEqualTo(1d);
+    }
+
+    @Test
+    @DisplayName("callers without a usable value should share the load already running")
+    void givenColdValue_whenConcurrentGets_thenOneLoadIsShared() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            return blockingLoader("v1", loading, release).get();
+        };
+
+        Future<Optional<String>> first = executor.submit(() -> value.get(loader));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        Future<Optional<String>> second = executor.submit(() -> {
+            waiter.set(Thread.currentThread());
+            return value.get(loader);
+        });
+        awaitWaiting(waiter);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains("v1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).contains("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("a failed refresh should keep the stale value and hold off the next attempt")
+    void givenFailingLoader_whenGet_thenStaleValueIsKeptAndRetryBacksOff() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> failing = () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        };
+        value.get(() -> "v1");
+        now.set(NOW.plus(Duration.ofMinutes(11)));
+
+        assertThat(value.get(failing)).contains("v1");
+        assertThat(value.get(failing)).contains("v1");
+        assertThat(attempts).hasValue(1);
+
+        now.set(NOW.plus(Duration.ofMinutes(13)));
+        assertThat(value.get(() -> "v2")).contains("v2");
+        assertThat(meterRegistry.get(SingleFlight.DURATION_METRIC).tag("outcome", "failure").timer().count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get(SingleFlight.DURATION_METRIC).tag("outcome", "success").timer().count())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("past the stale limit a failed load should leave no value")
+    void givenHardExpiredValue_whenLoadFails_thenEmpty() {
+        value.get(() -> "v1");
+        now.set(NOW.plus(Duration.ofMinutes(41)));
+
+        assertThat(value.get(() -> {
+            throw new IllegalStateException("upstream down");
+        })).isEmpty();
+        assertThat(value.get(() -> "unexpected")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refresh should reload a fresh value and invalidate should drop it")
+    void givenValue_whenRefreshAndInvalidate_thenValueIsReplacedThenDropped() {
+        value.get(() -> "v1");
+
+        assertThat(value.refresh(() -> "v2")).isTrue();
+        assertThat(value.get(() -> "unexpected")).contains("v2");
+
+        value.invalidate();
+        assertThat(value.loadedAt()).isEmpty();
+        assertThat(value.get(() -> "v3")).contains("v3");
+    }
+
+    @Test
+    @DisplayName("peek should return the value without loading and isDue should report when it needs a refresh")
+    void givenValue_whenPeek_thenNoLoadAndDueAfterTtl() {
+        assertThat(value.peek()).isEmpty();
+        assertThat(value.isDue()).isTrue();
+
+        value.get(() -> "v1");
+        assertThat(value.isDue()).isFalse();
+
+        now.set(NOW.plus(Duration.ofMinutes(11)));
+        assertThat(value.isDue()).isTrue();
+        assertThat(value.peek()).contains("v1");
+        assertThat(meterRegistry.get(RefreshingValue.STALE_SERVED_METRIC).counter().count()).isEqualTo(1d);
+
+        now.set(NOW.plus(Duration.ofMinutes(41)));
+        assertThat(value.peek()).isEmpty();
+    }
+
+    private static Supplier<String> blockingLoader(String result, CountDownLatch loading, CountDownLatch release) {
+        return () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread current = thread.get();
+            if (current != null && current.getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("second caller never queued behind the first load");
+    }
+}